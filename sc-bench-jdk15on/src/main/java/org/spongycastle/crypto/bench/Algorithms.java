@@ -0,0 +1,312 @@
+package org.spongycastle.crypto.bench;
+
+import org.spongycastle.crypto.BlockCipher;
+import org.spongycastle.crypto.CipherParameters;
+import org.spongycastle.crypto.Digest;
+import org.spongycastle.crypto.Mac;
+import org.spongycastle.crypto.digests.GOST3411Digest;
+import org.spongycastle.crypto.digests.MD2Digest;
+import org.spongycastle.crypto.digests.MD4Digest;
+import org.spongycastle.crypto.digests.MD5Digest;
+import org.spongycastle.crypto.digests.RIPEMD128Digest;
+import org.spongycastle.crypto.digests.RIPEMD160Digest;
+import org.spongycastle.crypto.digests.RIPEMD256Digest;
+import org.spongycastle.crypto.digests.RIPEMD320Digest;
+import org.spongycastle.crypto.digests.SHA1Digest;
+import org.spongycastle.crypto.digests.SHA224Digest;
+import org.spongycastle.crypto.digests.SHA256Digest;
+import org.spongycastle.crypto.digests.SHA384Digest;
+import org.spongycastle.crypto.digests.SHA512Digest;
+import org.spongycastle.crypto.digests.TigerDigest;
+import org.spongycastle.crypto.digests.WhirlpoolDigest;
+import org.spongycastle.crypto.engines.AESEngine;
+import org.spongycastle.crypto.engines.AESFastEngine;
+import org.spongycastle.crypto.engines.AESLightEngine;
+import org.spongycastle.crypto.engines.BlowfishEngine;
+import org.spongycastle.crypto.engines.CAST5Engine;
+import org.spongycastle.crypto.engines.CAST6Engine;
+import org.spongycastle.crypto.engines.CamelliaEngine;
+import org.spongycastle.crypto.engines.CamelliaLightEngine;
+import org.spongycastle.crypto.engines.DESEngine;
+import org.spongycastle.crypto.engines.DESedeEngine;
+import org.spongycastle.crypto.engines.GOST28147Engine;
+import org.spongycastle.crypto.engines.IDEAEngine;
+import org.spongycastle.crypto.engines.NoekeonEngine;
+import org.spongycastle.crypto.engines.NullEngine;
+import org.spongycastle.crypto.engines.RC2Engine;
+import org.spongycastle.crypto.engines.RC532Engine;
+import org.spongycastle.crypto.engines.RC564Engine;
+import org.spongycastle.crypto.engines.RC6Engine;
+import org.spongycastle.crypto.engines.RijndaelEngine;
+import org.spongycastle.crypto.engines.SEEDEngine;
+import org.spongycastle.crypto.engines.SerpentEngine;
+import org.spongycastle.crypto.engines.SkipjackEngine;
+import org.spongycastle.crypto.engines.TEAEngine;
+import org.spongycastle.crypto.engines.TwofishEngine;
+import org.spongycastle.crypto.engines.XTEAEngine;
+import org.spongycastle.crypto.macs.CMac;
+import org.spongycastle.crypto.macs.HMac;
+import org.spongycastle.crypto.params.KeyParameter;
+import org.spongycastle.crypto.params.RC5Parameters;
+
+/**
+ * Name based factory for the primitives exercised by the benchmarks, so each
+ * suite can be parameterised with a simple list of JMH <code>@Param</code> strings.
+ */
+class Algorithms
+{
+    /**
+     * Create a block cipher engine by name.
+     *
+     * @param name the engine name, as used in the <code>@Param</code> lists.
+     * @return a new, uninitialised engine.
+     */
+    static BlockCipher createBlockCipher(String name)
+    {
+        if (name.equals("AES"))
+        {
+            return new AESEngine();
+        }
+        if (name.equals("AESFast"))
+        {
+            return new AESFastEngine();
+        }
+        if (name.equals("AESLight"))
+        {
+            return new AESLightEngine();
+        }
+        if (name.equals("Blowfish"))
+        {
+            return new BlowfishEngine();
+        }
+        if (name.equals("CAST5"))
+        {
+            return new CAST5Engine();
+        }
+        if (name.equals("CAST6"))
+        {
+            return new CAST6Engine();
+        }
+        if (name.equals("Camellia"))
+        {
+            return new CamelliaEngine();
+        }
+        if (name.equals("CamelliaLight"))
+        {
+            return new CamelliaLightEngine();
+        }
+        if (name.equals("DES"))
+        {
+            return new DESEngine();
+        }
+        if (name.equals("DESede"))
+        {
+            return new DESedeEngine();
+        }
+        if (name.equals("GOST28147"))
+        {
+            return new GOST28147Engine();
+        }
+        if (name.equals("IDEA"))
+        {
+            return new IDEAEngine();
+        }
+        if (name.equals("Noekeon"))
+        {
+            return new NoekeonEngine();
+        }
+        if (name.equals("Null"))
+        {
+            return new NullEngine();
+        }
+        if (name.equals("RC2"))
+        {
+            return new RC2Engine();
+        }
+        if (name.equals("RC532"))
+        {
+            return new RC532Engine();
+        }
+        if (name.equals("RC564"))
+        {
+            return new RC564Engine();
+        }
+        if (name.equals("RC6"))
+        {
+            return new RC6Engine();
+        }
+        if (name.equals("Rijndael"))
+        {
+            return new RijndaelEngine();
+        }
+        if (name.equals("SEED"))
+        {
+            return new SEEDEngine();
+        }
+        if (name.equals("Serpent"))
+        {
+            return new SerpentEngine();
+        }
+        if (name.equals("Skipjack"))
+        {
+            return new SkipjackEngine();
+        }
+        if (name.equals("TEA"))
+        {
+            return new TEAEngine();
+        }
+        if (name.equals("Twofish"))
+        {
+            return new TwofishEngine();
+        }
+        if (name.equals("XTEA"))
+        {
+            return new XTEAEngine();
+        }
+
+        throw new IllegalArgumentException("unknown block cipher: " + name);
+    }
+
+    /**
+     * Return a key length (in bytes) acceptable to the named engine.
+     */
+    static int getKeySize(String name)
+    {
+        if (name.equals("DES"))
+        {
+            return 8;
+        }
+        if (name.equals("DESede"))
+        {
+            return 24;
+        }
+        if (name.equals("GOST28147"))
+        {
+            return 32;
+        }
+        if (name.equals("Skipjack"))
+        {
+            return 10;
+        }
+
+        return 16;
+    }
+
+    /**
+     * Wrap key bytes in the parameters the named engine expects.
+     */
+    static CipherParameters createKeyParameters(String name, byte[] key)
+    {
+        if (name.equals("RC564"))
+        {
+            return new RC5Parameters(key, 12);
+        }
+
+        return new KeyParameter(key);
+    }
+
+    /**
+     * Create a message digest by name.
+     *
+     * @param name the digest name, as used in the <code>@Param</code> lists.
+     * @return a new digest.
+     */
+    static Digest createDigest(String name)
+    {
+        if (name.equals("GOST3411"))
+        {
+            return new GOST3411Digest();
+        }
+        if (name.equals("MD2"))
+        {
+            return new MD2Digest();
+        }
+        if (name.equals("MD4"))
+        {
+            return new MD4Digest();
+        }
+        if (name.equals("MD5"))
+        {
+            return new MD5Digest();
+        }
+        if (name.equals("RIPEMD128"))
+        {
+            return new RIPEMD128Digest();
+        }
+        if (name.equals("RIPEMD160"))
+        {
+            return new RIPEMD160Digest();
+        }
+        if (name.equals("RIPEMD256"))
+        {
+            return new RIPEMD256Digest();
+        }
+        if (name.equals("RIPEMD320"))
+        {
+            return new RIPEMD320Digest();
+        }
+        if (name.equals("SHA1"))
+        {
+            return new SHA1Digest();
+        }
+        if (name.equals("SHA224"))
+        {
+            return new SHA224Digest();
+        }
+        if (name.equals("SHA256"))
+        {
+            return new SHA256Digest();
+        }
+        if (name.equals("SHA384"))
+        {
+            return new SHA384Digest();
+        }
+        if (name.equals("SHA512"))
+        {
+            return new SHA512Digest();
+        }
+        if (name.equals("Tiger"))
+        {
+            return new TigerDigest();
+        }
+        if (name.equals("Whirlpool"))
+        {
+            return new WhirlpoolDigest();
+        }
+
+        throw new IllegalArgumentException("unknown digest: " + name);
+    }
+
+    /**
+     * Create a MAC by name - either "HMac-&lt;digest&gt;" or "CMac-&lt;cipher&gt;".
+     *
+     * @param name the MAC name, as used in the <code>@Param</code> lists.
+     * @return a new, uninitialised MAC.
+     */
+    static Mac createMac(String name)
+    {
+        if (name.startsWith("HMac-"))
+        {
+            return new HMac(createDigest(name.substring(5)));
+        }
+        if (name.startsWith("CMac-"))
+        {
+            return new CMac(createBlockCipher(name.substring(5)));
+        }
+
+        throw new IllegalArgumentException("unknown MAC: " + name);
+    }
+
+    /**
+     * Return a key length (in bytes) acceptable to the named MAC.
+     */
+    static int getMacKeySize(String name)
+    {
+        if (name.startsWith("CMac-"))
+        {
+            return getKeySize(name.substring(5));
+        }
+
+        return 32;
+    }
+}
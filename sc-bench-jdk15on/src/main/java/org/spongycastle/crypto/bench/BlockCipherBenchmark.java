@@ -0,0 +1,88 @@
+package org.spongycastle.crypto.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongycastle.crypto.BlockCipher;
+import org.spongycastle.crypto.CipherParameters;
+
+/**
+ * Raw (ECB) throughput of every <code>BlockCipher</code> engine over a range of
+ * payload sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockCipherBenchmark
+{
+    @Param({ "AES", "AESFast", "AESLight", "Blowfish", "CAST5", "CAST6", "Camellia", "CamelliaLight",
+             "DES", "DESede", "GOST28147", "IDEA", "Noekeon", "Null", "RC2", "RC532", "RC564", "RC6",
+             "Rijndael", "SEED", "Serpent", "Skipjack", "TEA", "Twofish", "XTEA" })
+    String cipher;
+
+    @Param({ "16", "256", "1024", "8192", "65536" })
+    int size;
+
+    private BlockCipher encryptor;
+    private BlockCipher decryptor;
+    private byte[] input;
+    private byte[] output;
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(42);
+        byte[] key = new byte[Algorithms.getKeySize(cipher)];
+
+        random.nextBytes(key);
+
+        CipherParameters params = Algorithms.createKeyParameters(cipher, key);
+
+        encryptor = Algorithms.createBlockCipher(cipher);
+        encryptor.init(true, params);
+        decryptor = Algorithms.createBlockCipher(cipher);
+        decryptor.init(false, params);
+
+        input = new byte[size];
+        output = new byte[size];
+        random.nextBytes(input);
+    }
+
+    @Benchmark
+    public byte[] encrypt()
+    {
+        return process(encryptor);
+    }
+
+    @Benchmark
+    public byte[] decrypt()
+    {
+        return process(decryptor);
+    }
+
+    private byte[] process(BlockCipher engine)
+    {
+        int blockSize = engine.getBlockSize();
+
+        for (int off = 0; off + blockSize <= size; off += blockSize)
+        {
+            engine.processBlock(input, off, output, off);
+        }
+
+        return output;
+    }
+}
@@ -0,0 +1,60 @@
+package org.spongycastle.crypto.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongycastle.crypto.Digest;
+
+/**
+ * Throughput of every <code>Digest</code> hashing a complete message of each
+ * payload size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigestBenchmark
+{
+    @Param({ "GOST3411", "MD2", "MD4", "MD5", "RIPEMD128", "RIPEMD160", "RIPEMD256", "RIPEMD320",
+             "SHA1", "SHA224", "SHA256", "SHA384", "SHA512", "Tiger", "Whirlpool" })
+    String digest;
+
+    @Param({ "16", "256", "1024", "8192", "65536" })
+    int size;
+
+    private Digest engine;
+    private byte[] input;
+    private byte[] output;
+
+    @Setup
+    public void setup()
+    {
+        engine = Algorithms.createDigest(digest);
+
+        input = new byte[size];
+        output = new byte[engine.getDigestSize()];
+        new Random(42).nextBytes(input);
+    }
+
+    @Benchmark
+    public byte[] hash()
+    {
+        engine.update(input, 0, input.length);
+        engine.doFinal(output, 0);
+
+        return output;
+    }
+}
@@ -0,0 +1,77 @@
+package org.spongycastle.crypto.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongycastle.crypto.Mac;
+import org.spongycastle.crypto.params.KeyParameter;
+
+/**
+ * Throughput of the <code>HMac</code> and <code>CMac</code> constructions over
+ * a range of message sizes. The <code>keyed</code> benchmark includes the cost
+ * of initialising the MAC with its key for each message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MacBenchmark
+{
+    @Param({ "HMac-MD5", "HMac-SHA1", "HMac-SHA256", "HMac-SHA512", "CMac-AESFast", "CMac-DESede" })
+    String mac;
+
+    @Param({ "16", "256", "1024", "8192", "65536" })
+    int size;
+
+    private Mac engine;
+    private KeyParameter key;
+    private byte[] input;
+    private byte[] output;
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(42);
+        byte[] keyBytes = new byte[Algorithms.getMacKeySize(mac)];
+
+        random.nextBytes(keyBytes);
+
+        key = new KeyParameter(keyBytes);
+        engine = Algorithms.createMac(mac);
+        engine.init(key);
+
+        input = new byte[size];
+        output = new byte[engine.getMacSize()];
+        random.nextBytes(input);
+    }
+
+    @Benchmark
+    public byte[] mac()
+    {
+        engine.update(input, 0, input.length);
+        engine.doFinal(output, 0);
+
+        return output;
+    }
+
+    @Benchmark
+    public byte[] keyed()
+    {
+        engine.init(key);
+
+        return mac();
+    }
+}
@@ -0,0 +1,157 @@
+package org.spongycastle.crypto.bench;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongycastle.asn1.sec.SECNamedCurves;
+import org.spongycastle.asn1.x9.X9ECParameters;
+import org.spongycastle.crypto.AsymmetricCipherKeyPair;
+import org.spongycastle.crypto.CryptoException;
+import org.spongycastle.crypto.DSA;
+import org.spongycastle.crypto.digests.SHA256Digest;
+import org.spongycastle.crypto.generators.DSAKeyPairGenerator;
+import org.spongycastle.crypto.generators.DSAParametersGenerator;
+import org.spongycastle.crypto.generators.ECKeyPairGenerator;
+import org.spongycastle.crypto.generators.RSAKeyPairGenerator;
+import org.spongycastle.crypto.params.DSAKeyGenerationParameters;
+import org.spongycastle.crypto.params.ECDomainParameters;
+import org.spongycastle.crypto.params.ECKeyGenerationParameters;
+import org.spongycastle.crypto.params.ParametersWithRandom;
+import org.spongycastle.crypto.params.RSAKeyGenerationParameters;
+import org.spongycastle.crypto.signers.DSASigner;
+import org.spongycastle.crypto.signers.ECDSASigner;
+import org.spongycastle.crypto.signers.RSADigestSigner;
+
+/**
+ * Signature generation and verification rates for RSA (PKCS#1 v1.5 with SHA-256),
+ * DSA and ECDSA over a SHA-256 sized message hash.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignerBenchmark
+{
+    @Param({ "RSA-2048", "RSA-3072", "DSA-1024", "ECDSA-secp256r1", "ECDSA-secp384r1", "ECDSA-secp521r1" })
+    String algorithm;
+
+    private final SecureRandom random = new SecureRandom();
+    private final byte[] message = new byte[32];
+
+    private RSADigestSigner rsaSigner;
+    private RSADigestSigner rsaVerifier;
+    private byte[] rsaSignature;
+
+    private DSA dsaSigner;
+    private DSA dsaVerifier;
+    private BigInteger[] dsaSignature;
+
+    @Setup
+    public void setup()
+        throws CryptoException
+    {
+        random.nextBytes(message);
+
+        AsymmetricCipherKeyPair keyPair;
+
+        if (algorithm.startsWith("RSA-"))
+        {
+            RSAKeyPairGenerator kpg = new RSAKeyPairGenerator();
+
+            kpg.init(new RSAKeyGenerationParameters(BigInteger.valueOf(0x10001), random,
+                Integer.parseInt(algorithm.substring(4)), 25));
+            keyPair = kpg.generateKeyPair();
+
+            rsaSigner = new RSADigestSigner(new SHA256Digest());
+            rsaSigner.init(true, keyPair.getPrivate());
+            rsaVerifier = new RSADigestSigner(new SHA256Digest());
+            rsaVerifier.init(false, keyPair.getPublic());
+
+            rsaSignature = rsaSign();
+            return;
+        }
+
+        if (algorithm.startsWith("DSA-"))
+        {
+            DSAParametersGenerator pg = new DSAParametersGenerator();
+
+            pg.init(Integer.parseInt(algorithm.substring(4)), 80, random);
+
+            DSAKeyPairGenerator kpg = new DSAKeyPairGenerator();
+
+            kpg.init(new DSAKeyGenerationParameters(random, pg.generateParameters()));
+            keyPair = kpg.generateKeyPair();
+
+            dsaSigner = new DSASigner();
+            dsaVerifier = new DSASigner();
+        }
+        else if (algorithm.startsWith("ECDSA-"))
+        {
+            X9ECParameters x9 = SECNamedCurves.getByName(algorithm.substring(6));
+            ECDomainParameters domain = new ECDomainParameters(x9.getCurve(), x9.getG(), x9.getN(), x9.getH());
+            ECKeyPairGenerator kpg = new ECKeyPairGenerator();
+
+            kpg.init(new ECKeyGenerationParameters(domain, random));
+            keyPair = kpg.generateKeyPair();
+
+            dsaSigner = new ECDSASigner();
+            dsaVerifier = new ECDSASigner();
+        }
+        else
+        {
+            throw new IllegalArgumentException("unknown algorithm: " + algorithm);
+        }
+
+        dsaSigner.init(true, new ParametersWithRandom(keyPair.getPrivate(), random));
+        dsaVerifier.init(false, keyPair.getPublic());
+
+        dsaSignature = dsaSigner.generateSignature(message);
+    }
+
+    @Benchmark
+    public Object sign()
+        throws CryptoException
+    {
+        if (rsaSigner != null)
+        {
+            return rsaSign();
+        }
+
+        return dsaSigner.generateSignature(message);
+    }
+
+    @Benchmark
+    public boolean verify()
+    {
+        if (rsaVerifier != null)
+        {
+            rsaVerifier.update(message, 0, message.length);
+
+            return rsaVerifier.verifySignature(rsaSignature);
+        }
+
+        return dsaVerifier.verifySignature(message, dsaSignature[0], dsaSignature[1]);
+    }
+
+    private byte[] rsaSign()
+        throws CryptoException
+    {
+        rsaSigner.update(message, 0, message.length);
+
+        return rsaSigner.generateSignature();
+    }
+}
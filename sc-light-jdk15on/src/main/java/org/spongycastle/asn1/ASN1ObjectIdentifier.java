@@ -13,6 +13,34 @@ public class ASN1ObjectIdentifier
         super(bytes);
     }
 
+    /**
+     * Return the interned OID equal to this one, interning this one if there isn't one. The
+     * interned OIDs are kept for good and are what decoding their encodings returns, so this
+     * is meant for the constants an application declares, not for OIDs from parsed input -
+     * which are interned as they are decoded anyway. Subclasses aren't interned, decoding
+     * should never hand one of them back.
+     *
+     * @return the interned OID equal to this one, or this one if it can't be interned.
+     */
+    public ASN1ObjectIdentifier intern()
+    {
+        ASN1ObjectIdentifier existing = OIDTable.lookup(identifier);
+
+        if (existing != null)
+        {
+            return existing;
+        }
+
+        if (getClass() != ASN1ObjectIdentifier.class)
+        {
+            return this;
+        }
+
+        getBody();
+
+        return OIDTable.intern(this);
+    }
+
     /**
      * Return an OID that creates a branch under the current one.
      *
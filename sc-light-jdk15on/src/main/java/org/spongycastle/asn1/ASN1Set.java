@@ -10,6 +10,7 @@ abstract public class ASN1Set
 {
     private Vector set = new Vector();
     private boolean isSorted = false;
+    private byte[][] sortedEncodings = null;
 
     /**
      * return an ASN1Set from the given object.
@@ -286,6 +287,8 @@ abstract public class ASN1Set
             ASN1Set derSet = new DERSet();
 
             derSet.set = this.set;
+            derSet.isSorted = true;
+            derSet.sortedEncodings = this.sortedEncodings;
 
             return derSet;
         }
@@ -370,7 +373,7 @@ abstract public class ASN1Set
     /**
      * return true if a <= b (arrays are assumed padded with zeros).
      */
-    private boolean lessThanOrEqual(
+    private static boolean lessThanOrEqual(
          byte[] a,
          byte[] b)
     {
@@ -385,15 +388,15 @@ abstract public class ASN1Set
         return len == a.length;
     }
 
-    private byte[] getEncoded(
+    private byte[] getDEREncoded(
         ASN1Encodable obj)
     {
         ByteArrayOutputStream   bOut = new ByteArrayOutputStream();
-        ASN1OutputStream        aOut = new ASN1OutputStream(bOut);
+        DEROutputStream         dOut = new DEROutputStream(bOut);
 
         try
         {
-            aOut.writeObject(obj);
+            dOut.writeObject(obj);
         }
         catch (IOException e)
         {
@@ -403,6 +406,11 @@ abstract public class ASN1Set
         return bOut.toByteArray();
     }
 
+    /**
+     * Sort the elements into the order of their DER encodings. Each element is
+     * encoded once, and the encodings are kept, in the new order, for a DERSet
+     * to build its own encoding from.
+     */
     protected void sort()
     {
         if (!isSorted)
@@ -410,43 +418,89 @@ abstract public class ASN1Set
             isSorted = true;
             if (set.size() > 1)
             {
-                boolean    swapped = true;
-                int        lastSwap = set.size() - 1;
+                int count = set.size();
+                byte[][] encodings = new byte[count][];
+                Object[] elements = new Object[count];
 
-                while (swapped)
+                for (int i = 0; i != count; i++)
                 {
-                    int    index = 0;
-                    int    swapIndex = 0;
-                    byte[] a = getEncoded((ASN1Encodable)set.elementAt(0));
+                    elements[i] = set.elementAt(i);
+                    encodings[i] = getDEREncoded((ASN1Encodable)elements[i]);
+                }
 
-                    swapped = false;
+                mergeSort(encodings, elements, new byte[count][], new Object[count], 0, count);
 
-                    while (index != lastSwap)
-                    {
-                        byte[] b = getEncoded((ASN1Encodable)set.elementAt(index + 1));
+                for (int i = 0; i != count; i++)
+                {
+                    set.setElementAt(elements[i], i);
+                }
 
-                        if (lessThanOrEqual(a, b))
-                        {
-                            a = b;
-                        }
-                        else
-                        {
-                            Object  o = set.elementAt(index);
+                this.sortedEncodings = encodings;
+            }
+        }
+    }
 
-                            set.setElementAt(set.elementAt(index + 1), index);
-                            set.setElementAt(o, index + 1);
+    boolean isSorted()
+    {
+        return isSorted;
+    }
 
-                            swapped = true;
-                            swapIndex = index;
-                        }
+    /**
+     * Return the element encodings left by sort(), in order, null if there aren't any.
+     */
+    byte[][] getSortedEncodings()
+    {
+        return sortedEncodings;
+    }
 
-                        index++;
-                    }
+    /**
+     * Stable merge sort of keys[from..to), moving the values with them - elements
+     * with equal encodings keep the order they were added in.
+     */
+    private static void mergeSort(byte[][] keys, Object[] values, byte[][] keyBuf, Object[] valueBuf, int from, int to)
+    {
+        if (to - from < 2)
+        {
+            return;
+        }
 
-                    lastSwap = swapIndex;
-                }
+        int mid = (from + to) >>> 1;
+
+        mergeSort(keys, values, keyBuf, valueBuf, from, mid);
+        mergeSort(keys, values, keyBuf, valueBuf, mid, to);
+
+        if (lessThanOrEqual(keys[mid - 1], keys[mid]))
+        {
+            return;     // already in order
+        }
+
+        System.arraycopy(keys, from, keyBuf, from, to - from);
+        System.arraycopy(values, from, valueBuf, from, to - from);
+
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to)
+        {
+            if (lessThanOrEqual(keyBuf[i], keyBuf[j]))
+            {
+                keys[k] = keyBuf[i];
+                values[k++] = valueBuf[i++];
+            }
+            else
+            {
+                keys[k] = keyBuf[j];
+                values[k++] = valueBuf[j++];
             }
         }
+        while (i < mid)
+        {
+            keys[k] = keyBuf[i];
+            values[k++] = valueBuf[i++];
+        }
+        while (j < to)
+        {
+            keys[k] = keyBuf[j];
+            values[k++] = valueBuf[j++];
+        }
     }
 
     boolean isConstructed()
@@ -11,7 +11,7 @@ public class DERObjectIdentifier
 {
     String      identifier;
 
-    private     byte[] body;
+    byte[]      body;
 
     /**
      * return an OID from the passed in object
@@ -118,6 +118,12 @@ public class DERObjectIdentifier
         }
 
         this.identifier = objId.toString();
+
+        // a non-minimal encoding is left to be recalculated, so it is re-encoded as DER
+        if (OIDTable.isMinimal(bytes))
+        {
+            this.body = Arrays.clone(bytes);
+        }
     }
 
     public DERObjectIdentifier(
@@ -298,74 +304,15 @@ public class DERObjectIdentifier
         return periodAllowed;
     }
 
-    private static ASN1ObjectIdentifier[][] cache = new ASN1ObjectIdentifier[255][];
-
     static ASN1ObjectIdentifier fromOctetString(byte[] enc)
     {
-        if (enc.length < 3)
-        {
-            return new ASN1ObjectIdentifier(enc);
-        }
-
-        int idx1 = enc[enc.length - 2] & 0xff;
-        ASN1ObjectIdentifier[] first = cache[idx1];
+        ASN1ObjectIdentifier oid = OIDTable.lookup(enc);
 
-        if (first == null)
-        {
-            first = cache[idx1] = new ASN1ObjectIdentifier[255];
-        }
-
-        int idx2 = enc[enc.length - 1] & 0xff;
-
-        ASN1ObjectIdentifier possibleMatch = first[idx2];
-
-        if (possibleMatch == null)
-        {
-            possibleMatch = first[idx2] = new ASN1ObjectIdentifier(enc);
-            return possibleMatch;
-        }
-
-        if (Arrays.areEqual(enc, possibleMatch.getBody()))
-        {
-            return possibleMatch;
-        }
-        else
+        if (oid == null)
         {
-            idx1 = (idx1 + 1) % 256;
-            first = cache[idx1];
-            if (first == null)
-            {
-                first = cache[idx1] = new ASN1ObjectIdentifier[255];
-            }
-
-            possibleMatch = first[idx2];
-
-            if (possibleMatch == null)
-            {
-                possibleMatch = first[idx2] = new ASN1ObjectIdentifier(enc);
-                return possibleMatch;
-            }
-
-            if (Arrays.areEqual(enc, possibleMatch.getBody()))
-            {
-                return possibleMatch;
-            }
-
-            idx2 = (idx2 + 1) % 256;
-            possibleMatch = first[idx2];
-
-            if (possibleMatch == null)
-            {
-                possibleMatch = first[idx2] = new ASN1ObjectIdentifier(enc);
-                return possibleMatch;
-            }
-
-            if (Arrays.areEqual(enc, possibleMatch.getBody()))
-            {
-                return possibleMatch;
-            }
+            oid = OIDTable.internDecoded(new ASN1ObjectIdentifier(enc));
         }
 
-        return new ASN1ObjectIdentifier(enc);
+        return oid;
     }
 }
@@ -57,13 +57,24 @@ public class DERSet
     {
         if (bodyLength < 0)
         {
+            byte[][] encodings = getSortedEncodings();
             int length = 0;
 
-            for (Enumeration e = this.getObjects(); e.hasMoreElements();)
+            if (encodings != null)
             {
-                Object    obj = e.nextElement();
+                for (int i = 0; i != encodings.length; i++)
+                {
+                    length += encodings[i].length;
+                }
+            }
+            else
+            {
+                for (Enumeration e = this.getObjects(); e.hasMoreElements();)
+                {
+                    Object    obj = e.nextElement();
 
-                length += ((ASN1Encodable)obj).toASN1Primitive().toDERObject().encodedLength();
+                    length += ((ASN1Encodable)obj).toASN1Primitive().toDERObject().encodedLength();
+                }
             }
 
             bodyLength = length;
@@ -94,15 +105,41 @@ public class DERSet
     {
         ASN1OutputStream        dOut = out.getDERSubStream();
         int                     length = getBodyLength();
+        byte[][]                encodings = getSortedEncodings();
 
         out.write(BERTags.SET | BERTags.CONSTRUCTED);
         out.writeLength(length);
 
-        for (Enumeration e = this.getObjects(); e.hasMoreElements();)
+        if (encodings != null)
+        {
+            // the elements were encoded to sort them, write those encodings
+            for (int i = 0; i != encodings.length; i++)
+            {
+                out.write(encodings[i]);
+            }
+        }
+        else
         {
-            Object    obj = e.nextElement();
+            for (Enumeration e = this.getObjects(); e.hasMoreElements();)
+            {
+                Object    obj = e.nextElement();
+
+                dOut.writeObject((ASN1Encodable)obj);
+            }
+        }
+    }
 
-            dOut.writeObject((ASN1Encodable)obj);
+    /**
+     * A sorted DERSet is already in DER form - returning it, rather than a copy,
+     * keeps the encodings sorting left behind for writing it inside another object.
+     */
+    ASN1Primitive toDERObject()
+    {
+        if (isSorted())
+        {
+            return this;
         }
+
+        return super.toDERObject();
     }
 }
@@ -0,0 +1,231 @@
+package org.spongycastle.asn1;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.spongycastle.util.Arrays;
+
+/**
+ * Tables of interned object identifiers, looked up either by the contents octets of an
+ * encoding or by the dotted string form, so an OID decoded over and over, or declared as a
+ * constant, is the one instance - with its identifier and body already worked out.
+ * <p>
+ * OIDs interned by {@link ASN1ObjectIdentifier#intern()} - the constant classes - are kept
+ * for good: each may go in one of the slots following its hash, slots are filled with
+ * compareAndSet and never emptied, and once the slots an OID could use are taken it simply
+ * isn't interned.
+ * The tables are sized so that happens only well beyond the few thousand constants in use.
+ * </p>
+ * <p>
+ * Decoded OIDs can come from anywhere, so they go in a separate, smaller table keyed by
+ * encoding in which an OID whose slots are all taken replaces the one in its first slot.
+ * The most recently decoded OIDs are therefore the ones kept, and no amount of input can
+ * stop an OID being interned. Neither kind of table can grow, and lookups need no locking.
+ * </p>
+ */
+class OIDTable
+{
+    private static final int SIZE = 4096;          // a power of 2
+    private static final int MAX_PROBES = 16;
+    private static final int DECODED_SIZE = 1024;  // a power of 2
+    private static final int DECODED_PROBES = 4;
+    private static final int MAX_BODY_LENGTH = 64; // anything longer isn't worth keeping
+
+    private static final AtomicReferenceArray byBody = new AtomicReferenceArray(SIZE);
+    private static final AtomicReferenceArray byIdentifier = new AtomicReferenceArray(SIZE);
+    private static final AtomicReferenceArray decoded = new AtomicReferenceArray(DECODED_SIZE);
+
+    /**
+     * Return the interned OID with the passed in contents octets, null if there isn't one.
+     */
+    static ASN1ObjectIdentifier lookup(byte[] body)
+    {
+        int index = hash(body);
+
+        ASN1ObjectIdentifier oid = find(byBody, SIZE, MAX_PROBES, index, body);
+
+        if (oid == null)
+        {
+            oid = find(decoded, DECODED_SIZE, DECODED_PROBES, index, body);
+        }
+
+        return oid;
+    }
+
+    /**
+     * Return the OID interned for good with the passed in identifier, null if there isn't one.
+     */
+    static ASN1ObjectIdentifier lookup(String identifier)
+    {
+        int index = spread(identifier.hashCode());
+
+        for (int i = 0; i != MAX_PROBES; i++)
+        {
+            ASN1ObjectIdentifier oid = (ASN1ObjectIdentifier)byIdentifier.get((index + i) & (SIZE - 1));
+
+            if (oid == null)
+            {
+                return null;
+            }
+            if (identifier.equals(oid.identifier))
+            {
+                return oid;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Intern oid, which must have its body already calculated, for good - returning the
+     * instance now held for its encoding, oid itself unless another got there first.
+     */
+    static ASN1ObjectIdentifier intern(ASN1ObjectIdentifier oid)
+    {
+        byte[] body = oid.getBody();
+
+        // a body that isn't the DER one mustn't be handed on to OIDs looked up by identifier
+        if (body.length > MAX_BODY_LENGTH || !isMinimal(body))
+        {
+            return oid;
+        }
+
+        ASN1ObjectIdentifier canonical = oid;
+
+        int index = hash(body);
+        for (int i = 0; i != MAX_PROBES; i++)
+        {
+            int slot = (index + i) & (SIZE - 1);
+
+            if (byBody.compareAndSet(slot, null, oid))
+            {
+                break;
+            }
+
+            ASN1ObjectIdentifier existing = (ASN1ObjectIdentifier)byBody.get(slot);
+            if (Arrays.areEqual(body, existing.getBody()))
+            {
+                canonical = existing;
+                break;
+            }
+        }
+
+        index = spread(canonical.identifier.hashCode());
+        for (int i = 0; i != MAX_PROBES; i++)
+        {
+            int slot = (index + i) & (SIZE - 1);
+
+            if (byIdentifier.compareAndSet(slot, null, canonical)
+                || canonical.identifier.equals(((ASN1ObjectIdentifier)byIdentifier.get(slot)).identifier))
+            {
+                break;
+            }
+        }
+
+        return canonical;
+    }
+
+    /**
+     * Intern the decoded OID oid, which must have its body already calculated, until it is
+     * replaced - returning the instance now held for its encoding, oid itself unless another
+     * got there first.
+     */
+    static ASN1ObjectIdentifier internDecoded(ASN1ObjectIdentifier oid)
+    {
+        byte[] body = oid.getBody();
+
+        if (body.length > MAX_BODY_LENGTH || !isMinimal(body))
+        {
+            return oid;
+        }
+
+        int index = hash(body);
+        for (int i = 0; i != DECODED_PROBES; i++)
+        {
+            int slot = (index + i) & (DECODED_SIZE - 1);
+
+            if (decoded.compareAndSet(slot, null, oid))
+            {
+                return oid;
+            }
+
+            ASN1ObjectIdentifier existing = (ASN1ObjectIdentifier)decoded.get(slot);
+            if (Arrays.areEqual(body, existing.getBody()))
+            {
+                return existing;
+            }
+        }
+
+        decoded.set(index & (DECODED_SIZE - 1), oid);
+
+        return oid;
+    }
+
+    private static ASN1ObjectIdentifier find(AtomicReferenceArray table, int size, int probes, int index, byte[] body)
+    {
+        for (int i = 0; i != probes; i++)
+        {
+            ASN1ObjectIdentifier oid = (ASN1ObjectIdentifier)table.get((index + i) & (size - 1));
+
+            if (oid == null)
+            {
+                return null;
+            }
+            if (Arrays.areEqual(body, oid.getBody()))
+            {
+                return oid;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Return true if body is a complete sequence of minimally encoded subidentifiers.
+     */
+    static boolean isMinimal(byte[] body)
+    {
+        if (body.length == 0 || (body[body.length - 1] & 0x80) != 0)
+        {
+            return false;
+        }
+
+        boolean start = true;
+        for (int i = 0; i != body.length; i++)
+        {
+            if (start && (body[i] & 0xff) == 0x80)
+            {
+                return false;
+            }
+
+            start = (body[i] & 0x80) == 0;
+        }
+
+        return true;
+    }
+
+    private static int hash(byte[] body)
+    {
+        int h = body.length;
+
+        for (int i = 0; i != body.length; i++)
+        {
+            h = h * 31 + body[i];
+        }
+
+        return spread(h);
+    }
+
+    /**
+     * Mix all the bits of h into the low ones, OIDs differing only in their last arc
+     * having hashes that would otherwise land on neighbouring slots.
+     */
+    private static int spread(int h)
+    {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+
+        return h ^ (h >>> 16);
+    }
+}
@@ -28,7 +28,7 @@ public class CertificateHolderAuthorization
 {
     ASN1ObjectIdentifier oid;
     DERApplicationSpecific accessRights;
-    public static final ASN1ObjectIdentifier id_role_EAC = EACObjectIdentifiers.bsi_de.branch("3.1.2.1");
+    public static final ASN1ObjectIdentifier id_role_EAC = EACObjectIdentifiers.bsi_de.branch("3.1.2.1").intern();
     public static final int CVCA = 0xC0;
     public static final int DV_DOMESTIC = 0x80;
     public static final int DV_FOREIGN = 0x40;
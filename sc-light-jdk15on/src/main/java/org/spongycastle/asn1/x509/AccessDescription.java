@@ -18,9 +18,9 @@ import org.spongycastle.asn1.DERSequence;
 public class AccessDescription
     extends ASN1Object
 {
-    public final static ASN1ObjectIdentifier id_ad_caIssuers = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.48.2");
+    public final static ASN1ObjectIdentifier id_ad_caIssuers = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.48.2").intern();
     
-    public final static ASN1ObjectIdentifier id_ad_ocsp = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.48.1");
+    public final static ASN1ObjectIdentifier id_ad_ocsp = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.48.1").intern();
         
     ASN1ObjectIdentifier accessMethod = null;
     GeneralName accessLocation = null;
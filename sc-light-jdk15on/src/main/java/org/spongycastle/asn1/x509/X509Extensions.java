@@ -25,187 +25,187 @@ public class X509Extensions
      * Subject Directory Attributes
      * @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier SubjectDirectoryAttributes = new ASN1ObjectIdentifier("2.5.29.9");
+    public static final ASN1ObjectIdentifier SubjectDirectoryAttributes = new ASN1ObjectIdentifier("2.5.29.9").intern();
     
     /**
      * Subject Key Identifier
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier SubjectKeyIdentifier = new ASN1ObjectIdentifier("2.5.29.14");
+    public static final ASN1ObjectIdentifier SubjectKeyIdentifier = new ASN1ObjectIdentifier("2.5.29.14").intern();
 
     /**
      * Key Usage
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier KeyUsage = new ASN1ObjectIdentifier("2.5.29.15");
+    public static final ASN1ObjectIdentifier KeyUsage = new ASN1ObjectIdentifier("2.5.29.15").intern();
 
     /**
      * Private Key Usage Period
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier PrivateKeyUsagePeriod = new ASN1ObjectIdentifier("2.5.29.16");
+    public static final ASN1ObjectIdentifier PrivateKeyUsagePeriod = new ASN1ObjectIdentifier("2.5.29.16").intern();
 
     /**
      * Subject Alternative Name
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier SubjectAlternativeName = new ASN1ObjectIdentifier("2.5.29.17");
+    public static final ASN1ObjectIdentifier SubjectAlternativeName = new ASN1ObjectIdentifier("2.5.29.17").intern();
 
     /**
      * Issuer Alternative Name
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier IssuerAlternativeName = new ASN1ObjectIdentifier("2.5.29.18");
+    public static final ASN1ObjectIdentifier IssuerAlternativeName = new ASN1ObjectIdentifier("2.5.29.18").intern();
 
     /**
      * Basic Constraints
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier BasicConstraints = new ASN1ObjectIdentifier("2.5.29.19");
+    public static final ASN1ObjectIdentifier BasicConstraints = new ASN1ObjectIdentifier("2.5.29.19").intern();
 
     /**
      * CRL Number
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier CRLNumber = new ASN1ObjectIdentifier("2.5.29.20");
+    public static final ASN1ObjectIdentifier CRLNumber = new ASN1ObjectIdentifier("2.5.29.20").intern();
 
     /**
      * Reason code
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier ReasonCode = new ASN1ObjectIdentifier("2.5.29.21");
+    public static final ASN1ObjectIdentifier ReasonCode = new ASN1ObjectIdentifier("2.5.29.21").intern();
 
     /**
      * Hold Instruction Code
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier InstructionCode = new ASN1ObjectIdentifier("2.5.29.23");
+    public static final ASN1ObjectIdentifier InstructionCode = new ASN1ObjectIdentifier("2.5.29.23").intern();
 
     /**
      * Invalidity Date
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier InvalidityDate = new ASN1ObjectIdentifier("2.5.29.24");
+    public static final ASN1ObjectIdentifier InvalidityDate = new ASN1ObjectIdentifier("2.5.29.24").intern();
 
     /**
      * Delta CRL indicator
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier DeltaCRLIndicator = new ASN1ObjectIdentifier("2.5.29.27");
+    public static final ASN1ObjectIdentifier DeltaCRLIndicator = new ASN1ObjectIdentifier("2.5.29.27").intern();
 
     /**
      * Issuing Distribution Point
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier IssuingDistributionPoint = new ASN1ObjectIdentifier("2.5.29.28");
+    public static final ASN1ObjectIdentifier IssuingDistributionPoint = new ASN1ObjectIdentifier("2.5.29.28").intern();
 
     /**
      * Certificate Issuer
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier CertificateIssuer = new ASN1ObjectIdentifier("2.5.29.29");
+    public static final ASN1ObjectIdentifier CertificateIssuer = new ASN1ObjectIdentifier("2.5.29.29").intern();
 
     /**
      * Name Constraints
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier NameConstraints = new ASN1ObjectIdentifier("2.5.29.30");
+    public static final ASN1ObjectIdentifier NameConstraints = new ASN1ObjectIdentifier("2.5.29.30").intern();
 
     /**
      * CRL Distribution Points
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier CRLDistributionPoints = new ASN1ObjectIdentifier("2.5.29.31");
+    public static final ASN1ObjectIdentifier CRLDistributionPoints = new ASN1ObjectIdentifier("2.5.29.31").intern();
 
     /**
      * Certificate Policies
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier CertificatePolicies = new ASN1ObjectIdentifier("2.5.29.32");
+    public static final ASN1ObjectIdentifier CertificatePolicies = new ASN1ObjectIdentifier("2.5.29.32").intern();
 
     /**
      * Policy Mappings
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier PolicyMappings = new ASN1ObjectIdentifier("2.5.29.33");
+    public static final ASN1ObjectIdentifier PolicyMappings = new ASN1ObjectIdentifier("2.5.29.33").intern();
 
     /**
      * Authority Key Identifier
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier AuthorityKeyIdentifier = new ASN1ObjectIdentifier("2.5.29.35");
+    public static final ASN1ObjectIdentifier AuthorityKeyIdentifier = new ASN1ObjectIdentifier("2.5.29.35").intern();
 
     /**
      * Policy Constraints
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier PolicyConstraints = new ASN1ObjectIdentifier("2.5.29.36");
+    public static final ASN1ObjectIdentifier PolicyConstraints = new ASN1ObjectIdentifier("2.5.29.36").intern();
 
     /**
      * Extended Key Usage
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier ExtendedKeyUsage = new ASN1ObjectIdentifier("2.5.29.37");
+    public static final ASN1ObjectIdentifier ExtendedKeyUsage = new ASN1ObjectIdentifier("2.5.29.37").intern();
 
     /**
      * Freshest CRL
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier FreshestCRL = new ASN1ObjectIdentifier("2.5.29.46");
+    public static final ASN1ObjectIdentifier FreshestCRL = new ASN1ObjectIdentifier("2.5.29.46").intern();
      
     /**
      * Inhibit Any Policy
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier InhibitAnyPolicy = new ASN1ObjectIdentifier("2.5.29.54");
+    public static final ASN1ObjectIdentifier InhibitAnyPolicy = new ASN1ObjectIdentifier("2.5.29.54").intern();
 
     /**
      * Authority Info Access
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier AuthorityInfoAccess = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.1");
+    public static final ASN1ObjectIdentifier AuthorityInfoAccess = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.1").intern();
 
     /**
      * Subject Info Access
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier SubjectInfoAccess = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.11");
+    public static final ASN1ObjectIdentifier SubjectInfoAccess = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.11").intern();
     
     /**
      * Logo Type
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier LogoType = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.12");
+    public static final ASN1ObjectIdentifier LogoType = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.12").intern();
 
     /**
      * BiometricInfo
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier BiometricInfo = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.2");
+    public static final ASN1ObjectIdentifier BiometricInfo = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.2").intern();
     
     /**
      * QCStatements
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier QCStatements = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.3");
+    public static final ASN1ObjectIdentifier QCStatements = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.3").intern();
 
     /**
      * Audit identity extension in attribute certificates.
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier AuditIdentity = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.4");
+    public static final ASN1ObjectIdentifier AuditIdentity = new ASN1ObjectIdentifier("1.3.6.1.5.5.7.1.4").intern();
     
     /**
      * NoRevAvail extension in attribute certificates.
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier NoRevAvail = new ASN1ObjectIdentifier("2.5.29.56");
+    public static final ASN1ObjectIdentifier NoRevAvail = new ASN1ObjectIdentifier("2.5.29.56").intern();
 
     /**
      * TargetInformation extension in attribute certificates.
      *  @deprecated use X509Extension value.
      */
-    public static final ASN1ObjectIdentifier TargetInformation = new ASN1ObjectIdentifier("2.5.29.55");
+    public static final ASN1ObjectIdentifier TargetInformation = new ASN1ObjectIdentifier("2.5.29.55").intern();
     
     private Hashtable               extensions = new Hashtable();
     private Vector                  ordering = new Vector();
@@ -218,6 +218,17 @@ public class BufferedBlockCipher
             len -= gapLen;
             inOff += gapLen;
 
+            if (cipher instanceof MultiBlockCipher && len > buf.length)
+            {
+                // leave at least one byte behind, as the loop below would
+                int blockCount = (len - 1) / blockSize;
+                int processed = ((MultiBlockCipher)cipher).processBlocks(in, inOff, blockCount, out, outOff + resultLen);
+
+                resultLen += processed;
+                len -= processed;
+                inOff += processed;
+            }
+
             while (len > buf.length)
             {
                 resultLen += cipher.processBlock(in, inOff, out, outOff + resultLen);
@@ -0,0 +1,36 @@
+package org.spongycastle.crypto;
+
+/**
+ * Block cipher engines which can process several consecutive blocks in a
+ * single call, typically faster than the equivalent sequence of calls to
+ * processBlock(), are expected to conform to this interface.
+ */
+public interface MultiBlockCipher
+    extends BlockCipher
+{
+    /**
+     * Return the number of bytes the engine prefers to be given in one call
+     * to processBlocks() - a multiple of the block size.
+     *
+     * @return the preferred number of bytes per call.
+     */
+    public int getMultiBlockSize();
+
+    /**
+     * Process blockCount consecutive blocks of input from the array in and
+     * write them to the out array. The result is the same as calling
+     * processBlock() on each block in turn.
+     *
+     * @param in the array containing the input data.
+     * @param inOff offset into the in array the data starts at.
+     * @param blockCount the number of blocks to process.
+     * @param out the array the output data will be copied into.
+     * @param outOff the offset into the out array the output will start at.
+     * @exception DataLengthException if there isn't enough data in in, or
+     * space in out.
+     * @exception IllegalStateException if the cipher isn't initialised.
+     * @return the number of bytes processed and produced.
+     */
+    public int processBlocks(byte[] in, int inOff, int blockCount, byte[] out, int outOff)
+        throws DataLengthException, IllegalStateException;
+}
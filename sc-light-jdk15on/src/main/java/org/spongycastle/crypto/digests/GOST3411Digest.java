@@ -7,12 +7,13 @@ import org.spongycastle.crypto.params.KeyParameter;
 import org.spongycastle.crypto.params.ParametersWithSBox;
 import org.spongycastle.crypto.util.Pack;
 import org.spongycastle.util.Arrays;
+import org.spongycastle.util.Memoable;
 
 /**
  * implementation of GOST R 34.11-94
  */
 public class GOST3411Digest
-    implements ExtendedDigest
+    implements ExtendedDigest, Memoable
 {
     private static final int    DIGEST_LENGTH = 32;
 
@@ -56,8 +57,16 @@ public class GOST3411Digest
      */
     public GOST3411Digest(GOST3411Digest t)
     {
-        this.sBox = t.sBox;
-        cipher.init(true, new ParametersWithSBox(null, sBox));
+        copyIn(t);
+    }
+
+    private void copyIn(GOST3411Digest t)
+    {
+        if (this.sBox != t.sBox)
+        {
+            this.sBox = t.sBox;
+            cipher.init(true, new ParametersWithSBox(null, sBox));
+        }
 
         reset();
 
@@ -344,6 +353,16 @@ public class GOST3411Digest
    {
       return 32;
    }
-}
 
+    public Memoable copy()
+    {
+        return new GOST3411Digest(this);
+    }
+
+    public void reset(Memoable other)
+    {
+        GOST3411Digest d = (GOST3411Digest)other;
 
+        copyIn(d);
+    }
+}
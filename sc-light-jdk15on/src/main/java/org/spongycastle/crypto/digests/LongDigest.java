@@ -2,12 +2,16 @@ package org.spongycastle.crypto.digests;
 
 import org.spongycastle.crypto.ExtendedDigest;
 import org.spongycastle.crypto.util.Pack;
+import org.spongycastle.util.Memoable;
 
 /**
  * Base class for SHA-384 and SHA-512.
+ * <p>
+ * The state of a digest can be saved with copy() and restored with
+ * reset(Memoable), so a common prefix only needs to be processed once.
  */
 public abstract class LongDigest
-    implements ExtendedDigest
+    implements ExtendedDigest, Memoable
 {
     private static final int BYTE_LENGTH = 128;
     
@@ -41,6 +45,12 @@ public abstract class LongDigest
     protected LongDigest(LongDigest t)
     {
         xBuf = new byte[t.xBuf.length];
+
+        copyIn(t);
+    }
+
+    protected void copyIn(LongDigest t)
+    {
         System.arraycopy(t.xBuf, 0, xBuf, 0, t.xBuf.length);
 
         xBufOff = t.xBufOff;
@@ -1,12 +1,13 @@
 package org.spongycastle.crypto.digests;
 
 import org.spongycastle.crypto.*;
+import org.spongycastle.util.Memoable;
 /**
  * implementation of MD2
  * as outlined in RFC1319 by B.Kaliski from RSA Laboratories April 1992
  */
 public class MD2Digest
-    implements ExtendedDigest
+    implements ExtendedDigest, Memoable
 {
     private static final int DIGEST_LENGTH = 16;
 
@@ -25,6 +26,11 @@ public class MD2Digest
         reset();
     }
     public MD2Digest(MD2Digest t)
+    {
+        copyIn(t);
+    }
+
+    private void copyIn(MD2Digest t)
     {
         System.arraycopy(t.X, 0, X, 0, t.X.length);
         xOff = t.xOff;
@@ -232,6 +238,16 @@ public class MD2Digest
    {
       return 16;
    }
-}
 
+    public Memoable copy()
+    {
+        return new MD2Digest(this);
+    }
+
+    public void reset(Memoable other)
+    {
+        MD2Digest d = (MD2Digest)other;
 
+        copyIn(d);
+    }
+}
@@ -1,5 +1,6 @@
 package org.spongycastle.crypto.digests;
 
+import org.spongycastle.util.Memoable;
 
 /**
  * implementation of MD4 as RFC 1320 by R. Rivest, MIT Laboratory for
@@ -34,6 +35,11 @@ public class MD4Digest
     {
         super(t);
 
+        copyIn(t);
+    }
+
+    private void copyIn(MD4Digest t)
+    {
         H1 = t.H1;
         H2 = t.H2;
         H3 = t.H3;
@@ -267,4 +273,17 @@ public class MD4Digest
             X[i] = 0;
         }
     }
+
+    public Memoable copy()
+    {
+        return new MD4Digest(this);
+    }
+
+    public void reset(Memoable other)
+    {
+        MD4Digest d = (MD4Digest)other;
+
+        super.copyIn(d);
+        copyIn(d);
+    }
 }
@@ -1,5 +1,6 @@
 package org.spongycastle.crypto.digests;
 
+import org.spongycastle.util.Memoable;
 
 /**
  * implementation of MD5 as outlined in "Handbook of Applied Cryptography", pages 346 - 347.
@@ -30,6 +31,11 @@ public class MD5Digest
     {
         super(t);
 
+        copyIn(t);
+    }
+
+    private void copyIn(MD5Digest t)
+    {
         H1 = t.H1;
         H2 = t.H2;
         H3 = t.H3;
@@ -299,4 +305,17 @@ public class MD5Digest
             X[i] = 0;
         }
     }
+
+    public Memoable copy()
+    {
+        return new MD5Digest(this);
+    }
+
+    public void reset(Memoable other)
+    {
+        MD5Digest d = (MD5Digest)other;
+
+        super.copyIn(d);
+        copyIn(d);
+    }
 }
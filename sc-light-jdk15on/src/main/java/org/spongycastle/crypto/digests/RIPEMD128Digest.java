@@ -1,5 +1,6 @@
 package org.spongycastle.crypto.digests;
 
+import org.spongycastle.util.Memoable;
 
 /**
  * implementation of RIPEMD128
@@ -30,6 +31,11 @@ public class RIPEMD128Digest
     {
         super(t);
 
+        copyIn(t);
+    }
+
+    private void copyIn(RIPEMD128Digest t)
+    {
         H0 = t.H0;
         H1 = t.H1;
         H2 = t.H2;
@@ -458,4 +464,17 @@ public class RIPEMD128Digest
             X[i] = 0;
         }
     }
+
+    public Memoable copy()
+    {
+        return new RIPEMD128Digest(this);
+    }
+
+    public void reset(Memoable other)
+    {
+        RIPEMD128Digest d = (RIPEMD128Digest)other;
+
+        super.copyIn(d);
+        copyIn(d);
+    }
 }
@@ -1,5 +1,6 @@
 package org.spongycastle.crypto.digests;
 
+import org.spongycastle.util.Memoable;
 
 /**
  * implementation of RIPEMD see,
@@ -31,6 +32,11 @@ public class RIPEMD160Digest
     {
         super(t);
 
+        copyIn(t);
+    }
+
+    private void copyIn(RIPEMD160Digest t)
+    {
         H0 = t.H0;
         H1 = t.H1;
         H2 = t.H2;
@@ -419,4 +425,17 @@ public class RIPEMD160Digest
             X[i] = 0;
         }
     }
+
+    public Memoable copy()
+    {
+        return new RIPEMD160Digest(this);
+    }
+
+    public void reset(Memoable other)
+    {
+        RIPEMD160Digest d = (RIPEMD160Digest)other;
+
+        super.copyIn(d);
+        copyIn(d);
+    }
 }
@@ -1,5 +1,6 @@
 package org.spongycastle.crypto.digests;
 
+import org.spongycastle.util.Memoable;
 
 /**
  * implementation of RIPEMD256.
@@ -32,6 +33,11 @@ public class RIPEMD256Digest
     {
         super(t);
 
+        copyIn(t);
+    }
+
+    private void copyIn(RIPEMD256Digest t)
+    {
         H0 = t.H0;
         H1 = t.H1;
         H2 = t.H2;
@@ -473,4 +479,17 @@ public class RIPEMD256Digest
             X[i] = 0;
         }
     }
+
+    public Memoable copy()
+    {
+        return new RIPEMD256Digest(this);
+    }
+
+    public void reset(Memoable other)
+    {
+        RIPEMD256Digest d = (RIPEMD256Digest)other;
+
+        super.copyIn(d);
+        copyIn(d);
+    }
 }
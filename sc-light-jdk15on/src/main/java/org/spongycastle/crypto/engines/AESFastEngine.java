@@ -1,8 +1,8 @@
 package org.spongycastle.crypto.engines;
 
-import org.spongycastle.crypto.BlockCipher;
 import org.spongycastle.crypto.CipherParameters;
 import org.spongycastle.crypto.DataLengthException;
+import org.spongycastle.crypto.MultiBlockCipher;
 import org.spongycastle.crypto.params.KeyParameter;
 
 /**
@@ -26,10 +26,13 @@ import org.spongycastle.crypto.params.KeyParameter;
  * The slowest version uses no static tables at all and computes the values in each round
  * <p>
  * This file contains the fast version with 8Kbytes of static tables for round precomputation
+ * <p>
+ * Modes such as CTR and GCM, which encrypt runs of independent counter blocks, can pass several blocks
+ * at a time to processBlocks(), saving a call and the argument checks per block.
  *
  */
 public class AESFastEngine
-    implements BlockCipher
+    implements MultiBlockCipher
 {
     // The S box
     private static final byte[] S = {
@@ -667,6 +670,7 @@ public class AESFastEngine
     private boolean     forEncryption;
 
     private static final int BLOCK_SIZE = 16;
+    private static final int MULTI_BLOCK_SIZE = 8 * BLOCK_SIZE;
 
     /**
      * default constructor - 128 bit block size.
@@ -744,6 +748,52 @@ public class AESFastEngine
         return BLOCK_SIZE;
     }
 
+    public int getMultiBlockSize()
+    {
+        return MULTI_BLOCK_SIZE;
+    }
+
+    public int processBlocks(
+        byte[] in,
+        int inOff,
+        int blockCount,
+        byte[] out,
+        int outOff)
+    {
+        if (WorkingKey == null)
+        {
+            throw new IllegalStateException("AES engine not initialised");
+        }
+
+        int len = blockCount * BLOCK_SIZE;
+
+        if (blockCount < 0 || (inOff + len) > in.length)
+        {
+            throw new DataLengthException("input buffer too short");
+        }
+
+        if ((outOff + len) > out.length)
+        {
+            throw new DataLengthException("output buffer too short");
+        }
+
+        for (int i = 0; i != blockCount; i++)
+        {
+            unpackBlock(in, inOff + i * BLOCK_SIZE);
+            if (forEncryption)
+            {
+                encryptBlock(WorkingKey);
+            }
+            else
+            {
+                decryptBlock(WorkingKey);
+            }
+            packBlock(out, outOff + i * BLOCK_SIZE);
+        }
+
+        return len;
+    }
+
     public void reset()
     {
     }
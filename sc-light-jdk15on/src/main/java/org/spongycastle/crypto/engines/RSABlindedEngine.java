@@ -10,18 +10,79 @@ import org.spongycastle.util.BigIntegers;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.concurrent.ExecutorService;
 
 /**
  * this does your basic RSA algorithm with blinding
+ * <p>
+ * By default every private key operation is blinded with a fresh random r.
+ * An engine created with squared blinding instead squares the previous
+ * blinding pair (r^e, r^-1) for each operation, drawing a new r only every
+ * 32 operations with the same key. This saves a modular exponentiation and
+ * an inverse per operation, but successive blinding factors are related,
+ * so an attacker who learns one of them learns the rest of the run. Only
+ * use it where the engine is not shared across mutually distrusting callers.
+ * </p>
  */
 public class RSABlindedEngine
     implements AsymmetricBlockCipher
 {
-    private static BigInteger ONE = BigInteger.valueOf(1);
+    private static final BigInteger ONE = BigInteger.valueOf(1);
 
-    private RSACoreEngine    core = new RSACoreEngine();
+    private RSACoreEngine    core;
     private RSAKeyParameters key;
     private SecureRandom     random;
+    private boolean          squareBlinding;
+    private RSAKeyContext    context;
+
+    public RSABlindedEngine()
+    {
+        this(false);
+    }
+
+    /**
+     * Create an engine, optionally with squared blinding.
+     *
+     * @param squareBlinding true to reuse and square the blinding pair between
+     * operations, false for a fresh blinding factor on every operation.
+     */
+    public RSABlindedEngine(
+        boolean squareBlinding)
+    {
+        this.core = new RSACoreEngine();
+        this.squareBlinding = squareBlinding;
+    }
+
+    /**
+     * Create an engine that computes the two halves of a CRT private key
+     * operation concurrently, one of them on the passed in executor. This
+     * lowers the latency of each private key operation at the cost of a
+     * second thread, and is most useful with large keys. Blinding is applied
+     * as usual.
+     *
+     * @param executor the executor to run the second exponentiation on.
+     */
+    public RSABlindedEngine(
+        ExecutorService executor)
+    {
+        this(executor, false);
+    }
+
+    /**
+     * Create an engine that computes the two halves of a CRT private key
+     * operation concurrently, optionally with squared blinding.
+     *
+     * @param executor the executor to run the second exponentiation on.
+     * @param squareBlinding true to reuse and square the blinding pair between
+     * operations, false for a fresh blinding factor on every operation.
+     */
+    public RSABlindedEngine(
+        ExecutorService executor,
+        boolean         squareBlinding)
+    {
+        this.core = new RSACoreEngine(executor);
+        this.squareBlinding = squareBlinding;
+    }
 
     /**
      * initialise the RSA engine.
@@ -47,6 +108,21 @@ public class RSABlindedEngine
             key = (RSAKeyParameters)param;
             random = new SecureRandom();
         }
+
+        // keep the blinding pair if we are being re-initialised with the same key
+        if (squareBlinding && (context == null || !context.matches(key)))
+        {
+            context = new RSAKeyContext(key);
+        }
+    }
+
+    /**
+     * Return the squared blinding state for the current key, null if the
+     * engine uses a fresh blinding factor for each operation.
+     */
+    RSAKeyContext getContext()
+    {
+        return context;
     }
 
     /**
@@ -103,13 +179,26 @@ public class RSABlindedEngine
             if (e != null)   // can't do blinding without a public exponent
             {
                 BigInteger m = k.getModulus();
-                BigInteger r = BigIntegers.createRandomInRange(ONE, m.subtract(ONE), random);
 
-                BigInteger blindedInput = r.modPow(e, m).multiply(input).mod(m);
-                BigInteger blindedResult = core.processBlock(blindedInput);
+                if (squareBlinding)
+                {
+                    BigInteger[] blinding = context.nextBlinding(e, random);
+
+                    BigInteger blindedInput = blinding[0].multiply(input).mod(m);
+                    BigInteger blindedResult = core.processBlock(blindedInput);
+
+                    result = blindedResult.multiply(blinding[1]).mod(m);
+                }
+                else
+                {
+                    BigInteger r = BigIntegers.createRandomInRange(ONE, m.subtract(ONE), random);
+
+                    BigInteger blindedInput = r.modPow(e, m).multiply(input).mod(m);
+                    BigInteger blindedResult = core.processBlock(blindedInput);
 
-                BigInteger rInv = r.modInverse(m);
-                result = blindedResult.multiply(rInv).mod(m);
+                    BigInteger rInv = r.modInverse(m);
+                    result = blindedResult.multiply(rInv).mod(m);
+                }
             }
             else
             {
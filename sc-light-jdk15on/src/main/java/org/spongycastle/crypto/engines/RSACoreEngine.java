@@ -7,6 +7,10 @@ import org.spongycastle.crypto.params.RSAKeyParameters;
 import org.spongycastle.crypto.params.RSAPrivateCrtKeyParameters;
 
 import java.math.BigInteger;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * this does your basic RSA algorithm.
@@ -15,6 +19,21 @@ class RSACoreEngine
 {
     private RSAKeyParameters key;
     private boolean          forEncryption;
+    private ExecutorService  executor;
+
+    RSACoreEngine()
+    {
+        this(null);
+    }
+
+    /**
+     * @param executor if not null, the executor used to compute one of the
+     * two CRT exponentiations while the calling thread computes the other.
+     */
+    RSACoreEngine(ExecutorService executor)
+    {
+        this.executor = executor;
+    }
 
     /**
      * initialise the RSA engine.
@@ -177,11 +196,32 @@ class RSACoreEngine
 
             BigInteger mP, mQ, h, m;
 
-            // mP = ((input mod p) ^ dP)) mod p
-            mP = (input.remainder(p)).modPow(dP, p);
+            if (executor != null)
+            {
+                // mQ = ((input mod q) ^ dQ)) mod q, in the background
+                Future<BigInteger> mQResult = executor.submit(new ModPow(input.remainder(q), dQ, q));
+
+                try
+                {
+                    // mP = ((input mod p) ^ dP)) mod p
+                    mP = (input.remainder(p)).modPow(dP, p);
+
+                    mQ = getResult(mQResult);
+                }
+                finally
+                {
+                    // a no-op once mQ is done, stops it if the calling thread failed
+                    mQResult.cancel(true);
+                }
+            }
+            else
+            {
+                // mP = ((input mod p) ^ dP)) mod p
+                mP = (input.remainder(p)).modPow(dP, p);
 
-            // mQ = ((input mod q) ^ dQ)) mod q
-            mQ = (input.remainder(q)).modPow(dQ, q);
+                // mQ = ((input mod q) ^ dQ)) mod q
+                mQ = (input.remainder(q)).modPow(dQ, q);
+            }
 
             // h = qInv * (mP - mQ) mod p
             h = mP.subtract(mQ);
@@ -200,4 +240,53 @@ class RSACoreEngine
                         key.getExponent(), key.getModulus());
         }
     }
+
+    private static BigInteger getResult(Future<BigInteger> result)
+    {
+        try
+        {
+            return result.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("interrupted waiting for RSA CRT exponentiation");
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error)cause;
+            }
+
+            throw new IllegalStateException("RSA CRT exponentiation failed", cause);
+        }
+    }
+
+    private static class ModPow
+        implements Callable<BigInteger>
+    {
+        private final BigInteger base;
+        private final BigInteger exponent;
+        private final BigInteger modulus;
+
+        ModPow(BigInteger base, BigInteger exponent, BigInteger modulus)
+        {
+            this.base = base;
+            this.exponent = exponent;
+            this.modulus = modulus;
+        }
+
+        public BigInteger call()
+        {
+            return base.modPow(exponent, modulus);
+        }
+    }
 }
@@ -4,6 +4,8 @@ import org.spongycastle.crypto.AsymmetricBlockCipher;
 import org.spongycastle.crypto.CipherParameters;
 import org.spongycastle.crypto.DataLengthException;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * this does your basic RSA algorithm.
  */
@@ -11,6 +13,23 @@ public class RSAEngine
     implements AsymmetricBlockCipher
 {
     private RSACoreEngine core;
+    private ExecutorService executor;
+
+    public RSAEngine()
+    {
+    }
+
+    /**
+     * Create an engine that computes the two halves of a CRT private key
+     * operation concurrently, one of them on the passed in executor.
+     *
+     * @param executor the executor to run the second exponentiation on.
+     */
+    public RSAEngine(
+        ExecutorService executor)
+    {
+        this.executor = executor;
+    }
 
     /**
      * initialise the RSA engine.
@@ -24,7 +43,7 @@ public class RSAEngine
     {
         if (core == null)
         {
-            core = new RSACoreEngine();
+            core = new RSACoreEngine(executor);
         }
 
         core.init(forEncryption, param);
@@ -0,0 +1,83 @@
+package org.spongycastle.crypto.engines;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+import org.spongycastle.crypto.params.RSAKeyParameters;
+import org.spongycastle.util.BigIntegers;
+
+/**
+ * Per key blinding state for an RSABlindedEngine created with squared
+ * blinding, kept while the engine is re-initialised with an equal key.
+ * <p>
+ * The blinding factors follow Kocher: rather than choosing a fresh r and
+ * computing r^e and r^-1 for every operation, the pair (r^e, r^-1) is squared
+ * after each use, and only replaced by a new random pair every
+ * BLINDING_REFRESH operations. Successive blinding factors are therefore
+ * related, which is why this is not the default.
+ * </p>
+ */
+class RSAKeyContext
+{
+    private static final BigInteger ONE = BigInteger.valueOf(1);
+
+    /**
+     * Number of operations a blinding pair is used for before a new one is drawn.
+     */
+    static final int BLINDING_REFRESH = 32;
+
+    private final RSAKeyParameters key;
+    private final BigInteger modulus;
+
+    private BigInteger blind;
+    private BigInteger unblind;
+    private int blindingUses;
+
+    RSAKeyContext(RSAKeyParameters key)
+    {
+        this.key = key;
+        this.modulus = key.getModulus();
+    }
+
+    /**
+     * Return true if this context can be used for other - that is, other is
+     * the same kind of key, with the same modulus and exponent.
+     */
+    boolean matches(RSAKeyParameters other)
+    {
+        if (other == key)
+        {
+            return true;
+        }
+
+        return other.getClass() == key.getClass()
+            && other.isPrivate() == key.isPrivate()
+            && other.getModulus().equals(modulus)
+            && other.getExponent().equals(key.getExponent());
+    }
+
+    /**
+     * Return the next blinding pair { r^e mod n, r^-1 mod n } for the public
+     * exponent e.
+     */
+    BigInteger[] nextBlinding(BigInteger e, SecureRandom random)
+    {
+        if (blind == null || blindingUses >= BLINDING_REFRESH)
+        {
+            BigInteger r = BigIntegers.createRandomInRange(ONE, modulus.subtract(ONE), random);
+
+            blind = r.modPow(e, modulus);
+            unblind = r.modInverse(modulus);
+            blindingUses = 0;
+        }
+        else
+        {
+            blind = blind.multiply(blind).mod(modulus);
+            unblind = unblind.multiply(unblind).mod(modulus);
+        }
+
+        blindingUses++;
+
+        return new BigInteger[] { blind, unblind };
+    }
+}
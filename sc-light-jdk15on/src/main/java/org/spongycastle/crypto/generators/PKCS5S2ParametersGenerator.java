@@ -1,5 +1,12 @@
 package org.spongycastle.crypto.generators;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import org.spongycastle.crypto.CipherParameters;
 import org.spongycastle.crypto.Digest;
 import org.spongycastle.crypto.Mac;
@@ -8,6 +15,7 @@ import org.spongycastle.crypto.digests.SHA1Digest;
 import org.spongycastle.crypto.macs.HMac;
 import org.spongycastle.crypto.params.KeyParameter;
 import org.spongycastle.crypto.params.ParametersWithIV;
+import org.spongycastle.util.Memoable;
 
 /**
  * Generator for PBE derived keys and ivs as defined by PKCS 5 V2.0 Scheme 2.
@@ -16,11 +24,16 @@ import org.spongycastle.crypto.params.ParametersWithIV;
  * The document this implementation is based on can be found at
  * <a href=http://www.rsasecurity.com/rsalabs/pkcs/pkcs-5/index.html>
  * RSA's PKCS5 Page</a>
+ * <p>
+ * If constructed with an executor, and the digest is Memoable, the blocks of a
+ * derived key longer than the digest are computed concurrently.
  */
 public class PKCS5S2ParametersGenerator
     extends PBEParametersGenerator
 {
     private Mac hMac;
+    private Digest digest;
+    private ExecutorService executor;
 
     /**
      * construct a PKCS5 Scheme 2 Parameters generator.
@@ -32,11 +45,26 @@ public class PKCS5S2ParametersGenerator
 
     public PKCS5S2ParametersGenerator(Digest digest)
     {
-        hMac = new HMac(digest);
+        this(digest, null);
+    }
+
+    /**
+     * construct a PKCS5 Scheme 2 Parameters generator which computes the
+     * blocks of a derived key concurrently.
+     *
+     * @param digest the digest to use with HMac - it must be Memoable for
+     * the blocks to be computed concurrently.
+     * @param executor the executor to compute all but the first block on.
+     */
+    public PKCS5S2ParametersGenerator(Digest digest, ExecutorService executor)
+    {
+        this.hMac = new HMac(digest);
+        this.digest = digest;
+        this.executor = executor;
     }
 
-    private void F(
-        byte[]  P,
+    private static void F(
+        Mac     hMac,
         byte[]  S,
         int     c,
         byte[]  iBuf,
@@ -44,9 +72,6 @@ public class PKCS5S2ParametersGenerator
         int     outOff)
     {
         byte[]              state = new byte[hMac.getMacSize()];
-        CipherParameters    param = new KeyParameter(P);
-
-        hMac.init(param);
 
         if (S != null)
         {
@@ -64,9 +89,9 @@ public class PKCS5S2ParametersGenerator
             throw new IllegalArgumentException("iteration count must be at least 1.");
         }
         
+        // hMac is left keyed with P after each doFinal(), so needs no re-init
         for (int count = 1; count < c; count++)
         {
-            hMac.init(param);
             hMac.update(state, 0, state.length);
             hMac.doFinal(state, 0);
 
@@ -77,7 +102,7 @@ public class PKCS5S2ParametersGenerator
         }
     }
 
-    private void intToOctet(
+    private static void intToOctet(
         byte[]  buf,
         int     i)
     {
@@ -95,16 +120,81 @@ public class PKCS5S2ParametersGenerator
         byte[]  iBuf = new byte[4];
         byte[]  out = new byte[l * hLen];
 
+        hMac.init(new KeyParameter(password));
+
+        if (executor != null && l > 1 && digest instanceof Memoable)
+        {
+            List<Future<Object>> results = new ArrayList<Future<Object>>();
+
+            for (int i = 2; i <= l; i++)
+            {
+                Mac mac = new HMac((Digest)((Memoable)digest).copy());
+
+                results.add(executor.submit(new Block(mac, password, salt, iterationCount, i, out, (i - 1) * hLen)));
+            }
+
+            try
+            {
+                intToOctet(iBuf, 1);
+
+                F(hMac, salt, iterationCount, iBuf, out, 0);
+
+                for (int i = 0; i != results.size(); i++)
+                {
+                    waitFor(results.get(i));
+                }
+            }
+            finally
+            {
+                // a no-op for the blocks that completed, stops the rest if anything failed
+                for (int i = 0; i != results.size(); i++)
+                {
+                    results.get(i).cancel(true);
+                }
+            }
+
+            return out;
+        }
+
         for (int i = 1; i <= l; i++)
         {
             intToOctet(iBuf, i);
 
-            F(password, salt, iterationCount, iBuf, out, (i - 1) * hLen);
+            F(hMac, salt, iterationCount, iBuf, out, (i - 1) * hLen);
         }
 
         return out;
     }
 
+    private static void waitFor(Future<Object> result)
+    {
+        try
+        {
+            result.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("interrupted waiting for PBKDF2 block");
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error)cause;
+            }
+
+            throw new IllegalStateException("PBKDF2 block failed", cause);
+        }
+    }
+
     /**
      * Generate a key parameter derived from the password, salt, and iteration
      * count we are currently initialised with.
@@ -155,4 +245,43 @@ public class PKCS5S2ParametersGenerator
     {
         return generateDerivedParameters(keySize);
     }
+
+    /**
+     * Computes one block of the derived key with its own HMac.
+     */
+    private static class Block
+        implements Callable<Object>
+    {
+        private final Mac mac;
+        private final byte[] P;
+        private final byte[] S;
+        private final int c;
+        private final int index;
+        private final byte[] out;
+        private final int outOff;
+
+        Block(Mac mac, byte[] P, byte[] S, int c, int index, byte[] out, int outOff)
+        {
+            this.mac = mac;
+            this.P = P;
+            this.S = S;
+            this.c = c;
+            this.index = index;
+            this.out = out;
+            this.outOff = outOff;
+        }
+
+        public Object call()
+        {
+            byte[] iBuf = new byte[4];
+
+            intToOctet(iBuf, index);
+
+            mac.init(new KeyParameter(P));
+
+            F(mac, S, c, iBuf, out, outOff);
+
+            return null;
+        }
+    }
 }
@@ -1,8 +1,14 @@
 package org.spongycastle.crypto.generators;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import org.spongycastle.crypto.PBEParametersGenerator;
 import org.spongycastle.crypto.digests.SHA256Digest;
-import org.spongycastle.crypto.engines.Salsa20Engine;
 import org.spongycastle.crypto.params.KeyParameter;
 import org.spongycastle.crypto.util.Pack;
 import org.spongycastle.util.Arrays;
@@ -12,10 +18,20 @@ public class SCrypt
     // TODO Validate arguments
     public static byte[] generate(byte[] P, byte[] S, int N, int r, int p, int dkLen)
     {
-        return MFcrypt(P, S, N, r, p, dkLen);
+        return MFcrypt(P, S, N, r, p, dkLen, null);
+    }
+
+    /**
+     * Generate a key as above, running the p independent SMix computations
+     * concurrently - the first on the calling thread, the rest on executor.
+     * Note each SMix needs its own 128 * r * N bytes of memory while it runs.
+     */
+    public static byte[] generate(byte[] P, byte[] S, int N, int r, int p, int dkLen, ExecutorService executor)
+    {
+        return MFcrypt(P, S, N, r, p, dkLen, executor);
     }
 
-    private static byte[] MFcrypt(byte[] P, byte[] S, int N, int r, int p, int dkLen)
+    private static byte[] MFcrypt(byte[] P, byte[] S, int N, int r, int p, int dkLen, ExecutorService executor)
     {
         int MFLenBytes = r * 128;
         byte[] bytes = SingleIterationPBKDF2(P, S, p * MFLenBytes);
@@ -30,10 +46,40 @@ public class SCrypt
             Pack.littleEndianToInt(bytes, 0, B);
 
             int MFLenWords = MFLenBytes >>> 2;
-            for (int BOff = 0; BOff < BLen; BOff += MFLenWords)
+            if (executor != null && p > 1)
+            {
+                List<Future<Object>> results = new ArrayList<Future<Object>>();
+
+                // each SMix works on its own part of B
+                for (int BOff = MFLenWords; BOff < BLen; BOff += MFLenWords)
+                {
+                    results.add(executor.submit(new SMixTask(B, BOff, N, r)));
+                }
+
+                try
+                {
+                    SMix(B, 0, N, r);
+
+                    for (int i = 0; i != results.size(); i++)
+                    {
+                        waitFor(results.get(i));
+                    }
+                }
+                finally
+                {
+                    // a no-op for the tasks that completed, stops the rest if anything failed
+                    for (int i = 0; i != results.size(); i++)
+                    {
+                        results.get(i).cancel(true);
+                    }
+                }
+            }
+            else
             {
-                // TODO These can be done in parallel threads
-                SMix(B, BOff, N, r);
+                for (int BOff = 0; BOff < BLen; BOff += MFLenWords)
+                {
+                    SMix(B, BOff, N, r);
+                }
             }
 
             Pack.intToLittleEndian(B, bytes, 0);
@@ -59,65 +105,174 @@ public class SCrypt
     {
         int BCount = r * 32;
 
-        int[] blockX1 = new int[16];
-        int[] blockX2 = new int[16];
-        int[] blockY = new int[BCount];
+        if (N > Integer.MAX_VALUE / BCount)
+        {
+            throw new IllegalArgumentException("N too large for r");
+        }
 
+        int[] X1 = new int[16];
         int[] X = new int[BCount];
-        int[][] V = new int[N][];
+        int[] Y = new int[BCount];
+
+        // V[i] is held at V[i * BCount], so no per-entry arrays are created
+        int[] V = new int[N * BCount];
 
         try
         {
-            System.arraycopy(B, BOff, X, 0, BCount);
+            System.arraycopy(B, BOff, V, 0, BCount);
 
-            for (int i = 0; i < N; ++i)
+            int VOff = 0;
+            for (int i = 1; i < N; ++i)
             {
-                V[i] = Arrays.clone(X);
-                BlockMix(X, blockX1, blockX2, blockY, r);
+                BlockMix(V, VOff, null, 0, V, VOff + BCount, X1, r);
+                VOff += BCount;
             }
+            BlockMix(V, VOff, null, 0, X, 0, X1, r);
 
             int mask = N - 1;
             for (int i = 0; i < N; ++i)
             {
                 int j = X[BCount - 16] & mask;
-                Xor(X, V[j], 0, X);
-                BlockMix(X, blockX1, blockX2, blockY, r);
+                BlockMix(X, 0, V, j * BCount, Y, 0, X1, r);
+
+                int[] t = X; X = Y; Y = t;
             }
 
             System.arraycopy(X, 0, B, BOff, BCount);
         }
         finally
         {
-            ClearAll(V);
-            ClearAll(new int[][]{ X, blockX1, blockX2, blockY });
+            Clear(V);
+            ClearAll(new int[][]{ X, Y, X1 });
         }
     }
 
-    private static void BlockMix(int[] B, int[] X1, int[] X2, int[] Y, int r)
+    /**
+     * BlockMix of (in ^ v), where v is optional, written to out - which must
+     * not overlap in.
+     */
+    private static void BlockMix(int[] in, int inOff, int[] v, int vOff, int[] out, int outOff, int[] X1, int r)
     {
-        System.arraycopy(B, B.length - 16, X1, 0, 16);
+        int last = 32 * r - 16;
 
-        int BOff = 0, YOff = 0, halfLen = B.length >>> 1;
+        System.arraycopy(in, inOff + last, X1, 0, 16);
+        if (v != null)
+        {
+            Xor(X1, v, vOff + last);
+        }
+
+        int halfLen = 16 * r, YOff = outOff;
+
+        for (int i = 0; i < 2 * r; ++i)
+        {
+            Xor(X1, in, inOff);
+            if (v != null)
+            {
+                Xor(X1, v, vOff);
+                vOff += 16;
+            }
+            inOff += 16;
 
-        for (int i = 2 * r; i > 0; --i)
+            Salsa20_8(X1);
+            System.arraycopy(X1, 0, out, YOff, 16);
+
+            // even blocks fill the first half of out, odd blocks the second
+            YOff += ((i & 1) == 0) ? halfLen : 16 - halfLen;
+        }
+    }
+
+    private static void Xor(int[] x, int[] b, int bOff)
+    {
+        for (int i = 0; i < 16; ++i)
         {
-            Xor(X1, B, BOff, X2);
+            x[i] ^= b[bOff + i];
+        }
+    }
 
-            Salsa20Engine.salsaCore(8, X2, X1);
-            System.arraycopy(X1, 0, Y, YOff, 16);
+    /**
+     * Salsa20/8 core applied to x in place, with the working state held in locals.
+     */
+    private static void Salsa20_8(int[] x)
+    {
+        int x00 = x[ 0], x01 = x[ 1], x02 = x[ 2], x03 = x[ 3];
+        int x04 = x[ 4], x05 = x[ 5], x06 = x[ 6], x07 = x[ 7];
+        int x08 = x[ 8], x09 = x[ 9], x10 = x[10], x11 = x[11];
+        int x12 = x[12], x13 = x[13], x14 = x[14], x15 = x[15];
+
+        for (int i = 8; i > 0; i -= 2)
+        {
+            x04 ^= rotl(x00 + x12, 7);
+            x08 ^= rotl(x04 + x00, 9);
+            x12 ^= rotl(x08 + x04, 13);
+            x00 ^= rotl(x12 + x08, 18);
+            x09 ^= rotl(x05 + x01, 7);
+            x13 ^= rotl(x09 + x05, 9);
+            x01 ^= rotl(x13 + x09, 13);
+            x05 ^= rotl(x01 + x13, 18);
+            x14 ^= rotl(x10 + x06, 7);
+            x02 ^= rotl(x14 + x10, 9);
+            x06 ^= rotl(x02 + x14, 13);
+            x10 ^= rotl(x06 + x02, 18);
+            x03 ^= rotl(x15 + x11, 7);
+            x07 ^= rotl(x03 + x15, 9);
+            x11 ^= rotl(x07 + x03, 13);
+            x15 ^= rotl(x11 + x07, 18);
 
-            YOff = halfLen + BOff - YOff;
-            BOff += 16;
+            x01 ^= rotl(x00 + x03, 7);
+            x02 ^= rotl(x01 + x00, 9);
+            x03 ^= rotl(x02 + x01, 13);
+            x00 ^= rotl(x03 + x02, 18);
+            x06 ^= rotl(x05 + x04, 7);
+            x07 ^= rotl(x06 + x05, 9);
+            x04 ^= rotl(x07 + x06, 13);
+            x05 ^= rotl(x04 + x07, 18);
+            x11 ^= rotl(x10 + x09, 7);
+            x08 ^= rotl(x11 + x10, 9);
+            x09 ^= rotl(x08 + x11, 13);
+            x10 ^= rotl(x09 + x08, 18);
+            x12 ^= rotl(x15 + x14, 7);
+            x13 ^= rotl(x12 + x15, 9);
+            x14 ^= rotl(x13 + x12, 13);
+            x15 ^= rotl(x14 + x13, 18);
         }
 
-        System.arraycopy(Y, 0, B, 0, Y.length);
+        x[ 0] += x00; x[ 1] += x01; x[ 2] += x02; x[ 3] += x03;
+        x[ 4] += x04; x[ 5] += x05; x[ 6] += x06; x[ 7] += x07;
+        x[ 8] += x08; x[ 9] += x09; x[10] += x10; x[11] += x11;
+        x[12] += x12; x[13] += x13; x[14] += x14; x[15] += x15;
     }
 
-    private static void Xor(int[] a, int[] b, int bOff, int[] output)
+    private static int rotl(int x, int y)
     {
-        for (int i = output.length - 1; i >= 0; --i)
+        return (x << y) | (x >>> -y);
+    }
+
+    private static void waitFor(Future<Object> result)
+    {
+        try
         {
-            output[i] = a[i] ^ b[bOff + i];
+            result.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("interrupted waiting for scrypt SMix");
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error)cause;
+            }
+
+            throw new IllegalStateException("scrypt SMix failed", cause);
         }
     }
 
@@ -144,4 +299,28 @@ public class SCrypt
             Clear(arrays[i]);
         }
     }
+
+    private static class SMixTask
+        implements Callable<Object>
+    {
+        private final int[] B;
+        private final int BOff;
+        private final int N;
+        private final int r;
+
+        SMixTask(int[] B, int BOff, int N, int r)
+        {
+            this.B = B;
+            this.BOff = BOff;
+            this.N = N;
+            this.r = r;
+        }
+
+        public Object call()
+        {
+            SMix(B, BOff, N, r);
+
+            return null;
+        }
+    }
 }
@@ -7,11 +7,16 @@ import org.spongycastle.crypto.Digest;
 import org.spongycastle.crypto.ExtendedDigest;
 import org.spongycastle.crypto.Mac;
 import org.spongycastle.crypto.params.KeyParameter;
+import org.spongycastle.util.Memoable;
 
 /**
  * HMAC implementation based on RFC2104
  *
  * H(K XOR opad, H(K XOR ipad, text))
+ * <p>
+ * If the digest is Memoable its state after each of the keyed pads is saved
+ * on init(), so reset() and doFinal() restore those states rather than
+ * digesting the pads again.
  */
 public class HMac
     implements Mac
@@ -24,7 +29,9 @@ public class HMac
     private int blockLength;
     
     private byte[] inputPad;
-    private byte[] outputPad;
+    private byte[] outputBuf;
+    private Memoable ipadState;
+    private Memoable opadState;
 
     private static Hashtable blockLengths;
     
@@ -91,7 +98,7 @@ public class HMac
         this.blockLength = byteLength;
 
         inputPad = new byte[blockLength];
-        outputPad = new byte[blockLength];
+        outputBuf = new byte[blockLength + digestSize];
     }
     
     public String getAlgorithmName()
@@ -129,20 +136,31 @@ public class HMac
             }
         }
 
-        outputPad = new byte[inputPad.length];
-        System.arraycopy(inputPad, 0, outputPad, 0, inputPad.length);
+        System.arraycopy(inputPad, 0, outputBuf, 0, blockLength);
 
         for (int i = 0; i < inputPad.length; i++)
         {
             inputPad[i] ^= IPAD;
         }
 
-        for (int i = 0; i < outputPad.length; i++)
+        for (int i = 0; i < blockLength; i++)
         {
-            outputPad[i] ^= OPAD;
+            outputBuf[i] ^= OPAD;
+        }
+
+        if (digest instanceof Memoable)
+        {
+            opadState = ((Memoable)digest).copy();
+
+            ((Digest)opadState).update(outputBuf, 0, blockLength);
         }
 
         digest.update(inputPad, 0, inputPad.length);
+
+        if (digest instanceof Memoable)
+        {
+            ipadState = ((Memoable)digest).copy();
+        }
     }
 
     public int getMacSize()
@@ -168,15 +186,33 @@ public class HMac
         byte[] out,
         int outOff)
     {
-        byte[] tmp = new byte[digestSize];
-        digest.doFinal(tmp, 0);
+        digest.doFinal(outputBuf, blockLength);
 
-        digest.update(outputPad, 0, outputPad.length);
-        digest.update(tmp, 0, tmp.length);
+        if (opadState != null)
+        {
+            ((Memoable)digest).reset(opadState);
+            digest.update(outputBuf, blockLength, digestSize);
+        }
+        else
+        {
+            digest.update(outputBuf, 0, outputBuf.length);
+        }
 
         int     len = digest.doFinal(out, outOff);
 
-        reset();
+        for (int i = blockLength; i < outputBuf.length; i++)
+        {
+            outputBuf[i] = 0;
+        }
+
+        if (ipadState != null)
+        {
+            ((Memoable)digest).reset(ipadState);
+        }
+        else
+        {
+            digest.update(inputPad, 0, inputPad.length);
+        }
 
         return len;
     }
@@ -186,14 +222,24 @@ public class HMac
      */
     public void reset()
     {
-        /*
-         * reset the underlying digest.
-         */
-        digest.reset();
-
-        /*
-         * reinitialize the digest.
-         */
-        digest.update(inputPad, 0, inputPad.length);
+        if (ipadState != null)
+        {
+            /*
+             * restore the digest to its state after the input pad.
+             */
+            ((Memoable)digest).reset(ipadState);
+        }
+        else
+        {
+            /*
+             * reset the underlying digest.
+             */
+            digest.reset();
+
+            /*
+             * reinitialize the digest.
+             */
+            digest.update(inputPad, 0, inputPad.length);
+        }
     }
 }
@@ -4,8 +4,9 @@ import org.spongycastle.crypto.BlockCipher;
 import org.spongycastle.crypto.CipherParameters;
 import org.spongycastle.crypto.DataLengthException;
 import org.spongycastle.crypto.InvalidCipherTextException;
+import org.spongycastle.crypto.MultiBlockCipher;
 import org.spongycastle.crypto.modes.gcm.GCMMultiplier;
-import org.spongycastle.crypto.modes.gcm.Tables8kGCMMultiplier;
+import org.spongycastle.crypto.modes.gcm.Tables4kGCMMultiplier;
 import org.spongycastle.crypto.params.AEADParameters;
 import org.spongycastle.crypto.params.KeyParameter;
 import org.spongycastle.crypto.params.ParametersWithIV;
@@ -15,6 +16,15 @@ import org.spongycastle.util.Arrays;
 /**
  * Implements the Galois/Counter mode (GCM) detailed in
  * NIST Special Publication 800-38D.
+ * <p>
+ * Whole blocks passed to processBytes() are processed directly from the input
+ * to the output, and if the underlying cipher is a MultiBlockCipher the key
+ * stream for them is generated ahead, several counter blocks at a time.
+ * <p>
+ * Re-initialising with the same key, or with a null key to change only the
+ * nonce, reuses the hash subkey and the multiplier tables built from it. A
+ * multiplier from a GCMMultiplierCache can also be passed in, so instances
+ * share the tables for recently used keys.
  */
 public class GCMBlockCipher
     implements AEADBlockCipher
@@ -32,6 +42,7 @@ public class GCMBlockCipher
     private byte[]              nonce;
     private byte[]              A;
     private byte[]              H;
+    private byte[]              lastKey;
     private byte[]              initS;
     private byte[]              J0;
 
@@ -39,10 +50,18 @@ public class GCMBlockCipher
     private byte[]      bufBlock;
     private byte[]      macBlock;
     private byte[]      S;
-    private byte[]      counter;
+    private int         counter;
     private int         bufOff;
     private long        totalLength;
 
+    // key stream generated ahead of use when the cipher is a MultiBlockCipher,
+    // counterBlocks holds the fixed 96 bits of J0 in each block.
+    private byte[]      counterBlocks;
+    private byte[]      keyStream;
+    private int         keyStreamOff;
+    private int         keyStreamLen;
+    private int         blocksAhead;
+
     public GCMBlockCipher(BlockCipher c)
     {
         this(c, null);
@@ -59,11 +78,16 @@ public class GCMBlockCipher
         if (m == null)
         {
             // TODO Consider a static property specifying default multiplier
-            m = new Tables8kGCMMultiplier();
+            m = new Tables4kGCMMultiplier();
         }
 
         this.cipher = c;
         this.multiplier = m;
+
+        int keyStreamSize = (c instanceof MultiBlockCipher) ? ((MultiBlockCipher)c).getMultiBlockSize() : BLOCK_SIZE;
+
+        this.counterBlocks = new byte[keyStreamSize];
+        this.keyStream = new byte[keyStreamSize];
     }
 
     public BlockCipher getUnderlyingCipher()
@@ -132,16 +156,28 @@ public class GCMBlockCipher
         // if keyParam is null we're reusing the last key.
         if (keyParam != null)
         {
-            cipher.init(true, keyParam);
+            byte[] key = keyParam.getKey();
+
+            if (lastKey == null || !Arrays.constantTimeAreEqual(lastKey, key))
+            {
+                cipher.init(true, keyParam);
+
+                this.lastKey = Arrays.clone(key);
+                this.H = null;
+            }
         }
 
         // TODO This should be configurable by init parameters
         // (but must be 16 if nonce length not 12) (BLOCK_SIZE?)
 //        this.tagLength = 16;
 
-        this.H = new byte[BLOCK_SIZE];
-        cipher.processBlock(ZEROES, 0, H, 0);
-        multiplier.init(H);
+        // H, and the multiplier tables, only change with the key
+        if (H == null)
+        {
+            this.H = new byte[BLOCK_SIZE];
+            cipher.processBlock(ZEROES, 0, H, 0);
+            multiplier.init(H);
+        }
 
         this.initS = gHASH(A);
 
@@ -160,10 +196,18 @@ public class GCMBlockCipher
             multiplier.multiplyH(this.J0);
         }
 
+        for (int pos = 0; pos != counterBlocks.length; pos += BLOCK_SIZE)
+        {
+            System.arraycopy(J0, 0, counterBlocks, pos, 12);
+        }
+
         this.S = Arrays.clone(initS);
-        this.counter = Arrays.clone(J0);
+        this.counter = Pack.bigEndianToInt(J0, 12);
         this.bufOff = 0;
         this.totalLength = 0;
+        this.keyStreamOff = 0;
+        this.keyStreamLen = 0;
+        this.blocksAhead = 0;
     }
 
     public byte[] getMac()
@@ -195,27 +239,58 @@ public class GCMBlockCipher
     public int processBytes(byte[] in, int inOff, int len, byte[] out, int outOff)
         throws DataLengthException
     {
+        // on decryption the last macSize bytes seen may be the tag, so are held back
+        int holdBack = bufBlock.length - BLOCK_SIZE;
         int resultLen = 0;
 
-        for (int i = 0; i != len; i++)
+        if (in.length < (inOff + len))
         {
-//            resultLen += process(in[inOff + i], out, outOff + resultLen);
-            bufBlock[bufOff++] = in[inOff + i];
+            throw new DataLengthException("Input buffer too short");
+        }
+
+        // the number of whole blocks this call will produce
+        blocksAhead = (bufOff + len - holdBack) / BLOCK_SIZE;
 
-            if (bufOff == bufBlock.length)
+        //
+        // finish off any blocks which start in bufBlock
+        //
+        while (bufOff > 0 && bufOff + len >= bufBlock.length)
+        {
+            if (bufOff < BLOCK_SIZE)
             {
-                gCTRBlock(bufBlock, BLOCK_SIZE, out, outOff + resultLen);
-                if (!forEncryption)
-                {
-                    System.arraycopy(bufBlock, BLOCK_SIZE, bufBlock, 0, macSize);
-                }
-//              bufOff = 0;
-                bufOff = bufBlock.length - BLOCK_SIZE;
-//              return bufBlock.Length;
+                int gapLen = BLOCK_SIZE - bufOff;
+
+                System.arraycopy(in, inOff, bufBlock, bufOff, gapLen);
+                bufOff = BLOCK_SIZE;
+                inOff += gapLen;
+                len -= gapLen;
+            }
+
+            gCTRBlock(bufBlock, 0, BLOCK_SIZE, out, outOff + resultLen);
+
+            bufOff -= BLOCK_SIZE;
+            System.arraycopy(bufBlock, BLOCK_SIZE, bufBlock, 0, bufOff);
+            resultLen += BLOCK_SIZE;
+        }
+
+        //
+        // with bufBlock empty, whole blocks can go straight from in to out
+        //
+        if (bufOff == 0)
+        {
+            while (len >= bufBlock.length)
+            {
+                gCTRBlock(in, inOff, BLOCK_SIZE, out, outOff + resultLen);
+
+                inOff += BLOCK_SIZE;
+                len -= BLOCK_SIZE;
                 resultLen += BLOCK_SIZE;
             }
         }
 
+        System.arraycopy(in, inOff, bufBlock, bufOff, len);
+        bufOff += len;
+
         return resultLen;
     }
 
@@ -226,7 +301,7 @@ public class GCMBlockCipher
 
         if (bufOff == bufBlock.length)
         {
-            gCTRBlock(bufBlock, BLOCK_SIZE, out, outOff);
+            gCTRBlock(bufBlock, 0, BLOCK_SIZE, out, outOff);
             if (!forEncryption)
             {
                 System.arraycopy(bufBlock, BLOCK_SIZE, bufBlock, 0, macSize);
@@ -255,9 +330,7 @@ public class GCMBlockCipher
 
         if (extra > 0)
         {
-            byte[] tmp = new byte[BLOCK_SIZE];
-            System.arraycopy(bufBlock, 0, tmp, 0, extra);
-            gCTRBlock(tmp, extra, out, outOff);
+            gCTRBlock(bufBlock, 0, extra, out, outOff);
         }
 
         // Final gHASH
@@ -310,10 +383,16 @@ public class GCMBlockCipher
     private void reset(
         boolean clearMac)
     {
-        S = Arrays.clone(initS);
-        counter = Arrays.clone(J0);
+        if (J0 != null)
+        {
+            System.arraycopy(initS, 0, S, 0, BLOCK_SIZE);
+            counter = Pack.bigEndianToInt(J0, 12);
+        }
         bufOff = 0;
         totalLength = 0;
+        keyStreamOff = 0;
+        keyStreamLen = 0;
+        blocksAhead = 0;
 
         if (bufBlock != null)
         {
@@ -328,47 +407,62 @@ public class GCMBlockCipher
         cipher.reset();
     }
 
-    private void gCTRBlock(byte[] buf, int bufCount, byte[] out, int outOff)
+    private void gCTRBlock(byte[] buf, int bufOff, int bufCount, byte[] out, int outOff)
     {
-//        inc(counter);
-        for (int i = 15; i >= 12; --i)
+        if (keyStreamOff == keyStreamLen)
         {
-            byte b = (byte)((counter[i] + 1) & 0xff);
-            counter[i] = b;
-
-            if (b != 0)
-            {
-                break;
-            }
+            fillKeyStream();
         }
 
-        byte[] tmp = new byte[BLOCK_SIZE];
-        cipher.processBlock(counter, 0, tmp, 0);
-
-        byte[] hashBytes;
-        if (forEncryption)
+        // the hash is over the cipher text, read before out is written if decrypting in place
+        if (!forEncryption)
         {
-            System.arraycopy(ZEROES, bufCount, tmp, bufCount, BLOCK_SIZE - bufCount);
-            hashBytes = tmp;
+            xor(S, buf, bufOff, bufCount);
         }
-        else
+
+        for (int i = 0; i != bufCount; i++)
         {
-            hashBytes = buf;
+            out[outOff + i] = (byte)(keyStream[keyStreamOff + i] ^ buf[bufOff + i]);
         }
 
-        for (int i = bufCount - 1; i >= 0; --i)
+        if (forEncryption)
         {
-            tmp[i] ^= buf[i];
-            out[outOff + i] = tmp[i];
+            xor(S, out, outOff, bufCount);
         }
 
-//        gHASHBlock(hashBytes);
-        xor(S, hashBytes);
         multiplier.multiplyH(S);
 
+        keyStreamOff += BLOCK_SIZE;
         totalLength += bufCount;
     }
 
+    /**
+     * Generate the key stream for the next blocks - as many as the current
+     * call to processBytes() still needs, within the size of the buffer.
+     */
+    private void fillKeyStream()
+    {
+        int count = Math.max(1, Math.min(blocksAhead, keyStream.length / BLOCK_SIZE));
+
+        for (int pos = 12; pos < count * BLOCK_SIZE; pos += BLOCK_SIZE)
+        {
+            Pack.intToBigEndian(++counter, counterBlocks, pos);
+        }
+
+        if (count > 1)
+        {
+            ((MultiBlockCipher)cipher).processBlocks(counterBlocks, 0, count, keyStream, 0);
+        }
+        else
+        {
+            cipher.processBlock(counterBlocks, 0, keyStream, 0);
+        }
+
+        blocksAhead -= count;
+        keyStreamOff = 0;
+        keyStreamLen = count * BLOCK_SIZE;
+    }
+
     private byte[] gHASH(byte[] b)
     {
         byte[] Y = new byte[16];
@@ -413,6 +507,14 @@ public class GCMBlockCipher
         }
     }
 
+    private static void xor(byte[] block, byte[] val, int valOff, int len)
+    {
+        for (int i = len - 1; i >= 0; --i)
+        {
+            block[i] ^= val[valOff + i];
+        }
+    }
+
     private static void packLength(long count, byte[] bs, int off)
     {
         Pack.intToBigEndian((int)(count >>> 32), bs, off); 
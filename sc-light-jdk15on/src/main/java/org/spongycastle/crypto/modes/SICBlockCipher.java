@@ -3,20 +3,27 @@ package org.spongycastle.crypto.modes;
 import org.spongycastle.crypto.BlockCipher;
 import org.spongycastle.crypto.CipherParameters;
 import org.spongycastle.crypto.DataLengthException;
+import org.spongycastle.crypto.MultiBlockCipher;
 import org.spongycastle.crypto.params.ParametersWithIV;
 
 /**
  * Implements the Segmented Integer Counter (SIC) mode on top of a simple
  * block cipher. This mode is also known as CTR mode.
+ * <p>
+ * If the underlying cipher is a MultiBlockCipher, processBlocks() encrypts
+ * a run of counter values with a single call to the cipher.
  */
-public class SICBlockCipher implements BlockCipher
+public class SICBlockCipher implements MultiBlockCipher
 {
     private final BlockCipher     cipher;
     private final int             blockSize;
+    private final int             multiBlockSize;
     
     private byte[]          IV;
     private byte[]          counter;
     private byte[]          counterOut;
+    private byte[]          counterBlocks;
+    private byte[]          keyStream;
 
 
     /**
@@ -31,6 +38,17 @@ public class SICBlockCipher implements BlockCipher
         this.IV = new byte[blockSize];
         this.counter = new byte[blockSize];
         this.counterOut = new byte[blockSize];
+
+        if (c instanceof MultiBlockCipher)
+        {
+            this.multiBlockSize = ((MultiBlockCipher)c).getMultiBlockSize();
+            this.counterBlocks = new byte[multiBlockSize];
+            this.keyStream = new byte[multiBlockSize];
+        }
+        else
+        {
+            this.multiBlockSize = blockSize;
+        }
     }
 
 
@@ -94,25 +112,76 @@ public class SICBlockCipher implements BlockCipher
           out[outOff + i] = (byte)(counterOut[i] ^ in[inOff + i]);
         }
 
-        int    carry = 1;
-        
-        for (int i = counter.length - 1; i >= 0; i--)
+        incrementCounter();
+
+        return counter.length;
+    }
+
+    public int getMultiBlockSize()
+    {
+        return multiBlockSize;
+    }
+
+    public int processBlocks(byte[] in, int inOff, int blockCount, byte[] out, int outOff)
+          throws DataLengthException, IllegalStateException
+    {
+        int len = blockCount * blockSize;
+
+        if (blockCount < 0 || (inOff + len) > in.length)
+        {
+            throw new DataLengthException("input buffer too short");
+        }
+
+        if ((outOff + len) > out.length)
         {
-            int    x = (counter[i] & 0xff) + carry;
-            
-            if (x > 0xff)
+            throw new DataLengthException("output buffer too short");
+        }
+
+        if (keyStream == null)
+        {
+            for (int i = 0; i != blockCount; i++)
             {
-                carry = 1;
+                processBlock(in, inOff + i * blockSize, out, outOff + i * blockSize);
             }
-            else
+
+            return len;
+        }
+
+        int maxBlocks = multiBlockSize / blockSize;
+        int done = 0;
+
+        while (blockCount > 0)
+        {
+            int count = Math.min(blockCount, maxBlocks);
+            int chunk = count * blockSize;
+
+            for (int pos = 0; pos != chunk; pos += blockSize)
             {
-                carry = 0;
+                System.arraycopy(counter, 0, counterBlocks, pos, blockSize);
+                incrementCounter();
             }
-            
-            counter[i] = (byte)x;
+
+            ((MultiBlockCipher)cipher).processBlocks(counterBlocks, 0, count, keyStream, 0);
+
+            for (int i = 0; i != chunk; i++)
+            {
+                out[outOff + done + i] = (byte)(keyStream[i] ^ in[inOff + done + i]);
+            }
+
+            done += chunk;
+            blockCount -= count;
         }
 
-        return counter.length;
+        return len;
+    }
+
+    private void incrementCounter()
+    {
+        // stop at the first byte that doesn't carry
+        int i = counter.length;
+        while (--i >= 0 && ++counter[i] == 0)
+        {
+        }
     }
 
 
@@ -0,0 +1,144 @@
+package org.spongycastle.crypto.modes.gcm;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.spongycastle.util.Arrays;
+
+/**
+ * A bounded table of initialised multipliers, keyed by the hash subkey H, which
+ * can be shared by GCMBlockCipher instances (and threads) so a key seen again
+ * does not have its tables rebuilt. For example:
+ * <pre>
+ *     GCMBlockCipher gcm = new GCMBlockCipher(new AESFastEngine(), cache.newCachingMultiplier());
+ * </pre>
+ * <p>
+ * Note: the cache holds H, and tables derived from it, for every key it has
+ * seen recently - both are as sensitive as the GHASH key itself.
+ * </p>
+ */
+public class GCMMultiplierCache
+{
+    private final Map cache;
+
+    /**
+     * Base constructor.
+     *
+     * @param maxSize the maximum number of multipliers to hold.
+     */
+    public GCMMultiplierCache(final int maxSize)
+    {
+        if (maxSize < 1)
+        {
+            throw new IllegalArgumentException("maxSize must be at least 1");
+        }
+
+        this.cache = new LinkedHashMap(16, 0.75f, true)
+        {
+            protected boolean removeEldestEntry(Map.Entry eldest)
+            {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Return a multiplier for a single GCMBlockCipher, whose init() takes the
+     * tables for H from this cache.
+     *
+     * @return a new GCMMultiplier backed by this cache.
+     */
+    public GCMMultiplier newCachingMultiplier()
+    {
+        return new CachingMultiplier();
+    }
+
+    /**
+     * Return a multiplier initialised with H - either one already held, or a
+     * new one which is added to the cache.
+     *
+     * @param H the hash subkey.
+     * @return a multiplier for H, which must not be re-initialised.
+     */
+    public GCMMultiplier getMultiplier(byte[] H)
+    {
+        Key key = new Key(H);
+        GCMMultiplier m;
+
+        synchronized (cache)
+        {
+            m = (GCMMultiplier)cache.get(key);
+        }
+
+        if (m != null)
+        {
+            return m;
+        }
+
+        m = createMultiplier();
+        m.init(H);
+
+        synchronized (cache)
+        {
+            GCMMultiplier existing = (GCMMultiplier)cache.get(key);
+
+            if (existing != null)
+            {
+                return existing;
+            }
+
+            cache.put(key, m);
+        }
+
+        return m;
+    }
+
+    /**
+     * Create a new, uninitialised, multiplier. As the multipliers handed out
+     * are shared, multiplyH() on the result must not modify its own state.
+     *
+     * @return a GCMMultiplier.
+     */
+    protected GCMMultiplier createMultiplier()
+    {
+        return new Tables4kGCMMultiplier();
+    }
+
+    private class CachingMultiplier
+        implements GCMMultiplier
+    {
+        private GCMMultiplier tables;
+
+        public void init(byte[] H)
+        {
+            tables = getMultiplier(H);
+        }
+
+        public void multiplyH(byte[] x)
+        {
+            tables.multiplyH(x);
+        }
+    }
+
+    private static class Key
+    {
+        private final byte[] H;
+        private final int hashCode;
+
+        Key(byte[] H)
+        {
+            this.H = Arrays.clone(H);
+            this.hashCode = Arrays.hashCode(H);
+        }
+
+        public boolean equals(Object o)
+        {
+            return (o instanceof Key) && Arrays.constantTimeAreEqual(H, ((Key)o).H);
+        }
+
+        public int hashCode()
+        {
+            return hashCode;
+        }
+    }
+}
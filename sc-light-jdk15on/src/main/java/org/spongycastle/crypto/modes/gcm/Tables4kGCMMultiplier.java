@@ -0,0 +1,97 @@
+package org.spongycastle.crypto.modes.gcm;
+
+import org.spongycastle.crypto.util.Pack;
+
+/**
+ * GHASH multiplier working on 64 bit words, using Shoup's method with a
+ * table of the 256 multiples of H by a single byte (4 Kbytes, as long pairs)
+ * and a shared table for the reduction of each byte shifted out.
+ */
+public class Tables4kGCMMultiplier implements GCMMultiplier
+{
+    // R[b] is the reduction term for the byte b shifted off the low end of a value
+    private static final long[] R = new long[256];
+
+    static
+    {
+        long[] v = new long[2];
+
+        for (int b = 0; b < 256; ++b)
+        {
+            v[0] = 0;
+            v[1] = b;
+
+            for (int i = 0; i < 8; ++i)
+            {
+                multiplyP(v);
+            }
+
+            R[b] = v[0];
+        }
+    }
+
+    // M[2 * b], M[2 * b + 1] hold the high and low words of b * H
+    private long[] M;
+
+    public void init(byte[] H)
+    {
+        long[] M = new long[512];
+        long[] v = new long[]{ Pack.bigEndianToLong(H, 0), Pack.bigEndianToLong(H, 8) };
+
+        for (int j = 0x80; j > 0; j >>= 1)
+        {
+            M[j + j] = v[0];
+            M[j + j + 1] = v[1];
+
+            multiplyP(v);
+        }
+
+        for (int j = 2; j < 256; j += j)
+        {
+            for (int k = 1; k < j; ++k)
+            {
+                M[(j + k) << 1] = M[j << 1] ^ M[k << 1];
+                M[((j + k) << 1) + 1] = M[(j << 1) + 1] ^ M[(k << 1) + 1];
+            }
+        }
+
+        this.M = M;
+    }
+
+    public void multiplyH(byte[] x)
+    {
+//      assert x.Length == 16;
+
+        long[] M = this.M;
+        long z0 = 0, z1 = 0;
+
+        int i = 15;
+        for (;;)
+        {
+            int m = (x[i] & 0xff) << 1;
+            z0 ^= M[m];
+            z1 ^= M[m + 1];
+
+            if (--i < 0)
+            {
+                break;
+            }
+
+            // multiply by P^8
+            int rem = (int)z1 & 0xff;
+            z1 = (z1 >>> 8) | (z0 << 56);
+            z0 = (z0 >>> 8) ^ R[rem];
+        }
+
+        Pack.longToBigEndian(z0, x, 0);
+        Pack.longToBigEndian(z1, x, 8);
+    }
+
+    // P is the value with only bit i=1 set
+    private static void multiplyP(long[] x)
+    {
+        long lsb = x[1] & 1;
+        x[1] = (x[1] >>> 1) | (x[0] << 63);
+        x[0] = (x[0] >>> 1) ^ (-lsb & 0xe100000000000000L);
+    }
+}
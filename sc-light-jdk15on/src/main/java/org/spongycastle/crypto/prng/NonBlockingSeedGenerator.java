@@ -0,0 +1,209 @@
+package org.spongycastle.crypto.prng;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.SecureRandom;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A seed generator drawing on the operating system's non-blocking entropy
+ * source, /dev/urandom, where there is one and on SecureRandom.generateSeed()
+ * where there is not.
+ * <p>
+ * Unlike {@link ThreadedSeedGenerator} no thread is started and there is no
+ * sleeping, so a seed is available almost immediately. Bytes are read from the
+ * device a pool at a time, the pool being shared by all instances, and are
+ * cleared from it as they are handed out.
+ * </p>
+ */
+public class NonBlockingSeedGenerator
+{
+    private static final String DEVICE = "/dev/urandom";
+    private static final int POOL_SIZE = 256;
+
+    private static final Object lock = new Object();
+
+    private static FileChannel device;
+    private static boolean deviceOpened = false;
+    private static ByteBuffer pool;
+    private static SecureRandom fallback;
+
+    /**
+     * Generate seed bytes.
+     *
+     * @param numBytes the number of bytes to generate.
+     * @return a byte array of numBytes seed bytes.
+     */
+    public byte[] generateSeed(int numBytes)
+    {
+        byte[] seed = new byte[numBytes];
+
+        synchronized (lock)
+        {
+            if (!fillFromDevice(seed))
+            {
+                if (fallback == null)
+                {
+                    fallback = new SecureRandom();
+                }
+
+                byte[] s = fallback.generateSeed(numBytes);
+                System.arraycopy(s, 0, seed, 0, numBytes);
+            }
+        }
+
+        return seed;
+    }
+
+    /**
+     * Return an entropy source, suitable for seeding a DRBG, drawing on this
+     * generator.
+     *
+     * @param bitsRequired the number of bits of entropy returned by each call to getEntropy().
+     * @return an EntropySource.
+     */
+    public EntropySource getEntropySource(final int bitsRequired)
+    {
+        return new EntropySource()
+        {
+            public boolean isPredictionResistant()
+            {
+                return true;
+            }
+
+            public byte[] getEntropy()
+            {
+                return generateSeed((bitsRequired + 7) / 8);
+            }
+
+            public int entropySize()
+            {
+                return bitsRequired;
+            }
+        };
+    }
+
+    /**
+     * Reseed generator with numBytes of fresh seed every period, using a thread
+     * from executor - ordinarily a pool shared with other periodic work.
+     * <p>
+     * The generator must be safe to reseed while other threads are using it, as
+     * both DigestRandomGenerator and VMPCRandomGenerator are.
+     * </p>
+     *
+     * @param executor the executor to schedule the reseeding on.
+     * @param generator the generator to reseed.
+     * @param numBytes the number of seed bytes to add each time.
+     * @param period the time between reseeds.
+     * @param unit the time unit of period.
+     * @return a future which can be used to cancel the reseeding.
+     */
+    public ScheduledFuture<?> scheduleReseed(
+        ScheduledExecutorService executor,
+        final RandomGenerator generator,
+        final int numBytes,
+        long period,
+        TimeUnit unit)
+    {
+        return executor.scheduleAtFixedRate(new Runnable()
+        {
+            public void run()
+            {
+                generator.addSeedMaterial(generateSeed(numBytes));
+            }
+        }, period, period, unit);
+    }
+
+    // must be called holding lock
+    private static boolean fillFromDevice(byte[] seed)
+    {
+        if (!deviceOpened)
+        {
+            deviceOpened = true;
+
+            try
+            {
+                device = new FileInputStream(DEVICE).getChannel();
+                pool = ByteBuffer.allocate(POOL_SIZE);
+                pool.flip();
+            }
+            catch (IOException e)
+            {
+                device = null;
+            }
+            catch (SecurityException e)
+            {
+                device = null;
+            }
+        }
+
+        if (device == null)
+        {
+            return false;
+        }
+
+        try
+        {
+            int off = 0;
+            while (off < seed.length)
+            {
+                if (!pool.hasRemaining())
+                {
+                    refill();
+                }
+
+                int count = Math.min(pool.remaining(), seed.length - off);
+                int start = pool.position();
+
+                pool.get(seed, off, count);
+
+                // don't leave bytes which have been handed out in the pool
+                byte[] p = pool.array();
+                for (int i = start; i != start + count; i++)
+                {
+                    p[i] = 0;
+                }
+
+                off += count;
+            }
+
+            return true;
+        }
+        catch (IOException e)
+        {
+            try
+            {
+                device.close();
+            }
+            catch (IOException ignore)
+            {
+                // ignore
+            }
+
+            device = null;
+            pool = null;
+
+            return false;
+        }
+    }
+
+    private static void refill()
+        throws IOException
+    {
+        pool.clear();
+
+        while (pool.hasRemaining())
+        {
+            if (device.read(pool) < 0)
+            {
+                throw new IOException("unexpected end of " + DEVICE);
+            }
+        }
+
+        pool.flip();
+    }
+}
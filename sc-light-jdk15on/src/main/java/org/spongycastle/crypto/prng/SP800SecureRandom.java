@@ -0,0 +1,125 @@
+package org.spongycastle.crypto.prng;
+
+import java.security.SecureRandom;
+
+import org.spongycastle.crypto.prng.drbg.SP80090DRBG;
+
+/**
+ * A SecureRandom backed by a SP 800-90A DRBG, reseeding from the DRBG's
+ * entropy source when the DRBG requires it.
+ * <p>
+ * Access to the DRBG is synchronized, so an instance can be shared - where
+ * many threads generate random data each should ideally be given its own.
+ * </p>
+ */
+public class SP800SecureRandom
+    extends SecureRandom
+{
+    private static final long serialVersionUID = 1L;
+
+    // the largest request each of the SP 800-90A DRBGs will accept
+    private static final int MAX_REQUEST = (1 << 19) / 8;
+
+    private final EntropySource entropySource;
+    private final SP80090DRBG drbg;
+    private final boolean predictionResistant;
+
+    /**
+     * Base constructor.
+     *
+     * @param entropySource the entropy source the DRBG was created with, used by generateSeed().
+     * @param drbg the DRBG to draw random data from.
+     * @param predictionResistant true if the DRBG should reseed on every request.
+     */
+    public SP800SecureRandom(EntropySource entropySource, SP80090DRBG drbg, boolean predictionResistant)
+    {
+        super(null, null);
+
+        this.entropySource = entropySource;
+        this.drbg = drbg;
+        this.predictionResistant = predictionResistant;
+    }
+
+    public String getAlgorithm()
+    {
+        return "SP800-90A";
+    }
+
+    public void setSeed(byte[] seed)
+    {
+        synchronized (this)
+        {
+            drbg.reseed(seed);
+        }
+    }
+
+    public void setSeed(long seed)
+    {
+        // this will happen when SecureRandom() is created
+        if (drbg != null)
+        {
+            byte[] s = new byte[8];
+            for (int i = 0; i != s.length; i++)
+            {
+                s[i] = (byte)(seed >>> ((7 - i) * 8));
+            }
+
+            setSeed(s);
+        }
+    }
+
+    public void nextBytes(byte[] bytes)
+    {
+        synchronized (this)
+        {
+            if (bytes.length <= MAX_REQUEST)
+            {
+                generate(bytes);
+                return;
+            }
+
+            byte[] block = new byte[MAX_REQUEST];
+
+            for (int off = 0; off < bytes.length; off += MAX_REQUEST)
+            {
+                int len = Math.min(MAX_REQUEST, bytes.length - off);
+
+                if (len != block.length)
+                {
+                    block = new byte[len];
+                }
+
+                generate(block);
+                System.arraycopy(block, 0, bytes, off, len);
+            }
+        }
+    }
+
+    public byte[] generateSeed(int numBytes)
+    {
+        byte[] seed = new byte[numBytes];
+        int off = 0;
+
+        while (off < numBytes)
+        {
+            byte[] entropy = entropySource.getEntropy();
+            int len = Math.min(entropy.length, numBytes - off);
+
+            System.arraycopy(entropy, 0, seed, off, len);
+            off += len;
+        }
+
+        return seed;
+    }
+
+    // must be called holding the lock on this
+    private void generate(byte[] bytes)
+    {
+        // check if a reseed is required...
+        if (drbg.generate(bytes, null, predictionResistant) < 0)
+        {
+            drbg.reseed(null);
+            drbg.generate(bytes, null, predictionResistant);
+        }
+    }
+}
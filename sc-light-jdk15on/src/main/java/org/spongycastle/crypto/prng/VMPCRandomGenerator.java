@@ -86,13 +86,16 @@ public class VMPCRandomGenerator implements RandomGenerator
 
     public void addSeedMaterial(byte[] seed)
     {
-        for (int m = 0; m < seed.length; m++)
+        synchronized (P)
         {
-            s = P[(s + P[n & 0xff] + seed[m]) & 0xff];
-            byte temp = P[n & 0xff];
-            P[n & 0xff] = P[s & 0xff];
-            P[s & 0xff] = temp;
-            n = (byte) ((n + 1) & 0xff);
+            for (int m = 0; m < seed.length; m++)
+            {
+                s = P[(s + P[n & 0xff] + seed[m]) & 0xff];
+                byte temp = P[n & 0xff];
+                P[n & 0xff] = P[s & 0xff];
+                P[s & 0xff] = temp;
+                n = (byte) ((n + 1) & 0xff);
+            }
         }
     }
 
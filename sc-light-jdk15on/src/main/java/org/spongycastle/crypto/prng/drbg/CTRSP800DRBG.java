@@ -0,0 +1,365 @@
+package org.spongycastle.crypto.prng.drbg;
+
+import org.spongycastle.crypto.BlockCipher;
+import org.spongycastle.crypto.params.KeyParameter;
+import org.spongycastle.crypto.prng.EntropySource;
+import org.spongycastle.util.Arrays;
+
+/**
+ * A SP800-90A CTR DRBG, using the block cipher derivation function.
+ * <p>
+ * The block cipher must have a 128 bit block size (for example AES) - the
+ * TDEA variant of the standard is not supported.
+ * </p>
+ */
+public class CTRSP800DRBG
+    implements SP80090DRBG
+{
+    private static final long       RESEED_MAX = 1L << 48;
+    private static final int        MAX_BITS_REQUEST = 1 << 19;
+
+    private EntropySource          _entropySource;
+    private BlockCipher           _engine;
+    private int                   _keySizeInBits;
+    private int                   _seedLength;
+    private int                   _securityStrength;
+
+    // internal state
+    private byte[]                _Key;
+    private byte[]                _V;
+    private long                  _reseedCounter = 0;
+
+    /**
+     * Construct a SP800-90A CTR DRBG.
+     * <p>
+     * Minimum entropy requirement is the security strength requested.
+     * </p>
+     * @param engine underlying block cipher to use to support DRBG
+     * @param keySizeInBits size of the key to use with the block cipher.
+     * @param securityStrength security strength required (in bits)
+     * @param entropySource source of entropy to use for seeding/reseeding.
+     * @param personalizationString personalization string to distinguish this DRBG (may be null).
+     * @param nonce nonce to further distinguish this DRBG (may be null).
+     */
+    public CTRSP800DRBG(BlockCipher engine, int keySizeInBits, int securityStrength, EntropySource entropySource, byte[] personalizationString, byte[] nonce)
+    {
+        if (engine.getBlockSize() != 16)
+        {
+            throw new IllegalArgumentException("Block cipher must have a 128 bit block size");
+        }
+
+        if (keySizeInBits != 128 && keySizeInBits != 192 && keySizeInBits != 256)
+        {
+            throw new IllegalArgumentException("Key size must be 128, 192 or 256 bits");
+        }
+
+        if (securityStrength > keySizeInBits)
+        {
+            throw new IllegalArgumentException("Requested security strength is not supported by block cipher and key size");
+        }
+
+        if (entropySource.entropySize() < securityStrength)
+        {
+            throw new IllegalArgumentException("Not enough entropy for security strength required");
+        }
+
+        _entropySource = entropySource;
+        _engine = engine;
+
+        _keySizeInBits = keySizeInBits;
+        _securityStrength = securityStrength;
+        _seedLength = keySizeInBits + engine.getBlockSize() * 8;
+
+        byte[] entropy = getEntropy();
+
+        // 1. seed_material = entropy_input || nonce || personalization_string.
+        // 2. seed_material = Block_Cipher_df (seed_material, seedlen).
+        // 3. Key = 0^keylen.
+        // 4. V = 0^outlen.
+        // 5. (Key, V) = CTR_DRBG_Update (seed_material, Key, V).
+        // 6. reseed_counter = 1.
+        byte[] seedMaterial = Block_Cipher_df(Arrays.concatenate(entropy, nonce, personalizationString), _seedLength);
+
+        _Key = new byte[(_keySizeInBits + 7) / 8];
+        _V = new byte[engine.getBlockSize()];
+
+        CTR_DRBG_Update(seedMaterial, _Key, _V);
+
+        _reseedCounter = 1;
+    }
+
+    private void CTR_DRBG_Update(byte[] seed, byte[] key, byte[] v)
+    {
+        byte[] temp = new byte[seed.length];
+        byte[] outputBlock = new byte[_engine.getBlockSize()];
+
+        int i = 0;
+        int outLen = _engine.getBlockSize();
+
+        _engine.init(true, new KeyParameter(key));
+        while (i * outLen < seed.length)
+        {
+            addOneTo(v);
+            _engine.processBlock(v, 0, outputBlock, 0);
+
+            int bytesToCopy = ((temp.length - i * outLen) > outLen)
+                    ? outLen : (temp.length - i * outLen);
+
+            System.arraycopy(outputBlock, 0, temp, i * outLen, bytesToCopy);
+            ++i;
+        }
+
+        XOR(temp, seed, temp, 0);
+
+        System.arraycopy(temp, 0, key, 0, key.length);
+        System.arraycopy(temp, key.length, v, 0, v.length);
+    }
+
+    private void CTR_DRBG_Reseed_algorithm(byte[] additionalInput)
+    {
+        // 1. seed_material = entropy_input || additional_input.
+        // 2. seed_material = Block_Cipher_df (seed_material, seedlen).
+        // 3. (Key, V) = CTR_DRBG_Update (seed_material, Key, V).
+        // 4. reseed_counter = 1.
+        byte[] seedMaterial = Arrays.concatenate(getEntropy(), additionalInput);
+
+        seedMaterial = Block_Cipher_df(seedMaterial, _seedLength);
+
+        CTR_DRBG_Update(seedMaterial, _Key, _V);
+
+        _reseedCounter = 1;
+    }
+
+    private void XOR(byte[] out, byte[] a, byte[] b, int bOff)
+    {
+        for (int i = 0; i < out.length; i++)
+        {
+            out[i] = (byte)(a[i] ^ b[i + bOff]);
+        }
+    }
+
+    private void addOneTo(byte[] longer)
+    {
+        for (int i = longer.length - 1; i >= 0; i--)
+        {
+            if (++longer[i] != 0)
+            {
+                break;
+            }
+        }
+    }
+
+    private byte[] getEntropy()
+    {
+        byte[] entropy = _entropySource.getEntropy();
+
+        if (entropy.length < (_securityStrength + 7) / 8)
+        {
+            throw new IllegalStateException("Insufficient entropy provided by entropy source");
+        }
+
+        return entropy;
+    }
+
+    private static final byte[] K_BITS = new byte[]{
+        0x00, 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07,
+        0x08, 0x09, 0x0A, 0x0B, 0x0C, 0x0D, 0x0E, 0x0F,
+        0x10, 0x11, 0x12, 0x13, 0x14, 0x15, 0x16, 0x17,
+        0x18, 0x19, 0x1A, 0x1B, 0x1C, 0x1D, 0x1E, 0x1F };
+
+    // Block_Cipher_df, SP 800-90A 10.4.2:
+    // 1. S = L || N || input_string || 0x80, padded with zeros to a multiple of outlen,
+    //    where L and N are the byte lengths of the input and output as 32-bit integers.
+    // 2. K = Leftmost keylen bits of 0x00010203...1D1E1F.
+    // 3. temp = BCC (K, (0 || S)) || BCC (K, (1 || S)) || ... until len (temp) >= keylen + outlen,
+    //    with the counter a 32-bit integer padded with zeros to outlen bits.
+    // 4. K = Leftmost keylen bits of temp, X = Next outlen bits of temp.
+    // 5. temp = X1 || X2 || ..., where Xi = Block_Encrypt (K, Xi-1), until
+    //    len (temp) >= number_of_bits_to_return.
+    // 6. requested_bits = Leftmost number_of_bits_to_return of temp.
+    private byte[] Block_Cipher_df(byte[] inputString, int bitLength)
+    {
+        int outLen = _engine.getBlockSize();
+        int L = inputString.length; // already in bytes
+        int N = bitLength / 8;
+        // 4 S = L || N || inputstring || 0x80
+        int sLen = 4 + 4 + L + 1;
+        int blockLen = ((sLen + outLen - 1) / outLen) * outLen;
+        byte[] S = new byte[blockLen];
+        copyIntToByteArray(S, L, 0);
+        copyIntToByteArray(S, N, 4);
+        System.arraycopy(inputString, 0, S, 8, L);
+        S[8 + L] = (byte)0x80;
+        // S already padded with zeros
+
+        byte[] temp = new byte[_keySizeInBits / 8 + outLen];
+        byte[] bccOut = new byte[outLen];
+
+        byte[] IV = new byte[outLen];
+
+        int i = 0;
+        byte[] K = new byte[_keySizeInBits / 8];
+        System.arraycopy(K_BITS, 0, K, 0, K.length);
+
+        while (i * outLen * 8 < _keySizeInBits + outLen * 8)
+        {
+            copyIntToByteArray(IV, i, 0);
+            BCC(bccOut, K, IV, S);
+
+            int bytesToCopy = ((temp.length - i * outLen) > outLen)
+                    ? outLen
+                    : (temp.length - i * outLen);
+
+            System.arraycopy(bccOut, 0, temp, i * outLen, bytesToCopy);
+            ++i;
+        }
+
+        byte[] X = new byte[outLen];
+        System.arraycopy(temp, 0, K, 0, K.length);
+        System.arraycopy(temp, K.length, X, 0, X.length);
+
+        temp = new byte[bitLength / 8];
+
+        i = 0;
+        _engine.init(true, new KeyParameter(K));
+
+        while (i * outLen < temp.length)
+        {
+            _engine.processBlock(X, 0, X, 0);
+
+            int bytesToCopy = ((temp.length - i * outLen) > outLen)
+                    ? outLen
+                    : (temp.length - i * outLen);
+
+            System.arraycopy(X, 0, temp, i * outLen, bytesToCopy);
+            i++;
+        }
+
+        return temp;
+    }
+
+    /*
+    * 1. chaining_value = 0^outlen
+    *    . Comment: Set the first chaining value to outlen zeros.
+    * 2. n = len (data)/outlen.
+    * 3. Starting with the leftmost bits of data, split the data into n blocks of outlen bits
+    *    each, forming block(1) to block(n).
+    * 4. For i = 1 to n do
+    * 4.1 input_block = chaining_value ^ block(i) .
+    * 4.2 chaining_value = Block_Encrypt (Key, input_block).
+    * 5. output_block = chaining_value.
+    * 6. Return output_block.
+    */
+    private void BCC(byte[] bccOut, byte[] k, byte[] iV, byte[] data)
+    {
+        int outlen = _engine.getBlockSize();
+        byte[] chainingValue = new byte[outlen]; // initial values = 0
+        int n = data.length / outlen;
+
+        byte[] inputBlock = new byte[outlen];
+
+        _engine.init(true, new KeyParameter(k));
+
+        _engine.processBlock(iV, 0, chainingValue, 0);
+
+        for (int i = 0; i < n; i++)
+        {
+            XOR(inputBlock, chainingValue, data, i * outlen);
+            _engine.processBlock(inputBlock, 0, chainingValue, 0);
+        }
+
+        System.arraycopy(chainingValue, 0, bccOut, 0, bccOut.length);
+    }
+
+    private void copyIntToByteArray(byte[] buf, int value, int offSet)
+    {
+        buf[offSet + 0] = ((byte)(value >> 24));
+        buf[offSet + 1] = ((byte)(value >> 16));
+        buf[offSet + 2] = ((byte)(value >> 8));
+        buf[offSet + 3] = ((byte)(value));
+    }
+
+    /**
+     * Return the block size (in bits) of the DRBG.
+     *
+     * @return the number of bits produced on each internal round of the DRBG.
+     */
+    public int getBlockSize()
+    {
+        return _V.length * 8;
+    }
+
+    /**
+     * Populate a passed in array with random data.
+     *
+     * @param output output array for generated bits.
+     * @param additionalInput additional input to be added to the DRBG in this step.
+     * @param predictionResistant true if a reseed should be forced, false otherwise.
+     *
+     * @return number of bits generated, -1 if a reseed required.
+     */
+    public int generate(byte[] output, byte[] additionalInput, boolean predictionResistant)
+    {
+        if (output.length * 8 > MAX_BITS_REQUEST)
+        {
+            throw new IllegalArgumentException("Number of bits per request limited to " + MAX_BITS_REQUEST);
+        }
+
+        if (predictionResistant)
+        {
+            CTR_DRBG_Reseed_algorithm(additionalInput);
+            additionalInput = null;
+        }
+
+        if (_reseedCounter > RESEED_MAX)
+        {
+            return -1;
+        }
+
+        if (additionalInput != null && additionalInput.length != 0)
+        {
+            additionalInput = Block_Cipher_df(additionalInput, _seedLength);
+            CTR_DRBG_Update(additionalInput, _Key, _V);
+        }
+        else
+        {
+            additionalInput = new byte[_seedLength / 8];
+        }
+
+        byte[] out = new byte[_V.length];
+
+        _engine.init(true, new KeyParameter(_Key));
+
+        for (int i = 0; i <= output.length / out.length; i++)
+        {
+            int bytesToCopy = ((output.length - i * out.length) > out.length)
+                    ? out.length
+                    : (output.length - i * _V.length);
+
+            if (bytesToCopy != 0)
+            {
+                addOneTo(_V);
+
+                _engine.processBlock(_V, 0, out, 0);
+
+                System.arraycopy(out, 0, output, i * out.length, bytesToCopy);
+            }
+        }
+
+        CTR_DRBG_Update(additionalInput, _Key, _V);
+
+        _reseedCounter++;
+
+        return output.length * 8;
+    }
+
+    /**
+     * Reseed the DRBG.
+     *
+     * @param additionalInput additional input to be added to the DRBG in this step.
+     */
+    public void reseed(byte[] additionalInput)
+    {
+        CTR_DRBG_Reseed_algorithm(additionalInput);
+    }
+}
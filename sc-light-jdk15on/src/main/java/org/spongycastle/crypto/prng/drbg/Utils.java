@@ -0,0 +1,82 @@
+package org.spongycastle.crypto.prng.drbg;
+
+import java.util.Hashtable;
+
+import org.spongycastle.crypto.Digest;
+import org.spongycastle.crypto.Mac;
+
+class Utils
+{
+    static final Hashtable maxSecurityStrengths = new Hashtable();
+
+    static
+    {
+        maxSecurityStrengths.put("SHA-1", new Integer(128));
+
+        maxSecurityStrengths.put("SHA-224", new Integer(192));
+        maxSecurityStrengths.put("SHA-256", new Integer(256));
+        maxSecurityStrengths.put("SHA-384", new Integer(256));
+        maxSecurityStrengths.put("SHA-512", new Integer(256));
+    }
+
+    static int getMaxSecurityStrength(Digest d)
+    {
+        return getMaxSecurityStrength(d.getAlgorithmName());
+    }
+
+    static int getMaxSecurityStrength(Mac m)
+    {
+        String name = m.getAlgorithmName();
+
+        return getMaxSecurityStrength(name.substring(0, name.indexOf("/")));
+    }
+
+    private static int getMaxSecurityStrength(String digestName)
+    {
+        Integer strength = (Integer)maxSecurityStrengths.get(digestName);
+
+        if (strength == null)
+        {
+            throw new IllegalArgumentException("digest " + digestName + " not approved for use with a DRBG");
+        }
+
+        return strength.intValue();
+    }
+
+    /**
+     * The hash derivation function, Hash_df, of SP 800-90A 10.4.1.
+     */
+    static byte[] hash_df(Digest digest, byte[] seedMaterial, int seedLength)
+    {
+        byte[] temp = new byte[(seedLength + 7) / 8];
+        byte[] dig = new byte[digest.getDigestSize()];
+
+        int counter = 1;
+
+        for (int off = 0; off < temp.length; off += dig.length)
+        {
+            // temp = temp || Hash(counter || no_of_bits_to_return || input_string)
+            digest.update((byte)counter);
+
+            digest.update((byte)(seedLength >> 24));
+            digest.update((byte)(seedLength >> 16));
+            digest.update((byte)(seedLength >> 8));
+            digest.update((byte)seedLength);
+
+            digest.update(seedMaterial, 0, seedMaterial.length);
+
+            digest.doFinal(dig, 0);
+
+            System.arraycopy(dig, 0, temp, off, Math.min(dig.length, temp.length - off));
+
+            counter++;
+        }
+
+        return temp;
+    }
+
+    static boolean isTooLarge(byte[] bytes, int maxBytes)
+    {
+        return bytes != null && bytes.length > maxBytes;
+    }
+}
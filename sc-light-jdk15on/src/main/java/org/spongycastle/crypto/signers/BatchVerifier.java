@@ -0,0 +1,163 @@
+package org.spongycastle.crypto.signers;
+
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Base class for verifiers that check a batch of signatures together, so that
+ * work which depends only on the key or the domain parameters is done once
+ * for the batch rather than once per signature. The batch can be checked on
+ * the calling thread, or split into chunks run on an executor.
+ */
+public abstract class BatchVerifier
+{
+    /**
+     * Return the number of signatures added since the last reset.
+     */
+    public abstract int getSize();
+
+    /**
+     * Discard all the signatures added so far.
+     */
+    public abstract void reset();
+
+    /**
+     * Verify every signature in the batch on the calling thread.
+     *
+     * @return an array with one entry per signature, in the order they were
+     * added, true where the signature is valid.
+     */
+    public boolean[] verifySignatures()
+    {
+        prepare();
+
+        boolean[] results = new boolean[getSize()];
+
+        verify(0, 0, results.length, results);
+
+        return results;
+    }
+
+    /**
+     * Verify every signature in the batch, dividing the batch between up to
+     * getMaxParallelism() tasks submitted to the passed in executor. The
+     * executor is not shut down.
+     *
+     * @param executor the executor to run the verification tasks on.
+     * @return an array with one entry per signature, in the order they were
+     * added, true where the signature is valid.
+     */
+    public boolean[] verifySignatures(ExecutorService executor)
+    {
+        prepare();
+
+        final boolean[] results = new boolean[getSize()];
+        int tasks = Math.min(getMaxParallelism(), results.length);
+
+        if (tasks <= 1)
+        {
+            verify(0, 0, results.length, results);
+
+            return results;
+        }
+
+        Vector futures = new Vector(tasks);
+
+        for (int i = 0; i != tasks; i++)
+        {
+            final int worker = i;
+            final int from = (int)((long)results.length * i / tasks);
+            final int to = (int)((long)results.length * (i + 1) / tasks);
+
+            futures.addElement(executor.submit(new Callable()
+            {
+                public Object call()
+                {
+                    verify(worker, from, to, results);
+
+                    return null;
+                }
+            }));
+        }
+
+        try
+        {
+            for (int i = 0; i != futures.size(); i++)
+            {
+                waitFor((Future)futures.elementAt(i));
+            }
+        }
+        finally
+        {
+            // a no-op for the tasks that completed, stops the rest if one failed
+            for (int i = 0; i != futures.size(); i++)
+            {
+                ((Future)futures.elementAt(i)).cancel(true);
+            }
+        }
+
+        return results;
+    }
+
+    private static void waitFor(Future result)
+    {
+        try
+        {
+            result.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("interrupted waiting for batch verification");
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error)cause;
+            }
+
+            throw new IllegalStateException("batch verification failed", cause);
+        }
+    }
+
+    /**
+     * Called before the batch is verified, so that subclasses can arrange
+     * their signatures - for example to bring those for the same key together.
+     */
+    protected void prepare()
+    {
+    }
+
+    /**
+     * Return the maximum number of tasks a batch may be divided into - by
+     * default the number of available processors.
+     */
+    protected int getMaxParallelism()
+    {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Verify the signatures in positions [from, to) of the batch, as arranged
+     * by prepare(), recording each outcome in results at the index the
+     * signature was added at. Calls for distinct worker numbers may run
+     * concurrently, but never on overlapping ranges.
+     *
+     * @param worker the index of the task, less than getMaxParallelism().
+     * @param from the first position to verify.
+     * @param to one past the last position to verify.
+     * @param results the array to record the outcomes in.
+     */
+    protected abstract void verify(int worker, int from, int to, boolean[] results);
+}
@@ -0,0 +1,226 @@
+package org.spongycastle.crypto.signers;
+
+import java.math.BigInteger;
+import java.util.Vector;
+
+import org.spongycastle.crypto.params.ECDomainParameters;
+import org.spongycastle.crypto.params.ECPublicKeyParameters;
+import org.spongycastle.math.ec.ECConstants;
+import org.spongycastle.math.ec.ECCurve;
+import org.spongycastle.math.ec.ECPoint;
+import org.spongycastle.math.ec.InterleavedWNafMultiplier;
+
+/**
+ * Batch verifier for EC-DSA signatures as described in X9.62, giving the same
+ * result for each signature as <code>ECDSASigner.verifySignature()</code>.
+ * Across each run of signatures over the same domain parameters:
+ * <ul>
+ * <li>the inverses of all the s values are found with a single modular
+ * inversion (Montgomery's simultaneous inversion);</li>
+ * <li>each <code>u1 * G + u2 * Q</code> is computed with interleaved WNAF
+ * multiplication, using a table for G shared with every other verification;</li>
+ * <li>the resulting points are brought back to affine co-ordinates together,
+ * again with a single field inversion.</li>
+ * </ul>
+ */
+public class ECDSABatchVerifier
+    extends BatchVerifier
+    implements ECConstants
+{
+    private final InterleavedWNafMultiplier multiplier = new InterleavedWNafMultiplier();
+    private final Vector entries = new Vector();
+
+    /**
+     * Add a signature to the batch.
+     *
+     * @param key the public key to verify with.
+     * @param message the message digest, as passed to ECDSASigner.verifySignature().
+     * @param r the r value of the signature.
+     * @param s the s value of the signature.
+     */
+    public void addSignature(
+        ECPublicKeyParameters key,
+        byte[]                message,
+        BigInteger            r,
+        BigInteger            s)
+    {
+        BigInteger n = key.getParameters().getN();
+
+        entries.addElement(new Entry(key, calculateE(n, message), r, s));
+    }
+
+    public int getSize()
+    {
+        return entries.size();
+    }
+
+    public void reset()
+    {
+        entries.removeAllElements();
+    }
+
+    protected void verify(int worker, int from, int to, boolean[] results)
+    {
+        int start = from;
+
+        while (start < to)
+        {
+            ECDomainParameters params = ((Entry)entries.elementAt(start)).key.getParameters();
+            int end = start + 1;
+
+            while (end < to && sameParameters(params, ((Entry)entries.elementAt(end)).key.getParameters()))
+            {
+                end++;
+            }
+
+            verifyRun(params, start, end, results);
+
+            start = end;
+        }
+    }
+
+    /**
+     * Verify the signatures in [from, to), all of which use domain parameters
+     * equal to params.
+     */
+    private void verifyRun(ECDomainParameters params, int from, int to, boolean[] results)
+    {
+        BigInteger n = params.getN();
+        int count = to - from;
+
+        // r and s in the range [1,n-1]
+        int[] index = new int[count];
+        BigInteger[] c = new BigInteger[count];
+        int valid = 0;
+
+        for (int i = from; i < to; i++)
+        {
+            Entry entry = (Entry)entries.elementAt(i);
+
+            if (inRange(entry.r, n) && inRange(entry.s, n))
+            {
+                index[valid] = i;
+                c[valid] = entry.s;
+                valid++;
+            }
+            else
+            {
+                results[i] = false;
+            }
+        }
+
+        if (valid == 0)
+        {
+            return;
+        }
+
+        invertAll(c, valid, n);
+
+        ECPoint G = params.getG();
+        ECPoint[] points = new ECPoint[valid];
+
+        for (int j = 0; j < valid; j++)
+        {
+            Entry entry = (Entry)entries.elementAt(index[j]);
+
+            BigInteger u1 = entry.e.multiply(c[j]).mod(n);
+            BigInteger u2 = entry.r.multiply(c[j]).mod(n);
+
+            points[j] = multiplier.sumOfTwoMultiplies(G, u1, entry.key.getQ(), u2);
+        }
+
+        params.getCurve().normalizeAll(points);
+
+        for (int j = 0; j < valid; j++)
+        {
+            Entry entry = (Entry)entries.elementAt(index[j]);
+            ECPoint point = points[j];
+
+            results[index[j]] = !point.isInfinity()
+                && point.getX().toBigInteger().mod(n).equals(entry.r);
+        }
+    }
+
+    /**
+     * Replace the first len values in c with their inverses modulo n, using a
+     * single modular inversion.
+     */
+    private static void invertAll(BigInteger[] c, int len, BigInteger n)
+    {
+        // prod[i] = c[0] * ... * c[i] mod n
+        BigInteger[] prod = new BigInteger[len];
+
+        prod[0] = c[0];
+        for (int i = 1; i < len; i++)
+        {
+            prod[i] = prod[i - 1].multiply(c[i]).mod(n);
+        }
+
+        BigInteger u = prod[len - 1].modInverse(n);
+
+        for (int i = len - 1; i > 0; i--)
+        {
+            BigInteger inv = u.multiply(prod[i - 1]).mod(n);
+
+            u = u.multiply(c[i]).mod(n);
+            c[i] = inv;
+        }
+
+        c[0] = u;
+    }
+
+    private static boolean inRange(BigInteger v, BigInteger n)
+    {
+        return v.compareTo(ONE) >= 0 && v.compareTo(n) < 0;
+    }
+
+    private static boolean sameParameters(ECDomainParameters a, ECDomainParameters b)
+    {
+        if (a == b)
+        {
+            return true;
+        }
+
+        ECCurve curve = a.getCurve();
+
+        return curve.equals(b.getCurve())
+            && curve.getCoordinateSystem() == b.getCurve().getCoordinateSystem()
+            && a.getN().equals(b.getN())
+            && a.getG().equals(b.getG());
+    }
+
+    private static BigInteger calculateE(BigInteger n, byte[] message)
+    {
+        int log2n = n.bitLength();
+        int messageBitLength = message.length * 8;
+
+        if (log2n >= messageBitLength)
+        {
+            return new BigInteger(1, message);
+        }
+        else
+        {
+            BigInteger trunc = new BigInteger(1, message);
+
+            trunc = trunc.shiftRight(messageBitLength - log2n);
+
+            return trunc;
+        }
+    }
+
+    private static class Entry
+    {
+        final ECPublicKeyParameters key;
+        final BigInteger e;
+        final BigInteger r;
+        final BigInteger s;
+
+        Entry(ECPublicKeyParameters key, BigInteger e, BigInteger r, BigInteger s)
+        {
+            this.key = key;
+            this.e = e;
+            this.r = r;
+            this.s = s;
+        }
+    }
+}
@@ -78,7 +78,7 @@ public class ECDSASigner
                 }
                 while (k.equals(ZERO) || k.compareTo(n) >= 0);
 
-                ECPoint p = key.getParameters().getG().multiply(k);
+                ECPoint p = ECAlgorithms.fixedPointMultiply(key.getParameters().getG(), k);
 
                 // 5.3.3
                 BigInteger x = p.getX().toBigInteger();
@@ -135,7 +135,7 @@ public class ECDSASigner
         ECPoint G = key.getParameters().getG();
         ECPoint Q = ((ECPublicKeyParameters)key).getQ();
 
-        ECPoint point = ECAlgorithms.sumOfTwoMultiplies(G, u1, Q, u2);
+        ECPoint point = ECAlgorithms.fixedPointSumOfTwoMultiplies(G, u1, Q, u2);
 
         BigInteger v = point.getX().toBigInteger().mod(n);
 
@@ -82,7 +82,7 @@ public class ECGOST3410Signer
                 }
                 while (k.equals(ECConstants.ZERO));
 
-                ECPoint p = key.getParameters().getG().multiply(k);
+                ECPoint p = ECAlgorithms.fixedPointMultiply(key.getParameters().getG(), k);
 
                 BigInteger x = p.getX().toBigInteger();
 
@@ -143,7 +143,7 @@ public class ECGOST3410Signer
         ECPoint G = key.getParameters().getG(); // P
         ECPoint Q = ((ECPublicKeyParameters)key).getQ();
 
-        ECPoint point = ECAlgorithms.sumOfTwoMultiplies(G, z1, Q, z2);
+        ECPoint point = ECAlgorithms.fixedPointSumOfTwoMultiplies(G, z1, Q, z2);
 
         BigInteger R = point.getX().toBigInteger().mod(n);
 
@@ -172,7 +172,7 @@ public class ECNRSigner
         ECPoint G = pubKey.getParameters().getG();
         ECPoint W = pubKey.getQ();
         // calculate P using Bouncy math
-        ECPoint P = ECAlgorithms.sumOfTwoMultiplies(G, s, W, r);
+        ECPoint P = ECAlgorithms.fixedPointSumOfTwoMultiplies(G, s, W, r);
 
         BigInteger x = P.getX().toBigInteger();
         BigInteger t = r.subtract(x).mod(n);
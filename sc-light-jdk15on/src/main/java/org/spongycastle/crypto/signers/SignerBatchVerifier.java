@@ -0,0 +1,234 @@
+package org.spongycastle.crypto.signers;
+
+import java.math.BigInteger;
+import java.util.Hashtable;
+import java.util.Vector;
+
+import org.spongycastle.crypto.CipherParameters;
+import org.spongycastle.crypto.Signer;
+import org.spongycastle.crypto.params.RSAKeyParameters;
+
+/**
+ * Batch verifier for any <code>Signer</code> - such as <code>RSADigestSigner</code>
+ * or <code>PSSSigner</code>. Signatures made with the same public key are
+ * verified together, so each signer is only initialised when the key changes
+ * rather than once per signature. RSA keys are the same if they have the same
+ * modulus and exponent, even where they are different objects; other keys
+ * are the same if they are equal.
+ * <p>
+ * This is the only saving: an RSA verification is a single exponentiation
+ * with a small public exponent, and there is no per key state beyond what
+ * the signer sets up in init(), so verifying RSA signatures as a batch costs
+ * the same as verifying them one by one with a signer initialised once per key.
+ * </p>
+ * <p>
+ * A <code>Signer</code> is not thread safe, so the number of tasks a batch can
+ * be split into on an executor is the number of signer instances provided.
+ * </p>
+ */
+public class SignerBatchVerifier
+    extends BatchVerifier
+{
+    private final Signer[] signers;
+    private final Vector entries = new Vector();
+
+    private int[] order;
+    private int[] groupAt;
+
+    /**
+     * Base constructor - batches will be verified one signature at a time.
+     *
+     * @param signer the signer to verify with.
+     */
+    public SignerBatchVerifier(
+        Signer signer)
+    {
+        this(new Signer[] { signer });
+    }
+
+    /**
+     * Constructor for a verifier which can split a batch between up to
+     * signers.length concurrent tasks.
+     *
+     * @param signers distinct instances of the same kind of signer.
+     */
+    public SignerBatchVerifier(
+        Signer[] signers)
+    {
+        if (signers.length == 0)
+        {
+            throw new IllegalArgumentException("at least one signer required");
+        }
+
+        this.signers = signers.clone();
+    }
+
+    /**
+     * Add a signature to the batch.
+     *
+     * @param publicKey the key to verify with, as passed to Signer.init().
+     * @param message the message that was signed.
+     * @param signature the signature over message.
+     */
+    public void addSignature(
+        CipherParameters publicKey,
+        byte[]           message,
+        byte[]           signature)
+    {
+        if (publicKey == null)
+        {
+            throw new IllegalArgumentException("publicKey cannot be null");
+        }
+
+        entries.addElement(new Entry(publicKey, message, signature));
+    }
+
+    public int getSize()
+    {
+        return entries.size();
+    }
+
+    public void reset()
+    {
+        entries.removeAllElements();
+        order = null;
+        groupAt = null;
+    }
+
+    protected int getMaxParallelism()
+    {
+        return signers.length;
+    }
+
+    /**
+     * Order the batch so signatures for the same key are adjacent, keeping
+     * the order in which the keys were first seen.
+     */
+    protected void prepare()
+    {
+        Hashtable groups = new Hashtable();
+        Vector byKey = new Vector();
+
+        for (int i = 0; i != entries.size(); i++)
+        {
+            Object id = getKeyID(((Entry)entries.elementAt(i)).key);
+            Vector group = (Vector)groups.get(id);
+
+            if (group == null)
+            {
+                group = new Vector();
+                groups.put(id, group);
+                byKey.addElement(group);
+            }
+
+            group.addElement(new Integer(i));
+        }
+
+        order = new int[entries.size()];
+        groupAt = new int[entries.size()];
+
+        int pos = 0;
+        for (int i = 0; i != byKey.size(); i++)
+        {
+            Vector group = (Vector)byKey.elementAt(i);
+
+            for (int j = 0; j != group.size(); j++)
+            {
+                groupAt[pos] = i;
+                order[pos++] = ((Integer)group.elementAt(j)).intValue();
+            }
+        }
+    }
+
+    protected void verify(int worker, int from, int to, boolean[] results)
+    {
+        Signer signer = signers[worker];
+        int current = -1;
+
+        for (int pos = from; pos < to; pos++)
+        {
+            int index = order[pos];
+            Entry entry = (Entry)entries.elementAt(index);
+
+            try
+            {
+                if (groupAt[pos] != current)
+                {
+                    signer.init(false, entry.key);
+                    current = groupAt[pos];
+                }
+                else
+                {
+                    signer.reset();
+                }
+
+                signer.update(entry.message, 0, entry.message.length);
+
+                results[index] = signer.verifySignature(entry.signature);
+            }
+            catch (RuntimeException e)
+            {
+                // a malformed key or signature simply fails to verify
+                results[index] = false;
+                current = -1;
+            }
+        }
+    }
+
+    private static Object getKeyID(CipherParameters key)
+    {
+        if (key instanceof RSAKeyParameters)
+        {
+            return new RSAKeyID((RSAKeyParameters)key);
+        }
+
+        return key;
+    }
+
+    private static class Entry
+    {
+        final CipherParameters key;
+        final byte[] message;
+        final byte[] signature;
+
+        Entry(CipherParameters key, byte[] message, byte[] signature)
+        {
+            this.key = key;
+            this.message = message;
+            this.signature = signature;
+        }
+    }
+
+    private static class RSAKeyID
+    {
+        final boolean isPrivate;
+        final BigInteger modulus;
+        final BigInteger exponent;
+
+        RSAKeyID(RSAKeyParameters key)
+        {
+            this.isPrivate = key.isPrivate();
+            this.modulus = key.getModulus();
+            this.exponent = key.getExponent();
+        }
+
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof RSAKeyID))
+            {
+                return false;
+            }
+
+            RSAKeyID other = (RSAKeyID)o;
+
+            return isPrivate == other.isPrivate
+                && modulus.equals(other.modulus)
+                && exponent.equals(other.exponent);
+        }
+
+        public int hashCode()
+        {
+            return modulus.hashCode() ^ exponent.hashCode();
+        }
+    }
+}
@@ -76,10 +76,20 @@ public class ByteQueue
     {
         if ((skipped + available + len) > databuf.length)
         {
-            byte[] tmp = new byte[ByteQueue.nextTwoPow(data.length)];
-            System.arraycopy(databuf, skipped, tmp, 0, available);
+            if ((available + len) > databuf.length)
+            {
+                byte[] tmp = new byte[ByteQueue.nextTwoPow(available + len)];
+                System.arraycopy(databuf, skipped, tmp, 0, available);
+                databuf = tmp;
+            }
+            else
+            {
+                /*
+                 * There is room once the skipped bytes are reclaimed.
+                 */
+                System.arraycopy(databuf, skipped, databuf, 0, available);
+            }
             skipped = 0;
-            databuf = tmp;
         }
         System.arraycopy(data, offset, databuf, skipped + available, len);
         available += len;
@@ -104,9 +114,14 @@ public class ByteQueue
         skipped += i;
 
         /*
-         * If more than half of our data is skipped, we will move the data in the buffer.
+         * If nothing is left, start from the beginning again without copying. If more
+         * than half of our data is skipped, we will move the data in the buffer.
          */
-        if (skipped > (databuf.length / 2))
+        if (available == 0)
+        {
+            skipped = 0;
+        }
+        else if (skipped > (databuf.length / 2))
         {
             System.arraycopy(databuf, skipped, databuf, 0, available);
             skipped = 0;
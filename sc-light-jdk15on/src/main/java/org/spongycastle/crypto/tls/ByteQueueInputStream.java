@@ -0,0 +1,64 @@
+package org.spongycastle.crypto.tls;
+
+import java.io.InputStream;
+
+/**
+ * An InputStream reading from a ByteQueue, which returns what is queued
+ * rather than blocking when asked for more.
+ */
+class ByteQueueInputStream
+    extends InputStream
+{
+    private ByteQueue buffer = new ByteQueue();
+
+    void addBytes(byte[] buf, int offset, int len)
+    {
+        buffer.addData(buf, offset, len);
+    }
+
+    /**
+     * Copy queued bytes without removing them.
+     */
+    void peek(byte[] buf, int offset, int len, int skip)
+    {
+        buffer.read(buf, offset, len, skip);
+    }
+
+    public int available()
+    {
+        return buffer.size();
+    }
+
+    public int read()
+    {
+        if (buffer.size() == 0)
+        {
+            return -1;
+        }
+
+        byte[] b = new byte[1];
+        buffer.read(b, 0, 1, 0);
+        buffer.removeData(1);
+        return b[0] & 0xff;
+    }
+
+    public int read(byte[] buf, int offset, int len)
+    {
+        int count = Math.min(buffer.size(), len);
+        if (count == 0)
+        {
+            return len == 0 ? 0 : -1;
+        }
+
+        buffer.read(buf, offset, count, 0);
+        buffer.removeData(count);
+        return count;
+    }
+
+    public long skip(long n)
+    {
+        int count = (int)Math.min(buffer.size(), n);
+        buffer.removeData(count);
+        return count;
+    }
+}
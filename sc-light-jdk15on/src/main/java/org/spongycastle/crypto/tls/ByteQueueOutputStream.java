@@ -0,0 +1,41 @@
+package org.spongycastle.crypto.tls;
+
+import java.io.OutputStream;
+
+/**
+ * An OutputStream collecting what is written to it in a ByteQueue.
+ */
+class ByteQueueOutputStream
+    extends OutputStream
+{
+    private ByteQueue buffer = new ByteQueue();
+
+    int size()
+    {
+        return buffer.size();
+    }
+
+    /**
+     * Remove up to len bytes from the front of the queue.
+     *
+     * @return the number of bytes copied into buf.
+     */
+    int take(byte[] buf, int offset, int len)
+    {
+        int count = Math.min(buffer.size(), len);
+
+        buffer.read(buf, offset, count, 0);
+        buffer.removeData(count);
+        return count;
+    }
+
+    public void write(int b)
+    {
+        buffer.addData(new byte[]{ (byte)b }, 0, 1);
+    }
+
+    public void write(byte[] buf, int offset, int len)
+    {
+        buffer.addData(buf, offset, len);
+    }
+}
@@ -1,6 +1,7 @@
 package org.spongycastle.crypto.tls;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -23,6 +24,8 @@ public class Certificate
      */
     protected X509CertificateStructure[] certs;
 
+    private volatile byte[] encoding;
+
     /**
      * Parse the ServerCertificate message.
      * 
@@ -71,22 +74,33 @@ public class Certificate
      */
     protected void encode(OutputStream os) throws IOException
     {
-        Vector encCerts = new Vector();
-        int totalSize = 0;
-        for (int i = 0; i < this.certs.length; ++i)
+        os.write(getEncoded());
+    }
+
+    /**
+     * The encoding is kept, as a server sends the same chain on every connection.
+     */
+    byte[] getEncoded() throws IOException
+    {
+        byte[] enc = this.encoding;
+        if (enc == null)
         {
-            byte[] encCert = certs[i].getEncoded(ASN1Encoding.DER);
-            encCerts.addElement(encCert);
-            totalSize += encCert.length + 3;
-        }
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            int totalSize = 0;
+            for (int i = 0; i < this.certs.length; ++i)
+            {
+                byte[] encCert = certs[i].getEncoded(ASN1Encoding.DER);
+                TlsUtils.writeOpaque24(encCert, bos);
+                totalSize += encCert.length + 3;
+            }
 
-        TlsUtils.writeUint24(totalSize, os);
+            enc = new byte[3 + totalSize];
+            TlsUtils.writeUint24(totalSize, enc, 0);
+            System.arraycopy(bos.toByteArray(), 0, enc, 3, totalSize);
 
-        for (int i = 0; i < encCerts.size(); ++i)
-        {
-            byte[] encCert = (byte[])encCerts.elementAt(i);
-            TlsUtils.writeOpaque24(encCert, os);
+            this.encoding = enc;
         }
+        return enc;
     }
 
     /**
@@ -5,11 +5,22 @@ import java.util.Vector;
 public class CertificateRequest
 {
     private short[] certificateTypes;
+    private Vector supportedSignatureAlgorithms;
     private Vector certificateAuthorities;
 
     public CertificateRequest(short[] certificateTypes, Vector certificateAuthorities)
+    {
+        this(certificateTypes, null, certificateAuthorities);
+    }
+
+    /**
+     * @param supportedSignatureAlgorithms Vector of SignatureAndHashAlgorithm, null before TLS 1.2.
+     */
+    public CertificateRequest(short[] certificateTypes, Vector supportedSignatureAlgorithms,
+        Vector certificateAuthorities)
     {
         this.certificateTypes = certificateTypes;
+        this.supportedSignatureAlgorithms = supportedSignatureAlgorithms;
         this.certificateAuthorities = certificateAuthorities;
     }
 
@@ -18,6 +29,16 @@ public class CertificateRequest
         return certificateTypes;
     }
 
+    /**
+     * RFC 5246 7.4.4. The algorithms the server can verify a CertificateVerify with.
+     *
+     * @return Vector of SignatureAndHashAlgorithm, null before TLS 1.2.
+     */
+    public Vector getSupportedSignatureAlgorithms()
+    {
+        return supportedSignatureAlgorithms;
+    }
+
     /**
      * @return Vector of X500Name
      */
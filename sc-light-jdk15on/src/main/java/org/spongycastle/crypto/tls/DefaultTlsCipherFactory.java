@@ -10,11 +10,15 @@ import org.spongycastle.crypto.digests.SHA256Digest;
 import org.spongycastle.crypto.digests.SHA384Digest;
 import org.spongycastle.crypto.engines.AESFastEngine;
 import org.spongycastle.crypto.engines.DESedeEngine;
+import org.spongycastle.crypto.modes.AEADBlockCipher;
 import org.spongycastle.crypto.modes.CBCBlockCipher;
+import org.spongycastle.crypto.modes.GCMBlockCipher;
+import org.spongycastle.crypto.modes.gcm.GCMMultiplier;
+import org.spongycastle.crypto.modes.gcm.Tables4kGCMMultiplier;
 
 public class DefaultTlsCipherFactory implements TlsCipherFactory
 {
-    public TlsCipher createCipher(TlsClientContext context, int encryptionAlgorithm, int digestAlgorithm) throws IOException
+    public TlsCipher createCipher(TlsContext context, int encryptionAlgorithm, int digestAlgorithm) throws IOException
     {
         switch (encryptionAlgorithm)
         {
@@ -24,18 +28,30 @@ public class DefaultTlsCipherFactory implements TlsCipherFactory
                 return createAESCipher(context, 16, digestAlgorithm);
             case EncryptionAlgorithm.AES_256_CBC:
                 return createAESCipher(context, 32, digestAlgorithm);
+            case EncryptionAlgorithm.AES_128_GCM:
+                // NOTE: Ignores digestAlgorithm
+                return createCipher_AES_GCM(context, 16, 16);
+            case EncryptionAlgorithm.AES_256_GCM:
+                // NOTE: Ignores digestAlgorithm
+                return createCipher_AES_GCM(context, 32, 16);
             default:
                 throw new TlsFatalAlert(AlertDescription.internal_error);
         }
     }
 
-    protected TlsCipher createAESCipher(TlsClientContext context, int cipherKeySize, int digestAlgorithm) throws IOException
+    protected TlsCipher createAESCipher(TlsContext context, int cipherKeySize, int digestAlgorithm) throws IOException
     {
         return new TlsBlockCipher(context, createAESBlockCipher(),
             createAESBlockCipher(), createDigest(digestAlgorithm), createDigest(digestAlgorithm), cipherKeySize);
     }
 
-    protected TlsCipher createDESedeCipher(TlsClientContext context, int cipherKeySize, int digestAlgorithm) throws IOException
+    protected TlsCipher createCipher_AES_GCM(TlsContext context, int cipherKeySize, int macSize) throws IOException
+    {
+        return new TlsAEADCipher(context, createAEADBlockCipher_AES_GCM(),
+            createAEADBlockCipher_AES_GCM(), cipherKeySize, macSize);
+    }
+
+    protected TlsCipher createDESedeCipher(TlsContext context, int cipherKeySize, int digestAlgorithm) throws IOException
     {
         return new TlsBlockCipher(context, createDESedeBlockCipher(),
             createDESedeBlockCipher(), createDigest(digestAlgorithm), createDigest(digestAlgorithm), cipherKeySize);
@@ -46,6 +62,21 @@ public class DefaultTlsCipherFactory implements TlsCipherFactory
         return new CBCBlockCipher(new AESFastEngine());
     }
 
+    protected AEADBlockCipher createAEADBlockCipher_AES_GCM()
+    {
+        return new GCMBlockCipher(new AESFastEngine(), createGCMMultiplier());
+    }
+
+    /**
+     * Create the multiplier for a single GCM cipher. Every connection has its own keys, so
+     * there is nothing to gain from sharing tables here - override this to choose a different
+     * size of table.
+     */
+    protected GCMMultiplier createGCMMultiplier()
+    {
+        return new Tables4kGCMMultiplier();
+    }
+
     protected BlockCipher createDESedeBlockCipher()
     {
         return new CBCBlockCipher(new DESedeEngine());
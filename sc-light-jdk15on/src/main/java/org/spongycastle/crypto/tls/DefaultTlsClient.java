@@ -57,9 +57,15 @@ public abstract class DefaultTlsClient implements TlsClient
         return new short[] { CompressionMethod.NULL };
     }
 
+    /**
+     * Accept any version from TLS 1.0 up to the one offered. Note that from TLS 1.2 only the
+     * RSA key exchange is supported, so a client offering TLS 1.2 (to use the AES-GCM cipher
+     * suites for instance) should offer only RSA cipher suites.
+     */
     public void notifyServerVersion(ProtocolVersion serverVersion) throws IOException
     {
-        if (!ProtocolVersion.TLSv10.equals(serverVersion))
+        if (serverVersion.getFullVersion() < ProtocolVersion.TLSv10.getFullVersion()
+            || serverVersion.getFullVersion() > getClientVersion().getFullVersion())
         {
             throw new TlsFatalAlert(AlertDescription.illegal_parameter);
         }
@@ -105,6 +111,8 @@ public abstract class DefaultTlsClient implements TlsClient
             case CipherSuite.TLS_RSA_WITH_3DES_EDE_CBC_SHA:
             case CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA:
             case CipherSuite.TLS_RSA_WITH_AES_256_CBC_SHA:
+            case CipherSuite.TLS_RSA_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_RSA_WITH_AES_256_GCM_SHA384:
                 return createRSAKeyExchange();
 
             case CipherSuite.TLS_DH_DSS_WITH_3DES_EDE_CBC_SHA:
@@ -213,6 +221,12 @@ public abstract class DefaultTlsClient implements TlsClient
             case CipherSuite.TLS_ECDHE_RSA_WITH_AES_256_CBC_SHA:
                 return cipherFactory.createCipher(context, EncryptionAlgorithm.AES_256_CBC, DigestAlgorithm.SHA);
 
+            case CipherSuite.TLS_RSA_WITH_AES_128_GCM_SHA256:
+                return cipherFactory.createCipher(context, EncryptionAlgorithm.AES_128_GCM, DigestAlgorithm.NULL);
+
+            case CipherSuite.TLS_RSA_WITH_AES_256_GCM_SHA384:
+                return cipherFactory.createCipher(context, EncryptionAlgorithm.AES_256_GCM, DigestAlgorithm.NULL);
+
             default:
                 /*
                  * Note: internal error here; the TlsProtocolHandler verifies that the
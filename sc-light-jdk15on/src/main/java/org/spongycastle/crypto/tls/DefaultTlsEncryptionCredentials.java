@@ -0,0 +1,130 @@
+package org.spongycastle.crypto.tls;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.Vector;
+
+import org.spongycastle.crypto.CryptoException;
+import org.spongycastle.crypto.encodings.PKCS1Encoding;
+import org.spongycastle.crypto.engines.RSABlindedEngine;
+import org.spongycastle.crypto.params.AsymmetricKeyParameter;
+import org.spongycastle.crypto.params.ParametersWithRandom;
+import org.spongycastle.crypto.params.RSAKeyParameters;
+import org.spongycastle.crypto.util.PublicKeyFactory;
+
+/**
+ * RSA encryption credentials for a server.
+ * <p>
+ * The key and certificate are checked, and the certificate chain encoded, once when the
+ * credentials are created, so a single instance can be shared by all the connections of a
+ * server. The RSA engines used for decryption are pooled rather than created per handshake,
+ * each used by only one connection at a time. They use the default blinding of
+ * RSABlindedEngine, so every decryption is still blinded with a fresh random factor.
+ * </p>
+ */
+public class DefaultTlsEncryptionCredentials implements TlsEncryptionCredentials
+{
+    protected Certificate serverCert;
+    protected RSAKeyParameters serverPrivateKey;
+
+    // decryption engines not in use by a connection, all initialised with serverPrivateKey
+    private final Vector idleEngines = new Vector();
+
+    public DefaultTlsEncryptionCredentials(Certificate serverCertificate,
+        AsymmetricKeyParameter serverPrivateKey)
+    {
+        if (serverCertificate == null)
+        {
+            throw new IllegalArgumentException("'serverCertificate' cannot be null");
+        }
+        if (serverCertificate.certs.length == 0)
+        {
+            throw new IllegalArgumentException("'serverCertificate' cannot be empty");
+        }
+        if (serverPrivateKey == null)
+        {
+            throw new IllegalArgumentException("'serverPrivateKey' cannot be null");
+        }
+        if (!serverPrivateKey.isPrivate())
+        {
+            throw new IllegalArgumentException("'serverPrivateKey' must be private");
+        }
+        if (!(serverPrivateKey instanceof RSAKeyParameters))
+        {
+            throw new IllegalArgumentException("'serverPrivateKey' type not supported: "
+                + serverPrivateKey.getClass().getName());
+        }
+
+        RSAKeyParameters privateKey = (RSAKeyParameters)serverPrivateKey;
+        RSAKeyParameters publicKey;
+        try
+        {
+            publicKey = (RSAKeyParameters)PublicKeyFactory.createKey(
+                serverCertificate.certs[0].getSubjectPublicKeyInfo());
+        }
+        catch (Exception e)
+        {
+            throw new IllegalArgumentException("'serverCertificate' does not hold an RSA public key");
+        }
+
+        if (!publicKey.getModulus().equals(privateKey.getModulus()))
+        {
+            throw new IllegalArgumentException("'serverPrivateKey' does not match 'serverCertificate'");
+        }
+
+        try
+        {
+            // encode the chain now, rather than for each connection
+            serverCertificate.getEncoded();
+        }
+        catch (IOException e)
+        {
+            throw new IllegalArgumentException("'serverCertificate' cannot be encoded: " + e.getMessage());
+        }
+
+        this.serverCert = serverCertificate;
+        this.serverPrivateKey = privateKey;
+    }
+
+    public Certificate getCertificate()
+    {
+        return serverCert;
+    }
+
+    public byte[] decryptPreMasterSecret(SecureRandom random, byte[] encryptedPreMasterSecret)
+        throws CryptoException
+    {
+        PKCS1Encoding encoding = takeEngine();
+
+        try
+        {
+            // the key is unchanged, so the engine keeps its key state and just takes this connection's random
+            encoding.init(false, new ParametersWithRandom(serverPrivateKey, random));
+
+            return encoding.processBlock(encryptedPreMasterSecret, 0, encryptedPreMasterSecret.length);
+        }
+        finally
+        {
+            idleEngines.addElement(encoding);
+        }
+    }
+
+    private PKCS1Encoding takeEngine()
+    {
+        synchronized (idleEngines)
+        {
+            int count = idleEngines.size();
+
+            if (count > 0)
+            {
+                PKCS1Encoding encoding = (PKCS1Encoding)idleEngines.elementAt(count - 1);
+
+                idleEngines.removeElementAt(count - 1);
+
+                return encoding;
+            }
+        }
+
+        return new PKCS1Encoding(new RSABlindedEngine());
+    }
+}
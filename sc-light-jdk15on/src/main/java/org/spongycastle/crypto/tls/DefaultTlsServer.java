@@ -0,0 +1,253 @@
+package org.spongycastle.crypto.tls;
+
+import java.io.IOException;
+import java.util.Hashtable;
+
+/**
+ * A server offering the RSA key exchange cipher suites, in order of preference - the AES-GCM
+ * ones first, to clients which speak TLS 1.2.
+ * <p>
+ * Create a DefaultTlsServer for each connection, passing all of them the same
+ * credentials, which hold the server's certificate and private key.
+ * </p>
+ */
+public class DefaultTlsServer implements TlsServer
+{
+    protected TlsCipherFactory cipherFactory;
+    protected TlsEncryptionCredentials rsaCredentials;
+
+    protected TlsServerContext context;
+
+    protected ProtocolVersion clientVersion;
+    protected int[] offeredCipherSuites;
+    protected short[] offeredCompressionMethods;
+    protected Hashtable clientExtensions;
+
+    protected int selectedCipherSuite;
+    protected short selectedCompressionMethod;
+
+    public DefaultTlsServer(TlsEncryptionCredentials rsaCredentials)
+    {
+        this(new DefaultTlsCipherFactory(), rsaCredentials);
+    }
+
+    public DefaultTlsServer(TlsCipherFactory cipherFactory, TlsEncryptionCredentials rsaCredentials)
+    {
+        if (rsaCredentials == null)
+        {
+            throw new IllegalArgumentException("'rsaCredentials' cannot be null");
+        }
+
+        this.cipherFactory = cipherFactory;
+        this.rsaCredentials = rsaCredentials;
+    }
+
+    public void init(TlsServerContext context)
+    {
+        this.context = context;
+    }
+
+    protected int[] getCipherSuites()
+    {
+        return new int[] {
+            CipherSuite.TLS_RSA_WITH_AES_256_GCM_SHA384,
+            CipherSuite.TLS_RSA_WITH_AES_128_GCM_SHA256,
+            CipherSuite.TLS_RSA_WITH_AES_256_CBC_SHA,
+            CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA,
+            CipherSuite.TLS_RSA_WITH_3DES_EDE_CBC_SHA,
+        };
+    }
+
+    protected ProtocolVersion getMaximumVersion()
+    {
+        return ProtocolVersion.TLSv12;
+    }
+
+    protected short[] getCompressionMethods()
+    {
+        return new short[] { CompressionMethod.NULL };
+    }
+
+    public void notifyClientVersion(ProtocolVersion clientVersion) throws IOException
+    {
+        this.clientVersion = clientVersion;
+    }
+
+    public void notifyOfferedCipherSuites(int[] offeredCipherSuites) throws IOException
+    {
+        this.offeredCipherSuites = offeredCipherSuites;
+    }
+
+    public void notifyOfferedCompressionMethods(short[] offeredCompressionMethods) throws IOException
+    {
+        this.offeredCompressionMethods = offeredCompressionMethods;
+    }
+
+    public void notifySecureRenegotiation(boolean secureRenegotiation) throws IOException
+    {
+        if (!secureRenegotiation)
+        {
+            /*
+             * RFC 5746 3.6. In this case, some servers may want to terminate the handshake
+             * instead of continuing; see Section 4.3 for discussion.
+             */
+//            throw new TlsFatalAlert(AlertDescription.handshake_failure);
+        }
+    }
+
+    public void processClientExtensions(Hashtable clientExtensions) throws IOException
+    {
+        this.clientExtensions = clientExtensions;
+    }
+
+    public ProtocolVersion getServerVersion() throws IOException
+    {
+        if (clientVersion.getFullVersion() < ProtocolVersion.TLSv10.getFullVersion())
+        {
+            throw new TlsFatalAlert(AlertDescription.protocol_version);
+        }
+
+        ProtocolVersion maximumVersion = getMaximumVersion();
+        if (clientVersion.getFullVersion() > maximumVersion.getFullVersion())
+        {
+            return maximumVersion;
+        }
+
+        return clientVersion;
+    }
+
+    public int getSelectedCipherSuite() throws IOException
+    {
+        ProtocolVersion serverVersion = context.getServerVersion();
+
+        int[] cipherSuites = getCipherSuites();
+        for (int i = 0; i < cipherSuites.length; ++i)
+        {
+            if (!TlsUtils.isValidCipherSuiteForVersion(cipherSuites[i], serverVersion))
+            {
+                continue;
+            }
+
+            for (int j = 0; j < offeredCipherSuites.length; ++j)
+            {
+                if (cipherSuites[i] == offeredCipherSuites[j])
+                {
+                    return this.selectedCipherSuite = cipherSuites[i];
+                }
+            }
+        }
+
+        throw new TlsFatalAlert(AlertDescription.handshake_failure);
+    }
+
+    public short getSelectedCompressionMethod() throws IOException
+    {
+        short[] compressionMethods = getCompressionMethods();
+        for (int i = 0; i < compressionMethods.length; ++i)
+        {
+            for (int j = 0; j < offeredCompressionMethods.length; ++j)
+            {
+                if (compressionMethods[i] == offeredCompressionMethods[j])
+                {
+                    return this.selectedCompressionMethod = compressionMethods[i];
+                }
+            }
+        }
+
+        throw new TlsFatalAlert(AlertDescription.handshake_failure);
+    }
+
+    public Hashtable getServerExtensions() throws IOException
+    {
+        return null;
+    }
+
+    public TlsCredentials getCredentials() throws IOException
+    {
+        switch (selectedCipherSuite)
+        {
+            case CipherSuite.TLS_RSA_WITH_3DES_EDE_CBC_SHA:
+            case CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA:
+            case CipherSuite.TLS_RSA_WITH_AES_256_CBC_SHA:
+            case CipherSuite.TLS_RSA_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_RSA_WITH_AES_256_GCM_SHA384:
+                return rsaCredentials;
+
+            default:
+                /*
+                 * Note: internal error here; we selected the cipher suite, so if we now can't
+                 * produce an implementation, we shouldn't have chosen it!
+                 */
+                throw new TlsFatalAlert(AlertDescription.internal_error);
+        }
+    }
+
+    public TlsServerKeyExchange getKeyExchange() throws IOException
+    {
+        switch (selectedCipherSuite)
+        {
+            case CipherSuite.TLS_RSA_WITH_3DES_EDE_CBC_SHA:
+            case CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA:
+            case CipherSuite.TLS_RSA_WITH_AES_256_CBC_SHA:
+            case CipherSuite.TLS_RSA_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_RSA_WITH_AES_256_GCM_SHA384:
+                return createRSAKeyExchange();
+
+            default:
+                /*
+                 * Note: internal error here; we selected the cipher suite, so if we now can't
+                 * produce an implementation, we shouldn't have chosen it!
+                 */
+                throw new TlsFatalAlert(AlertDescription.internal_error);
+        }
+    }
+
+    public TlsCompression getCompression() throws IOException
+    {
+        switch (selectedCompressionMethod)
+        {
+            case CompressionMethod.NULL:
+                return new TlsNullCompression();
+
+            default:
+                /*
+                 * Note: internal error here; we selected the compression method, so if we now
+                 * can't produce an implementation, we shouldn't have chosen it!
+                 */
+                throw new TlsFatalAlert(AlertDescription.internal_error);
+        }
+    }
+
+    public TlsCipher getCipher() throws IOException
+    {
+        switch (selectedCipherSuite)
+        {
+            case CipherSuite.TLS_RSA_WITH_3DES_EDE_CBC_SHA:
+                return cipherFactory.createCipher(context, EncryptionAlgorithm._3DES_EDE_CBC, DigestAlgorithm.SHA);
+
+            case CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA:
+                return cipherFactory.createCipher(context, EncryptionAlgorithm.AES_128_CBC, DigestAlgorithm.SHA);
+
+            case CipherSuite.TLS_RSA_WITH_AES_256_CBC_SHA:
+                return cipherFactory.createCipher(context, EncryptionAlgorithm.AES_256_CBC, DigestAlgorithm.SHA);
+
+            case CipherSuite.TLS_RSA_WITH_AES_128_GCM_SHA256:
+                return cipherFactory.createCipher(context, EncryptionAlgorithm.AES_128_GCM, DigestAlgorithm.NULL);
+
+            case CipherSuite.TLS_RSA_WITH_AES_256_GCM_SHA384:
+                return cipherFactory.createCipher(context, EncryptionAlgorithm.AES_256_GCM, DigestAlgorithm.NULL);
+
+            default:
+                /*
+                 * Note: internal error here; we selected the cipher suite, so if we now can't
+                 * produce an implementation, we shouldn't have chosen it!
+                 */
+                throw new TlsFatalAlert(AlertDescription.internal_error);
+        }
+    }
+
+    protected TlsServerKeyExchange createRSAKeyExchange()
+    {
+        return new TlsRSAKeyExchange(context);
+    }
+}
@@ -0,0 +1,101 @@
+package org.spongycastle.crypto.tls;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded in-memory session cache. When full the least recently used session
+ * is dropped, and sessions are not offered once older than the lifetime given,
+ * or than the lifetime hint of their session ticket if that is shorter.
+ */
+public class DefaultTlsSessionCache
+    implements TlsSessionCache
+{
+    private static final int DEFAULT_MAX_SESSIONS = 256;
+
+    /*
+     * RFC 2246 F.1.4 suggests an upper limit of 24 hours on session ID lifetimes.
+     */
+    private static final long DEFAULT_LIFETIME = 24L * 60 * 60 * 1000;
+
+    private final long lifetime;
+    private final Map sessions;
+
+    public DefaultTlsSessionCache()
+    {
+        this(DEFAULT_MAX_SESSIONS, DEFAULT_LIFETIME);
+    }
+
+    /**
+     * Create a cache.
+     *
+     * @param maxSessions the maximum number of sessions held.
+     * @param lifetime the maximum age of a session offered for resumption, in milliseconds.
+     */
+    public DefaultTlsSessionCache(final int maxSessions, long lifetime)
+    {
+        if (maxSessions < 1)
+        {
+            throw new IllegalArgumentException("'maxSessions' must be at least 1");
+        }
+
+        this.lifetime = lifetime;
+        this.sessions = new LinkedHashMap(16, 0.75f, true)
+        {
+            protected boolean removeEldestEntry(Map.Entry eldest)
+            {
+                return size() > maxSessions;
+            }
+        };
+    }
+
+    public synchronized TlsSession getSession(String serverIdentity)
+    {
+        TlsSession session = (TlsSession)sessions.get(serverIdentity);
+
+        if (session != null && isExpired(session, System.currentTimeMillis()))
+        {
+            sessions.remove(serverIdentity);
+            return null;
+        }
+
+        return session;
+    }
+
+    public synchronized void putSession(String serverIdentity, TlsSession session)
+    {
+        if (session.isResumable())
+        {
+            sessions.put(serverIdentity, session);
+        }
+        else
+        {
+            sessions.remove(serverIdentity);
+        }
+    }
+
+    public synchronized void removeSession(String serverIdentity)
+    {
+        sessions.remove(serverIdentity);
+    }
+
+    /**
+     * @return the number of sessions held, including any which have expired.
+     */
+    public synchronized int size()
+    {
+        return sessions.size();
+    }
+
+    private boolean isExpired(TlsSession session, long now)
+    {
+        long maxAge = lifetime;
+
+        if (session.getSessionTicket() != null && session.getTicketLifetimeHint() > 0)
+        {
+            maxAge = Math.min(maxAge, session.getTicketLifetimeHint() * 1000);
+        }
+
+        return now - session.getCreationTime() > maxAge;
+    }
+}
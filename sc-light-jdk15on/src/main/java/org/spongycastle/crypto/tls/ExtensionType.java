@@ -23,6 +23,11 @@ public class ExtensionType
      */
     public static final int srp = 12;
 
+    /*
+     * RFC 5077 7
+     */
+    public static final int session_ticket = 35;
+
     /*
      * RFC 5746 6
      */
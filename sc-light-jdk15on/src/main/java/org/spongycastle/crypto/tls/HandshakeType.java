@@ -8,6 +8,7 @@ public class HandshakeType
     public static final short hello_request = 0;
     public static final short client_hello = 1;
     public static final short server_hello = 2;
+    public static final short new_session_ticket = 4;
     public static final short certificate = 11;
     public static final short server_key_exchange = 12;
     public static final short certificate_request = 13;
@@ -0,0 +1,19 @@
+package org.spongycastle.crypto.tls;
+
+/**
+ * RFC 5246 6.1
+ */
+public class PRFAlgorithm
+{
+    /*
+     * Placeholder to refer to the legacy TLS algorithm
+     */
+    public static final int tls_prf_legacy = 0;
+
+    public static final int tls_prf_sha256 = 1;
+
+    /*
+     * Implied by RFC 5288
+     */
+    public static final int tls_prf_sha384 = 2;
+}
@@ -0,0 +1,61 @@
+package org.spongycastle.crypto.tls;
+
+import java.util.Arrays;
+
+/**
+ * A pool of record sized buffers shared by all connections, so a connection
+ * only holds a buffer while it is reading or writing a record rather than for
+ * as long as it is open.
+ */
+class RecordBufferPool
+{
+    /**
+     * Room for a record header and the largest ciphertext fragment allowed.
+     */
+    static final int BUFFER_SIZE = 5 + (1 << 14) + 2048;
+
+    private static final int MAX_POOLED = 32;
+
+    private static final byte[][] pool = new byte[MAX_POOLED][];
+    private static int count = 0;
+
+    static byte[] acquire(int minLength)
+    {
+        if (minLength <= BUFFER_SIZE)
+        {
+            synchronized (pool)
+            {
+                if (count > 0)
+                {
+                    byte[] buf = pool[--count];
+                    pool[count] = null;
+                    return buf;
+                }
+            }
+
+            return new byte[BUFFER_SIZE];
+        }
+
+        return new byte[minLength];
+    }
+
+    /**
+     * Return a buffer to the pool, clearing the first usedLength bytes of it
+     * as they may hold plaintext.
+     */
+    static void release(byte[] buf, int usedLength)
+    {
+        Arrays.fill(buf, 0, Math.min(usedLength, buf.length), (byte)0);
+
+        if (buf.length == BUFFER_SIZE)
+        {
+            synchronized (pool)
+            {
+                if (count < MAX_POOLED)
+                {
+                    pool[count++] = buf;
+                }
+            }
+        }
+    }
+}
@@ -8,23 +8,31 @@ import java.io.OutputStream;
 import org.spongycastle.crypto.Digest;
 
 /**
- * An implementation of the TLS 1.0 record layer, allowing downgrade to SSLv3.
+ * An implementation of the TLS 1.0 - 1.2 record layer, allowing downgrade to SSLv3.
  */
 class RecordStream
 {
-    private TlsProtocolHandler handler;
+    static final int MAX_CIPHERTEXT_LENGTH = (1 << 14) + 2048;
+
+    private TlsProtocol handler;
     private InputStream is;
     private OutputStream os;
     private TlsCompression readCompression = null;
     private TlsCompression writeCompression = null;
     private TlsCipher readCipher = null;
     private TlsCipher writeCipher = null;
+    private TlsCompression pendingCompression = null;
+    private TlsCipher pendingCipher = null;
     private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private byte[] readHeader = new byte[5];
+
+    private ProtocolVersion readVersion = null;
+    private ProtocolVersion writeVersion = ProtocolVersion.TLSv10;
 
-    private TlsClientContext context = null;
-    private CombinedHash hash = null;
-    
-    RecordStream(TlsProtocolHandler handler, InputStream is, OutputStream os)
+    private TlsContext context = null;
+    private TlsHandshakeHash hash = null;
+
+    RecordStream(TlsProtocol handler, InputStream is, OutputStream os)
     {
         this.handler = handler;
         this.is = is;
@@ -35,47 +43,97 @@ class RecordStream
         this.writeCipher = this.readCipher;
     }
 
-    void init(TlsClientContext context)
+    void init(TlsContext context)
     {
         this.context = context;
-        this.hash = new CombinedHash(context);
+        this.hash = new TlsHandshakeHash(context);
+    }
+
+    /**
+     * Called once the hellos have settled the protocol version: records are then written
+     * with it, and those read must carry it.
+     */
+    void setRecordVersion(ProtocolVersion version)
+    {
+        this.readVersion = version;
+        this.writeVersion = version;
+    }
+
+    /**
+     * Called once the server version and cipher suite are known, and with them which hash
+     * of the handshake messages is needed - from TLS 1.2 the one of the PRF.
+     */
+    void notifyHelloComplete()
+    {
+        hash.notifyPRFDetermined();
     }
 
-    void clientCipherSpecDecided(TlsCompression tlsCompression, TlsCipher tlsCipher)
+    void setPendingConnectionState(TlsCompression tlsCompression, TlsCipher tlsCipher)
     {
-        this.writeCompression = tlsCompression;
-        this.writeCipher = tlsCipher;
+        this.pendingCompression = tlsCompression;
+        this.pendingCipher = tlsCipher;
     }
 
-    void serverClientSpecReceived()
+    void sentWriteCipherSpec()
     {
-        this.readCompression = this.writeCompression;
-        this.readCipher = this.writeCipher;
+        this.writeCompression = this.pendingCompression;
+        this.writeCipher = this.pendingCipher;
+    }
+
+    void receivedReadCipherSpec()
+    {
+        this.readCompression = this.pendingCompression;
+        this.readCipher = this.pendingCipher;
     }
 
     public void readData() throws IOException
     {
-        short type = TlsUtils.readUint8(is);
+        TlsUtils.readFully(readHeader, 0, 5, is);
 
-        // TODO In light of versioning and SSLv3, what should we expect here?
-        ProtocolVersion expectedVersion = ProtocolVersion.TLSv10; //context.getServerVersion();
-        if (!expectedVersion.equals(TlsUtils.readVersion(is)))
+        short type = TlsUtils.readUint8(readHeader, 0);
+
+        /*
+         * Until the server hello has fixed the version, any we know is accepted.
+         */
+        ProtocolVersion version = TlsUtils.readVersion(readHeader, 1);
+        if (readVersion != null && !readVersion.equals(version))
         {
             throw new TlsFatalAlert(AlertDescription.illegal_parameter);
         }
 
-        int size = TlsUtils.readUint16(is);
-        byte[] buf = decodeAndVerify(type, is, size);
-        handler.processData(type, buf, 0, buf.length);
+        int size = TlsUtils.readUint16(readHeader, 3);
+        if (size > MAX_CIPHERTEXT_LENGTH)
+        {
+            throw new TlsFatalAlert(AlertDescription.record_overflow);
+        }
+
+        byte[] buf = RecordBufferPool.acquire(size);
+        try
+        {
+            TlsUtils.readFully(buf, 0, size, is);
+
+            OutputStream cOut = readCompression.decompress(buffer);
+
+            if (cOut == buffer && readCipher instanceof TlsInPlaceCipher)
+            {
+                int len = ((TlsInPlaceCipher)readCipher).decodeCiphertextInPlace(type, buf, 0, size);
+                handler.processData(type, buf, 0, len);
+            }
+            else
+            {
+                byte[] decoded = decodeAndVerify(type, buf, size, cOut);
+                handler.processData(type, decoded, 0, decoded.length);
+            }
+        }
+        finally
+        {
+            RecordBufferPool.release(buf, size);
+        }
     }
 
-    protected byte[] decodeAndVerify(short type, InputStream is, int len) throws IOException
+    protected byte[] decodeAndVerify(short type, byte[] buf, int len, OutputStream cOut) throws IOException
     {
-        byte[] buf = new byte[len];
-        TlsUtils.readFully(buf, is);
-        byte[] decoded = readCipher.decodeCiphertext(type, buf, 0, buf.length);
-
-        OutputStream cOut = readCompression.decompress(buffer);
+        byte[] decoded = readCipher.decodeCiphertext(type, buf, 0, len);
 
         if (cOut == buffer)
         {
@@ -96,30 +154,54 @@ class RecordStream
 
         OutputStream cOut = writeCompression.compress(buffer);
 
-        byte[] ciphertext;
-        if (cOut == buffer)
-        {
-            ciphertext = writeCipher.encodePlaintext(type, message, offset, len);
-        }
-        else
+        if (cOut != buffer)
         {
             cOut.write(message, offset, len);
             cOut.flush();
-            byte[] compressed = getBufferContents();
-            ciphertext = writeCipher.encodePlaintext(type, compressed, 0, compressed.length);
+            message = getBufferContents();
+            offset = 0;
+            len = message.length;
+        }
+
+        if (writeCipher instanceof TlsInPlaceCipher)
+        {
+            /*
+             * Encode straight into the record after its header, so the whole
+             * record goes out in a single write.
+             */
+            TlsInPlaceCipher cipher = (TlsInPlaceCipher)writeCipher;
+            int limit = 5 + cipher.getCiphertextLimit(len);
+            byte[] record = RecordBufferPool.acquire(limit);
+            try
+            {
+                int ciphertextLength = cipher.encodePlaintext(type, message, offset, len, record, 5);
+                writeHeader(type, ciphertextLength, record);
+                os.write(record, 0, 5 + ciphertextLength);
+            }
+            finally
+            {
+                RecordBufferPool.release(record, limit);
+            }
         }
+        else
+        {
+            byte[] ciphertext = writeCipher.encodePlaintext(type, message, offset, len);
 
-        byte[] writeMessage = new byte[ciphertext.length + 5];
-        TlsUtils.writeUint8(type, writeMessage, 0);
-        // TODO In light of versioning, what should we send here?
-//        TlsUtils.writeVersion(context.getServerVersion(), writeMessage, 1);
-        TlsUtils.writeVersion(ProtocolVersion.TLSv10, writeMessage, 1);
-        TlsUtils.writeUint16(ciphertext.length, writeMessage, 3);
-        System.arraycopy(ciphertext, 0, writeMessage, 5, ciphertext.length);
-        os.write(writeMessage);
+            byte[] writeMessage = new byte[ciphertext.length + 5];
+            writeHeader(type, ciphertext.length, writeMessage);
+            System.arraycopy(ciphertext, 0, writeMessage, 5, ciphertext.length);
+            os.write(writeMessage);
+        }
         os.flush();
     }
 
+    private void writeHeader(short type, int length, byte[] record)
+    {
+        TlsUtils.writeUint8(type, record, 0);
+        TlsUtils.writeVersion(writeVersion, record, 1);
+        TlsUtils.writeUint16(length, record, 3);
+    }
+
     void updateHandshakeData(byte[] message, int offset, int len)
     {
         hash.update(message, offset, len);
@@ -130,7 +212,7 @@ class RecordStream
      */
     byte[] getCurrentHash(byte[] sender)
     {
-        Digest d = new CombinedHash(hash);
+        Digest d = hash.fork();
 
         boolean isTls = context.getServerVersion().getFullVersion() >= ProtocolVersion.TLSv10.getFullVersion();
 
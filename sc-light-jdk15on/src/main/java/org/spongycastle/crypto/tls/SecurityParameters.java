@@ -2,10 +2,19 @@ package org.spongycastle.crypto.tls;
 
 public class SecurityParameters
 {
+    int prfAlgorithm = PRFAlgorithm.tls_prf_legacy;
     byte[] clientRandom = null;
     byte[] serverRandom = null;
     byte[] masterSecret = null;
 
+    /**
+     * @return {@link PRFAlgorithm}
+     */
+    public int getPrfAlgorithm()
+    {
+        return prfAlgorithm;
+    }
+
     public byte[] getClientRandom()
     {
         return clientRandom;
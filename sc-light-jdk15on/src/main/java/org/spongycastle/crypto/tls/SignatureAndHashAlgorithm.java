@@ -0,0 +1,71 @@
+package org.spongycastle.crypto.tls;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * RFC 5246 7.4.1.4.1
+ */
+public class SignatureAndHashAlgorithm
+{
+    private short hash;
+    private short signature;
+
+    /**
+     * @param hash      {@link HashAlgorithm}
+     * @param signature {@link SignatureAlgorithm}
+     */
+    public SignatureAndHashAlgorithm(short hash, short signature)
+    {
+        this.hash = hash;
+        this.signature = signature;
+    }
+
+    /**
+     * @return {@link HashAlgorithm}
+     */
+    public short getHash()
+    {
+        return hash;
+    }
+
+    /**
+     * @return {@link SignatureAlgorithm}
+     */
+    public short getSignature()
+    {
+        return signature;
+    }
+
+    public boolean equals(Object o)
+    {
+        if (!(o instanceof SignatureAndHashAlgorithm))
+        {
+            return false;
+        }
+
+        SignatureAndHashAlgorithm other = (SignatureAndHashAlgorithm)o;
+
+        return other.hash == hash && other.signature == signature;
+    }
+
+    public int hashCode()
+    {
+        return (hash << 8) | signature;
+    }
+
+    void encode(OutputStream os) throws IOException
+    {
+        TlsUtils.writeUint8(hash, os);
+        TlsUtils.writeUint8(signature, os);
+    }
+
+    static SignatureAndHashAlgorithm parse(InputStream is) throws IOException
+    {
+        short hash = TlsUtils.readUint8(is);
+        short signature = TlsUtils.readUint8(is);
+
+        return new SignatureAndHashAlgorithm(hash, signature);
+    }
+}
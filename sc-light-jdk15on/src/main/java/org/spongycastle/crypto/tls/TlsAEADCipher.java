@@ -0,0 +1,221 @@
+package org.spongycastle.crypto.tls;
+
+import java.io.IOException;
+
+import org.spongycastle.crypto.InvalidCipherTextException;
+import org.spongycastle.crypto.modes.AEADBlockCipher;
+import org.spongycastle.crypto.params.AEADParameters;
+import org.spongycastle.crypto.params.KeyParameter;
+import org.spongycastle.util.Arrays;
+
+/**
+ * A TLS 1.2 AEAD cipher, as RFC 5288 uses AES in GCM mode for example.
+ * <p>
+ * Each record is encrypted and authenticated in a single pass, with no separate
+ * MAC and no padding: the record carries an 8 byte explicit nonce (the record's
+ * sequence number), the ciphertext and the authentication tag.
+ * </p>
+ */
+public class TlsAEADCipher implements TlsInPlaceCipher
+{
+    /*
+     * RFC 5288 3. The implicit part of the nonce, the salt, is a 4 byte client or server
+     * write IV from the key block.
+     */
+    private static final int FIXED_IV_LENGTH = 4;
+
+    protected TlsContext context;
+    protected int macSize;
+    protected int nonce_explicit_length;
+
+    protected AEADBlockCipher encryptCipher;
+    protected AEADBlockCipher decryptCipher;
+
+    protected byte[] encryptImplicitNonce, decryptImplicitNonce;
+
+    /*
+     * Each direction's nonce, additional data and the parameters holding them are
+     * overwritten for every record, rather than allocated afresh.
+     */
+    private byte[] encryptNonce, decryptNonce;
+    private byte[] encryptAdditionalData = new byte[13], decryptAdditionalData = new byte[13];
+    private AEADParameters encryptParameters, decryptParameters;
+
+    private long readSeqNo = 0;
+    private long writeSeqNo = 0;
+
+    public TlsAEADCipher(TlsContext context, AEADBlockCipher encryptCipher, AEADBlockCipher decryptCipher,
+        int cipherKeySize, int macSize) throws IOException
+    {
+        if (!TlsUtils.isTLSv12(context))
+        {
+            throw new TlsFatalAlert(AlertDescription.internal_error);
+        }
+
+        this.context = context;
+        this.macSize = macSize;
+
+        // NOTE: Valid for RFC 5288 ciphers but may need review for other AEAD ciphers
+        this.nonce_explicit_length = 8;
+
+        int key_block_size = (2 * cipherKeySize) + (2 * FIXED_IV_LENGTH);
+
+        byte[] key_block = TlsUtils.calculateKeyBlock(context, key_block_size);
+
+        /*
+         * The key block holds the client write key, server write key, client write IV and
+         * server write IV in that order - there are no MAC secrets. A server writes with the
+         * server's half and reads with the client's.
+         */
+        int offset = 0;
+
+        KeyParameter client_write_key = new KeyParameter(key_block, offset, cipherKeySize);
+        offset += cipherKeySize;
+        KeyParameter server_write_key = new KeyParameter(key_block, offset, cipherKeySize);
+        offset += cipherKeySize;
+        byte[] client_write_IV = Arrays.copyOfRange(key_block, offset, offset + FIXED_IV_LENGTH);
+        offset += FIXED_IV_LENGTH;
+        byte[] server_write_IV = Arrays.copyOfRange(key_block, offset, offset + FIXED_IV_LENGTH);
+
+        this.encryptCipher = encryptCipher;
+        this.decryptCipher = decryptCipher;
+
+        KeyParameter encryptKey, decryptKey;
+        if (context.isServer())
+        {
+            encryptKey = server_write_key;
+            decryptKey = client_write_key;
+            this.encryptImplicitNonce = server_write_IV;
+            this.decryptImplicitNonce = client_write_IV;
+        }
+        else
+        {
+            encryptKey = client_write_key;
+            decryptKey = server_write_key;
+            this.encryptImplicitNonce = client_write_IV;
+            this.decryptImplicitNonce = server_write_IV;
+        }
+
+        /*
+         * The keys only go in here, each record re-initialising the ciphers with just its
+         * nonce and additional data, so the key schedule and GCM tables are set up once.
+         */
+        this.encryptNonce = new byte[FIXED_IV_LENGTH + nonce_explicit_length];
+        this.decryptNonce = new byte[FIXED_IV_LENGTH + nonce_explicit_length];
+
+        this.encryptCipher.init(true, new AEADParameters(encryptKey, 8 * macSize, encryptNonce, null));
+        this.decryptCipher.init(false, new AEADParameters(decryptKey, 8 * macSize, decryptNonce, null));
+
+        System.arraycopy(encryptImplicitNonce, 0, encryptNonce, 0, FIXED_IV_LENGTH);
+        System.arraycopy(decryptImplicitNonce, 0, decryptNonce, 0, FIXED_IV_LENGTH);
+
+        this.encryptParameters = new AEADParameters(null, 8 * macSize, encryptNonce, encryptAdditionalData);
+        this.decryptParameters = new AEADParameters(null, 8 * macSize, decryptNonce, decryptAdditionalData);
+    }
+
+    public byte[] encodePlaintext(short type, byte[] plaintext, int offset, int len) throws IOException
+    {
+        byte[] output = new byte[getCiphertextLimit(len)];
+        int outputLen = encodePlaintext(type, plaintext, offset, len, output, 0);
+        if (outputLen != output.length)
+        {
+            throw new TlsFatalAlert(AlertDescription.internal_error);
+        }
+        return output;
+    }
+
+    public int getCiphertextLimit(int plaintextLength)
+    {
+        return nonce_explicit_length + plaintextLength + macSize;
+    }
+
+    public int encodePlaintext(short type, byte[] plaintext, int offset, int len, byte[] output, int outOff)
+        throws IOException
+    {
+        long seqNo = this.writeSeqNo++;
+
+        /*
+         * RFC 5288 3. The nonce_explicit MAY be the 64-bit sequence number.
+         */
+        TlsUtils.writeUint64(seqNo, encryptNonce, FIXED_IV_LENGTH);
+        System.arraycopy(encryptNonce, FIXED_IV_LENGTH, output, outOff, nonce_explicit_length);
+
+        int ciphertextOff = outOff + nonce_explicit_length;
+
+        if (plaintext == output)
+        {
+            // move the plaintext into place first, so it is encrypted where it lies
+            System.arraycopy(plaintext, offset, output, ciphertextOff, len);
+            plaintext = output;
+            offset = ciphertextOff;
+        }
+
+        writeAdditionalData(seqNo, type, len, encryptAdditionalData);
+
+        try
+        {
+            encryptCipher.init(true, encryptParameters);
+            int outputLen = encryptCipher.processBytes(plaintext, offset, len, output, ciphertextOff);
+            outputLen += encryptCipher.doFinal(output, ciphertextOff + outputLen);
+            return nonce_explicit_length + outputLen;
+        }
+        catch (InvalidCipherTextException e)
+        {
+            throw new TlsFatalAlert(AlertDescription.internal_error);
+        }
+    }
+
+    public byte[] decodeCiphertext(short type, byte[] ciphertext, int offset, int len) throws IOException
+    {
+        int plaintextLength = decodeCiphertextInPlace(type, ciphertext, offset, len);
+        byte[] plaintext = new byte[plaintextLength];
+        System.arraycopy(ciphertext, offset, plaintext, 0, plaintextLength);
+        return plaintext;
+    }
+
+    public int decodeCiphertextInPlace(short type, byte[] ciphertext, int offset, int len) throws IOException
+    {
+        if (len < nonce_explicit_length + macSize)
+        {
+            throw new TlsFatalAlert(AlertDescription.decode_error);
+        }
+
+        long seqNo = this.readSeqNo++;
+
+        System.arraycopy(ciphertext, offset, decryptNonce, FIXED_IV_LENGTH, nonce_explicit_length);
+
+        int ciphertextOff = offset + nonce_explicit_length;
+        int ciphertextLength = len - nonce_explicit_length;
+        int plaintextLength = ciphertextLength - macSize;
+
+        writeAdditionalData(seqNo, type, plaintextLength, decryptAdditionalData);
+
+        /*
+         * The plaintext is written nonce_explicit_length bytes behind the ciphertext being
+         * read, which GCM allows, leaving it at the start of the record.
+         */
+        try
+        {
+            decryptCipher.init(false, decryptParameters);
+            int outputLen = decryptCipher.processBytes(ciphertext, ciphertextOff, ciphertextLength, ciphertext, offset);
+            outputLen += decryptCipher.doFinal(ciphertext, offset + outputLen);
+            return outputLen;
+        }
+        catch (InvalidCipherTextException e)
+        {
+            throw new TlsFatalAlert(AlertDescription.bad_record_mac);
+        }
+    }
+
+    /**
+     * RFC 5246 6.2.3.3. additional_data = seq_num + TLSCompressed.type +
+     * TLSCompressed.version + TLSCompressed.length;
+     */
+    protected void writeAdditionalData(long seqNo, short type, int len, byte[] additional_data)
+    {
+        TlsUtils.writeUint64(seqNo, additional_data, 0);
+        TlsUtils.writeUint8(type, additional_data, 8);
+        TlsUtils.writeVersion(context.getServerVersion(), additional_data, 9);
+        TlsUtils.writeUint16(len, additional_data, 11);
+    }
+}
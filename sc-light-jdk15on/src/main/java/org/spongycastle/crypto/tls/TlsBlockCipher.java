@@ -7,15 +7,14 @@ import org.spongycastle.crypto.BlockCipher;
 import org.spongycastle.crypto.Digest;
 import org.spongycastle.crypto.params.KeyParameter;
 import org.spongycastle.crypto.params.ParametersWithIV;
-import org.spongycastle.util.Arrays;
 
 /**
- * A generic TLS 1.0 / SSLv3 block cipher.
+ * A generic TLS 1.0 - 1.2 / SSLv3 block cipher.
  * This can be used for AES or 3DES for example.
  */
-public class TlsBlockCipher implements TlsCipher
+public class TlsBlockCipher implements TlsInPlaceCipher
 {
-    protected TlsClientContext context;
+    protected TlsContext context;
 
     protected BlockCipher encryptCipher;
     protected BlockCipher decryptCipher;
@@ -23,6 +22,11 @@ public class TlsBlockCipher implements TlsCipher
     protected TlsMac writeMac;
     protected TlsMac readMac;
 
+    protected boolean useExplicitIV;
+
+    private byte[] calculatedMac;
+    private byte[] explicitIV;
+
 	public TlsMac getWriteMac()
 	{
 		return writeMac;
@@ -33,34 +37,54 @@ public class TlsBlockCipher implements TlsCipher
 		return readMac;
 	}
 
-    public TlsBlockCipher(TlsClientContext context, BlockCipher encryptCipher,
+    public TlsBlockCipher(TlsContext context, BlockCipher encryptCipher,
         BlockCipher decryptCipher, Digest writeDigest, Digest readDigest, int cipherKeySize)
     {
         this.context = context;
         this.encryptCipher = encryptCipher;
         this.decryptCipher = decryptCipher;
 
+        /*
+         * RFC 4346 6.2.3.2. From TLS 1.1 each record starts with a block of its own random IV;
+         * we chain it on from the previous record as option (2)(b) describes, so the key
+         * block's IVs still start the chains.
+         */
+        this.useExplicitIV = TlsUtils.isTLSv11(context);
+
         int key_block_size = (2 * cipherKeySize) + writeDigest.getDigestSize()
             + readDigest.getDigestSize() + encryptCipher.getBlockSize()
             + decryptCipher.getBlockSize();
 
         byte[] key_block = TlsUtils.calculateKeyBlock(context, key_block_size);
 
-        int offset = 0;
-
-        // Init MACs
-        writeMac = new TlsMac(context, writeDigest, key_block, offset, writeDigest.getDigestSize());
-        offset += writeDigest.getDigestSize();
-        readMac = new TlsMac(context, readDigest, key_block, offset, readDigest.getDigestSize());
-        offset += readDigest.getDigestSize();
+        /*
+         * The key block holds the client write MAC secret, server write MAC secret, client
+         * write key, server write key, client write IV and server write IV in that order. A
+         * server writes with the server's half and reads with the client's.
+         */
+        int clientMacOffset = 0;
+        int serverMacOffset = clientMacOffset + writeDigest.getDigestSize();
+        int clientKeyOffset = serverMacOffset + readDigest.getDigestSize();
+        int serverKeyOffset = clientKeyOffset + cipherKeySize;
+        int clientIVOffset = serverKeyOffset + cipherKeySize;
+        int serverIVOffset = clientIVOffset + encryptCipher.getBlockSize();
+
+        if (context.isServer())
+        {
+            writeMac = new TlsMac(context, writeDigest, key_block, serverMacOffset, writeDigest.getDigestSize());
+            readMac = new TlsMac(context, readDigest, key_block, clientMacOffset, readDigest.getDigestSize());
 
-        // Init Ciphers
-        this.initCipher(true, encryptCipher, key_block, cipherKeySize, offset, offset
-            + (cipherKeySize * 2));
-        offset += cipherKeySize;
-        this.initCipher(false, decryptCipher, key_block, cipherKeySize, offset, offset
-            + cipherKeySize + encryptCipher.getBlockSize());
+            this.initCipher(true, encryptCipher, key_block, cipherKeySize, serverKeyOffset, serverIVOffset);
+            this.initCipher(false, decryptCipher, key_block, cipherKeySize, clientKeyOffset, clientIVOffset);
+        }
+        else
+        {
+            writeMac = new TlsMac(context, writeDigest, key_block, clientMacOffset, writeDigest.getDigestSize());
+            readMac = new TlsMac(context, readDigest, key_block, serverMacOffset, readDigest.getDigestSize());
 
+            this.initCipher(true, encryptCipher, key_block, cipherKeySize, clientKeyOffset, clientIVOffset);
+            this.initCipher(false, decryptCipher, key_block, cipherKeySize, serverKeyOffset, serverIVOffset);
+        }
     }
 
     protected void initCipher(boolean forEncryption, BlockCipher cipher, byte[] key_block,
@@ -74,44 +98,39 @@ public class TlsBlockCipher implements TlsCipher
 
     public byte[] encodePlaintext(short type, byte[] plaintext, int offset, int len)
     {
-        int blocksize = encryptCipher.getBlockSize();
-        int minPaddingSize = blocksize - ((len + writeMac.getSize() + 1) % blocksize);
-        int paddingSize = minPaddingSize;
-
-        boolean isTls = context.getServerVersion().getFullVersion() >= ProtocolVersion.TLSv10.getFullVersion();
+        int paddingSize = choosePaddingSize(len);
+        byte[] outbuf = new byte[getExplicitIVLength() + len + writeMac.getSize() + paddingSize + 1];
+        encode(type, plaintext, offset, len, paddingSize, outbuf, 0);
+        return outbuf;
+    }
 
-        if (isTls)
-        {
-            // Add a random number of extra blocks worth of padding
-            int maxExtraPadBlocks = (255 - minPaddingSize) / blocksize;
-            int actualExtraPadBlocks = chooseExtraPadBlocks(context.getSecureRandom(), maxExtraPadBlocks);
-            paddingSize += (actualExtraPadBlocks * blocksize);
-        }
+    public int getCiphertextLimit(int plaintextLength)
+    {
+        // padding, including the padding length byte, is at most 256 bytes
+        return getExplicitIVLength() + plaintextLength + writeMac.getSize() + 256;
+    }
 
-        int totalsize = len + writeMac.getSize() + paddingSize + 1;
-        byte[] outbuf = new byte[totalsize];
-        System.arraycopy(plaintext, offset, outbuf, 0, len);
-        byte[] mac = writeMac.calculateMac(type, plaintext, offset, len);
-        System.arraycopy(mac, 0, outbuf, len, mac.length);
-        int paddoffset = len + mac.length;
-        for (int i = 0; i <= paddingSize; i++)
-        {
-            outbuf[i + paddoffset] = (byte)paddingSize;
-        }
-        for (int i = 0; i < totalsize; i += blocksize)
-        {
-            encryptCipher.processBlock(outbuf, i, outbuf, i);
-        }
-        return outbuf;
+    public int encodePlaintext(short type, byte[] plaintext, int offset, int len, byte[] output, int outOff)
+    {
+        return encode(type, plaintext, offset, len, choosePaddingSize(len), output, outOff);
     }
 
     public byte[] decodeCiphertext(short type, byte[] ciphertext, int offset, int len)
         throws IOException
     {
-        // TODO TLS 1.1 (RFC 4346) introduces an explicit IV
+        int plaintextlength = decodeCiphertextInPlace(type, ciphertext, offset, len);
+        byte[] plaintext = new byte[plaintextlength];
+        System.arraycopy(ciphertext, offset, plaintext, 0, plaintextlength);
+        return plaintext;
+    }
 
-        int minLength = readMac.getSize() + 1;
+    public int decodeCiphertextInPlace(short type, byte[] ciphertext, int offset, int len)
+        throws IOException
+    {
         int blocksize = decryptCipher.getBlockSize();
+        int ivLength = useExplicitIV ? blocksize : 0;
+        int macSize = readMac.getSize();
+        int minLength = ivLength + macSize + 1;
         boolean decrypterror = false;
 
         /*
@@ -186,16 +205,23 @@ public class TlsBlockCipher implements TlsCipher
          * mac verification failed or padding verification failed.
          */
         int plaintextlength = len - minLength - paddingsize;
-        byte[] calculatedMac = readMac.calculateMac(type, ciphertext, offset, plaintextlength);
+        if (calculatedMac == null)
+        {
+            calculatedMac = new byte[macSize];
+        }
+        readMac.calculateMac(type, ciphertext, offset + ivLength, plaintextlength, calculatedMac, 0);
 
         /*
          * Check all bytes in the mac (constant-time comparison).
          */
-        byte[] decryptedMac = new byte[calculatedMac.length];
-        System.arraycopy(ciphertext, offset + plaintextlength, decryptedMac, 0,
-            calculatedMac.length);
+        int macOff = offset + ivLength + plaintextlength;
+        int diff = 0;
+        for (int i = 0; i != macSize; i++)
+        {
+            diff |= calculatedMac[i] ^ ciphertext[macOff + i];
+        }
 
-        if (!Arrays.constantTimeAreEqual(calculatedMac, decryptedMac))
+        if (diff != 0)
         {
             decrypterror = true;
         }
@@ -208,9 +234,73 @@ public class TlsBlockCipher implements TlsCipher
             throw new TlsFatalAlert(AlertDescription.bad_record_mac);
         }
 
-        byte[] plaintext = new byte[plaintextlength];
-        System.arraycopy(ciphertext, offset, plaintext, 0, plaintextlength);
-        return plaintext;
+        /*
+         * The explicit IV decrypts to garbage, and is dropped.
+         */
+        if (ivLength > 0)
+        {
+            System.arraycopy(ciphertext, offset + ivLength, ciphertext, offset, plaintextlength);
+        }
+
+        return plaintextlength;
+    }
+
+    protected int choosePaddingSize(int len)
+    {
+        int blocksize = encryptCipher.getBlockSize();
+        int minPaddingSize = blocksize - ((len + writeMac.getSize() + 1) % blocksize);
+        int paddingSize = minPaddingSize;
+
+        boolean isTls = context.getServerVersion().getFullVersion() >= ProtocolVersion.TLSv10.getFullVersion();
+
+        if (isTls)
+        {
+            // Add a random number of extra blocks worth of padding
+            int maxExtraPadBlocks = (255 - minPaddingSize) / blocksize;
+            int actualExtraPadBlocks = chooseExtraPadBlocks(context.getSecureRandom(), maxExtraPadBlocks);
+            paddingSize += (actualExtraPadBlocks * blocksize);
+        }
+
+        return paddingSize;
+    }
+
+    private int encode(short type, byte[] plaintext, int offset, int len, int paddingSize, byte[] output, int outOff)
+    {
+        int blocksize = encryptCipher.getBlockSize();
+        int ivLength = useExplicitIV ? blocksize : 0;
+        int plaintextOff = outOff + ivLength;
+
+        // copy first, so the mac is right even if the output overlaps the plaintext
+        System.arraycopy(plaintext, offset, output, plaintextOff, len);
+
+        if (ivLength > 0)
+        {
+            if (explicitIV == null)
+            {
+                explicitIV = new byte[ivLength];
+            }
+            context.getSecureRandom().nextBytes(explicitIV);
+            System.arraycopy(explicitIV, 0, output, outOff, ivLength);
+        }
+
+        int paddoffset = plaintextOff + len
+            + writeMac.calculateMac(type, output, plaintextOff, len, output, plaintextOff + len);
+        for (int i = 0; i <= paddingSize; i++)
+        {
+            output[i + paddoffset] = (byte)paddingSize;
+        }
+
+        int totalsize = paddoffset + paddingSize + 1 - outOff;
+        for (int i = 0; i < totalsize; i += blocksize)
+        {
+            encryptCipher.processBlock(output, outOff + i, output, outOff + i);
+        }
+        return totalsize;
+    }
+
+    protected int getExplicitIVLength()
+    {
+        return useExplicitIV ? encryptCipher.getBlockSize() : 0;
     }
 
     protected int chooseExtraPadBlocks(SecureRandom r, int max)
@@ -1,18 +1,6 @@
 package org.spongycastle.crypto.tls;
 
-import java.security.SecureRandom;
-
 public interface TlsClientContext
+    extends TlsContext
 {
-    SecureRandom getSecureRandom();
-
-    SecurityParameters getSecurityParameters();
-
-    ProtocolVersion getClientVersion();
-
-    ProtocolVersion getServerVersion();
-
-    Object getUserObject();
-
-    void setUserObject(Object userObject);
 }
@@ -0,0 +1,26 @@
+package org.spongycastle.crypto.tls;
+
+import java.security.SecureRandom;
+
+/**
+ * The state of a connection shared by the client and server sides of the protocol.
+ */
+public interface TlsContext
+{
+    SecureRandom getSecureRandom();
+
+    SecurityParameters getSecurityParameters();
+
+    ProtocolVersion getClientVersion();
+
+    ProtocolVersion getServerVersion();
+
+    /**
+     * @return true if this is the server side of the connection.
+     */
+    boolean isServer();
+
+    Object getUserObject();
+
+    void setUserObject(Object userObject);
+}
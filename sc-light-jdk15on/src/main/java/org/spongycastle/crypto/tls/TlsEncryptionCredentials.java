@@ -0,0 +1,27 @@
+package org.spongycastle.crypto.tls;
+
+import java.security.SecureRandom;
+
+import org.spongycastle.crypto.CryptoException;
+
+/**
+ * Server credentials for a key exchange in which the client encrypts the premaster
+ * secret with the server's public key.
+ * <p>
+ * Implementations should be safe for use by several connections at once, so that one
+ * set of credentials can be shared by every connection a server accepts.
+ * </p>
+ */
+public interface TlsEncryptionCredentials extends TlsCredentials
+{
+    /**
+     * Decrypt an encrypted premaster secret.
+     *
+     * @param random source of randomness for the connection, for blinding.
+     * @param encryptedPreMasterSecret the premaster secret sent by the client.
+     * @return the decrypted premaster secret.
+     * @throws CryptoException if the premaster secret cannot be decrypted.
+     */
+    byte[] decryptPreMasterSecret(SecureRandom random, byte[] encryptedPreMasterSecret)
+        throws CryptoException;
+}
@@ -0,0 +1,86 @@
+package org.spongycastle.crypto.tls;
+
+import org.spongycastle.crypto.Digest;
+
+/**
+ * The running hash of the handshake messages.
+ * <p>
+ * Which hash is wanted (md5 and sha1, or from TLS 1.2 that of the PRF) isn't known until
+ * the hellos have settled the version and cipher suite, so until then the messages go into
+ * each candidate; after that only the one needed is kept. Nothing is buffered, and the
+ * hash at any point is taken from a copy of the digest state.
+ * </p>
+ */
+class TlsHandshakeHash
+{
+    private TlsContext context;
+
+    private CombinedHash combinedHash;
+    private Digest sha256Hash;
+    private Digest sha384Hash;
+
+    private int prfAlgorithm = -1;
+
+    TlsHandshakeHash(TlsContext context)
+    {
+        this.context = context;
+        this.combinedHash = new CombinedHash(context);
+        this.sha256Hash = TlsUtils.createPRFHash(PRFAlgorithm.tls_prf_sha256);
+        this.sha384Hash = TlsUtils.createPRFHash(PRFAlgorithm.tls_prf_sha384);
+    }
+
+    void update(byte[] message, int offset, int len)
+    {
+        if (combinedHash != null)
+        {
+            combinedHash.update(message, offset, len);
+        }
+        if (sha256Hash != null)
+        {
+            sha256Hash.update(message, offset, len);
+        }
+        if (sha384Hash != null)
+        {
+            sha384Hash.update(message, offset, len);
+        }
+    }
+
+    /**
+     * Drop the candidates the negotiated PRF doesn't use.
+     */
+    void notifyPRFDetermined()
+    {
+        this.prfAlgorithm = context.getSecurityParameters().prfAlgorithm;
+
+        if (prfAlgorithm != PRFAlgorithm.tls_prf_legacy)
+        {
+            this.combinedHash = null;
+        }
+        if (prfAlgorithm != PRFAlgorithm.tls_prf_sha256)
+        {
+            this.sha256Hash = null;
+        }
+        if (prfAlgorithm != PRFAlgorithm.tls_prf_sha384)
+        {
+            this.sha384Hash = null;
+        }
+    }
+
+    /**
+     * Return a copy of the hash of the messages so far, leaving this one to carry on.
+     */
+    Digest fork()
+    {
+        switch (prfAlgorithm)
+        {
+            case PRFAlgorithm.tls_prf_legacy:
+                return new CombinedHash(combinedHash);
+            case PRFAlgorithm.tls_prf_sha256:
+                return TlsUtils.clonePRFHash(prfAlgorithm, sha256Hash);
+            case PRFAlgorithm.tls_prf_sha384:
+                return TlsUtils.clonePRFHash(prfAlgorithm, sha384Hash);
+            default:
+                throw new IllegalStateException("PRF algorithm not yet determined");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.spongycastle.crypto.tls;
+
+import java.io.IOException;
+
+/**
+ * A TlsCipher which can encode a record straight into a buffer supplied by the
+ * record layer and decode one where it lies, avoiding the array allocated for
+ * each record by the TlsCipher methods.
+ */
+public interface TlsInPlaceCipher
+    extends TlsCipher
+{
+    /**
+     * Return the largest ciphertext encodePlaintext() can produce for a
+     * plaintext of the given length.
+     *
+     * @param plaintextLength the length of the plaintext.
+     * @return the maximum length of the encoded record.
+     */
+    int getCiphertextLimit(int plaintextLength);
+
+    /**
+     * Encode plaintext into output. The output may overlap the plaintext.
+     *
+     * @param type the content type of the record.
+     * @param plaintext the buffer holding the plaintext.
+     * @param offset the offset of the plaintext in the buffer.
+     * @param len the length of the plaintext.
+     * @param output the buffer to write the ciphertext to, which must have
+     * getCiphertextLimit(len) bytes available from outOff.
+     * @param outOff the offset to start writing the ciphertext at.
+     * @return the length of the ciphertext.
+     */
+    int encodePlaintext(short type, byte[] plaintext, int offset, int len, byte[] output, int outOff)
+        throws IOException;
+
+    /**
+     * Decode ciphertext in place, leaving the plaintext at the start of it.
+     *
+     * @param type the content type of the record.
+     * @param ciphertext the buffer holding the ciphertext.
+     * @param offset the offset of the ciphertext in the buffer.
+     * @param len the length of the ciphertext.
+     * @return the length of the plaintext, which starts at offset.
+     */
+    int decodeCiphertextInPlace(short type, byte[] ciphertext, int offset, int len)
+        throws IOException;
+}
@@ -6,6 +6,9 @@ import java.io.OutputStream;
 
 /**
  * A generic interface for key exchange implementations in TLS 1.0.
+ * <p>
+ * These are the client's side of the exchange, see TlsServerKeyExchange for the server's.
+ * </p>
  */
 public interface TlsKeyExchange
 {
@@ -1,8 +1,5 @@
 package org.spongycastle.crypto.tls;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-
 import org.spongycastle.crypto.Digest;
 import org.spongycastle.crypto.Mac;
 import org.spongycastle.crypto.macs.HMac;
@@ -15,21 +12,23 @@ import org.spongycastle.util.Arrays;
  */
 public class TlsMac
 {
-    protected TlsClientContext context;
+    protected TlsContext context;
     protected long seqNo;
     protected byte[] secret;
     protected Mac mac;
 
+    private final byte[] macHeader = new byte[13];
+
     /**
      * Generate a new instance of an TlsMac.
      * 
-     * @param context the TLS client context
+     * @param context the TLS context
      * @param digest The digest to use.
      * @param key_block A byte-array where the key for this mac is located.
      * @param offset The number of bytes to skip, before the key starts in the buffer.
      * @param len The length of the key.
      */
-    public TlsMac(TlsClientContext context, Digest digest, byte[] key_block, int offset, int len)
+    public TlsMac(TlsContext context, Digest digest, byte[] key_block, int offset, int len)
     {
         this.context = context;
         this.seqNo = 0;
@@ -96,35 +95,49 @@ public class TlsMac
      * @return A new byte-buffer containing the mac value.
      */
     public byte[] calculateMac(short type, byte[] message, int offset, int len)
+    {
+        byte[] result = new byte[mac.getMacSize()];
+        calculateMac(type, message, offset, len, result, 0);
+        return result;
+    }
+
+    /**
+     * Calculate the mac for some given data, writing it to out.
+     * <p/>
+     * TlsMac will keep track of the sequence number internally.
+     *
+     * @param type The message type of the message.
+     * @param message A byte-buffer containing the message.
+     * @param offset The number of bytes to skip, before the message starts.
+     * @param len The length of the message.
+     * @param out The buffer to write the mac value to.
+     * @param outOff The offset in out to write the mac value at.
+     * @return The length of the mac value.
+     */
+    public int calculateMac(short type, byte[] message, int offset, int len, byte[] out, int outOff)
     {
         ProtocolVersion serverVersion = context.getServerVersion();
         boolean isTls = serverVersion.getFullVersion() >= ProtocolVersion.TLSv10.getFullVersion();
 
-        ByteArrayOutputStream bosMac = new ByteArrayOutputStream(isTls ? 13 : 11);
-        try
-        {
-            TlsUtils.writeUint64(seqNo++, bosMac);
-            TlsUtils.writeUint8(type, bosMac);
-
-            if (isTls)
-            {
-                TlsUtils.writeVersion(serverVersion, bosMac);
-            }
+        TlsUtils.writeUint64(seqNo++, macHeader, 0);
+        TlsUtils.writeUint8(type, macHeader, 8);
 
-            TlsUtils.writeUint16(len, bosMac);
+        int headerLength;
+        if (isTls)
+        {
+            TlsUtils.writeVersion(serverVersion, macHeader, 9);
+            TlsUtils.writeUint16(len, macHeader, 11);
+            headerLength = 13;
         }
-        catch (IOException e)
+        else
         {
-            // This should never happen
-            throw new IllegalStateException("Internal error during mac calculation");
+            TlsUtils.writeUint16(len, macHeader, 9);
+            headerLength = 11;
         }
 
-        byte[] macHeader = bosMac.toByteArray();
-        mac.update(macHeader, 0, macHeader.length);
+        mac.update(macHeader, 0, headerLength);
         mac.update(message, offset, len);
 
-        byte[] result = new byte[mac.getMacSize()];
-        mac.doFinal(result, 0);
-        return result;
+        return mac.doFinal(out, outOff);
     }
 }
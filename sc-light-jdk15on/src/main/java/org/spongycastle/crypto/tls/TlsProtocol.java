@@ -0,0 +1,849 @@
+package org.spongycastle.crypto.tls;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.SecureRandom;
+
+import org.spongycastle.crypto.prng.NonBlockingSeedGenerator;
+import org.spongycastle.util.Arrays;
+
+/**
+ * The record, alert and application data protocols of TLS 1.0, shared by the client and
+ * server sides of a connection, which each handle their own half of the handshake.
+ * <p>
+ * A handler either works over a blocking InputStream/OutputStream pair, or, if
+ * constructed without streams, in non-blocking mode: bytes received from the
+ * network are passed to offerInput() and bytes to send are collected with
+ * readOutput(), so many connections can be served by a few threads, for example
+ * with a java.nio Selector. A handler is not safe for use by several threads at
+ * once in either mode.
+ * </p>
+ */
+public abstract class TlsProtocol
+{
+    protected static final Integer EXT_RenegotiationInfo = new Integer(ExtensionType.renegotiation_info);
+
+    protected static final byte[] emptybuf = new byte[0];
+
+    private static final String TLS_ERROR_MESSAGE = "Internal TLS error, this could be an attack";
+
+    /*
+     * Queues for data from some protocols.
+     */
+    private ByteQueue applicationDataQueue = new ByteQueue();
+    private ByteQueue changeCipherSpecQueue = new ByteQueue();
+    private ByteQueue alertQueue = new ByteQueue();
+    private ByteQueue handshakeQueue = new ByteQueue();
+
+    /*
+     * The Record Stream we use
+     */
+    RecordStream rs;
+    protected SecureRandom random;
+
+    /*
+     * In non-blocking mode, the network input and output queues
+     */
+    protected final boolean blocking;
+    private ByteQueueInputStream inputBuffers = null;
+    private ByteQueueOutputStream outputBuffer = null;
+    private final byte[] recordLength = new byte[2];
+
+    private TlsInputStream tlsInputStream = null;
+    private TlsOutputStream tlsOutputStream = null;
+
+    private boolean closed = false;
+    private boolean failedWithError = false;
+    protected boolean appDataReady = false;
+
+    protected SecurityParameters securityParameters = null;
+
+    protected static SecureRandom createSecureRandom()
+    {
+        /*
+         * We seed from the platform's non-blocking entropy source. If the user
+         * has a better random seed, he should use the constructor with a SecureRandom.
+         */
+        NonBlockingSeedGenerator sg = new NonBlockingSeedGenerator();
+        SecureRandom random = new SecureRandom();
+
+        random.setSeed(sg.generateSeed(32));
+
+        return random;
+    }
+
+    protected TlsProtocol(InputStream is, OutputStream os, SecureRandom sr)
+    {
+        this.rs = new RecordStream(this, is, os);
+        this.random = sr;
+        this.blocking = true;
+    }
+
+    /**
+     * Create a handler for non-blocking mode.
+     *
+     * @param sr the source of randomness for the connection.
+     */
+    protected TlsProtocol(SecureRandom sr)
+    {
+        this.inputBuffers = new ByteQueueInputStream();
+        this.outputBuffer = new ByteQueueOutputStream();
+        this.rs = new RecordStream(this, inputBuffers, outputBuffer);
+        this.random = sr;
+        this.blocking = false;
+    }
+
+    /**
+     * @return the context of the connection, null before the handshake has started.
+     */
+    protected abstract TlsContext getContext();
+
+    /**
+     * Process a complete handshake message. All messages but finished messages have
+     * already been added to the handshake hash.
+     */
+    protected abstract void processHandshakeMessage(short type, byte[] buf) throws IOException;
+
+    /**
+     * Process a change cipher spec message, checking that one is expected and switching
+     * to the pending read state.
+     */
+    protected abstract void processChangeCipherSpecMessage() throws IOException;
+
+    /**
+     * @return true if the handshake has completed and application data can be exchanged.
+     */
+    public abstract boolean isHandshakeComplete();
+
+    /**
+     * Called when the connection fails with a fatal alert, after which its session
+     * must not be resumed.
+     */
+    protected void invalidateSession()
+    {
+    }
+
+    protected void processData(short protocol, byte[] buf, int offset, int len) throws IOException
+    {
+        /*
+         * Have a look at the protocol type, and add it to the correct queue.
+         */
+        switch (protocol)
+        {
+            case ContentType.change_cipher_spec:
+                changeCipherSpecQueue.addData(buf, offset, len);
+                processChangeCipherSpec();
+                break;
+            case ContentType.alert:
+                alertQueue.addData(buf, offset, len);
+                processAlert();
+                break;
+            case ContentType.handshake:
+                handshakeQueue.addData(buf, offset, len);
+                processHandshake();
+                break;
+            case ContentType.application_data:
+                if (!appDataReady)
+                {
+                    this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
+                }
+                applicationDataQueue.addData(buf, offset, len);
+                processApplicationData();
+                break;
+            default:
+                /*
+                 * Uh, we don't know this protocol.
+                 * 
+                 * RFC2246 defines on page 13, that we should ignore this.
+                 */
+        }
+    }
+
+    private void processHandshake() throws IOException
+    {
+        boolean read;
+        do
+        {
+            read = false;
+            /*
+             * We need the first 4 bytes, they contain type and length of the message.
+             */
+            if (handshakeQueue.size() >= 4)
+            {
+                byte[] beginning = new byte[4];
+                handshakeQueue.read(beginning, 0, 4, 0);
+                ByteArrayInputStream bis = new ByteArrayInputStream(beginning);
+                short type = TlsUtils.readUint8(bis);
+                int len = TlsUtils.readUint24(bis);
+
+                /*
+                 * Check if we have enough bytes in the buffer to read the full message.
+                 */
+                if (handshakeQueue.size() >= (len + 4))
+                {
+                    /*
+                     * Read the message.
+                     */
+                    byte[] buf = new byte[len];
+                    handshakeQueue.read(buf, 0, len, 4);
+                    handshakeQueue.removeData(len + 4);
+
+                    /*
+                     * RFC 2246 7.4.9. The value handshake_messages includes all handshake
+                     * messages starting at client hello up to, but not including, this
+                     * finished message. [..] Note: [Also,] Hello Request messages are
+                     * omitted from handshake hashes.
+                     */
+                    switch (type)
+                    {
+                        case HandshakeType.hello_request:
+                        case HandshakeType.finished:
+                            break;
+                        default:
+                            rs.updateHandshakeData(beginning, 0, 4);
+                            rs.updateHandshakeData(buf, 0, len);
+                            break;
+                    }
+
+                    /*
+                     * Now, parse the message.
+                     */
+                    processHandshakeMessage(type, buf);
+                    read = true;
+                }
+            }
+        }
+        while (read);
+    }
+
+    private void processApplicationData()
+    {
+        /*
+         * There is nothing we need to do here.
+         * 
+         * This function could be used for callbacks when application data arrives in the
+         * future.
+         */
+    }
+
+    private void processAlert() throws IOException
+    {
+        while (alertQueue.size() >= 2)
+        {
+            /*
+             * An alert is always 2 bytes. Read the alert.
+             */
+            byte[] tmp = new byte[2];
+            alertQueue.read(tmp, 0, 2, 0);
+            alertQueue.removeData(2);
+            short level = tmp[0];
+            short description = tmp[1];
+            if (level == AlertLevel.fatal)
+            {
+                /*
+                 * This is a fatal error.
+                 */
+                this.failedWithError = true;
+                this.closed = true;
+                invalidateSession();
+                /*
+                 * Now try to close the stream, ignore errors.
+                 */
+                try
+                {
+                    rs.close();
+                }
+                catch (Exception e)
+                {
+
+                }
+                throw new IOException(TLS_ERROR_MESSAGE);
+            }
+            else
+            {
+                /*
+                 * This is just a warning.
+                 */
+                if (description == AlertDescription.close_notify)
+                {
+                    /*
+                     * Close notify
+                     */
+                    this.failWithError(AlertLevel.warning, AlertDescription.close_notify);
+                }
+                /*
+                 * If it is just a warning, we continue.
+                 */
+            }
+        }
+    }
+
+    /**
+     * This method is called, when a change cipher spec message is received.
+     * 
+     * @throws IOException If the message has an invalid content or the handshake is not
+     *             in the correct state.
+     */
+    private void processChangeCipherSpec() throws IOException
+    {
+        while (changeCipherSpecQueue.size() > 0)
+        {
+            /*
+             * A change cipher spec message is only one byte with the value 1.
+             */
+            byte[] b = new byte[1];
+            changeCipherSpecQueue.read(b, 0, 1, 0);
+            changeCipherSpecQueue.removeData(1);
+            if (b[0] != 1)
+            {
+                /*
+                 * This should never happen.
+                 */
+                this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
+            }
+
+            processChangeCipherSpecMessage();
+        }
+    }
+
+    /**
+     * In blocking mode, read until the handshake has completed and set up the application
+     * data streams.
+     */
+    protected void completeHandshake() throws IOException
+    {
+        while (!isHandshakeComplete())
+        {
+            safeReadData();
+        }
+
+        this.tlsInputStream = new TlsInputStream(this);
+        this.tlsOutputStream = new TlsOutputStream(this);
+    }
+
+    protected void sendChangeCipherSpecMessage() throws IOException
+    {
+        byte[] message = new byte[]{ 1 };
+        rs.writeMessage(ContentType.change_cipher_spec, message, 0, message.length);
+
+        /*
+         * Initialize our cipher suite
+         */
+        rs.sentWriteCipherSpec();
+    }
+
+    protected void sendFinishedMessage(String asciiLabel, byte[] sslSender) throws IOException
+    {
+        byte[] verifyData = TlsUtils.calculateVerifyData(getContext(), asciiLabel,
+            rs.getCurrentHash(sslSender));
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        TlsUtils.writeUint8(HandshakeType.finished, bos);
+        TlsUtils.writeOpaque24(verifyData, bos);
+        byte[] message = bos.toByteArray();
+
+        rs.writeMessage(ContentType.handshake, message, 0, message.length);
+    }
+
+    /**
+     * Check the verify data of the peer's finished message.
+     */
+    protected void processFinishedMessage(ByteArrayInputStream is, String asciiLabel, byte[] sslSender)
+        throws IOException
+    {
+        /*
+         * Read the checksum from the finished message, it has always 12 bytes for TLS 1.0
+         * and 36 for SSLv3.
+         */
+        boolean isTls = getContext().getServerVersion().getFullVersion() >= ProtocolVersion.TLSv10.getFullVersion();
+
+        int checksumLength = isTls ? 12 : 36;
+        byte[] verifyData = new byte[checksumLength];
+        TlsUtils.readFully(verifyData, is);
+
+        assertEmpty(is);
+
+        /*
+         * Calculate our own checksum.
+         */
+        byte[] expectedVerifyData = TlsUtils.calculateVerifyData(getContext(), asciiLabel,
+            rs.getCurrentHash(sslSender));
+
+        /*
+         * Compare both checksums.
+         */
+        if (!Arrays.constantTimeAreEqual(expectedVerifyData, verifyData))
+        {
+            /*
+             * Wrong checksum in the finished message.
+             */
+            this.failWithError(AlertLevel.fatal, AlertDescription.handshake_failure);
+        }
+    }
+
+    /**
+     * Add a finished message received from the peer to the handshake hash, when our own
+     * finished message follows it.
+     */
+    protected void updateHandshakeHash(short type, byte[] buf)
+    {
+        byte[] header = new byte[4];
+        TlsUtils.writeUint8(type, header, 0);
+        TlsUtils.writeUint24(buf.length, header, 1);
+        rs.updateHandshakeData(header, 0, 4);
+        rs.updateHandshakeData(buf, 0, buf.length);
+    }
+
+    /**
+     * Read data from the network. The method will return immediately, if there is still
+     * some data left in the buffer, or block until some application data has been read
+     * from the network.
+     * 
+     * @param buf The buffer where the data will be copied to.
+     * @param offset The position where the data will be placed in the buffer.
+     * @param len The maximum number of bytes to read.
+     * @return The number of bytes read.
+     * @throws IOException If something goes wrong during reading data.
+     */
+    protected int readApplicationData(byte[] buf, int offset, int len) throws IOException
+    {
+        while (applicationDataQueue.size() == 0)
+        {
+            /*
+             * We need to read some data.
+             */
+            if (this.closed)
+            {
+                if (this.failedWithError)
+                {
+                    /*
+                     * Something went terribly wrong, we should throw an IOException
+                     */
+                    throw new IOException(TLS_ERROR_MESSAGE);
+                }
+
+                /*
+                 * Connection has been closed, there is no more data to read.
+                 */
+                return -1;
+            }
+
+            safeReadData();
+        }
+        len = Math.min(len, applicationDataQueue.size());
+        applicationDataQueue.read(buf, offset, len, 0);
+        applicationDataQueue.removeData(len);
+        return len;
+    }
+
+    /**
+     * Pass data received from the network to a non-blocking handler. Every complete
+     * record is processed, any partial record is kept until the rest of it is offered.
+     *
+     * @param input a buffer holding the data.
+     * @param offset the offset of the data in the buffer.
+     * @param len the length of the data.
+     * @throws IOException if the input cannot be processed. The connection is then
+     *             closed and an alert for the peer may be waiting in the output.
+     */
+    public void offerInput(byte[] input, int offset, int len) throws IOException
+    {
+        if (blocking)
+        {
+            throw new IllegalStateException("offerInput() cannot be used in blocking mode");
+        }
+        if (this.closed)
+        {
+            throw new IOException("Connection is closed, cannot accept any more input");
+        }
+
+        inputBuffers.addBytes(input, offset, len);
+
+        while (!this.closed && inputBuffers.available() >= 5)
+        {
+            inputBuffers.peek(recordLength, 0, 2, 3);
+
+            int length = TlsUtils.readUint16(recordLength, 0);
+
+            // an oversized record is read now, so the record layer can reject it
+            if (length <= RecordStream.MAX_CIPHERTEXT_LENGTH && inputBuffers.available() < 5 + length)
+            {
+                break;
+            }
+
+            safeReadData();
+        }
+    }
+
+    /**
+     * Pass data received from the network to a non-blocking handler.
+     *
+     * @param input the data.
+     * @throws IOException if the input cannot be processed.
+     */
+    public void offerInput(byte[] input) throws IOException
+    {
+        offerInput(input, 0, input.length);
+    }
+
+    /**
+     * @return the number of bytes of application data which can be read with readInput().
+     */
+    public int getAvailableInputBytes()
+    {
+        return applicationDataQueue.size();
+    }
+
+    /**
+     * Read application data received by a non-blocking handler.
+     *
+     * @param buf the buffer where the data will be copied to.
+     * @param offset the position where the data will be placed in the buffer.
+     * @param len the maximum number of bytes to read.
+     * @return the number of bytes read, which may be 0, or -1 if the connection has been
+     *         closed and all data has been read.
+     * @throws IOException if the connection failed.
+     */
+    public int readInput(byte[] buf, int offset, int len) throws IOException
+    {
+        if (blocking)
+        {
+            throw new IllegalStateException("readInput() cannot be used in blocking mode");
+        }
+
+        if (applicationDataQueue.size() == 0)
+        {
+            if (this.closed)
+            {
+                if (this.failedWithError)
+                {
+                    throw new IOException(TLS_ERROR_MESSAGE);
+                }
+                return -1;
+            }
+            return 0;
+        }
+
+        len = Math.min(len, applicationDataQueue.size());
+        applicationDataQueue.read(buf, offset, len, 0);
+        applicationDataQueue.removeData(len);
+        return len;
+    }
+
+    /**
+     * Send application data with a non-blocking handler. The resulting records have to
+     * be collected with readOutput().
+     *
+     * @param buf the buffer with the data.
+     * @param offset the position in the buffer where the data is placed.
+     * @param len the length of the data.
+     * @throws IOException if the connection has been closed or something goes wrong.
+     */
+    public void offerOutput(byte[] buf, int offset, int len) throws IOException
+    {
+        if (blocking)
+        {
+            throw new IllegalStateException("offerOutput() cannot be used in blocking mode");
+        }
+        if (!this.closed && !isHandshakeComplete())
+        {
+            throw new IllegalStateException("offerOutput() cannot be used before the handshake is complete");
+        }
+
+        writeData(buf, offset, len);
+    }
+
+    /**
+     * @return the number of bytes waiting to be sent to the peer by a non-blocking handler.
+     */
+    public int getAvailableOutputBytes()
+    {
+        if (blocking)
+        {
+            return 0;
+        }
+
+        return outputBuffer.size();
+    }
+
+    /**
+     * Collect data to be sent to the peer from a non-blocking handler.
+     *
+     * @param buf the buffer where the data will be copied to.
+     * @param offset the position where the data will be placed in the buffer.
+     * @param len the maximum number of bytes to copy.
+     * @return the number of bytes copied.
+     */
+    public int readOutput(byte[] buf, int offset, int len)
+    {
+        if (blocking)
+        {
+            throw new IllegalStateException("readOutput() cannot be used in blocking mode");
+        }
+
+        return outputBuffer.take(buf, offset, len);
+    }
+
+    /**
+     * @return true if the connection has been closed, by either side.
+     */
+    public boolean isClosed()
+    {
+        return this.closed;
+    }
+
+    protected void safeReadData() throws IOException
+    {
+        try
+        {
+            rs.readData();
+        }
+        catch (TlsFatalAlert e)
+        {
+            if (!this.closed)
+            {
+                this.failWithError(AlertLevel.fatal, e.getAlertDescription());
+            }
+            throw e;
+        }
+        catch (IOException e)
+        {
+            if (!this.closed)
+            {
+                this.failWithError(AlertLevel.fatal, AlertDescription.internal_error);
+            }
+            throw e;
+        }
+        catch (RuntimeException e)
+        {
+            if (!this.closed)
+            {
+                this.failWithError(AlertLevel.fatal, AlertDescription.internal_error);
+            }
+            throw e;
+        }
+    }
+
+    protected void safeWriteMessage(short type, byte[] buf, int offset, int len) throws IOException
+    {
+        try
+        {
+            rs.writeMessage(type, buf, offset, len);
+        }
+        catch (TlsFatalAlert e)
+        {
+            if (!this.closed)
+            {
+                this.failWithError(AlertLevel.fatal, e.getAlertDescription());
+            }
+            throw e;
+        }
+        catch (IOException e)
+        {
+            if (!closed)
+            {
+                this.failWithError(AlertLevel.fatal, AlertDescription.internal_error);
+            }
+            throw e;
+        }
+        catch (RuntimeException e)
+        {
+            if (!closed)
+            {
+                this.failWithError(AlertLevel.fatal, AlertDescription.internal_error);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Send some application data to the remote system.
+     * <p/>
+     * The method will handle fragmentation internally.
+     * 
+     * @param buf The buffer with the data.
+     * @param offset The position in the buffer where the data is placed.
+     * @param len The length of the data.
+     * @throws IOException If something goes wrong during sending.
+     */
+    protected void writeData(byte[] buf, int offset, int len) throws IOException
+    {
+        if (this.closed)
+        {
+            if (this.failedWithError)
+            {
+                throw new IOException(TLS_ERROR_MESSAGE);
+            }
+
+            throw new IOException("Sorry, connection has been closed, you cannot write more data");
+        }
+
+        /*
+         * Protect against known IV attack!
+         * 
+         * DO NOT REMOVE THIS LINE, EXCEPT YOU KNOW EXACTLY WHAT YOU ARE DOING HERE.
+         * 
+         * (From TLS 1.1 every record has an IV of its own, so there is nothing to protect.)
+         */
+        if (!TlsUtils.isTLSv11(getContext()))
+        {
+            safeWriteMessage(ContentType.application_data, emptybuf, 0, 0);
+        }
+
+        do
+        {
+            /*
+             * We are only allowed to write fragments up to 2^14 bytes.
+             */
+            int toWrite = Math.min(len, 1 << 14);
+
+            safeWriteMessage(ContentType.application_data, buf, offset, toWrite);
+
+            offset += toWrite;
+            len -= toWrite;
+        }
+        while (len > 0);
+
+    }
+
+    /**
+     * @return An OutputStream which can be used to send data.
+     */
+    public OutputStream getOutputStream()
+    {
+        return this.tlsOutputStream;
+    }
+
+    /**
+     * @return An InputStream which can be used to read data.
+     */
+    public InputStream getInputStream()
+    {
+        return this.tlsInputStream;
+    }
+
+    /**
+     * Terminate this connection with an alert.
+     * <p/>
+     * Can be used for normal closure too.
+     * 
+     * @param alertLevel The level of the alert, an be AlertLevel.fatal or AL_warning.
+     * @param alertDescription The exact alert message.
+     * @throws IOException If alert was fatal.
+     */
+    protected void failWithError(short alertLevel, short alertDescription) throws IOException
+    {
+        /*
+         * Check if the connection is still open.
+         */
+        if (!closed)
+        {
+            /*
+             * Prepare the message
+             */
+            this.closed = true;
+
+            if (alertLevel == AlertLevel.fatal)
+            {
+                /*
+                 * This is a fatal message.
+                 */
+                this.failedWithError = true;
+                invalidateSession();
+            }
+            sendAlert(alertLevel, alertDescription);
+            rs.close();
+            if (alertLevel == AlertLevel.fatal)
+            {
+                throw new IOException(TLS_ERROR_MESSAGE);
+            }
+        }
+        else
+        {
+            throw new IOException(TLS_ERROR_MESSAGE);
+        }
+    }
+
+    protected void sendAlert(short alertLevel, short alertDescription) throws IOException
+    {
+        byte[] error = new byte[2];
+        error[0] = (byte)alertLevel;
+        error[1] = (byte)alertDescription;
+
+        rs.writeMessage(ContentType.alert, error, 0, 2);
+    }
+
+    /**
+     * Closes this connection.
+     * 
+     * @throws IOException If something goes wrong during closing.
+     */
+    public void close() throws IOException
+    {
+        if (!closed)
+        {
+            this.failWithError(AlertLevel.warning, AlertDescription.close_notify);
+        }
+    }
+
+    /**
+     * Make sure the InputStream is now empty. Fail otherwise.
+     * 
+     * @param is The InputStream to check.
+     * @throws IOException If is is not empty.
+     */
+    protected void assertEmpty(ByteArrayInputStream is) throws IOException
+    {
+        if (is.available() > 0)
+        {
+            throw new TlsFatalAlert(AlertDescription.decode_error);
+        }
+    }
+
+    protected void flush() throws IOException
+    {
+        rs.flush();
+    }
+
+    protected static boolean arrayContains(short[] a, short n)
+    {
+        for (int i = 0; i < a.length; ++i)
+        {
+            if (a[i] == n)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected static boolean arrayContains(int[] a, int n)
+    {
+        for (int i = 0; i < a.length; ++i)
+        {
+            if (a[i] == n)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected static byte[] createRenegotiationInfo(byte[] renegotiated_connection)
+        throws IOException
+    {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        TlsUtils.writeOpaque8(renegotiated_connection, buf);
+        return buf.toByteArray();
+    }
+
+    protected static void writeExtension(OutputStream output, Integer extType, byte[] extValue)
+        throws IOException
+    {
+        TlsUtils.writeUint16(extType.intValue(), output);
+        TlsUtils.writeOpaque16(extValue, output);
+    }
+}
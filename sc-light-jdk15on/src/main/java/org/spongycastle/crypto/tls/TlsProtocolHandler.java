@@ -10,17 +10,26 @@ import java.util.Enumeration;
 import java.util.Hashtable;
 import java.util.Vector;
 
+import org.spongycastle.asn1.ASN1Encoding;
+import org.spongycastle.asn1.ASN1ObjectIdentifier;
 import org.spongycastle.asn1.ASN1Primitive;
+import org.spongycastle.asn1.DERNull;
+import org.spongycastle.asn1.nist.NISTObjectIdentifiers;
+import org.spongycastle.asn1.pkcs.PKCSObjectIdentifiers;
 import org.spongycastle.asn1.x500.X500Name;
-import org.spongycastle.crypto.prng.ThreadedSeedGenerator;
+import org.spongycastle.asn1.x509.AlgorithmIdentifier;
+import org.spongycastle.asn1.x509.DigestInfo;
+import org.spongycastle.asn1.x509.SubjectPublicKeyInfo;
 import org.spongycastle.util.Arrays;
 
 /**
- * An implementation of all high level protocols in TLS 1.0.
+ * The client side of TLS 1.0 to 1.2, used either with blocking streams or in non-blocking mode as
+ * described for {@link TlsProtocol}.
  */
 public class TlsProtocolHandler
+    extends TlsProtocol
 {
-    private static final Integer EXT_RenegotiationInfo = new Integer(ExtensionType.renegotiation_info);
+    private static final Integer EXT_SessionTicket = new Integer(ExtensionType.session_ticket);
 
     /*
      * Our Connection states
@@ -37,34 +46,11 @@ public class TlsProtocolHandler
     private static final short CS_CLIENT_FINISHED_SEND = 10;
     private static final short CS_SERVER_CHANGE_CIPHER_SPEC_RECEIVED = 11;
     private static final short CS_DONE = 12;
+    private static final short CS_SERVER_HELLO_RESUMED = 13;
+    private static final short CS_SERVER_SESSION_TICKET_RECEIVED = 14;
 
-    private static final byte[] emptybuf = new byte[0];
-
-    private static final String TLS_ERROR_MESSAGE = "Internal TLS error, this could be an attack";
-
-    /*
-     * Queues for data from some protocols.
-     */
-    private ByteQueue applicationDataQueue = new ByteQueue();
-    private ByteQueue changeCipherSpecQueue = new ByteQueue();
-    private ByteQueue alertQueue = new ByteQueue();
-    private ByteQueue handshakeQueue = new ByteQueue();
-
-    /*
-     * The Record Stream we use
-     */
-    private RecordStream rs;
-    private SecureRandom random;
-
-    private TlsInputStream tlsInputStream = null;
-    private TlsOutputStream tlsOutputStream = null;
-
-    private boolean closed = false;
-    private boolean failedWithError = false;
-    private boolean appDataReady = false;
     private Hashtable clientExtensions;
-
-    private SecurityParameters securityParameters = null;
+    private Hashtable offeredExtensions;
 
     private TlsClientContextImpl tlsClientContext = null;
     private TlsClient tlsClient = null;
@@ -73,25 +59,25 @@ public class TlsProtocolHandler
     private TlsKeyExchange keyExchange = null;
     private TlsAuthentication authentication = null;
     private CertificateRequest certificateRequest = null;
+    private Certificate serverCertificate = null;
 
-    private short connection_state = 0;
-
-    private static SecureRandom createSecureRandom()
-    {
-        /*
-         * We use our threaded seed generator to generate a good random seed. If the user
-         * has a better random seed, he should use the constructor with a SecureRandom.
-         */
-        ThreadedSeedGenerator tsg = new ThreadedSeedGenerator();
-        SecureRandom random = new SecureRandom();
-
-        /*
-         * Hopefully, 20 bytes in fast mode are good enough.
-         */
-        random.setSeed(tsg.generateSeed(20, true));
+    /*
+     * Session resumption
+     */
+    private TlsSessionCache sessionCache = null;
+    private String serverIdentity = null;
+    private TlsSession offeredSession = null;
+    private byte[] offeredSessionID = null;
+    private byte[] sessionID = null;
+    private int selectedCipherSuite;
+    private short selectedCompressionMethod;
+    private boolean resumedSession = false;
+    private boolean expectSessionTicket = false;
+    private byte[] newSessionTicket = null;
+    private long newSessionTicketLifetimeHint = 0;
+    private TlsSession session = null;
 
-        return random;
-    }
+    private short connection_state = 0;
 
     public TlsProtocolHandler(InputStream is, OutputStream os)
     {
@@ -100,104 +86,38 @@ public class TlsProtocolHandler
 
     public TlsProtocolHandler(InputStream is, OutputStream os, SecureRandom sr)
     {
-        this.rs = new RecordStream(this, is, os);
-        this.random = sr;
+        super(is, os, sr);
     }
 
-    protected void processData(short protocol, byte[] buf, int offset, int len) throws IOException
+    /**
+     * Create a handler for non-blocking mode.
+     */
+    public TlsProtocolHandler()
     {
-        /*
-         * Have a look at the protocol type, and add it to the correct queue.
-         */
-        switch (protocol)
-        {
-            case ContentType.change_cipher_spec:
-                changeCipherSpecQueue.addData(buf, offset, len);
-                processChangeCipherSpec();
-                break;
-            case ContentType.alert:
-                alertQueue.addData(buf, offset, len);
-                processAlert();
-                break;
-            case ContentType.handshake:
-                handshakeQueue.addData(buf, offset, len);
-                processHandshake();
-                break;
-            case ContentType.application_data:
-                if (!appDataReady)
-                {
-                    this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
-                }
-                applicationDataQueue.addData(buf, offset, len);
-                processApplicationData();
-                break;
-            default:
-                /*
-                 * Uh, we don't know this protocol.
-                 * 
-                 * RFC2246 defines on page 13, that we should ignore this.
-                 */
-        }
+        this(createSecureRandom());
     }
 
-    private void processHandshake() throws IOException
+    /**
+     * Create a handler for non-blocking mode.
+     * <p>
+     * connect() returns as soon as the client hello has been queued and the handshake
+     * then proceeds as the server's messages are passed to offerInput(). Anything to be
+     * sent to the server, including alerts raised while processing input, must be
+     * collected with readOutput().
+     * </p>
+     * @param sr the source of randomness for the connection.
+     */
+    public TlsProtocolHandler(SecureRandom sr)
     {
-        boolean read;
-        do
-        {
-            read = false;
-            /*
-             * We need the first 4 bytes, they contain type and length of the message.
-             */
-            if (handshakeQueue.size() >= 4)
-            {
-                byte[] beginning = new byte[4];
-                handshakeQueue.read(beginning, 0, 4, 0);
-                ByteArrayInputStream bis = new ByteArrayInputStream(beginning);
-                short type = TlsUtils.readUint8(bis);
-                int len = TlsUtils.readUint24(bis);
-
-                /*
-                 * Check if we have enough bytes in the buffer to read the full message.
-                 */
-                if (handshakeQueue.size() >= (len + 4))
-                {
-                    /*
-                     * Read the message.
-                     */
-                    byte[] buf = new byte[len];
-                    handshakeQueue.read(buf, 0, len, 4);
-                    handshakeQueue.removeData(len + 4);
-
-                    /*
-                     * RFC 2246 7.4.9. The value handshake_messages includes all handshake
-                     * messages starting at client hello up to, but not including, this
-                     * finished message. [..] Note: [Also,] Hello Request messages are
-                     * omitted from handshake hashes.
-                     */
-                    switch (type)
-                    {
-                        case HandshakeType.hello_request:
-                        case HandshakeType.finished:
-                            break;
-                        default:
-                            rs.updateHandshakeData(beginning, 0, 4);
-                            rs.updateHandshakeData(buf, 0, len);
-                            break;
-                    }
+        super(sr);
+    }
 
-                    /*
-                     * Now, parse the message.
-                     */
-                    processHandshakeMessage(type, buf);
-                    read = true;
-                }
-            }
-        }
-        while (read);
+    protected TlsContext getContext()
+    {
+        return tlsClientContext;
     }
 
-    private void processHandshakeMessage(short type, byte[] buf) throws IOException
+    protected void processHandshakeMessage(short type, byte[] buf) throws IOException
     {
         ByteArrayInputStream is = new ByteArrayInputStream(buf);
 
@@ -211,7 +131,7 @@ public class TlsProtocolHandler
                     {
                         // Parse the Certificate message and send to cipher suite
 
-                        Certificate serverCertificate = Certificate.parse(is);
+                        this.serverCertificate = Certificate.parse(is);
 
                         assertEmpty(is);
 
@@ -233,37 +153,23 @@ public class TlsProtocolHandler
                 switch (connection_state)
                 {
                     case CS_SERVER_CHANGE_CIPHER_SPEC_RECEIVED:
-                        /*
-                         * Read the checksum from the finished message, it has always 12
-                         * bytes for TLS 1.0 and 36 for SSLv3.
-                         */
-                        boolean isTls = tlsClientContext.getServerVersion().getFullVersion() >= ProtocolVersion.TLSv10.getFullVersion();
-
-                        int checksumLength = isTls ? 12 : 36;
-                        byte[] serverVerifyData = new byte[checksumLength];
-                        TlsUtils.readFully(serverVerifyData, is);
-
-                        assertEmpty(is);
-
-                        /*
-                         * Calculate our own checksum.
-                         */
-                        byte[] expectedServerVerifyData = TlsUtils.calculateVerifyData(tlsClientContext,
-                            "server finished", rs.getCurrentHash(TlsUtils.SSL_SERVER));
+                        processFinishedMessage(is, "server finished", TlsUtils.SSL_SERVER);
 
-                        /*
-                         * Compare both checksums.
-                         */
-                        if (!Arrays.constantTimeAreEqual(expectedServerVerifyData, serverVerifyData))
+                        if (resumedSession)
                         {
                             /*
-                             * Wrong checksum in the finished message.
+                             * In an abbreviated handshake the server's finished message comes
+                             * first, and is covered by our own.
                              */
-                            this.failWithError(AlertLevel.fatal, AlertDescription.handshake_failure);
+                            updateHandshakeHash(HandshakeType.finished, buf);
+
+                            sendChangeCipherSpecAndFinished();
                         }
 
                         connection_state = CS_DONE;
 
+                        establishSession();
+
                         /*
                          * We are now ready to receive application data.
                          */
@@ -296,7 +202,7 @@ public class TlsProtocolHandler
                         securityParameters.serverRandom = new byte[32];
                         TlsUtils.readFully(securityParameters.serverRandom, is);
 
-                        byte[] sessionID = TlsUtils.readOpaque8(is);
+                        this.sessionID = TlsUtils.readOpaque8(is);
                         if (sessionID.length > 32)
                         {
                             this.failWithError(AlertLevel.fatal, AlertDescription.illegal_parameter);
@@ -304,13 +210,21 @@ public class TlsProtocolHandler
 
                         this.tlsClient.notifySessionID(sessionID);
 
+                        /*
+                         * The server agrees to resume the session we offered by echoing its ID
+                         * (RFC 5077 3.4 - or the one we sent with its ticket).
+                         */
+                        this.resumedSession = offeredSession != null && sessionID.length > 0
+                            && Arrays.areEqual(sessionID, offeredSessionID);
+
                         /*
                          * Find out which CipherSuite the server has chosen and check that
                          * it was one of the offered ones.
                          */
-                        int selectedCipherSuite = TlsUtils.readUint16(is);
+                        this.selectedCipherSuite = TlsUtils.readUint16(is);
                         if (!arrayContains(offeredCipherSuites, selectedCipherSuite)
-                            || selectedCipherSuite == CipherSuite.TLS_EMPTY_RENEGOTIATION_INFO_SCSV)
+                            || selectedCipherSuite == CipherSuite.TLS_EMPTY_RENEGOTIATION_INFO_SCSV
+                            || !TlsUtils.isValidCipherSuiteForVersion(selectedCipherSuite, server_version))
                         {
                             this.failWithError(AlertLevel.fatal, AlertDescription.illegal_parameter);
                         }
@@ -321,14 +235,34 @@ public class TlsProtocolHandler
                          * Find out which CompressionMethod the server has chosen and check that
                          * it was one of the offered ones.
                          */
-                        short selectedCompressionMethod = TlsUtils.readUint8(is);
+                        this.selectedCompressionMethod = TlsUtils.readUint8(is);
                         if (!arrayContains(offeredCompressionMethods, selectedCompressionMethod))
                         {
                             this.failWithError(AlertLevel.fatal, AlertDescription.illegal_parameter);
                         }
 
+                        /*
+                         * A resumed session must keep the parameters it was established with.
+                         */
+                        if (resumedSession
+                            && (!server_version.equals(offeredSession.getServerVersion())
+                                || selectedCipherSuite != offeredSession.getCipherSuite()
+                                || selectedCompressionMethod != offeredSession.getCompressionMethod()))
+                        {
+                            this.failWithError(AlertLevel.fatal, AlertDescription.illegal_parameter);
+                        }
+
                         this.tlsClient.notifySelectedCompressionMethod(selectedCompressionMethod);
 
+                        /*
+                         * With the version and cipher suite known, so are the PRF and the hash
+                         * of the handshake messages.
+                         */
+                        securityParameters.prfAlgorithm = TlsUtils.getPRFAlgorithm(server_version,
+                            selectedCipherSuite);
+                        rs.setRecordVersion(server_version);
+                        rs.notifyHelloComplete();
+
                         /*
                          * RFC3546 2.2 The extended server hello message format MAY be
                          * sent in place of the server hello message when the client has
@@ -373,7 +307,7 @@ public class TlsProtocolHandler
                                  */
 
                                 if (!extType.equals(EXT_RenegotiationInfo)
-                                    && clientExtensions.get(extType) == null)
+                                    && (offeredExtensions == null || offeredExtensions.get(extType) == null))
                                 {
                                     /*
                                      * RFC 3546 2.3 Note that for all extension types
@@ -437,14 +371,32 @@ public class TlsProtocolHandler
                             tlsClient.notifySecureRenegotiation(secure_negotiation);
                         }
 
+                        /*
+                         * RFC 5077 3.2. An empty SessionTicket extension in the server hello
+                         * means a NewSessionTicket message will follow.
+                         */
+                        this.expectSessionTicket = serverExtensions.remove(EXT_SessionTicket) != null;
+
                         if (clientExtensions != null)
                         {
                             tlsClient.processServerExtensions(serverExtensions);
                         }
 
-                        this.keyExchange = tlsClient.getKeyExchange();
+                        if (resumedSession)
+                        {
+                            securityParameters.masterSecret = offeredSession.getMasterSecret();
+                            this.serverCertificate = offeredSession.getServerCertificate();
+
+                            rs.setPendingConnectionState(tlsClient.getCompression(), tlsClient.getCipher());
 
-                        connection_state = CS_SERVER_HELLO_RECEIVED;
+                            connection_state = CS_SERVER_HELLO_RESUMED;
+                        }
+                        else
+                        {
+                            this.keyExchange = tlsClient.getKeyExchange();
+
+                            connection_state = CS_SERVER_HELLO_RECEIVED;
+                        }
                         break;
                     default:
                         this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
@@ -476,6 +428,7 @@ public class TlsProtocolHandler
                         connection_state = CS_SERVER_HELLO_DONE_RECEIVED;
 
                         TlsCredentials clientCreds = null;
+                        SignatureAndHashAlgorithm verifyAlgorithm = null;
                         if (certificateRequest == null)
                         {
                             this.keyExchange.skipClientCredentials();
@@ -503,6 +456,12 @@ public class TlsProtocolHandler
                             {
                                 this.keyExchange.processClientCredentials(clientCreds);
 
+                                if (clientCreds instanceof TlsSignerCredentials
+                                    && TlsUtils.isTLSv12(tlsClientContext))
+                                {
+                                    verifyAlgorithm = getCertificateVerifyAlgorithm(clientCreds.getCertificate());
+                                }
+
                                 sendClientCertificate(clientCreds.getCertificate());
                             }
                         }
@@ -533,43 +492,22 @@ public class TlsProtocolHandler
                         if (clientCreds != null && clientCreds instanceof TlsSignerCredentials)
                         {
                             TlsSignerCredentials signerCreds = (TlsSignerCredentials)clientCreds;
-                            byte[] md5andsha1 = rs.getCurrentHash(null);
+                            byte[] hash = rs.getCurrentHash(null);
+                            if (verifyAlgorithm != null)
+                            {
+                                // RFC 5246 4.7. An RSA signature is over the DigestInfo of the hash
+                                hash = encodeDigestInfo(verifyAlgorithm.getHash(), hash);
+                            }
                             byte[] clientCertificateSignature = signerCreds.generateCertificateSignature(
-                                md5andsha1);
-                            sendCertificateVerify(clientCertificateSignature);
+                                hash);
+                            sendCertificateVerify(verifyAlgorithm, clientCertificateSignature);
 
                             connection_state = CS_CERTIFICATE_VERIFY_SEND;
                         }
 
-                        /*
-                         * Now, we send change cipher state
-                         */
-                        byte[] cmessage = new byte[1];
-                        cmessage[0] = 1;
-                        rs.writeMessage(ContentType.change_cipher_spec, cmessage, 0,
-                            cmessage.length);
-
-                        connection_state = CS_CLIENT_CHANGE_CIPHER_SPEC_SEND;
+                        rs.setPendingConnectionState(tlsClient.getCompression(), tlsClient.getCipher());
 
-                        /*
-                         * Initialize our cipher suite
-                         */
-                        rs.clientCipherSpecDecided(tlsClient.getCompression(), tlsClient.getCipher());
-
-                        /*
-                         * Send our finished message.
-                         */
-                        byte[] clientVerifyData = TlsUtils.calculateVerifyData(tlsClientContext,
-                            "client finished", rs.getCurrentHash(TlsUtils.SSL_CLIENT));
-
-                        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                        TlsUtils.writeUint8(HandshakeType.finished, bos);
-                        TlsUtils.writeOpaque24(clientVerifyData, bos);
-                        byte[] message = bos.toByteArray();
-
-                        rs.writeMessage(ContentType.handshake, message, 0, message.length);
-
-                        this.connection_state = CS_CLIENT_FINISHED_SEND;
+                        sendChangeCipherSpecAndFinished();
                         break;
                     default:
                         this.failWithError(AlertLevel.fatal, AlertDescription.handshake_failure);
@@ -589,6 +527,15 @@ public class TlsProtocolHandler
 
                     case CS_SERVER_CERTIFICATE_RECEIVED:
 
+                        if (TlsUtils.isTLSv12(tlsClientContext))
+                        {
+                            /*
+                             * TLS 1.2 is only offered with RSA key exchange (see connect),
+                             * which has no server key exchange message.
+                             */
+                            this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
+                        }
+
                         this.keyExchange.processServerKeyExchange(is);
 
                         assertEmpty(is);
@@ -630,6 +577,28 @@ public class TlsProtocolHandler
                             certificateTypes[i] = TlsUtils.readUint8(is);
                         }
 
+                        /*
+                         * RFC 5246 7.4.4. From TLS 1.2 the request also lists the signature and
+                         * hash algorithms the server can verify a CertificateVerify with.
+                         */
+                        Vector supportedSignatureAlgorithms = null;
+                        if (TlsUtils.isTLSv12(tlsClientContext))
+                        {
+                            byte[] algorithms = TlsUtils.readOpaque16(is);
+                            if (algorithms.length < 2 || (algorithms.length & 1) != 0)
+                            {
+                                this.failWithError(AlertLevel.fatal, AlertDescription.decode_error);
+                            }
+
+                            supportedSignatureAlgorithms = new Vector();
+
+                            ByteArrayInputStream ais = new ByteArrayInputStream(algorithms);
+                            while (ais.available() > 0)
+                            {
+                                supportedSignatureAlgorithms.addElement(SignatureAndHashAlgorithm.parse(ais));
+                            }
+                        }
+
                         byte[] authorities = TlsUtils.readOpaque16(is);
 
                         assertEmpty(is);
@@ -644,7 +613,7 @@ public class TlsProtocolHandler
                         }
 
                         this.certificateRequest = new CertificateRequest(certificateTypes,
-                            authorityDNs);
+                            supportedSignatureAlgorithms, authorityDNs);
                         this.keyExchange.validateCertificateRequest(this.certificateRequest);
 
                         break;
@@ -656,6 +625,41 @@ public class TlsProtocolHandler
                 this.connection_state = CS_CERTIFICATE_REQUEST_RECEIVED;
                 break;
             }
+            case HandshakeType.new_session_ticket:
+            {
+                switch (connection_state)
+                {
+                    case CS_SERVER_HELLO_RESUMED:
+                    case CS_CLIENT_FINISHED_SEND:
+                    {
+                        if (!expectSessionTicket)
+                        {
+                            this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
+                        }
+
+                        long lifetimeHint = TlsUtils.readUint32(is);
+                        byte[] ticket = TlsUtils.readOpaque16(is);
+
+                        assertEmpty(is);
+
+                        /*
+                         * RFC 5077 3.3. An empty ticket means the server has decided not to
+                         * issue one after all.
+                         */
+                        if (ticket.length > 0)
+                        {
+                            this.newSessionTicket = ticket;
+                            this.newSessionTicketLifetimeHint = lifetimeHint;
+                        }
+                        break;
+                    }
+                    default:
+                        this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
+                }
+
+                this.connection_state = CS_SERVER_SESSION_TICKET_RECEIVED;
+                break;
+            }
             case HandshakeType.hello_request:
                 /*
                  * RFC 2246 7.4.1.1 Hello request This message will be ignored by the
@@ -680,102 +684,71 @@ public class TlsProtocolHandler
         }
     }
 
-    private void processApplicationData()
+    protected void processChangeCipherSpecMessage() throws IOException
     {
         /*
-         * There is nothing we need to do here.
-         * 
-         * This function could be used for callbacks when application data arrives in the
-         * future.
+         * Check if we are in the correct connection state, and have had any
+         * session ticket the server promised.
          */
+        boolean expectedState = this.connection_state == CS_CLIENT_FINISHED_SEND
+            || this.connection_state == CS_SERVER_HELLO_RESUMED
+            || this.connection_state == CS_SERVER_SESSION_TICKET_RECEIVED;
+
+        if (!expectedState
+            || (expectSessionTicket && this.connection_state != CS_SERVER_SESSION_TICKET_RECEIVED))
+        {
+            this.failWithError(AlertLevel.fatal, AlertDescription.handshake_failure);
+        }
+
+        rs.receivedReadCipherSpec();
+
+        this.connection_state = CS_SERVER_CHANGE_CIPHER_SPEC_RECEIVED;
     }
 
-    private void processAlert() throws IOException
+    private void sendChangeCipherSpecAndFinished() throws IOException
     {
-        while (alertQueue.size() >= 2)
-        {
-            /*
-             * An alert is always 2 bytes. Read the alert.
-             */
-            byte[] tmp = new byte[2];
-            alertQueue.read(tmp, 0, 2, 0);
-            alertQueue.removeData(2);
-            short level = tmp[0];
-            short description = tmp[1];
-            if (level == AlertLevel.fatal)
-            {
-                /*
-                 * This is a fatal error.
-                 */
-                this.failedWithError = true;
-                this.closed = true;
-                /*
-                 * Now try to close the stream, ignore errors.
-                 */
-                try
-                {
-                    rs.close();
-                }
-                catch (Exception e)
-                {
+        sendChangeCipherSpecMessage();
 
-                }
-                throw new IOException(TLS_ERROR_MESSAGE);
-            }
-            else
-            {
-                /*
-                 * This is just a warning.
-                 */
-                if (description == AlertDescription.close_notify)
-                {
-                    /*
-                     * Close notify
-                     */
-                    this.failWithError(AlertLevel.warning, AlertDescription.close_notify);
-                }
-                /*
-                 * If it is just a warning, we continue.
-                 */
-            }
-        }
+        connection_state = CS_CLIENT_CHANGE_CIPHER_SPEC_SEND;
+
+        sendFinishedMessage("client finished", TlsUtils.SSL_CLIENT);
+
+        this.connection_state = CS_CLIENT_FINISHED_SEND;
     }
 
-    /**
-     * This method is called, when a change cipher spec message is received.
-     * 
-     * @throws IOException If the message has an invalid content or the handshake is not
-     *             in the correct state.
-     */
-    private void processChangeCipherSpec() throws IOException
+    private void establishSession()
     {
-        while (changeCipherSpecQueue.size() > 0)
+        if (resumedSession)
         {
-            /*
-             * A change cipher spec message is only one byte with the value 1.
-             */
-            byte[] b = new byte[1];
-            changeCipherSpecQueue.read(b, 0, 1, 0);
-            changeCipherSpecQueue.removeData(1);
-            if (b[0] != 1)
-            {
-                /*
-                 * This should never happen.
-                 */
-                this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
-            }
+            this.session = offeredSession;
 
-            /*
-             * Check if we are in the correct connection state.
-             */
-            if (this.connection_state != CS_CLIENT_FINISHED_SEND)
+            if (newSessionTicket != null)
             {
-                this.failWithError(AlertLevel.fatal, AlertDescription.handshake_failure);
+                this.session = session.withSessionTicket(newSessionTicket, newSessionTicketLifetimeHint,
+                    System.currentTimeMillis());
             }
+        }
+        else
+        {
+            this.session = new TlsSession(sessionID, selectedCipherSuite, selectedCompressionMethod,
+                securityParameters.masterSecret, tlsClientContext.getServerVersion(), serverCertificate,
+                newSessionTicket, newSessionTicketLifetimeHint, System.currentTimeMillis());
+        }
 
-            rs.serverClientSpecReceived();
+        if (sessionCache != null)
+        {
+            sessionCache.putSession(serverIdentity, session);
+        }
+    }
 
-            this.connection_state = CS_SERVER_CHANGE_CIPHER_SPEC_RECEIVED;
+    /*
+     * RFC 2246 7.2. A session must not be resumed after a fatal alert.
+     */
+    protected void invalidateSession()
+    {
+        if (sessionCache != null)
+        {
+            sessionCache.removeSession(serverIdentity);
         }
     }
 
@@ -814,15 +787,54 @@ public class TlsProtocolHandler
         rs.writeMessage(ContentType.handshake, message, 0, message.length);
     }
 
-    private void sendCertificateVerify(byte[] data) throws IOException
+    /**
+     * RFC 5246 7.4.8. From TLS 1.2 the CertificateVerify says which signature and hash
+     * algorithm it uses, and that must be one the server listed. The hash is that of the
+     * handshake messages, so the PRF's, and as TLS 1.2 is only offered with RSA the
+     * signature must be too.
+     */
+    private SignatureAndHashAlgorithm getCertificateVerifyAlgorithm(Certificate clientCert)
+        throws IOException
+    {
+        SubjectPublicKeyInfo keyInfo = clientCert.getCerts()[0].getSubjectPublicKeyInfo();
+        if (!PKCSObjectIdentifiers.rsaEncryption.equals(keyInfo.getAlgorithm().getAlgorithm()))
+        {
+            throw new TlsFatalAlert(AlertDescription.handshake_failure);
+        }
+
+        short hash = securityParameters.prfAlgorithm == PRFAlgorithm.tls_prf_sha384
+            ? HashAlgorithm.sha384 : HashAlgorithm.sha256;
+
+        SignatureAndHashAlgorithm algorithm = new SignatureAndHashAlgorithm(hash, SignatureAlgorithm.rsa);
+        if (!certificateRequest.getSupportedSignatureAlgorithms().contains(algorithm))
+        {
+            throw new TlsFatalAlert(AlertDescription.handshake_failure);
+        }
+
+        return algorithm;
+    }
+
+    private static byte[] encodeDigestInfo(short hashAlgorithm, byte[] hash) throws IOException
+    {
+        ASN1ObjectIdentifier oid = hashAlgorithm == HashAlgorithm.sha384
+            ? NISTObjectIdentifiers.id_sha384 : NISTObjectIdentifiers.id_sha256;
+
+        return new DigestInfo(new AlgorithmIdentifier(oid, DERNull.INSTANCE), hash).getEncoded(ASN1Encoding.DER);
+    }
+
+    private void sendCertificateVerify(SignatureAndHashAlgorithm algorithm, byte[] data) throws IOException
     {
         /*
          * Send signature of handshake messages so far to prove we are the owner of the
-         * cert See RFC 2246 sections 4.7, 7.4.3 and 7.4.8
+         * cert See RFC 2246 sections 4.7, 7.4.3 and 7.4.8, and from TLS 1.2 RFC 5246 4.7
          */
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
         TlsUtils.writeUint8(HandshakeType.certificate_verify, bos);
-        TlsUtils.writeUint24(data.length + 2, bos);
+        TlsUtils.writeUint24(data.length + (algorithm == null ? 2 : 4), bos);
+        if (algorithm != null)
+        {
+            algorithm.encode(bos);
+        }
         TlsUtils.writeOpaque16(data, bos);
         byte[] message = bos.toByteArray();
 
@@ -850,6 +862,23 @@ public class TlsProtocolHandler
      * @throws IOException If handshake was not successful.
      */
     public void connect(TlsClient tlsClient) throws IOException
+    {
+        this.connect(tlsClient, null, null);
+    }
+
+    /**
+     * Connects to the remote system, resuming the session held for it in sessionCache if
+     * the server agrees. The session established is then stored in the cache, including
+     * any RFC 5077 session ticket the server issues.
+     *
+     * @param tlsClient
+     * @param sessionCache the cache to find and store sessions in, null if none.
+     * @param serverIdentity the key of the server's sessions in the cache, ordinarily its
+     *            host name and port.
+     * @throws IOException If handshake was not successful.
+     */
+    public void connect(TlsClient tlsClient, TlsSessionCache sessionCache, String serverIdentity)
+        throws IOException
     {
         if (tlsClient == null)
         {
@@ -859,6 +888,13 @@ public class TlsProtocolHandler
         {
             throw new IllegalStateException("connect can only be called once");
         }
+        if (sessionCache != null && serverIdentity == null)
+        {
+            throw new IllegalArgumentException("'serverIdentity' cannot be null when a session cache is given");
+        }
+
+        this.sessionCache = sessionCache;
+        this.serverIdentity = serverIdentity;
 
         /*
          * Send Client hello
@@ -879,7 +915,20 @@ public class TlsProtocolHandler
 
         ByteArrayOutputStream os = new ByteArrayOutputStream();
 
+        this.offeredCipherSuites = this.tlsClient.getCipherSuites();
+        this.offeredCompressionMethods = this.tlsClient.getCompressionMethods();
+
         ProtocolVersion client_version = this.tlsClient.getClientVersion();
+        if (client_version.getFullVersion() >= ProtocolVersion.TLSv12.getFullVersion()
+            && !TlsUtils.hasOnlyRSAKeyExchange(offeredCipherSuites))
+        {
+            /*
+             * RFC 5246 7.4.3. The signed TLS 1.2 server key exchange isn't handled, so TLS 1.2
+             * is only offered when every cipher suite has RSA key exchange, which has none.
+             */
+            client_version = ProtocolVersion.TLSv11;
+        }
+
         this.tlsClientContext.setClientVersion(client_version);
         // TODO For SSLv3 support, server version needs to be set to ProtocolVersion.SSLv3
         this.tlsClientContext.setServerVersion(client_version);
@@ -888,17 +937,57 @@ public class TlsProtocolHandler
         os.write(securityParameters.clientRandom);
 
         /*
-         * Length of Session id
+         * Session id, empty unless we have a session to offer
          */
-        TlsUtils.writeUint8((short)0, os);
+        this.offeredSessionID = emptybuf;
 
-        /*
-         * Cipher suites
-         */
-        this.offeredCipherSuites = this.tlsClient.getCipherSuites();
+        if (sessionCache != null)
+        {
+            this.offeredSession = sessionCache.getSession(serverIdentity);
+
+            if (offeredSession != null && canResume(offeredSession, client_version))
+            {
+                if (offeredSession.getSessionTicket() != null)
+                {
+                    /*
+                     * RFC 5077 3.4. Send a fresh session id with the ticket, which the server
+                     * echoes if it accepts the ticket.
+                     */
+                    this.offeredSessionID = new byte[32];
+                    random.nextBytes(offeredSessionID);
+                }
+                else
+                {
+                    this.offeredSessionID = offeredSession.getSessionID();
+                }
+            }
+            else
+            {
+                this.offeredSession = null;
+            }
+        }
+
+        TlsUtils.writeOpaque8(offeredSessionID, os);
 
         // Integer -> byte[]
         this.clientExtensions = this.tlsClient.getClientExtensions();
+        this.offeredExtensions = clientExtensions;
+
+        if (sessionCache != null)
+        {
+            /*
+             * RFC 5077 3.2. An empty SessionTicket extension asks the server for a ticket,
+             * otherwise it carries the ticket we are resuming with.
+             */
+            byte[] ticket = offeredSession == null ? null : offeredSession.getSessionTicket();
+
+            this.offeredExtensions = clientExtensions == null ? new Hashtable() : new Hashtable(clientExtensions);
+            this.offeredExtensions.put(EXT_SessionTicket, ticket == null ? emptybuf : ticket);
+        }
+
+        /*
+         * Cipher suites
+         */
 
         // Cipher Suites (and SCSV)
         {
@@ -927,21 +1016,19 @@ public class TlsProtocolHandler
         }
 
         // Compression methods
-        this.offeredCompressionMethods = this.tlsClient.getCompressionMethods();
-
         TlsUtils.writeUint8((short)offeredCompressionMethods.length, os);
         TlsUtils.writeUint8Array(offeredCompressionMethods, os);
 
         // Extensions
-        if (clientExtensions != null)
+        if (offeredExtensions != null)
         {
             ByteArrayOutputStream ext = new ByteArrayOutputStream();
 
-            Enumeration keys = clientExtensions.keys();
+            Enumeration keys = offeredExtensions.keys();
             while (keys.hasMoreElements())
             {
                 Integer extType = (Integer)keys.nextElement();
-                writeExtension(ext, extType, (byte[])clientExtensions.get(extType));
+                writeExtension(ext, extType, (byte[])offeredExtensions.get(extType));
             }
 
             TlsUtils.writeOpaque16(ext.toByteArray(), os);
@@ -957,303 +1044,47 @@ public class TlsProtocolHandler
 
         connection_state = CS_CLIENT_HELLO_SEND;
 
-        /*
-         * We will now read data, until we have completed the handshake.
-         */
-        while (connection_state != CS_DONE)
-        {
-            safeReadData();
-        }
-
-        this.tlsInputStream = new TlsInputStream(this);
-        this.tlsOutputStream = new TlsOutputStream(this);
-    }
-
-    /**
-     * Read data from the network. The method will return immediately, if there is still
-     * some data left in the buffer, or block until some application data has been read
-     * from the network.
-     * 
-     * @param buf The buffer where the data will be copied to.
-     * @param offset The position where the data will be placed in the buffer.
-     * @param len The maximum number of bytes to read.
-     * @return The number of bytes read.
-     * @throws IOException If something goes wrong during reading data.
-     */
-    protected int readApplicationData(byte[] buf, int offset, int len) throws IOException
-    {
-        while (applicationDataQueue.size() == 0)
+        if (!blocking)
         {
             /*
-             * We need to read some data.
+             * The handshake will continue as input is offered.
              */
-            if (this.closed)
-            {
-                if (this.failedWithError)
-                {
-                    /*
-                     * Something went terribly wrong, we should throw an IOException
-                     */
-                    throw new IOException(TLS_ERROR_MESSAGE);
-                }
-
-                /*
-                 * Connection has been closed, there is no more data to read.
-                 */
-                return -1;
-            }
-
-            safeReadData();
+            return;
         }
-        len = Math.min(len, applicationDataQueue.size());
-        applicationDataQueue.read(buf, offset, len, 0);
-        applicationDataQueue.removeData(len);
-        return len;
-    }
 
-    private void safeReadData() throws IOException
-    {
-        try
-        {
-            rs.readData();
-        }
-        catch (TlsFatalAlert e)
-        {
-            if (!this.closed)
-            {
-                this.failWithError(AlertLevel.fatal, e.getAlertDescription());
-            }
-            throw e;
-        }
-        catch (IOException e)
-        {
-            if (!this.closed)
-            {
-                this.failWithError(AlertLevel.fatal, AlertDescription.internal_error);
-            }
-            throw e;
-        }
-        catch (RuntimeException e)
-        {
-            if (!this.closed)
-            {
-                this.failWithError(AlertLevel.fatal, AlertDescription.internal_error);
-            }
-            throw e;
-        }
-    }
-
-    private void safeWriteMessage(short type, byte[] buf, int offset, int len) throws IOException
-    {
-        try
-        {
-            rs.writeMessage(type, buf, offset, len);
-        }
-        catch (TlsFatalAlert e)
-        {
-            if (!this.closed)
-            {
-                this.failWithError(AlertLevel.fatal, e.getAlertDescription());
-            }
-            throw e;
-        }
-        catch (IOException e)
-        {
-            if (!closed)
-            {
-                this.failWithError(AlertLevel.fatal, AlertDescription.internal_error);
-            }
-            throw e;
-        }
-        catch (RuntimeException e)
-        {
-            if (!closed)
-            {
-                this.failWithError(AlertLevel.fatal, AlertDescription.internal_error);
-            }
-            throw e;
-        }
-    }
-
-    /**
-     * Send some application data to the remote system.
-     * <p/>
-     * The method will handle fragmentation internally.
-     * 
-     * @param buf The buffer with the data.
-     * @param offset The position in the buffer where the data is placed.
-     * @param len The length of the data.
-     * @throws IOException If something goes wrong during sending.
-     */
-    protected void writeData(byte[] buf, int offset, int len) throws IOException
-    {
-        if (this.closed)
-        {
-            if (this.failedWithError)
-            {
-                throw new IOException(TLS_ERROR_MESSAGE);
-            }
-
-            throw new IOException("Sorry, connection has been closed, you cannot write more data");
-        }
-
-        /*
-         * Protect against known IV attack!
-         * 
-         * DO NOT REMOVE THIS LINE, EXCEPT YOU KNOW EXACTLY WHAT YOU ARE DOING HERE.
-         */
-        safeWriteMessage(ContentType.application_data, emptybuf, 0, 0);
-
-        do
-        {
-            /*
-             * We are only allowed to write fragments up to 2^14 bytes.
-             */
-            int toWrite = Math.min(len, 1 << 14);
-
-            safeWriteMessage(ContentType.application_data, buf, offset, toWrite);
-
-            offset += toWrite;
-            len -= toWrite;
-        }
-        while (len > 0);
-
-    }
-
-    /**
-     * @return An OutputStream which can be used to send data.
-     */
-    public OutputStream getOutputStream()
-    {
-        return this.tlsOutputStream;
-    }
-
-    /**
-     * @return An InputStream which can be used to read data.
-     */
-    public InputStream getInputStream()
-    {
-        return this.tlsInputStream;
-    }
-
-    /**
-     * Terminate this connection with an alert.
-     * <p/>
-     * Can be used for normal closure too.
-     * 
-     * @param alertLevel The level of the alert, an be AlertLevel.fatal or AL_warning.
-     * @param alertDescription The exact alert message.
-     * @throws IOException If alert was fatal.
-     */
-    private void failWithError(short alertLevel, short alertDescription) throws IOException
-    {
         /*
-         * Check if the connection is still open.
+         * We will now read data, until we have completed the handshake.
          */
-        if (!closed)
-        {
-            /*
-             * Prepare the message
-             */
-            this.closed = true;
-
-            if (alertLevel == AlertLevel.fatal)
-            {
-                /*
-                 * This is a fatal message.
-                 */
-                this.failedWithError = true;
-            }
-            sendAlert(alertLevel, alertDescription);
-            rs.close();
-            if (alertLevel == AlertLevel.fatal)
-            {
-                throw new IOException(TLS_ERROR_MESSAGE);
-            }
-        }
-        else
-        {
-            throw new IOException(TLS_ERROR_MESSAGE);
-        }
+        completeHandshake();
     }
 
-    private void sendAlert(short alertLevel, short alertDescription) throws IOException
+    public boolean isHandshakeComplete()
     {
-        byte[] error = new byte[2];
-        error[0] = (byte)alertLevel;
-        error[1] = (byte)alertDescription;
-
-        rs.writeMessage(ContentType.alert, error, 0, 2);
+        return this.connection_state == CS_DONE;
     }
 
     /**
-     * Closes this connection.
-     * 
-     * @throws IOException If something goes wrong during closing.
+     * @return the session of this connection, null until the handshake is complete.
      */
-    public void close() throws IOException
+    public TlsSession getSession()
     {
-        if (!closed)
-        {
-            this.failWithError(AlertLevel.warning, AlertDescription.close_notify);
-        }
+        return this.session;
     }
 
     /**
-     * Make sure the InputStream is now empty. Fail otherwise.
-     * 
-     * @param is The InputStream to check.
-     * @throws IOException If is is not empty.
+     * @return true if the handshake resumed a session from the session cache.
      */
-    protected void assertEmpty(ByteArrayInputStream is) throws IOException
+    public boolean isSessionResumed()
     {
-        if (is.available() > 0)
-        {
-            throw new TlsFatalAlert(AlertDescription.decode_error);
-        }
+        return this.connection_state == CS_DONE && this.resumedSession;
     }
 
-    protected void flush() throws IOException
+    private boolean canResume(TlsSession session, ProtocolVersion clientVersion)
     {
-        rs.flush();
+        return session.isResumable()
+            && session.getServerVersion().getFullVersion() <= clientVersion.getFullVersion()
+            && arrayContains(offeredCipherSuites, session.getCipherSuite())
+            && arrayContains(offeredCompressionMethods, session.getCompressionMethod());
     }
 
-    private static boolean arrayContains(short[] a, short n)
-    {
-        for (int i = 0; i < a.length; ++i)
-        {
-            if (a[i] == n)
-            {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static boolean arrayContains(int[] a, int n)
-    {
-        for (int i = 0; i < a.length; ++i)
-        {
-            if (a[i] == n)
-            {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static byte[] createRenegotiationInfo(byte[] renegotiated_connection)
-        throws IOException
-    {
-        ByteArrayOutputStream buf = new ByteArrayOutputStream();
-        TlsUtils.writeOpaque8(renegotiated_connection, buf);
-        return buf.toByteArray();
-    }
-
-    private static void writeExtension(OutputStream output, Integer extType, byte[] extValue)
-        throws IOException
-    {
-        TlsUtils.writeUint16(extType.intValue(), output);
-        TlsUtils.writeOpaque16(extValue, output);
-    }
 }
@@ -8,10 +8,11 @@ import org.spongycastle.crypto.encodings.PKCS1Encoding;
 import org.spongycastle.crypto.engines.RSABlindedEngine;
 import org.spongycastle.crypto.params.ParametersWithRandom;
 import org.spongycastle.crypto.params.RSAKeyParameters;
+import org.spongycastle.util.Arrays;
 
 public class TlsRSAUtils
 {
-    public static byte[] generateEncryptedPreMasterSecret(TlsClientContext context,
+    public static byte[] generateEncryptedPreMasterSecret(TlsContext context,
         RSAKeyParameters rsaServerPublicKey, OutputStream os) throws IOException
     {
         /*
@@ -48,4 +49,47 @@ public class TlsRSAUtils
 
         return premasterSecret;
     }
+
+    /**
+     * Decrypt the premaster secret sent by a client.
+     * <p>
+     * RFC 2246 7.4.7.1. To avoid Bleichenbacher's attack a badly formatted message, or
+     * one with the wrong version number, is not reported: a random premaster secret is
+     * used instead, so the handshake fails at the finished messages.
+     * </p>
+     */
+    public static byte[] safeDecryptPreMasterSecret(TlsContext context,
+        TlsEncryptionCredentials encryptionCredentials, byte[] encryptedPreMasterSecret)
+    {
+        ProtocolVersion clientVersion = context.getClientVersion();
+
+        byte[] fallback = new byte[48];
+        context.getSecureRandom().nextBytes(fallback);
+        TlsUtils.writeVersion(clientVersion, fallback, 0);
+
+        byte[] premasterSecret = null;
+        try
+        {
+            premasterSecret = encryptionCredentials.decryptPreMasterSecret(context.getSecureRandom(),
+                encryptedPreMasterSecret);
+        }
+        catch (Exception e)
+        {
+            // fall through to the random premaster secret
+        }
+
+        if (premasterSecret == null || premasterSecret.length != 48
+            || (premasterSecret[0] & 0xff) != clientVersion.getMajorVersion()
+            || (premasterSecret[1] & 0xff) != clientVersion.getMinorVersion())
+        {
+            if (premasterSecret != null)
+            {
+                Arrays.fill(premasterSecret, (byte)0);
+            }
+            return fallback;
+        }
+
+        Arrays.fill(fallback, (byte)0);
+        return premasterSecret;
+    }
 }
@@ -0,0 +1,41 @@
+package org.spongycastle.crypto.tls;
+
+import java.io.IOException;
+import java.util.Hashtable;
+
+/**
+ * The policy of the server side of a connection. An instance is used for one connection
+ * only, but anything expensive it needs, such as its credentials, can be shared.
+ */
+public interface TlsServer
+{
+    void init(TlsServerContext context);
+
+    void notifyClientVersion(ProtocolVersion clientVersion) throws IOException;
+
+    void notifyOfferedCipherSuites(int[] offeredCipherSuites) throws IOException;
+
+    void notifyOfferedCompressionMethods(short[] offeredCompressionMethods) throws IOException;
+
+    void notifySecureRenegotiation(boolean secureNegotiation) throws IOException;
+
+    // Hashtable is (Integer -> byte[])
+    void processClientExtensions(Hashtable clientExtensions) throws IOException;
+
+    ProtocolVersion getServerVersion() throws IOException;
+
+    int getSelectedCipherSuite() throws IOException;
+
+    short getSelectedCompressionMethod() throws IOException;
+
+    // Hashtable is (Integer -> byte[])
+    Hashtable getServerExtensions() throws IOException;
+
+    TlsCredentials getCredentials() throws IOException;
+
+    TlsServerKeyExchange getKeyExchange() throws IOException;
+
+    TlsCompression getCompression() throws IOException;
+
+    TlsCipher getCipher() throws IOException;
+}
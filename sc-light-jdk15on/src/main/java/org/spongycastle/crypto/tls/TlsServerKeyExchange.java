@@ -0,0 +1,25 @@
+package org.spongycastle.crypto.tls;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The server's side of a key exchange: it processes the server's credentials, generates
+ * any server key exchange message and processes the client key exchange.
+ * <p>
+ * Only the RSA key exchange implements this so far - the others are client only.
+ * </p>
+ */
+public interface TlsServerKeyExchange
+{
+    void processServerCredentials(TlsCredentials serverCredentials) throws IOException;
+
+    /**
+     * @return the body of the server key exchange message, or null if none is sent.
+     */
+    byte[] generateServerKeyExchange() throws IOException;
+
+    void processClientKeyExchange(InputStream is) throws IOException;
+
+    byte[] generatePremasterSecret() throws IOException;
+}
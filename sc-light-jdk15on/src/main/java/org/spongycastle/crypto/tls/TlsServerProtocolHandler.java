@@ -0,0 +1,454 @@
+package org.spongycastle.crypto.tls;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.SecureRandom;
+import java.util.Enumeration;
+import java.util.Hashtable;
+
+import org.spongycastle.util.Arrays;
+
+/**
+ * The server side of TLS 1.0 to 1.2, used either with blocking streams or in non-blocking mode as
+ * described for {@link TlsProtocol}.
+ * <p>
+ * Each connection needs its own handler and TlsServer, but the server's credentials, and
+ * the SecureRandom if it is safe for concurrent use, can be shared by all of them. Sessions
+ * are not cached, so every handshake is a full one.
+ * </p>
+ */
+public class TlsServerProtocolHandler
+    extends TlsProtocol
+{
+    /*
+     * Our Connection states
+     */
+    private static final short CS_CLIENT_HELLO_RECEIVED = 1;
+    private static final short CS_SERVER_HELLO_DONE_SEND = 2;
+    private static final short CS_CLIENT_KEY_EXCHANGE_RECEIVED = 3;
+    private static final short CS_CLIENT_CHANGE_CIPHER_SPEC_RECEIVED = 4;
+    private static final short CS_DONE = 5;
+
+    private TlsServerContextImpl tlsServerContext = null;
+    private TlsServer tlsServer = null;
+    private int[] offeredCipherSuites = null;
+    private Hashtable clientExtensions = null;
+    private boolean secureRenegotiation = false;
+    private TlsServerKeyExchange keyExchange = null;
+
+    private short connection_state = 0;
+
+    public TlsServerProtocolHandler(InputStream is, OutputStream os)
+    {
+        this(is, os, createSecureRandom());
+    }
+
+    public TlsServerProtocolHandler(InputStream is, OutputStream os, SecureRandom sr)
+    {
+        super(is, os, sr);
+    }
+
+    /**
+     * Create a handler for non-blocking mode.
+     */
+    public TlsServerProtocolHandler()
+    {
+        this(createSecureRandom());
+    }
+
+    /**
+     * Create a handler for non-blocking mode.
+     * <p>
+     * accept() returns at once, and must be called before any input is offered. The
+     * handshake then proceeds as the client's messages are passed to offerInput(), and
+     * the replies must be collected with readOutput().
+     * </p>
+     * @param sr the source of randomness for the connection.
+     */
+    public TlsServerProtocolHandler(SecureRandom sr)
+    {
+        super(sr);
+    }
+
+    /**
+     * Accept a connection from a client.
+     *
+     * @param tlsServer the policy and credentials for this connection.
+     * @throws IOException If handshake was not successful.
+     */
+    public void accept(TlsServer tlsServer) throws IOException
+    {
+        if (tlsServer == null)
+        {
+            throw new IllegalArgumentException("'tlsServer' cannot be null");
+        }
+        if (this.tlsServer != null)
+        {
+            throw new IllegalStateException("accept can only be called once");
+        }
+
+        this.securityParameters = new SecurityParameters();
+
+        this.tlsServerContext = new TlsServerContextImpl(random, securityParameters);
+
+        this.rs.init(tlsServerContext);
+
+        this.tlsServer = tlsServer;
+        this.tlsServer.init(tlsServerContext);
+
+        if (!blocking)
+        {
+            /*
+             * The handshake will proceed as input is offered.
+             */
+            return;
+        }
+
+        /*
+         * We will now read data, until we have completed the handshake.
+         */
+        completeHandshake();
+    }
+
+    protected TlsContext getContext()
+    {
+        return tlsServerContext;
+    }
+
+    public boolean isHandshakeComplete()
+    {
+        return this.connection_state == CS_DONE;
+    }
+
+    protected void processHandshakeMessage(short type, byte[] buf) throws IOException
+    {
+        ByteArrayInputStream is = new ByteArrayInputStream(buf);
+
+        switch (type)
+        {
+            case HandshakeType.client_hello:
+                switch (connection_state)
+                {
+                    case 0:
+                        receiveClientHello(is);
+
+                        connection_state = CS_CLIENT_HELLO_RECEIVED;
+
+                        sendServerHello();
+
+                        connection_state = CS_SERVER_HELLO_DONE_SEND;
+                        break;
+                    case CS_DONE:
+                        // Renegotiation not supported yet
+                        sendAlert(AlertLevel.warning, AlertDescription.no_renegotiation);
+                        break;
+                    default:
+                        this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
+                }
+                break;
+            case HandshakeType.client_key_exchange:
+                switch (connection_state)
+                {
+                    case CS_SERVER_HELLO_DONE_SEND:
+                        this.keyExchange.processClientKeyExchange(is);
+
+                        assertEmpty(is);
+
+                        /*
+                         * Calculate the master_secret
+                         */
+                        byte[] pms = this.keyExchange.generatePremasterSecret();
+
+                        securityParameters.masterSecret = TlsUtils.calculateMasterSecret(
+                            this.tlsServerContext, pms);
+
+                        /*
+                         * RFC 2246 8.1. The pre_master_secret should be deleted from
+                         * memory once the master_secret has been computed.
+                         */
+                        Arrays.fill(pms, (byte)0);
+
+                        rs.setPendingConnectionState(tlsServer.getCompression(), tlsServer.getCipher());
+
+                        connection_state = CS_CLIENT_KEY_EXCHANGE_RECEIVED;
+                        break;
+                    default:
+                        this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
+                }
+                break;
+            case HandshakeType.finished:
+                switch (connection_state)
+                {
+                    case CS_CLIENT_CHANGE_CIPHER_SPEC_RECEIVED:
+                        processFinishedMessage(is, "client finished", TlsUtils.SSL_CLIENT);
+
+                        /*
+                         * The client's finished message is covered by our own.
+                         */
+                        updateHandshakeHash(HandshakeType.finished, buf);
+
+                        sendChangeCipherSpecMessage();
+
+                        sendFinishedMessage("server finished", TlsUtils.SSL_SERVER);
+
+                        connection_state = CS_DONE;
+
+                        /*
+                         * We are now ready to receive application data.
+                         */
+                        this.appDataReady = true;
+                        break;
+                    default:
+                        this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
+                }
+                break;
+            case HandshakeType.certificate:
+            case HandshakeType.certificate_verify:
+                // We never send a certificate request
+            default:
+                this.failWithError(AlertLevel.fatal, AlertDescription.unexpected_message);
+                break;
+        }
+    }
+
+    protected void processChangeCipherSpecMessage() throws IOException
+    {
+        if (this.connection_state != CS_CLIENT_KEY_EXCHANGE_RECEIVED)
+        {
+            this.failWithError(AlertLevel.fatal, AlertDescription.handshake_failure);
+        }
+
+        rs.receivedReadCipherSpec();
+
+        this.connection_state = CS_CLIENT_CHANGE_CIPHER_SPEC_RECEIVED;
+    }
+
+    private void receiveClientHello(ByteArrayInputStream is) throws IOException
+    {
+        ProtocolVersion client_version = TlsUtils.readVersion(is);
+
+        this.tlsServerContext.setClientVersion(client_version);
+        this.tlsServer.notifyClientVersion(client_version);
+
+        securityParameters.clientRandom = new byte[32];
+        TlsUtils.readFully(securityParameters.clientRandom, is);
+
+        /*
+         * The session id is ignored, as no sessions are resumed.
+         */
+        byte[] sessionID = TlsUtils.readOpaque8(is);
+        if (sessionID.length > 32)
+        {
+            this.failWithError(AlertLevel.fatal, AlertDescription.illegal_parameter);
+        }
+
+        int cipherSuitesLength = TlsUtils.readUint16(is);
+        if (cipherSuitesLength < 2 || (cipherSuitesLength & 1) != 0)
+        {
+            this.failWithError(AlertLevel.fatal, AlertDescription.decode_error);
+        }
+
+        this.offeredCipherSuites = new int[cipherSuitesLength / 2];
+        for (int i = 0; i < offeredCipherSuites.length; ++i)
+        {
+            offeredCipherSuites[i] = TlsUtils.readUint16(is);
+        }
+
+        this.tlsServer.notifyOfferedCipherSuites(offeredCipherSuites);
+
+        int compressionMethodsLength = TlsUtils.readUint8(is);
+        if (compressionMethodsLength < 1)
+        {
+            this.failWithError(AlertLevel.fatal, AlertDescription.decode_error);
+        }
+
+        short[] offeredCompressionMethods = new short[compressionMethodsLength];
+        for (int i = 0; i < offeredCompressionMethods.length; ++i)
+        {
+            offeredCompressionMethods[i] = TlsUtils.readUint8(is);
+        }
+
+        this.tlsServer.notifyOfferedCompressionMethods(offeredCompressionMethods);
+
+        // Integer -> byte[]
+        Hashtable clientExtensions = new Hashtable();
+
+        if (is.available() > 0)
+        {
+            byte[] extBytes = TlsUtils.readOpaque16(is);
+
+            ByteArrayInputStream ext = new ByteArrayInputStream(extBytes);
+            while (ext.available() > 0)
+            {
+                Integer extType = new Integer(TlsUtils.readUint16(ext));
+                byte[] extValue = TlsUtils.readOpaque16(ext);
+
+                /*
+                 * RFC 3546 2.3 There MUST NOT be more than one extension of the same type.
+                 */
+                if (clientExtensions.containsKey(extType))
+                {
+                    this.failWithError(AlertLevel.fatal, AlertDescription.illegal_parameter);
+                }
+
+                clientExtensions.put(extType, extValue);
+            }
+        }
+
+        assertEmpty(is);
+
+        /*
+         * RFC 5746 3.6. When a ClientHello is received, the server MUST check if it includes
+         * the TLS_EMPTY_RENEGOTIATION_INFO_SCSV SCSV, or the "renegotiation_info" extension,
+         * and if so set the secure_renegotiation flag to TRUE.
+         */
+        {
+            boolean secure_negotiation = arrayContains(offeredCipherSuites,
+                CipherSuite.TLS_EMPTY_RENEGOTIATION_INFO_SCSV);
+
+            byte[] renegExtValue = (byte[])clientExtensions.get(EXT_RenegotiationInfo);
+            if (renegExtValue != null)
+            {
+                secure_negotiation = true;
+
+                /*
+                 * The server MUST then verify that the length of the
+                 * "renegotiated_connection" field is zero, and if it is not, MUST abort the
+                 * handshake.
+                 */
+                if (!Arrays.constantTimeAreEqual(renegExtValue, createRenegotiationInfo(emptybuf)))
+                {
+                    this.failWithError(AlertLevel.fatal, AlertDescription.handshake_failure);
+                }
+            }
+
+            this.secureRenegotiation = secure_negotiation;
+
+            tlsServer.notifySecureRenegotiation(secure_negotiation);
+        }
+
+        tlsServer.processClientExtensions(clientExtensions);
+
+        this.clientExtensions = clientExtensions;
+    }
+
+    private void sendServerHello() throws IOException
+    {
+        ProtocolVersion server_version = tlsServer.getServerVersion();
+        if (server_version.getFullVersion() > tlsServerContext.getClientVersion().getFullVersion())
+        {
+            this.failWithError(AlertLevel.fatal, AlertDescription.internal_error);
+        }
+
+        this.tlsServerContext.setServerVersion(server_version);
+
+        securityParameters.serverRandom = new byte[32];
+        random.nextBytes(securityParameters.serverRandom);
+        TlsUtils.writeGMTUnixTime(securityParameters.serverRandom, 0);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        TlsUtils.writeVersion(server_version, os);
+        os.write(securityParameters.serverRandom);
+
+        /*
+         * An empty session id, as the session will not be cached.
+         */
+        TlsUtils.writeOpaque8(emptybuf, os);
+
+        int selectedCipherSuite = tlsServer.getSelectedCipherSuite();
+        if (!arrayContains(offeredCipherSuites, selectedCipherSuite)
+            || selectedCipherSuite == CipherSuite.TLS_EMPTY_RENEGOTIATION_INFO_SCSV)
+        {
+            this.failWithError(AlertLevel.fatal, AlertDescription.internal_error);
+        }
+        TlsUtils.writeUint16(selectedCipherSuite, os);
+
+        short selectedCompressionMethod = tlsServer.getSelectedCompressionMethod();
+        TlsUtils.writeUint8(selectedCompressionMethod, os);
+
+        // Integer -> byte[]
+        Hashtable serverExtensions = tlsServer.getServerExtensions();
+
+        if (serverExtensions != null)
+        {
+            /*
+             * RFC 3546 2.3 An extension type MUST NOT appear in the extended server hello
+             * unless the same extension type appeared in the corresponding client hello.
+             */
+            Enumeration keys = serverExtensions.keys();
+            while (keys.hasMoreElements())
+            {
+                if (!clientExtensions.containsKey(keys.nextElement()))
+                {
+                    this.failWithError(AlertLevel.fatal, AlertDescription.internal_error);
+                }
+            }
+        }
+
+        if (secureRenegotiation)
+        {
+            /*
+             * RFC 5746 3.6. The server MUST include an empty "renegotiation_info" extension
+             * in the ServerHello message.
+             */
+            serverExtensions = serverExtensions == null ? new Hashtable() : new Hashtable(serverExtensions);
+            serverExtensions.put(EXT_RenegotiationInfo, createRenegotiationInfo(emptybuf));
+        }
+
+        if (serverExtensions != null && !serverExtensions.isEmpty())
+        {
+            ByteArrayOutputStream ext = new ByteArrayOutputStream();
+
+            Enumeration keys = serverExtensions.keys();
+            while (keys.hasMoreElements())
+            {
+                Integer extType = (Integer)keys.nextElement();
+                writeExtension(ext, extType, (byte[])serverExtensions.get(extType));
+            }
+
+            TlsUtils.writeOpaque16(ext.toByteArray(), os);
+        }
+
+        /*
+         * With the version and cipher suite chosen, so are the PRF and the hash of the
+         * handshake messages, starting from the client hello.
+         */
+        securityParameters.prfAlgorithm = TlsUtils.getPRFAlgorithm(server_version, selectedCipherSuite);
+        rs.setRecordVersion(server_version);
+        rs.notifyHelloComplete();
+
+        writeHandshakeMessage(HandshakeType.server_hello, os.toByteArray());
+
+        /*
+         * The server's certificate, and the key exchange it is used for.
+         */
+        this.keyExchange = tlsServer.getKeyExchange();
+
+        TlsCredentials serverCredentials = tlsServer.getCredentials();
+        this.keyExchange.processServerCredentials(serverCredentials);
+
+        writeHandshakeMessage(HandshakeType.certificate, serverCredentials.getCertificate().getEncoded());
+
+        byte[] serverKeyExchange = this.keyExchange.generateServerKeyExchange();
+        if (serverKeyExchange != null)
+        {
+            writeHandshakeMessage(HandshakeType.server_key_exchange, serverKeyExchange);
+        }
+
+        writeHandshakeMessage(HandshakeType.server_hello_done, emptybuf);
+    }
+
+    private void writeHandshakeMessage(short type, byte[] body) throws IOException
+    {
+        byte[] message = new byte[4 + body.length];
+        TlsUtils.writeUint8(type, message, 0);
+        TlsUtils.writeUint24(body.length, message, 1);
+        System.arraycopy(body, 0, message, 4, body.length);
+
+        rs.writeMessage(ContentType.handshake, message, 0, message.length);
+    }
+}
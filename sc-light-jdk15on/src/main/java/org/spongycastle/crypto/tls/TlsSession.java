@@ -0,0 +1,111 @@
+package org.spongycastle.crypto.tls;
+
+import org.spongycastle.util.Arrays;
+
+/**
+ * The state a client keeps so a session can be resumed with an abbreviated
+ * handshake, either by its session ID or, for a server which issued one, by
+ * an RFC 5077 session ticket.
+ */
+public class TlsSession
+{
+    private final byte[] sessionID;
+    private final int cipherSuite;
+    private final short compressionMethod;
+    private final byte[] masterSecret;
+    private final ProtocolVersion serverVersion;
+    private final Certificate serverCertificate;
+    private final byte[] sessionTicket;
+    private final long ticketLifetimeHint;
+    private final long creationTime;
+
+    /**
+     * Base constructor.
+     *
+     * @param sessionID the session ID the server assigned, possibly empty.
+     * @param cipherSuite the cipher suite negotiated for the session.
+     * @param compressionMethod the compression method negotiated for the session.
+     * @param masterSecret the master secret of the session.
+     * @param serverVersion the protocol version negotiated for the session.
+     * @param serverCertificate the server's certificate, null if it sent none.
+     * @param sessionTicket the session ticket the server issued, null if none.
+     * @param ticketLifetimeHint the lifetime hint for the ticket in seconds, 0 if unspecified.
+     * @param creationTime the time the session was established, in milliseconds since the epoch.
+     */
+    public TlsSession(byte[] sessionID, int cipherSuite, short compressionMethod, byte[] masterSecret,
+        ProtocolVersion serverVersion, Certificate serverCertificate, byte[] sessionTicket,
+        long ticketLifetimeHint, long creationTime)
+    {
+        this.sessionID = Arrays.clone(sessionID);
+        this.cipherSuite = cipherSuite;
+        this.compressionMethod = compressionMethod;
+        this.masterSecret = Arrays.clone(masterSecret);
+        this.serverVersion = serverVersion;
+        this.serverCertificate = serverCertificate;
+        this.sessionTicket = Arrays.clone(sessionTicket);
+        this.ticketLifetimeHint = ticketLifetimeHint;
+        this.creationTime = creationTime;
+    }
+
+    public byte[] getSessionID()
+    {
+        return Arrays.clone(sessionID);
+    }
+
+    public int getCipherSuite()
+    {
+        return cipherSuite;
+    }
+
+    public short getCompressionMethod()
+    {
+        return compressionMethod;
+    }
+
+    public byte[] getMasterSecret()
+    {
+        return Arrays.clone(masterSecret);
+    }
+
+    public ProtocolVersion getServerVersion()
+    {
+        return serverVersion;
+    }
+
+    public Certificate getServerCertificate()
+    {
+        return serverCertificate;
+    }
+
+    public byte[] getSessionTicket()
+    {
+        return Arrays.clone(sessionTicket);
+    }
+
+    public long getTicketLifetimeHint()
+    {
+        return ticketLifetimeHint;
+    }
+
+    public long getCreationTime()
+    {
+        return creationTime;
+    }
+
+    /**
+     * @return true if the session can be offered for resumption.
+     */
+    public boolean isResumable()
+    {
+        return sessionID.length > 0 || sessionTicket != null;
+    }
+
+    /**
+     * Return a copy of this session carrying a new ticket issued when it was resumed.
+     */
+    TlsSession withSessionTicket(byte[] ticket, long lifetimeHint, long now)
+    {
+        return new TlsSession(sessionID, cipherSuite, compressionMethod, masterSecret, serverVersion,
+            serverCertificate, ticket, lifetimeHint, now);
+    }
+}
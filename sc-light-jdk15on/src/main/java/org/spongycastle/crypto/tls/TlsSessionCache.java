@@ -0,0 +1,32 @@
+package org.spongycastle.crypto.tls;
+
+/**
+ * A store of client sessions, keyed by the identity of the server they were
+ * established with - ordinarily its host name and port. Implementations may be
+ * shared by many connections and so must be thread safe.
+ */
+public interface TlsSessionCache
+{
+    /**
+     * Return the session to offer to a server, if there is one.
+     *
+     * @param serverIdentity the identity of the server.
+     * @return a resumable session, or null.
+     */
+    TlsSession getSession(String serverIdentity);
+
+    /**
+     * Store the session just established, or renewed, with a server.
+     *
+     * @param serverIdentity the identity of the server.
+     * @param session the session.
+     */
+    void putSession(String serverIdentity, TlsSession session);
+
+    /**
+     * Remove the session for a server, as happens when a connection using it fails.
+     *
+     * @param serverIdentity the identity of the server.
+     */
+    void removeSession(String serverIdentity);
+}
@@ -4,5 +4,11 @@ import java.io.IOException;
 
 public interface TlsSignerCredentials extends TlsCredentials
 {
+    /**
+     * Sign for the certificate verify message.
+     *
+     * @param md5andsha1 the MD5 and SHA-1 hashes of the handshake messages, or from TLS 1.2,
+     *            where only RSA is supported, the DER encoded DigestInfo of their PRF hash.
+     */
     byte[] generateCertificateSignature(byte[] md5andsha1) throws IOException;
 }
@@ -13,6 +13,8 @@ import org.spongycastle.asn1.x509.X509Extensions;
 import org.spongycastle.crypto.Digest;
 import org.spongycastle.crypto.digests.MD5Digest;
 import org.spongycastle.crypto.digests.SHA1Digest;
+import org.spongycastle.crypto.digests.SHA256Digest;
+import org.spongycastle.crypto.digests.SHA384Digest;
 import org.spongycastle.crypto.macs.HMac;
 import org.spongycastle.crypto.params.KeyParameter;
 import org.spongycastle.util.Arrays;
@@ -156,6 +158,16 @@ public class TlsUtils
         return i1 << 8 | i2;
     }
 
+    protected static short readUint8(byte[] buf, int offset)
+    {
+        return (short)(buf[offset] & 0xff);
+    }
+
+    protected static int readUint16(byte[] buf, int offset)
+    {
+        return ((buf[offset] & 0xff) << 8) | (buf[offset + 1] & 0xff);
+    }
+
     protected static int readUint24(InputStream is) throws IOException
     {
         int i1 = is.read();
@@ -189,6 +201,14 @@ public class TlsUtils
         }
     }
 
+    protected static void readFully(byte[] buf, int offset, int len, InputStream is) throws IOException
+    {
+        if (Streams.readFully(is, buf, offset, len) != len)
+        {
+            throw new EOFException();
+        }
+    }
+
     protected static byte[] readOpaque8(InputStream is) throws IOException
     {
         short length = readUint8(is);
@@ -210,6 +230,11 @@ public class TlsUtils
         return ProtocolVersion.get(buf[0], buf[1]);
     }
 
+    static ProtocolVersion readVersion(byte[] buf, int offset) throws IOException
+    {
+        return ProtocolVersion.get(buf[offset] & 0xff, buf[offset + 1] & 0xff);
+    }
+
     static ProtocolVersion readVersion(InputStream is) throws IOException
     {
         int i1 = is.read();
@@ -232,7 +257,7 @@ public class TlsUtils
         os.write(version.getMinorVersion());
     }
 
-    static void writeVersion(ProtocolVersion version, byte[] buf, int offset) throws IOException
+    static void writeVersion(ProtocolVersion version, byte[] buf, int offset)
     {
         buf[offset] = (byte)version.getMajorVersion();
         buf[offset + 1] = (byte)version.getMinorVersion();
@@ -247,13 +272,13 @@ public class TlsUtils
         int iterations = (out.length + size - 1) / size;
         byte[] buf = new byte[mac.getMacSize()];
         byte[] buf2 = new byte[mac.getMacSize()];
+        // the mac is left keyed after each doFinal(), so is only initialised once
+        mac.init(param);
         for (int i = 0; i < iterations; i++)
         {
-            mac.init(param);
             mac.update(a, 0, a.length);
             mac.doFinal(buf, 0);
             a = buf;
-            mac.init(param);
             mac.update(a, 0, a.length);
             mac.update(seed, 0, seed.length);
             mac.doFinal(buf2, 0);
@@ -294,6 +319,162 @@ public class TlsUtils
         return buf;
     }
 
+    /**
+     * The PRF for the negotiated version - from TLS 1.2 the one belonging to the cipher suite.
+     */
+    static byte[] PRF(TlsContext context, byte[] secret, String asciiLabel, byte[] seed, int size)
+    {
+        int prfAlgorithm = context.getSecurityParameters().prfAlgorithm;
+
+        if (prfAlgorithm == PRFAlgorithm.tls_prf_legacy)
+        {
+            return PRF(secret, asciiLabel, seed, size);
+        }
+
+        return PRF_1_2(createPRFHash(prfAlgorithm), secret, asciiLabel, seed, size);
+    }
+
+    static boolean isTLSv11(TlsContext context)
+    {
+        return context.getServerVersion().getFullVersion() >= ProtocolVersion.TLSv11.getFullVersion();
+    }
+
+    static boolean isTLSv12(TlsContext context)
+    {
+        return context.getServerVersion().getFullVersion() >= ProtocolVersion.TLSv12.getFullVersion();
+    }
+
+    /**
+     * RFC 5246 5. The PRF of a TLS 1.2 cipher suite is SHA-256 based unless the suite says
+     * otherwise, as the RFC 5288 and RFC 5289 SHA-384 suites do.
+     */
+    static int getPRFAlgorithm(ProtocolVersion version, int cipherSuite)
+    {
+        if (version.getFullVersion() < ProtocolVersion.TLSv12.getFullVersion())
+        {
+            return PRFAlgorithm.tls_prf_legacy;
+        }
+
+        switch (cipherSuite)
+        {
+            case CipherSuite.TLS_RSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_DHE_RSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_DH_RSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_DHE_DSS_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_DH_DSS_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_DH_anon_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_256_CBC_SHA384:
+            case CipherSuite.TLS_ECDH_ECDSA_WITH_AES_256_CBC_SHA384:
+            case CipherSuite.TLS_ECDHE_RSA_WITH_AES_256_CBC_SHA384:
+            case CipherSuite.TLS_ECDH_RSA_WITH_AES_256_CBC_SHA384:
+            case CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_ECDH_ECDSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_ECDHE_RSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_ECDH_RSA_WITH_AES_256_GCM_SHA384:
+                return PRFAlgorithm.tls_prf_sha384;
+
+            default:
+                return PRFAlgorithm.tls_prf_sha256;
+        }
+    }
+
+    /**
+     * RFC 5288 4. The AEAD cipher suites MUST NOT be negotiated in older versions of TLS.
+     */
+    static boolean isValidCipherSuiteForVersion(int cipherSuite, ProtocolVersion version)
+    {
+        if (version.getFullVersion() >= ProtocolVersion.TLSv12.getFullVersion())
+        {
+            return true;
+        }
+
+        switch (cipherSuite)
+        {
+            case CipherSuite.TLS_RSA_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_RSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_DHE_RSA_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_DHE_RSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_DH_RSA_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_DH_RSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_DHE_DSS_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_DHE_DSS_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_DH_DSS_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_DH_DSS_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_DH_anon_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_DH_anon_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_ECDH_ECDSA_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_ECDH_ECDSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_ECDHE_RSA_WITH_AES_256_GCM_SHA384:
+            case CipherSuite.TLS_ECDH_RSA_WITH_AES_128_GCM_SHA256:
+            case CipherSuite.TLS_ECDH_RSA_WITH_AES_256_GCM_SHA384:
+                return false;
+
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Return true if every cipher suite offered uses RSA key exchange, ignoring the RFC 5746
+     * signalling cipher suite value.
+     */
+    static boolean hasOnlyRSAKeyExchange(int[] cipherSuites)
+    {
+        for (int i = 0; i < cipherSuites.length; ++i)
+        {
+            switch (cipherSuites[i])
+            {
+                case CipherSuite.TLS_RSA_WITH_NULL_MD5:
+                case CipherSuite.TLS_RSA_WITH_NULL_SHA:
+                case CipherSuite.TLS_RSA_WITH_RC4_128_MD5:
+                case CipherSuite.TLS_RSA_WITH_RC4_128_SHA:
+                case CipherSuite.TLS_RSA_WITH_IDEA_CBC_SHA:
+                case CipherSuite.TLS_RSA_WITH_DES_CBC_SHA:
+                case CipherSuite.TLS_RSA_WITH_3DES_EDE_CBC_SHA:
+                case CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA:
+                case CipherSuite.TLS_RSA_WITH_AES_256_CBC_SHA:
+                case CipherSuite.TLS_RSA_WITH_AES_128_GCM_SHA256:
+                case CipherSuite.TLS_RSA_WITH_AES_256_GCM_SHA384:
+                case CipherSuite.TLS_EMPTY_RENEGOTIATION_INFO_SCSV:
+                    break;
+
+                default:
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    static Digest createPRFHash(int prfAlgorithm)
+    {
+        switch (prfAlgorithm)
+        {
+            case PRFAlgorithm.tls_prf_sha384:
+                return new SHA384Digest();
+            case PRFAlgorithm.tls_prf_sha256:
+                return new SHA256Digest();
+            default:
+                throw new IllegalArgumentException("unknown PRFAlgorithm: " + prfAlgorithm);
+        }
+    }
+
+    static Digest clonePRFHash(int prfAlgorithm, Digest hash)
+    {
+        switch (prfAlgorithm)
+        {
+            case PRFAlgorithm.tls_prf_sha384:
+                return new SHA384Digest((SHA384Digest)hash);
+            case PRFAlgorithm.tls_prf_sha256:
+                return new SHA256Digest((SHA256Digest)hash);
+            default:
+                throw new IllegalArgumentException("unknown PRFAlgorithm: " + prfAlgorithm);
+        }
+    }
+
     static byte[] concat(byte[] a, byte[] b)
     {
         byte[] c = new byte[a.length + b.length];
@@ -320,7 +501,7 @@ public class TlsUtils
         }
     }
     
-    static byte[] calculateKeyBlock(TlsClientContext context, int size)
+    static byte[] calculateKeyBlock(TlsContext context, int size)
     {
         ProtocolVersion pv = context.getServerVersion();
         SecurityParameters sp = context.getSecurityParameters();
@@ -330,7 +511,7 @@ public class TlsUtils
 
         if (isTls)
         {
-            return PRF(sp.masterSecret, "key expansion", random, size);
+            return PRF(context, sp.masterSecret, "key expansion", random, size);
         }
 
         Digest md5 = new MD5Digest();
@@ -362,7 +543,7 @@ public class TlsUtils
         return rval;
     }
 
-    static byte[] calculateMasterSecret(TlsClientContext context, byte[] pms)
+    static byte[] calculateMasterSecret(TlsContext context, byte[] pms)
     {
         ProtocolVersion pv = context.getServerVersion();
         SecurityParameters sp = context.getSecurityParameters();
@@ -372,7 +553,7 @@ public class TlsUtils
 
         if (isTls)
         {
-            return PRF(pms, "master secret", random, 48);
+            return PRF(context, pms, "master secret", random, 48);
         }
 
         Digest md5 = new MD5Digest();
@@ -402,7 +583,7 @@ public class TlsUtils
         return rval;
     }
 
-    static byte[] calculateVerifyData(TlsClientContext context, String asciiLabel, byte[] handshakeHash)
+    static byte[] calculateVerifyData(TlsContext context, String asciiLabel, byte[] handshakeHash)
     {
         ProtocolVersion pv = context.getServerVersion();
         SecurityParameters sp = context.getSecurityParameters();
@@ -411,7 +592,7 @@ public class TlsUtils
 
         if (isTls)
         {
-            return PRF(sp.masterSecret, asciiLabel, handshakeHash, 12);
+            return PRF(context, sp.masterSecret, asciiLabel, handshakeHash, 12);
         }
 
         return handshakeHash;
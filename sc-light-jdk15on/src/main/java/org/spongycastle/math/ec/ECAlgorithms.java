@@ -4,6 +4,63 @@ import java.math.BigInteger;
 
 public class ECAlgorithms
 {
+    private static final ECMultiplier fixedPointMultiplier = new FixedPointCombMultiplier();
+
+    private static final InterleavedWNafMultiplier interleavedMultiplier = new InterleavedWNafMultiplier();
+
+    /**
+     * Multiply a fixed base point - typically the generator of a set of domain
+     * parameters - by k. A comb table for the point is computed on first use
+     * and shared by all later calls, from any thread, for an equal point on an
+     * equal curve, so this is considerably faster than <code>P.multiply(k)</code>
+     * when the same base point is used repeatedly.
+     *
+     * @param P the base point.
+     * @param k the multiplicator, k &gt;= 0.
+     * @return <code>k * P</code>, in affine co-ordinates, with the same
+     * compression setting as <code>P</code>.
+     */
+    public static ECPoint fixedPointMultiply(ECPoint P, BigInteger k)
+    {
+        if (k.signum() < 0)
+        {
+            throw new IllegalArgumentException("The multiplicator cannot be negative");
+        }
+
+        if (P.isInfinity())
+        {
+            return P;
+        }
+
+        if (k.signum() == 0)
+        {
+            return P.getCurve().getInfinity();
+        }
+
+        return withCompressionOf(P, fixedPointMultiplier.multiply(P, k, null).normalize());
+    }
+
+    /**
+     * Compute <code>a * P + b * Q</code> where P is a fixed base point - typically
+     * the generator, as in signature verification - using interleaved WNAF
+     * multiplication with a wide table for P that is computed on first use and
+     * shared, as for {@link #fixedPointMultiply}.
+     *
+     * @return <code>a * P + b * Q</code>, in affine co-ordinates, with the
+     * same compression setting as <code>P</code>.
+     */
+    public static ECPoint fixedPointSumOfTwoMultiplies(ECPoint P, BigInteger a,
+        ECPoint Q, BigInteger b)
+    {
+        ECCurve c = P.getCurve();
+        if (!c.equals(Q.getCurve()))
+        {
+            throw new IllegalArgumentException("P and Q must be on same curve");
+        }
+
+        return withCompressionOf(P, interleavedMultiplier.sumOfTwoMultiplies(P, a, Q, b).normalize());
+    }
+
     public static ECPoint sumOfTwoMultiplies(ECPoint P, BigInteger a,
         ECPoint Q, BigInteger b)
     {
@@ -23,7 +80,22 @@ public class ECAlgorithms
             }
         }
 
-        return implShamirsTrick(P, a, Q, b);
+        return InterleavedWNafMultiplier.sumOfTwoVariableMultiplies(P, a, Q, b).normalize();
+    }
+
+    /**
+     * The shared tables are keyed on the value of the base point alone, so a
+     * result computed from them carries the compression setting of whichever
+     * equal point filled the table - rebuild it with that of P if they differ.
+     */
+    private static ECPoint withCompressionOf(ECPoint P, ECPoint R)
+    {
+        if (R.isInfinity() || R.isCompressed() == P.isCompressed())
+        {
+            return R;
+        }
+
+        return P.getCurve().createPoint(R.getX().toBigInteger(), R.getY().toBigInteger(), P.isCompressed());
     }
 
     /*
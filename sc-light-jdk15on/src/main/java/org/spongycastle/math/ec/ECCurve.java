@@ -8,6 +8,19 @@ import java.util.Random;
  */
 public abstract class ECCurve
 {
+    /**
+     * Points are held in affine <code>(x, y)</code> co-ordinates, every
+     * addition and doubling requires a field inversion.
+     */
+    public static final int COORD_AFFINE = 0;
+
+    /**
+     * Points are held in Jacobian projective co-ordinates <code>(X, Y, Z)</code>
+     * with <code>x = X/Z<sup>2</sup></code>, <code>y = Y/Z<sup>3</sup></code>,
+     * so additions and doublings avoid field inversions.
+     */
+    public static final int COORD_JACOBIAN = 1;
+
     ECFieldElement a, b;
 
     public abstract int getFieldSize();
@@ -30,6 +43,34 @@ public abstract class ECCurve
         return b;
     }
 
+    /**
+     * Return the co-ordinate system used for the arithmetic on points of this curve.
+     *
+     * @return one of the <code>COORD_*</code> constants.
+     */
+    public int getCoordinateSystem()
+    {
+        return COORD_AFFINE;
+    }
+
+    /**
+     * Normalise an array of points to affine co-ordinates, sharing a single
+     * field inversion between all of them (Montgomery's trick). Elements of
+     * the array are replaced in place, null entries are ignored.
+     *
+     * @param points the points to normalise.
+     */
+    public void normalizeAll(ECPoint[] points)
+    {
+        for (int i = 0; i < points.length; ++i)
+        {
+            if (points[i] != null)
+            {
+                points[i] = points[i].normalize();
+            }
+        }
+    }
+
     /**
      * Elliptic curve over Fp
      */
@@ -37,12 +78,43 @@ public abstract class ECCurve
     {
         BigInteger q;
         ECPoint.Fp infinity;
+        int coord;
+        boolean aIsMinusThree;
+        FixedWidthFpField field;
 
+        /**
+         * Create a curve over Fp using Jacobian co-ordinates for point arithmetic.
+         *
+         * @param q the field prime.
+         * @param a the a coefficient of the Weierstrass equation.
+         * @param b the b coefficient of the Weierstrass equation.
+         */
         public Fp(BigInteger q, BigInteger a, BigInteger b)
         {
+            this(q, a, b, COORD_JACOBIAN);
+        }
+
+        /**
+         * Create a curve over Fp using the given co-ordinate system for point arithmetic.
+         *
+         * @param q the field prime.
+         * @param a the a coefficient of the Weierstrass equation.
+         * @param b the b coefficient of the Weierstrass equation.
+         * @param coord COORD_AFFINE or COORD_JACOBIAN.
+         */
+        public Fp(BigInteger q, BigInteger a, BigInteger b, int coord)
+        {
+            if (coord != COORD_AFFINE && coord != COORD_JACOBIAN)
+            {
+                throw new IllegalArgumentException("unsupported co-ordinate system: " + coord);
+            }
+
             this.q = q;
+            this.field = FixedWidthFpField.getInstance(q);
             this.a = fromBigInteger(a);
             this.b = fromBigInteger(b);
+            this.coord = coord;
+            this.aIsMinusThree = this.a.toBigInteger().add(ECConstants.THREE).equals(q);
             this.infinity = new ECPoint.Fp(this, null, null);
         }
 
@@ -51,6 +123,51 @@ public abstract class ECCurve
             return q;
         }
 
+        public int getCoordinateSystem()
+        {
+            return coord;
+        }
+
+        public void normalizeAll(ECPoint[] points)
+        {
+            if (coord == COORD_AFFINE)
+            {
+                return;
+            }
+
+            // c[i] = Z_0 * ... * Z_i over the points needing normalisation
+            ECFieldElement[] c = new ECFieldElement[points.length];
+            int[] index = new int[points.length];
+            int count = 0;
+
+            for (int i = 0; i < points.length; ++i)
+            {
+                ECPoint.Fp p = (ECPoint.Fp)points[i];
+
+                if (p != null && !p.isNormalized())
+                {
+                    c[count] = (count == 0) ? p.z : c[count - 1].multiply(p.z);
+                    index[count++] = i;
+                }
+            }
+
+            if (count == 0)
+            {
+                return;
+            }
+
+            ECFieldElement u = c[count - 1].invert();
+
+            for (int j = count - 1; j >= 0; --j)
+            {
+                ECPoint.Fp p = (ECPoint.Fp)points[index[j]];
+                ECFieldElement zInv = (j == 0) ? u : u.multiply(c[j - 1]);
+
+                u = u.multiply(p.z);
+                points[index[j]] = p.normalize(zInv);
+            }
+        }
+
         public int getFieldSize()
         {
             return q.bitLength();
@@ -58,9 +175,27 @@ public abstract class ECCurve
 
         public ECFieldElement fromBigInteger(BigInteger x)
         {
+            if (field != null)
+            {
+                return new FixedWidthFpFieldElement(field, x);
+            }
+
             return new ECFieldElement.Fp(this.q, x);
         }
 
+        /**
+         * Return a field element in the representation used by this curve.
+         */
+        ECFieldElement importFieldElement(ECFieldElement x)
+        {
+            if (field == null || x == null || x instanceof FixedWidthFpFieldElement)
+            {
+                return x;
+            }
+
+            return fromBigInteger(x.toBigInteger());
+        }
+
         public ECPoint createPoint(BigInteger x, BigInteger y, boolean withCompression)
         {
             return new ECPoint.Fp(this, fromBigInteger(x), fromBigInteger(y), withCompression);
@@ -94,7 +229,7 @@ public abstract class ECCurve
 
                 System.arraycopy(encoded, 1, i, 0, i.length);
 
-                ECFieldElement x = new ECFieldElement.Fp(this.q, new BigInteger(1, i));
+                ECFieldElement x = fromBigInteger(new BigInteger(1, i));
                 ECFieldElement alpha = x.multiply(x.square().add(a)).add(b);
                 ECFieldElement beta = alpha.sqrt();
 
@@ -116,7 +251,7 @@ public abstract class ECCurve
                 else
                 {
                     p = new ECPoint.Fp(this, x,
-                        new ECFieldElement.Fp(this.q, q.subtract(beta.toBigInteger())), true);
+                        fromBigInteger(q.subtract(beta.toBigInteger())), true);
                 }
                 break;
                 // uncompressed
@@ -131,8 +266,8 @@ public abstract class ECCurve
                 System.arraycopy(encoded, xEnc.length + 1, yEnc, 0, yEnc.length);
 
                 p = new ECPoint.Fp(this,
-                        new ECFieldElement.Fp(this.q, new BigInteger(1, xEnc)),
-                        new ECFieldElement.Fp(this.q, new BigInteger(1, yEnc)));
+                        fromBigInteger(new BigInteger(1, xEnc)),
+                        fromBigInteger(new BigInteger(1, yEnc)));
                 break;
             default:
                 throw new RuntimeException("Invalid point encoding 0x" + Integer.toString(encoded[0], 16));
@@ -19,6 +19,15 @@ public abstract class ECFieldElement
     public abstract ECFieldElement invert();
     public abstract ECFieldElement sqrt();
 
+    /**
+     * Return whether this element is zero, without necessarily converting to
+     * a <code>BigInteger</code>.
+     */
+    public boolean isZero()
+    {
+        return toBigInteger().signum() == 0;
+    }
+
     public String toString()
     {
         return this.toBigInteger().toString(2);
@@ -42,6 +51,14 @@ public abstract class ECFieldElement
             this.q = q;
         }
 
+        /**
+         * Constructor for subclasses holding the value in another form.
+         */
+        Fp(BigInteger q)
+        {
+            this.q = q;
+        }
+
         public BigInteger toBigInteger()
         {
             return x;
@@ -294,12 +311,12 @@ public abstract class ECFieldElement
             }
             
             ECFieldElement.Fp o = (ECFieldElement.Fp)other;
-            return q.equals(o.q) && x.equals(o.x);
+            return q.equals(o.q) && toBigInteger().equals(o.toBigInteger());
         }
 
         public int hashCode()
         {
-            return q.hashCode() ^ x.hashCode();
+            return q.hashCode() ^ toBigInteger().hashCode();
         }
     }
 
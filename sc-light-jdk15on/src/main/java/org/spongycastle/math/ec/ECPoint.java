@@ -73,7 +73,12 @@ public abstract class ECPoint
             return o.isInfinity();
         }
 
-        return x.equals(o.x) && y.equals(o.y);
+        if (o.isInfinity())
+        {
+            return false;
+        }
+
+        return getX().equals(o.getX()) && getY().equals(o.getY());
     }
 
     public int hashCode()
@@ -83,7 +88,7 @@ public abstract class ECPoint
             return 0;
         }
         
-        return x.hashCode() ^ y.hashCode();
+        return getX().hashCode() ^ getY().hashCode();
     }
 
 //    /**
@@ -108,6 +113,28 @@ public abstract class ECPoint
         this.preCompInfo = preCompInfo;
     }
 
+    /**
+     * Return whether this point is held in affine co-ordinates, so that its
+     * x and y fields can be used directly.
+     */
+    public boolean isNormalized()
+    {
+        return true;
+    }
+
+    /**
+     * Return an equivalent point in affine co-ordinates. Points whose curve
+     * uses projective co-ordinates are only normalised on demand - by this
+     * method, on access to the affine co-ordinates, or at the end of a
+     * multiplication.
+     *
+     * @return a point equal to this one with affine co-ordinates.
+     */
+    public ECPoint normalize()
+    {
+        return this;
+    }
+
     public abstract byte[] getEncoded();
 
     public abstract ECPoint add(ECPoint b);
@@ -149,7 +176,7 @@ public abstract class ECPoint
         }
 
         assertECMultiplier();
-        return this.multiplier.multiply(this, k, preCompInfo);
+        return this.multiplier.multiply(this, k, preCompInfo).normalize();
     }
 
     /**
@@ -157,7 +184,19 @@ public abstract class ECPoint
      */
     public static class Fp extends ECPoint
     {
-        
+        /**
+         * Jacobian Z co-ordinate, null if the point is in affine co-ordinates
+         * (equivalently Z = 1).
+         */
+        ECFieldElement z;
+
+        /**
+         * The affine form of a Jacobian point, once worked out - getX(), getY(),
+         * getEncoded(), equals() and hashCode() all need it, and each would
+         * otherwise cost a field inversion.
+         */
+        private volatile ECPoint.Fp normalized;
+
         /**
          * Create a point which encodes with point compression.
          * 
@@ -180,7 +219,7 @@ public abstract class ECPoint
          */
         public Fp(ECCurve curve, ECFieldElement x, ECFieldElement y, boolean withCompression)
         {
-            super(curve, x, y);
+            super(curve, importFieldElement(curve, x), importFieldElement(curve, y));
 
             if ((x != null && y == null) || (x == null && y != null))
             {
@@ -189,7 +228,87 @@ public abstract class ECPoint
 
             this.withCompression = withCompression;
         }
-         
+
+        /**
+         * Create a point in Jacobian co-ordinates.
+         *
+         * @param curve the curve to use
+         * @param x Jacobian X co-ordinate
+         * @param y Jacobian Y co-ordinate
+         * @param z Jacobian Z co-ordinate
+         * @param withCompression if true encode with point compression
+         */
+        Fp(ECCurve curve, ECFieldElement x, ECFieldElement y, ECFieldElement z, boolean withCompression)
+        {
+            super(curve, x, y);
+
+            this.z = z;
+            this.withCompression = withCompression;
+        }
+
+        private static ECFieldElement importFieldElement(ECCurve curve, ECFieldElement x)
+        {
+            if (curve instanceof ECCurve.Fp)
+            {
+                return ((ECCurve.Fp)curve).importFieldElement(x);
+            }
+
+            return x;
+        }
+
+        public ECFieldElement getX()
+        {
+            if (z == null)
+            {
+                return x;
+            }
+
+            return normalize().getX();
+        }
+
+        public ECFieldElement getY()
+        {
+            if (z == null)
+            {
+                return y;
+            }
+
+            return normalize().getY();
+        }
+
+        public boolean isNormalized()
+        {
+            return z == null;
+        }
+
+        public ECPoint normalize()
+        {
+            if (z == null)
+            {
+                return this;
+            }
+
+            ECPoint.Fp p = normalized;
+            if (p == null)
+            {
+                p = normalize(z.invert());
+                normalized = p;
+            }
+
+            return p;
+        }
+
+        /**
+         * Convert to affine co-ordinates given the inverse of Z, allowing
+         * the inversion to be shared between points.
+         */
+        ECPoint.Fp normalize(ECFieldElement zInv)
+        {
+            ECFieldElement zInv2 = zInv.square();
+
+            return new ECPoint.Fp(curve, x.multiply(zInv2), y.multiply(zInv2.multiply(zInv)), withCompression);
+        }
+
         /**
          * return the field element encoded with point compression. (S 4.3.6)
          */
@@ -250,27 +369,96 @@ public abstract class ECPoint
                 return this;
             }
 
+            if (curve.getCoordinateSystem() == ECCurve.COORD_JACOBIAN)
+            {
+                return addJacobian((ECPoint.Fp)b);
+            }
+
+            ECPoint.Fp p = (ECPoint.Fp)this.normalize();
+            ECPoint.Fp q = (ECPoint.Fp)b.normalize();
+
             // Check if b = this or b = -this
-            if (this.x.equals(b.x))
+            if (p.x.equals(q.x))
             {
-                if (this.y.equals(b.y))
+                if (p.y.equals(q.y))
                 {
                     // this = b, i.e. this must be doubled
-                    return this.twice();
+                    return p.twice();
                 }
 
                 // this = -b, i.e. the result is the point at infinity
                 return this.curve.getInfinity();
             }
 
-            ECFieldElement gamma = b.y.subtract(this.y).divide(b.x.subtract(this.x));
+            ECFieldElement gamma = q.y.subtract(p.y).divide(q.x.subtract(p.x));
 
-            ECFieldElement x3 = gamma.square().subtract(this.x).subtract(b.x);
-            ECFieldElement y3 = gamma.multiply(this.x.subtract(x3)).subtract(this.y);
+            ECFieldElement x3 = gamma.square().subtract(p.x).subtract(q.x);
+            ECFieldElement y3 = gamma.multiply(p.x.subtract(x3)).subtract(p.y);
 
             return new ECPoint.Fp(curve, x3, y3);
         }
 
+        /*
+         * Addition in Jacobian co-ordinates ("add-2007-bl" with the Z = 1
+         * simplifications of "madd" applied when either input is affine).
+         */
+        private ECPoint addJacobian(ECPoint.Fp b)
+        {
+            ECFieldElement X1 = this.x, Y1 = this.y, Z1 = this.z;
+            ECFieldElement X2 = b.x, Y2 = b.y, Z2 = b.z;
+
+            ECFieldElement U1 = X1, S1 = Y1;
+            if (Z2 != null)
+            {
+                ECFieldElement Z2Z2 = Z2.square();
+                U1 = X1.multiply(Z2Z2);
+                S1 = Y1.multiply(Z2.multiply(Z2Z2));
+            }
+
+            ECFieldElement U2 = X2, S2 = Y2;
+            if (Z1 != null)
+            {
+                ECFieldElement Z1Z1 = Z1.square();
+                U2 = X2.multiply(Z1Z1);
+                S2 = Y2.multiply(Z1.multiply(Z1Z1));
+            }
+
+            ECFieldElement H = U2.subtract(U1);
+            ECFieldElement R = S2.subtract(S1);
+
+            // Check if b = this or b = -this
+            if (H.isZero())
+            {
+                if (R.isZero())
+                {
+                    // this = b, i.e. this must be doubled
+                    return this.twice();
+                }
+
+                // this = -b, i.e. the result is the point at infinity
+                return this.curve.getInfinity();
+            }
+
+            ECFieldElement HH = H.square();
+            ECFieldElement HHH = HH.multiply(H);
+            ECFieldElement V = U1.multiply(HH);
+
+            ECFieldElement X3 = R.square().subtract(HHH).subtract(V.add(V));
+            ECFieldElement Y3 = R.multiply(V.subtract(X3)).subtract(S1.multiply(HHH));
+
+            ECFieldElement Z3 = H;
+            if (Z1 != null)
+            {
+                Z3 = Z3.multiply(Z1);
+            }
+            if (Z2 != null)
+            {
+                Z3 = Z3.multiply(Z2);
+            }
+
+            return new ECPoint.Fp(curve, X3, Y3, Z3, this.withCompression);
+        }
+
         // B.3 pg 62
         public ECPoint twice()
         {
@@ -280,23 +468,81 @@ public abstract class ECPoint
                 return this;
             }
 
-            if (this.y.toBigInteger().signum() == 0) 
+            if (this.y.isZero()) 
             {
                 // if y1 == 0, then (x1, y1) == (x1, -y1)
                 // and hence this = -this and thus 2(x1, y1) == infinity
                 return this.curve.getInfinity();
             }
 
+            if (curve.getCoordinateSystem() == ECCurve.COORD_JACOBIAN)
+            {
+                return twiceJacobian();
+            }
+
+            ECPoint.Fp p = (ECPoint.Fp)this.normalize();
+
             ECFieldElement TWO = this.curve.fromBigInteger(BigInteger.valueOf(2));
             ECFieldElement THREE = this.curve.fromBigInteger(BigInteger.valueOf(3));
-            ECFieldElement gamma = this.x.square().multiply(THREE).add(curve.a).divide(y.multiply(TWO));
+            ECFieldElement gamma = p.x.square().multiply(THREE).add(curve.a).divide(p.y.multiply(TWO));
 
-            ECFieldElement x3 = gamma.square().subtract(this.x.multiply(TWO));
-            ECFieldElement y3 = gamma.multiply(this.x.subtract(x3)).subtract(this.y);
+            ECFieldElement x3 = gamma.square().subtract(p.x.multiply(TWO));
+            ECFieldElement y3 = gamma.multiply(p.x.subtract(x3)).subtract(p.y);
                 
             return new ECPoint.Fp(curve, x3, y3, this.withCompression);
         }
 
+        /*
+         * Doubling in Jacobian co-ordinates ("dbl-2007-bl"), using the
+         * 3(X - Z^2)(X + Z^2) form of M when a = -3.
+         */
+        private ECPoint twiceJacobian()
+        {
+            ECFieldElement X1 = this.x, Y1 = this.y, Z1 = this.z;
+
+            ECFieldElement M;
+            if (Z1 == null)
+            {
+                ECFieldElement X1X1 = X1.square();
+                M = X1X1.add(X1X1).add(X1X1).add(curve.a);
+            }
+            else
+            {
+                ECFieldElement Z1Z1 = Z1.square();
+                if (((ECCurve.Fp)curve).aIsMinusThree)
+                {
+                    ECFieldElement t = X1.subtract(Z1Z1).multiply(X1.add(Z1Z1));
+                    M = t.add(t).add(t);
+                }
+                else
+                {
+                    ECFieldElement X1X1 = X1.square();
+                    M = X1X1.add(X1X1).add(X1X1).add(curve.a.multiply(Z1Z1.square()));
+                }
+            }
+
+            ECFieldElement Y1Y1 = Y1.square();
+            ECFieldElement S = X1.multiply(Y1Y1);
+            S = S.add(S);
+            S = S.add(S);
+
+            ECFieldElement T = Y1Y1.square();
+            T = T.add(T);
+            T = T.add(T);
+            T = T.add(T);
+
+            ECFieldElement X3 = M.square().subtract(S.add(S));
+            ECFieldElement Y3 = M.multiply(S.subtract(X3)).subtract(T);
+
+            ECFieldElement Z3 = Y1.add(Y1);
+            if (Z1 != null)
+            {
+                Z3 = Z3.multiply(Z1);
+            }
+
+            return new ECPoint.Fp(curve, X3, Y3, Z3, this.withCompression);
+        }
+
         // D.3.2 pg 102 (see Note:)
         public ECPoint subtract(ECPoint b)
         {
@@ -311,7 +557,12 @@ public abstract class ECPoint
 
         public ECPoint negate()
         {
-            return new ECPoint.Fp(curve, this.x, this.y.negate(), this.withCompression);
+            if (this.isInfinity())
+            {
+                return this;
+            }
+
+            return new ECPoint.Fp(curve, this.x, this.y.negate(), this.z, this.withCompression);
         }
 
         /**
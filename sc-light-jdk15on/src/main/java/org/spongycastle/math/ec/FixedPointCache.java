@@ -0,0 +1,101 @@
+package org.spongycastle.math.ec;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded table of precomputations for points used repeatedly as a fixed
+ * base - typically curve generators - shared by all threads. Entries are keyed
+ * by the value of the point and its curve, so equal points held in different
+ * objects share a single precomputation. Anything stored here must not be
+ * modified once it has been added.
+ */
+class FixedPointCache
+{
+    /**
+     * Upper bound on the number of precomputations held.
+     */
+    private static final int MAX_CACHED = 32;
+
+    private static final Map cache = new LinkedHashMap(16, 0.75f, true)
+    {
+        protected boolean removeEldestEntry(Map.Entry eldest)
+        {
+            return size() > MAX_CACHED;
+        }
+    };
+
+    /**
+     * Return the precomputation of the given type held for p, or null if
+     * there is none.
+     */
+    static PreCompInfo get(ECPoint p, Class type)
+    {
+        synchronized (cache)
+        {
+            return (PreCompInfo)cache.get(new Key(p, type));
+        }
+    }
+
+    /**
+     * Store a precomputation for p, unless another thread has already done so.
+     *
+     * @return the precomputation now held for p - either info, or the one
+     * previously stored.
+     */
+    static PreCompInfo putIfAbsent(ECPoint p, PreCompInfo info)
+    {
+        Key key = new Key(p, info.getClass());
+
+        synchronized (cache)
+        {
+            PreCompInfo existing = (PreCompInfo)cache.get(key);
+
+            if (existing != null)
+            {
+                return existing;
+            }
+
+            cache.put(key, info);
+        }
+
+        return info;
+    }
+
+    /**
+     * Cache key - equal only if the points, the curves (including the
+     * co-ordinate system each uses) and the type of precomputation match.
+     */
+    private static class Key
+    {
+        private final ECPoint p;
+        private final Class type;
+
+        Key(ECPoint p, Class type)
+        {
+            this.p = p;
+            this.type = type;
+        }
+
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof Key))
+            {
+                return false;
+            }
+
+            Key other = (Key)o;
+            ECCurve c = p.getCurve();
+
+            return type == other.type
+                && c.equals(other.p.getCurve())
+                && c.getCoordinateSystem() == other.p.getCurve().getCoordinateSystem()
+                && p.equals(other.p);
+        }
+
+        public int hashCode()
+        {
+            return p.getCurve().hashCode() ^ p.hashCode() ^ type.hashCode();
+        }
+    }
+}
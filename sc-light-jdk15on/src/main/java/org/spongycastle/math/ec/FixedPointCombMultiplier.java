@@ -0,0 +1,135 @@
+package org.spongycastle.math.ec;
+
+import java.math.BigInteger;
+
+/**
+ * Class implementing the fixed-base comb multiplication algorithm (Lim-Lee,
+ * see Hankerson, Menezes and Vanstone, "Guide to Elliptic Curve Cryptography",
+ * Algorithm 3.44). The comb table depends only on the base point, so it is
+ * computed once per base point - typically the generator of a named curve -
+ * and kept in the {@link FixedPointCache} shared by all threads.
+ */
+class FixedPointCombMultiplier implements ECMultiplier
+{
+    /**
+     * Multiplies the fixed point <code>p</code> by <code>k</code>. The result
+     * is not necessarily normalised.
+     * @param p The base point, the table is looked up (or built) for it.
+     * @param k The factor by which <code>p</code> is multiplied, k &gt;= 0.
+     * @param preCompInfo A <code>FixedPointPreCompInfo</code> for p, if the
+     * caller already has one, otherwise null.
+     * @return <code>p</code> multiplied by <code>k</code>.
+     */
+    public ECPoint multiply(ECPoint p, BigInteger k, PreCompInfo preCompInfo)
+    {
+        FixedPointPreCompInfo info;
+
+        if ((preCompInfo != null) && (preCompInfo instanceof FixedPointPreCompInfo))
+        {
+            info = (FixedPointPreCompInfo)preCompInfo;
+        }
+        else
+        {
+            info = getPreCompInfo(p);
+        }
+
+        int width = info.getWidth();
+        int d = info.getSpacing();
+
+        if (k.bitLength() > width * d)
+        {
+            // Too large for the comb - the order is normally less than 2^(fieldSize + 1)
+            return p.multiply(k);
+        }
+
+        ECPoint[] lookupTable = info.getLookupTable();
+        ECPoint R = p.getCurve().getInfinity();
+
+        for (int i = d - 1; i >= 0; --i)
+        {
+            int index = 0;
+
+            for (int j = width - 1; j >= 0; --j)
+            {
+                index <<= 1;
+                if (k.testBit(j * d + i))
+                {
+                    index |= 1;
+                }
+            }
+
+            R = R.twice();
+
+            if (index != 0)
+            {
+                R = R.add(lookupTable[index]);
+            }
+        }
+
+        return R;
+    }
+
+    /**
+     * Return the shared comb table for the point p, computing it if this is
+     * the first time p has been used as a base point.
+     */
+    static FixedPointPreCompInfo getPreCompInfo(ECPoint p)
+    {
+        FixedPointPreCompInfo info = (FixedPointPreCompInfo)FixedPointCache.get(p, FixedPointPreCompInfo.class);
+
+        if (info == null)
+        {
+            // a racing thread may compute an identical table, the first one stored wins
+            info = (FixedPointPreCompInfo)FixedPointCache.putIfAbsent(p, precompute(p));
+        }
+
+        return info;
+    }
+
+    private static FixedPointPreCompInfo precompute(ECPoint p)
+    {
+        ECCurve c = p.getCurve();
+
+        // allow for a group order slightly larger than the field (Hasse bound)
+        int bits = c.getFieldSize() + 1;
+        int width = (bits > 256) ? 6 : 5;
+        int d = (bits + width - 1) / width;
+        int n = 1 << width;
+
+        ECPoint[] pow2Table = new ECPoint[width];
+        pow2Table[0] = p.normalize();
+
+        for (int j = 1; j < width; ++j)
+        {
+            ECPoint q = pow2Table[j - 1];
+
+            for (int i = 0; i < d; ++i)
+            {
+                q = q.twice();
+            }
+
+            pow2Table[j] = q;
+        }
+
+        c.normalizeAll(pow2Table);
+
+        ECPoint[] lookupTable = new ECPoint[n];
+        lookupTable[0] = c.getInfinity();
+
+        for (int j = 0; j < width; ++j)
+        {
+            int bit = 1 << j;
+
+            lookupTable[bit] = pow2Table[j];
+
+            for (int i = 1; i < bit; ++i)
+            {
+                lookupTable[bit + i] = lookupTable[i].add(pow2Table[j]);
+            }
+        }
+
+        c.normalizeAll(lookupTable);
+
+        return new FixedPointPreCompInfo(width, d, lookupTable);
+    }
+}
@@ -0,0 +1,49 @@
+package org.spongycastle.math.ec;
+
+/**
+ * Class holding the comb table for the fixed-base comb multiplication
+ * algorithm. Instances are immutable once constructed, so a single table
+ * can be shared freely between threads.
+ */
+class FixedPointPreCompInfo implements PreCompInfo
+{
+    /**
+     * The comb width <code>w</code>.
+     */
+    private final int width;
+
+    /**
+     * The number of columns <code>d</code> in the comb, so the table covers
+     * scalars of up to <code>w * d</code> bits.
+     */
+    private final int spacing;
+
+    /**
+     * Array of <code>2<sup>w</sup></code> affine points, where entry
+     * <code>i</code> is the sum of <code>2<sup>j * d</sup>P</code> over the
+     * bits <code>j</code> set in <code>i</code>.
+     */
+    private final ECPoint[] lookupTable;
+
+    FixedPointPreCompInfo(int width, int spacing, ECPoint[] lookupTable)
+    {
+        this.width = width;
+        this.spacing = spacing;
+        this.lookupTable = lookupTable;
+    }
+
+    int getWidth()
+    {
+        return width;
+    }
+
+    int getSpacing()
+    {
+        return spacing;
+    }
+
+    ECPoint[] getLookupTable()
+    {
+        return lookupTable;
+    }
+}
@@ -0,0 +1,313 @@
+package org.spongycastle.math.ec;
+
+import java.math.BigInteger;
+
+/**
+ * Arithmetic modulo a fixed generalised Mersenne prime, on field elements held
+ * as little-endian arrays of 32 bit words. Subclasses provide the fast reduction
+ * of a double width product for their particular prime.
+ */
+abstract class FixedWidthFpField
+{
+    static final long M = 0xFFFFFFFFL;
+
+    /**
+     * The prime as a <code>BigInteger</code>.
+     */
+    final BigInteger q;
+
+    /**
+     * The prime as an array of <code>len</code> little-endian words.
+     */
+    final int[] P;
+
+    /**
+     * The number of 32 bit words in a field element.
+     */
+    final int len;
+
+    FixedWidthFpField(BigInteger q)
+    {
+        this.q = q;
+        this.len = (q.bitLength() + 31) / 32;
+        this.P = toWords(q, len);
+    }
+
+    /**
+     * Return the fixed width arithmetic for the prime q, if there is one.
+     *
+     * @param q the field prime.
+     * @return a field implementation, or null if q is not one of the supported primes.
+     */
+    static FixedWidthFpField getInstance(BigInteger q)
+    {
+        if (q.equals(SecP256R1Field.INSTANCE.q))
+        {
+            return SecP256R1Field.INSTANCE;
+        }
+        if (q.equals(SecP384R1Field.INSTANCE.q))
+        {
+            return SecP384R1Field.INSTANCE;
+        }
+        if (q.equals(SecP521R1Field.INSTANCE.q))
+        {
+            return SecP521R1Field.INSTANCE;
+        }
+        if (q.equals(SecP256K1Field.INSTANCE.q))
+        {
+            return SecP256K1Field.INSTANCE;
+        }
+
+        return null;
+    }
+
+    /**
+     * Reduce the double width value tt (2 * len words) modulo the prime into z.
+     */
+    abstract void reduce(int[] tt, int[] z);
+
+    int[] fromBigInteger(BigInteger x)
+    {
+        if (x.signum() < 0)
+        {
+            x = x.mod(q);
+        }
+
+        return toWords(x, len);
+    }
+
+    BigInteger toBigInteger(int[] x)
+    {
+        byte[] bs = new byte[len * 4];
+
+        for (int i = 0; i < len; ++i)
+        {
+            int w = x[i];
+            int off = bs.length - 4 * (i + 1);
+
+            bs[off] = (byte)(w >>> 24);
+            bs[off + 1] = (byte)(w >>> 16);
+            bs[off + 2] = (byte)(w >>> 8);
+            bs[off + 3] = (byte)w;
+        }
+
+        return new BigInteger(1, bs);
+    }
+
+    void add(int[] x, int[] y, int[] z)
+    {
+        long c = 0;
+
+        for (int i = 0; i < len; ++i)
+        {
+            c += (x[i] & M) + (y[i] & M);
+            z[i] = (int)c;
+            c >>>= 32;
+        }
+
+        if (c != 0 || gteP(z))
+        {
+            subP(z);
+        }
+    }
+
+    void subtract(int[] x, int[] y, int[] z)
+    {
+        long c = 0;
+
+        for (int i = 0; i < len; ++i)
+        {
+            c += (x[i] & M) - (y[i] & M);
+            z[i] = (int)c;
+            c >>= 32;
+        }
+
+        if (c != 0)
+        {
+            addP(z);
+        }
+    }
+
+    void negate(int[] x, int[] z)
+    {
+        if (isZero(x))
+        {
+            System.arraycopy(x, 0, z, 0, len);
+        }
+        else
+        {
+            subtract(P, x, z);
+        }
+    }
+
+    void multiply(int[] x, int[] y, int[] z)
+    {
+        int[] tt = new int[2 * len];
+
+        for (int i = 0; i < len; ++i)
+        {
+            long xi = x[i] & M;
+            long c = 0;
+
+            for (int j = 0; j < len; ++j)
+            {
+                c += xi * (y[j] & M) + (tt[i + j] & M);
+                tt[i + j] = (int)c;
+                c >>>= 32;
+            }
+
+            tt[i + len] = (int)c;
+        }
+
+        reduce(tt, z);
+    }
+
+    void square(int[] x, int[] z)
+    {
+        int[] tt = new int[2 * len];
+
+        // off-diagonal products x[i] * x[j], i < j
+        for (int i = 0; i < len - 1; ++i)
+        {
+            long xi = x[i] & M;
+            long c = 0;
+
+            for (int j = i + 1; j < len; ++j)
+            {
+                c += xi * (x[j] & M) + (tt[i + j] & M);
+                tt[i + j] = (int)c;
+                c >>>= 32;
+            }
+
+            tt[i + len] = (int)c;
+        }
+
+        // double them and add in the squares on the diagonal
+        long c = 0;
+        int prev = 0;
+
+        for (int i = 0; i < len; ++i)
+        {
+            long sq = (x[i] & M) * (x[i] & M);
+            int lo = tt[2 * i], hi = tt[2 * i + 1];
+
+            c += (sq & M) + (((lo << 1) | (prev >>> 31)) & M);
+            tt[2 * i] = (int)c;
+            c >>>= 32;
+            c += (sq >>> 32) + (((hi << 1) | (lo >>> 31)) & M);
+            tt[2 * i + 1] = (int)c;
+            c >>>= 32;
+            prev = hi;
+        }
+
+        reduce(tt, z);
+    }
+
+    /**
+     * Fold a signed carry c out of the top word back into z, given that
+     * <code>2<sup>32 * len</sup></code> is congruent to the sum of
+     * <code>coeffs[k] * 2<sup>32 * shifts[k]</sup></code> modulo the prime,
+     * then bring z into the range [0, P).
+     */
+    void fold(long c, int[] z, int[] shifts, int[] coeffs)
+    {
+        while (c != 0)
+        {
+            long cc = 0;
+            int k = 0;
+
+            for (int i = 0; i < len; ++i)
+            {
+                cc += z[i] & M;
+                if (k < shifts.length && shifts[k] == i)
+                {
+                    cc += c * coeffs[k++];
+                }
+                z[i] = (int)cc;
+                cc >>= 32;
+            }
+
+            c = cc;
+        }
+
+        if (gteP(z))
+        {
+            subP(z);
+        }
+    }
+
+    boolean gteP(int[] z)
+    {
+        for (int i = len - 1; i >= 0; --i)
+        {
+            int zi = z[i] ^ Integer.MIN_VALUE, pi = P[i] ^ Integer.MIN_VALUE;
+
+            if (zi < pi)
+            {
+                return false;
+            }
+            if (zi > pi)
+            {
+                return true;
+            }
+        }
+
+        return true;
+    }
+
+    void subP(int[] z)
+    {
+        long c = 0;
+
+        for (int i = 0; i < len; ++i)
+        {
+            c += (z[i] & M) - (P[i] & M);
+            z[i] = (int)c;
+            c >>= 32;
+        }
+    }
+
+    void addP(int[] z)
+    {
+        long c = 0;
+
+        for (int i = 0; i < len; ++i)
+        {
+            c += (z[i] & M) + (P[i] & M);
+            z[i] = (int)c;
+            c >>>= 32;
+        }
+    }
+
+    static boolean isZero(int[] x)
+    {
+        for (int i = 0; i < x.length; ++i)
+        {
+            if (x[i] != 0)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    static int[] toWords(BigInteger x, int len)
+    {
+        byte[] bs = x.toByteArray();
+        int[] words = new int[len];
+
+        for (int i = 0; i < bs.length; ++i)
+        {
+            int bit = 8 * (bs.length - 1 - i);
+            int w = bit >>> 5;
+
+            if (w < len)
+            {
+                words[w] |= (bs[i] & 0xff) << (bit & 31);
+            }
+        }
+
+        return words;
+    }
+}
@@ -0,0 +1,118 @@
+package org.spongycastle.math.ec;
+
+import java.math.BigInteger;
+
+/**
+ * An element of one of the prime fields with a fixed width implementation,
+ * held as an array of 32 bit words rather than a <code>BigInteger</code> so
+ * the field operations avoid the general purpose division in <code>mod()</code>.
+ */
+class FixedWidthFpFieldElement
+    extends ECFieldElement.Fp
+{
+    private final FixedWidthFpField field;
+    private final int[] words;
+
+    FixedWidthFpFieldElement(FixedWidthFpField field, BigInteger x)
+    {
+        super(field.q);
+
+        if (x.compareTo(field.q) >= 0)
+        {
+            throw new IllegalArgumentException("x value too large in field element");
+        }
+
+        this.field = field;
+        this.words = field.fromBigInteger(x);
+    }
+
+    private FixedWidthFpFieldElement(FixedWidthFpField field, int[] words)
+    {
+        super(field.q);
+
+        this.field = field;
+        this.words = words;
+    }
+
+    public BigInteger toBigInteger()
+    {
+        return field.toBigInteger(words);
+    }
+
+    public boolean isZero()
+    {
+        return FixedWidthFpField.isZero(words);
+    }
+
+    public ECFieldElement add(ECFieldElement b)
+    {
+        int[] z = new int[field.len];
+        field.add(words, wordsOf(b), z);
+        return new FixedWidthFpFieldElement(field, z);
+    }
+
+    public ECFieldElement subtract(ECFieldElement b)
+    {
+        int[] z = new int[field.len];
+        field.subtract(words, wordsOf(b), z);
+        return new FixedWidthFpFieldElement(field, z);
+    }
+
+    public ECFieldElement multiply(ECFieldElement b)
+    {
+        int[] z = new int[field.len];
+        field.multiply(words, wordsOf(b), z);
+        return new FixedWidthFpFieldElement(field, z);
+    }
+
+    public ECFieldElement divide(ECFieldElement b)
+    {
+        return multiply(b.invert());
+    }
+
+    public ECFieldElement negate()
+    {
+        int[] z = new int[field.len];
+        field.negate(words, z);
+        return new FixedWidthFpFieldElement(field, z);
+    }
+
+    public ECFieldElement square()
+    {
+        int[] z = new int[field.len];
+        field.square(words, z);
+        return new FixedWidthFpFieldElement(field, z);
+    }
+
+    public ECFieldElement invert()
+    {
+        return new FixedWidthFpFieldElement(field, toBigInteger().modInverse(field.q));
+    }
+
+    public ECFieldElement sqrt()
+    {
+        ECFieldElement root = new ECFieldElement.Fp(field.q, toBigInteger()).sqrt();
+
+        if (root == null)
+        {
+            return null;
+        }
+
+        return new FixedWidthFpFieldElement(field, root.toBigInteger());
+    }
+
+    private int[] wordsOf(ECFieldElement b)
+    {
+        if (b instanceof FixedWidthFpFieldElement)
+        {
+            FixedWidthFpFieldElement other = (FixedWidthFpFieldElement)b;
+
+            if (other.field == field)
+            {
+                return other.words;
+            }
+        }
+
+        return field.fromBigInteger(b.toBigInteger());
+    }
+}
@@ -0,0 +1,194 @@
+package org.spongycastle.math.ec;
+
+import java.math.BigInteger;
+
+/**
+ * Class implementing interleaved WNAF multiplication (see Hankerson, Menezes
+ * and Vanstone, "Guide to Elliptic Curve Cryptography", Algorithm 3.51) for
+ * computing <code>a * P + b * Q</code> with a single chain of doublings, as
+ * needed by signature verification. In {@link #sumOfTwoMultiplies} and
+ * {@link #multiply} <code>P</code> is treated as a fixed base: its table of odd
+ * multiples is wide, computed once and shared between threads through the
+ * {@link FixedPointCache}. The table for <code>Q</code> - typically a public
+ * key - is computed for each call.
+ */
+public class InterleavedWNafMultiplier
+    implements ECMultiplier
+{
+    /**
+     * WNAF width used for the fixed base, giving a table of
+     * <code>2<sup>FIXED_WIDTH - 2</sup></code> points.
+     */
+    private static final byte FIXED_WIDTH = 7;
+
+    private static final WNafMultiplier wnaf = new WNafMultiplier();
+
+    /**
+     * Multiplies the fixed point <code>p</code> by <code>k</code> using the
+     * shared table for <code>p</code>. The result is not necessarily normalised.
+     * @param p The base point.
+     * @param k The factor by which <code>p</code> is multiplied, k &gt;= 0.
+     * @param preCompInfo ignored, the table is taken from the shared cache.
+     * @return <code>p</code> multiplied by <code>k</code>.
+     */
+    public ECPoint multiply(ECPoint p, BigInteger k, PreCompInfo preCompInfo)
+    {
+        ECPoint[] preComp = getFixedPreComp(p);
+        byte[] wnafK = wnaf.windowNaf(FIXED_WIDTH, k);
+
+        ECPoint R = p.getCurve().getInfinity();
+
+        for (int i = wnafK.length - 1; i >= 0; --i)
+        {
+            R = addDigit(R.twice(), preComp, wnafK[i]);
+        }
+
+        return R;
+    }
+
+    /**
+     * Compute <code>a * P + b * Q</code>. The result is not necessarily normalised.
+     * @param P the fixed base point, usually the generator.
+     * @param a the multiplicator for P, a &gt;= 0.
+     * @param Q the second point, on the same curve as P.
+     * @param b the multiplicator for Q, b &gt;= 0.
+     * @return <code>a * P + b * Q</code>.
+     */
+    public ECPoint sumOfTwoMultiplies(ECPoint P, BigInteger a, ECPoint Q, BigInteger b)
+    {
+        return implSumOfTwoMultiplies(getFixedPreComp(P), FIXED_WIDTH, a, Q, b);
+    }
+
+    /**
+     * Compute <code>a * P + b * Q</code> where neither point is fixed, so both
+     * tables are computed for this call only.
+     */
+    static ECPoint sumOfTwoVariableMultiplies(ECPoint P, BigInteger a, ECPoint Q, BigInteger b)
+    {
+        byte widthP = getWidth(a.bitLength());
+
+        return implSumOfTwoMultiplies(precompute(P, 1 << (widthP - 2)), widthP, a, Q, b);
+    }
+
+    private static ECPoint implSumOfTwoMultiplies(ECPoint[] preCompP, byte widthP, BigInteger a,
+        ECPoint Q, BigInteger b)
+    {
+        if (a.signum() < 0 || b.signum() < 0)
+        {
+            throw new IllegalArgumentException("The multiplicators cannot be negative");
+        }
+
+        byte widthQ = getWidth(b.bitLength());
+        ECPoint[] preCompQ = precompute(Q, 1 << (widthQ - 2));
+
+        byte[] wnafA = wnaf.windowNaf(widthP, a);
+        byte[] wnafB = wnaf.windowNaf(widthQ, b);
+
+        ECPoint R = Q.getCurve().getInfinity();
+
+        for (int i = Math.max(wnafA.length, wnafB.length) - 1; i >= 0; --i)
+        {
+            R = R.twice();
+
+            if (i < wnafA.length)
+            {
+                R = addDigit(R, preCompP, wnafA[i]);
+            }
+
+            if (i < wnafB.length)
+            {
+                R = addDigit(R, preCompQ, wnafB[i]);
+            }
+        }
+
+        return R;
+    }
+
+    private static ECPoint addDigit(ECPoint R, ECPoint[] preComp, byte digit)
+    {
+        if (digit > 0)
+        {
+            return R.add(preComp[(digit - 1) / 2]);
+        }
+        if (digit < 0)
+        {
+            return R.subtract(preComp[(-digit - 1) / 2]);
+        }
+
+        return R;
+    }
+
+    /**
+     * Return the table of odd multiples of the fixed point p, computing it if
+     * this is the first time p has been used as a fixed base.
+     */
+    private static ECPoint[] getFixedPreComp(ECPoint p)
+    {
+        WNafPreCompInfo info = (WNafPreCompInfo)FixedPointCache.get(p, WNafPreCompInfo.class);
+
+        if (info == null)
+        {
+            info = new WNafPreCompInfo();
+            info.setPreComp(precompute(p, 1 << (FIXED_WIDTH - 2)));
+
+            // a racing thread may compute an identical table, the first one stored wins
+            info = (WNafPreCompInfo)FixedPointCache.putIfAbsent(p, info);
+        }
+
+        return info.getPreComp();
+    }
+
+    /**
+     * Compute the odd multiples 1, 3, 5, ..., 2 * len - 1 times p, in affine
+     * co-ordinates.
+     */
+    private static ECPoint[] precompute(ECPoint p, int len)
+    {
+        ECPoint[] preComp = new ECPoint[len];
+        preComp[0] = p;
+
+        if (len > 1)
+        {
+            ECPoint twiceP = p.twice();
+
+            for (int i = 1; i < len; ++i)
+            {
+                preComp[i] = twiceP.add(preComp[i - 1]);
+            }
+        }
+
+        p.getCurve().normalizeAll(preComp);
+
+        return preComp;
+    }
+
+    /**
+     * Window width for a multiplicator of m bits, following the thresholds
+     * used by <code>WNafMultiplier</code>.
+     */
+    private static byte getWidth(int m)
+    {
+        if (m < 13)
+        {
+            return 2;
+        }
+        if (m < 41)
+        {
+            return 3;
+        }
+        if (m < 121)
+        {
+            return 4;
+        }
+        if (m < 337)
+        {
+            return 5;
+        }
+        if (m < 897)
+        {
+            return 6;
+        }
+
+        return 7;
+    }
+}
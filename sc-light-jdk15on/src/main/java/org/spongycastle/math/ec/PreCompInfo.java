@@ -5,6 +5,6 @@ package org.spongycastle.math.ec;
  * algorithms. Used as a Memento (see GOF patterns) for
  * <code>WNafMultiplier</code>.
  */
-interface PreCompInfo
+public interface PreCompInfo
 {
 }
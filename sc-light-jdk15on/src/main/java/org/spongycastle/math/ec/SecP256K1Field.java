@@ -0,0 +1,42 @@
+package org.spongycastle.math.ec;
+
+import java.math.BigInteger;
+
+/**
+ * Arithmetic modulo the secp256k1 prime
+ * <code>p = 2<sup>256</sup> - 2<sup>32</sup> - 977</code>, reducing with
+ * <code>2<sup>256</sup> = 2<sup>32</sup> + 977 (mod p)</code>.
+ */
+class SecP256K1Field
+    extends FixedWidthFpField
+{
+    static final SecP256K1Field INSTANCE = new SecP256K1Field();
+
+    private static final long C = 977;
+
+    private static final int[] SHIFTS = { 0, 1 };
+    private static final int[] COEFFS = { (int)C, 1 };
+
+    private SecP256K1Field()
+    {
+        super(new BigInteger("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEFFFFFC2F", 16));
+    }
+
+    void reduce(int[] tt, int[] z)
+    {
+        long cc = 0;
+        long prev = 0;
+
+        for (int i = 0; i < 8; ++i)
+        {
+            long hi = tt[i + 8] & M;
+
+            cc += (tt[i] & M) + C * hi + prev;
+            z[i] = (int)cc;
+            cc >>>= 32;
+            prev = hi;
+        }
+
+        fold(cc + prev, z, SHIFTS, COEFFS);
+    }
+}
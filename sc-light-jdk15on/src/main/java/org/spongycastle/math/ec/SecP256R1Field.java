@@ -0,0 +1,58 @@
+package org.spongycastle.math.ec;
+
+import java.math.BigInteger;
+
+/**
+ * Arithmetic modulo the NIST P-256 prime
+ * <code>p = 2<sup>256</sup> - 2<sup>224</sup> + 2<sup>192</sup> + 2<sup>96</sup> - 1</code>,
+ * using the fast reduction of FIPS 186-3, D.2.3.
+ */
+class SecP256R1Field
+    extends FixedWidthFpField
+{
+    static final SecP256R1Field INSTANCE = new SecP256R1Field();
+
+    // 2^256 = 2^224 - 2^192 - 2^96 + 1 (mod p)
+    private static final int[] SHIFTS = { 0, 3, 6, 7 };
+    private static final int[] COEFFS = { 1, -1, -1, 1 };
+
+    private SecP256R1Field()
+    {
+        super(new BigInteger("FFFFFFFF00000001000000000000000000000000FFFFFFFFFFFFFFFFFFFFFFFF", 16));
+    }
+
+    void reduce(int[] tt, int[] z)
+    {
+        long c8 = tt[8] & M, c9 = tt[9] & M, c10 = tt[10] & M, c11 = tt[11] & M;
+        long c12 = tt[12] & M, c13 = tt[13] & M, c14 = tt[14] & M, c15 = tt[15] & M;
+
+        long cc = 0;
+
+        cc += (tt[0] & M) + c8 + c9 - c11 - c12 - c13 - c14;
+        z[0] = (int)cc;
+        cc >>= 32;
+        cc += (tt[1] & M) + c9 + c10 - c12 - c13 - c14 - c15;
+        z[1] = (int)cc;
+        cc >>= 32;
+        cc += (tt[2] & M) + c10 + c11 - c13 - c14 - c15;
+        z[2] = (int)cc;
+        cc >>= 32;
+        cc += (tt[3] & M) + 2 * (c11 + c12) + c13 - c15 - c8 - c9;
+        z[3] = (int)cc;
+        cc >>= 32;
+        cc += (tt[4] & M) + 2 * (c12 + c13) + c14 - c9 - c10;
+        z[4] = (int)cc;
+        cc >>= 32;
+        cc += (tt[5] & M) + 2 * (c13 + c14) + c15 - c10 - c11;
+        z[5] = (int)cc;
+        cc >>= 32;
+        cc += (tt[6] & M) + 3 * c14 + 2 * c15 + c13 - c8 - c9;
+        z[6] = (int)cc;
+        cc >>= 32;
+        cc += (tt[7] & M) + 3 * c15 + c8 - c10 - c11 - c12 - c13;
+        z[7] = (int)cc;
+        cc >>= 32;
+
+        fold(cc, z, SHIFTS, COEFFS);
+    }
+}
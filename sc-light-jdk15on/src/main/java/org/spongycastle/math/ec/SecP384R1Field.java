@@ -0,0 +1,71 @@
+package org.spongycastle.math.ec;
+
+import java.math.BigInteger;
+
+/**
+ * Arithmetic modulo the NIST P-384 prime
+ * <code>p = 2<sup>384</sup> - 2<sup>128</sup> - 2<sup>96</sup> + 2<sup>32</sup> - 1</code>,
+ * using the fast reduction of FIPS 186-3, D.2.4.
+ */
+class SecP384R1Field
+    extends FixedWidthFpField
+{
+    static final SecP384R1Field INSTANCE = new SecP384R1Field();
+
+    // 2^384 = 2^128 + 2^96 - 2^32 + 1 (mod p)
+    private static final int[] SHIFTS = { 0, 1, 3, 4 };
+    private static final int[] COEFFS = { 1, -1, 1, 1 };
+
+    private SecP384R1Field()
+    {
+        super(new BigInteger("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEFFFFFFFF0000000000000000FFFFFFFF", 16));
+    }
+
+    void reduce(int[] tt, int[] z)
+    {
+        long c12 = tt[12] & M, c13 = tt[13] & M, c14 = tt[14] & M, c15 = tt[15] & M;
+        long c16 = tt[16] & M, c17 = tt[17] & M, c18 = tt[18] & M, c19 = tt[19] & M;
+        long c20 = tt[20] & M, c21 = tt[21] & M, c22 = tt[22] & M, c23 = tt[23] & M;
+
+        long cc = 0;
+
+        cc += (tt[0] & M) + c12 + c21 + c20 - c23;
+        z[0] = (int)cc;
+        cc >>= 32;
+        cc += (tt[1] & M) + c13 + c22 + c23 - c12 - c20;
+        z[1] = (int)cc;
+        cc >>= 32;
+        cc += (tt[2] & M) + c14 + c23 - c13 - c21;
+        z[2] = (int)cc;
+        cc >>= 32;
+        cc += (tt[3] & M) + c15 + c12 + c20 + c21 - c14 - c22 - c23;
+        z[3] = (int)cc;
+        cc >>= 32;
+        cc += (tt[4] & M) + 2 * c21 + c16 + c13 + c12 + c20 + c22 - c15 - 2 * c23;
+        z[4] = (int)cc;
+        cc >>= 32;
+        cc += (tt[5] & M) + 2 * c22 + c17 + c14 + c13 + c21 + c23 - c16;
+        z[5] = (int)cc;
+        cc >>= 32;
+        cc += (tt[6] & M) + 2 * c23 + c18 + c15 + c14 + c22 - c17;
+        z[6] = (int)cc;
+        cc >>= 32;
+        cc += (tt[7] & M) + c19 + c16 + c15 + c23 - c18;
+        z[7] = (int)cc;
+        cc >>= 32;
+        cc += (tt[8] & M) + c20 + c17 + c16 - c19;
+        z[8] = (int)cc;
+        cc >>= 32;
+        cc += (tt[9] & M) + c21 + c18 + c17 - c20;
+        z[9] = (int)cc;
+        cc >>= 32;
+        cc += (tt[10] & M) + c22 + c19 + c18 - c21;
+        z[10] = (int)cc;
+        cc >>= 32;
+        cc += (tt[11] & M) + c23 + c20 + c19 - c22;
+        z[11] = (int)cc;
+        cc >>= 32;
+
+        fold(cc, z, SHIFTS, COEFFS);
+    }
+}
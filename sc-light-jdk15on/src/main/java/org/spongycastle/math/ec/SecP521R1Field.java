@@ -0,0 +1,51 @@
+package org.spongycastle.math.ec;
+
+import java.math.BigInteger;
+
+/**
+ * Arithmetic modulo the NIST P-521 Mersenne prime <code>p = 2<sup>521</sup> - 1</code>.
+ */
+class SecP521R1Field
+    extends FixedWidthFpField
+{
+    static final SecP521R1Field INSTANCE = new SecP521R1Field();
+
+    private SecP521R1Field()
+    {
+        super(BigInteger.ONE.shiftLeft(521).subtract(BigInteger.ONE));
+    }
+
+    void reduce(int[] tt, int[] z)
+    {
+        // z = (tt mod 2^521) + (tt >>> 521)
+        long c = 0;
+
+        for (int i = 0; i < 16; ++i)
+        {
+            int hi = (tt[i + 16] >>> 9) | (tt[i + 17] << 23);
+
+            c += (tt[i] & M) + (hi & M);
+            z[i] = (int)c;
+            c >>>= 32;
+        }
+
+        c += (tt[16] & 0x1FF) + (tt[32] >>> 9);
+        z[16] = (int)c;
+
+        // the sum is below 2^522, fold bit 521 back in once more
+        c = z[16] >>> 9;
+        z[16] &= 0x1FF;
+
+        for (int i = 0; c != 0 && i < 17; ++i)
+        {
+            c += z[i] & M;
+            z[i] = (int)c;
+            c >>>= 32;
+        }
+
+        if (gteP(z))
+        {
+            subP(z);
+        }
+    }
+}
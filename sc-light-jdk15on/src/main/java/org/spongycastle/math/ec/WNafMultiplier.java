@@ -202,7 +202,11 @@ class WNafMultiplier implements ECMultiplier
                 // The values 1, 3, 5, ..., 2^(width-1)-1 times p are
                 // computed
                 preComp[i] = twiceP.add(preComp[i - 1]);
-            }            
+            }
+
+            // Bring the table to affine co-ordinates with a single inversion,
+            // so the main loop below can use the cheaper mixed additions
+            p.getCurve().normalizeAll(preComp);
         }
 
         // Compute the Window NAF of the desired width
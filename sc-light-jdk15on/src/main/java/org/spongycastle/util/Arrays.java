@@ -520,6 +520,50 @@ public final class Arrays
         return tmp;
     }
 
+    /**
+     * Return the concatenation of the passed in arrays, any of which may be null.
+     */
+    public static byte[] concatenate(byte[] a, byte[] b)
+    {
+        return concatenate(new byte[][]{ a, b });
+    }
+
+    public static byte[] concatenate(byte[] a, byte[] b, byte[] c)
+    {
+        return concatenate(new byte[][]{ a, b, c });
+    }
+
+    public static byte[] concatenate(byte[] a, byte[] b, byte[] c, byte[] d)
+    {
+        return concatenate(new byte[][]{ a, b, c, d });
+    }
+
+    private static byte[] concatenate(byte[][] arrays)
+    {
+        int length = 0;
+        for (int i = 0; i != arrays.length; i++)
+        {
+            if (arrays[i] != null)
+            {
+                length += arrays[i].length;
+            }
+        }
+
+        byte[] rv = new byte[length];
+
+        int off = 0;
+        for (int i = 0; i != arrays.length; i++)
+        {
+            if (arrays[i] != null)
+            {
+                System.arraycopy(arrays[i], 0, rv, off, arrays[i].length);
+                off += arrays[i].length;
+            }
+        }
+
+        return rv;
+    }
+
     private static int getLength(int from, int to)
     {
         int newLength = to - from;
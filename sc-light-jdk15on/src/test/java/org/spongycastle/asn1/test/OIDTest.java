@@ -3,13 +3,17 @@ package org.spongycastle.asn1.test;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
 
+import org.spongycastle.asn1.ASN1Encoding;
 import org.spongycastle.asn1.ASN1InputStream;
 import org.spongycastle.asn1.ASN1ObjectIdentifier;
 import org.spongycastle.asn1.ASN1OutputStream;
+import org.spongycastle.asn1.ASN1Primitive;
 import org.spongycastle.asn1.DERObjectIdentifier;
 import org.spongycastle.asn1.DEROutputStream;
 import org.spongycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.spongycastle.util.Arrays;
 import org.spongycastle.util.encoders.Hex;
 import org.spongycastle.util.test.SimpleTest;
 
@@ -119,8 +123,164 @@ public class OIDTest
         }
     }
 
-    public void performTest()
+    private void internCheck()
         throws IOException
+    {
+        ASN1ObjectIdentifier pkcs = PKCSObjectIdentifiers.pkcs_9_at_contentType;
+
+        if (ASN1Primitive.fromByteArray(pkcs.getEncoded()) != pkcs)
+        {
+            fail("decoding didn't return the constant OID");
+        }
+
+        byte[] enc = new ASN1ObjectIdentifier("1.2.3.4.5.6.7").getEncoded();
+
+        if (ASN1Primitive.fromByteArray(enc) != ASN1Primitive.fromByteArray(enc))
+        {
+            fail("decoding twice didn't return the same OID");
+        }
+
+        // OIDs built from strings, as parsing names does, are not kept
+        ASN1ObjectIdentifier built = new ASN1ObjectIdentifier("1.3.6.1.4.1.22554.98");
+
+        if (ASN1Primitive.fromByteArray(built.getEncoded()) == built)
+        {
+            fail("OID built from a string was interned");
+        }
+
+        for (int i = 0; i != 20000; i++)
+        {
+            new ASN1ObjectIdentifier("1.3.6.1.4.1.22554.97." + i);
+        }
+
+        ASN1ObjectIdentifier constant = new ASN1ObjectIdentifier("1.3.6.1.4.1.22554.96").intern();
+
+        if (new ASN1ObjectIdentifier("1.3.6.1.4.1.22554.96").intern() != constant)
+        {
+            fail("intern() didn't return the interned OID");
+        }
+        if (ASN1Primitive.fromByteArray(constant.getEncoded()) != constant)
+        {
+            fail("decoding didn't return the interned OID");
+        }
+
+        // however many distinct OIDs have been decoded, the latest one is still interned
+        byte[] prefix = Hex.decode("060B2B0601040181B01A6300");
+        byte[] flood = new byte[prefix.length + 1];
+        System.arraycopy(prefix, 0, flood, 0, prefix.length);
+
+        for (int i = 0x80; i != 0x4000; i++)
+        {
+            flood[prefix.length - 1] = (byte)(0x80 | (i >> 7));
+            flood[prefix.length] = (byte)(i & 0x7f);
+
+            ASN1Primitive.fromByteArray(flood);
+        }
+
+        enc = Hex.decode("060B2B0601040181B01A64817F");
+        if (ASN1Primitive.fromByteArray(enc) != ASN1Primitive.fromByteArray(enc))
+        {
+            fail("decoded OID not interned once the table was full");
+        }
+
+        // "1.2.5" with a needless leading octet in its last subidentifier
+        byte[] nonMinimal = Hex.decode("06032A8005");
+        ASN1ObjectIdentifier decoded = (ASN1ObjectIdentifier)ASN1Primitive.fromByteArray(nonMinimal);
+
+        if (!decoded.getId().equals("1.2.5"))
+        {
+            fail("failed non-minimal decode: " + decoded.getId());
+        }
+        if (!Arrays.areEqual(Hex.decode("06022A05"), decoded.getEncoded(ASN1Encoding.DER)))
+        {
+            fail("non-minimal encoding not recoded");
+        }
+        if (!Arrays.areEqual(Hex.decode("06022A05"), new ASN1ObjectIdentifier("1.2.5").getEncoded()))
+        {
+            fail("non-minimal body shared with a constructed OID");
+        }
+    }
+
+    private void concurrentInternCheck()
+        throws Exception
+    {
+        /*
+         * The encodings of 1.3.6.1.4.1.22554.99.i are built from the raw octets - constructing
+         * the OIDs would intern them, leaving nothing for the decoding threads to race over.
+         */
+        byte[] prefix = Hex.decode("060A2B0601040181B01A63");
+
+        final byte[][] encodings = new byte[100][];
+        for (int i = 0; i != encodings.length; i++)
+        {
+            encodings[i] = new byte[prefix.length + 1];
+            System.arraycopy(prefix, 0, encodings[i], 0, prefix.length);
+            encodings[i][prefix.length] = (byte)i;
+        }
+
+        final ASN1Primitive[][] results = new ASN1Primitive[4][encodings.length];
+        final Exception[] failures = new Exception[results.length];
+        final CountDownLatch start = new CountDownLatch(1);
+
+        Thread[] threads = new Thread[results.length];
+        for (int t = 0; t != threads.length; t++)
+        {
+            final int index = t;
+
+            threads[t] = new Thread()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        start.await();
+
+                        for (int i = 0; i != encodings.length; i++)
+                        {
+                            results[index][i] = ASN1Primitive.fromByteArray(encodings[i]);
+                        }
+                    }
+                    catch (Exception e)
+                    {
+                        failures[index] = e;
+                    }
+                }
+            };
+            threads[t].start();
+        }
+
+        start.countDown();
+
+        for (int t = 0; t != threads.length; t++)
+        {
+            threads[t].join();
+
+            if (failures[t] != null)
+            {
+                throw failures[t];
+            }
+        }
+
+        for (int i = 0; i != encodings.length; i++)
+        {
+            if (!((ASN1ObjectIdentifier)results[0][i]).getId().equals("1.3.6.1.4.1.22554.99." + i))
+            {
+                fail("concurrent decode returned the wrong OID");
+            }
+
+            for (int t = 1; t != results.length; t++)
+            {
+                // racing decodes may each intern their own instance, so only equality is certain
+                if (!results[t][i].equals(results[0][i]))
+                {
+                    fail("concurrent decodes didn't agree on an OID");
+                }
+            }
+        }
+    }
+
+    public void performTest()
+        throws Exception
     {
         recodeCheck("2.100.3", req1);
         recodeCheck("1.2.54.34359733987.17", req2);
@@ -156,6 +316,9 @@ public class OIDTest
         onCheck("1.12", "1.1.2", false);
         onCheck("1.1", "1.1.1", true);
         onCheck("1.1", "1.1.2", true);
+
+        internCheck();
+        concurrentInternCheck();
     }
 
     public static void main(
@@ -1,6 +1,8 @@
 package org.spongycastle.asn1.test;
 
 import org.spongycastle.asn1.ASN1EncodableVector;
+import org.spongycastle.asn1.ASN1Encoding;
+import org.spongycastle.asn1.ASN1Sequence;
 import org.spongycastle.asn1.ASN1Set;
 import org.spongycastle.asn1.ASN1TaggedObject;
 import org.spongycastle.asn1.BERSet;
@@ -11,6 +13,7 @@ import org.spongycastle.asn1.DEROctetString;
 import org.spongycastle.asn1.DERSequence;
 import org.spongycastle.asn1.DERSet;
 import org.spongycastle.asn1.DERTaggedObject;
+import org.spongycastle.util.Arrays;
 import org.spongycastle.util.test.SimpleTest;
 
 /**
@@ -38,7 +41,120 @@ public class SetTest
         fail("sorting failed on attempt: " + attempt);
     }
 
+    private void checkLargeSet()
+        throws Exception
+    {
+        ASN1EncodableVector v = new ASN1EncodableVector();
+
+        for (int i = 0; i != 300; i++)
+        {
+            v.add(new DERInteger((i * 7919) % 1000 - 500));
+            if (i % 3 == 0)
+            {
+                v.add(new DEROctetString(new byte[i % 40]));
+            }
+        }
+
+        ASN1Set s = new DERSet(v);
+
+        if (s.size() != v.size())
+        {
+            fail("large set lost elements");
+        }
+
+        byte[] last = null;
+        for (int i = 0; i != s.size(); i++)
+        {
+            byte[] enc = s.getObjectAt(i).toASN1Primitive().getEncoded(ASN1Encoding.DER);
+
+            if (last != null && compare(last, enc) > 0)
+            {
+                fail("large set not sorted at element " + i);
+            }
+
+            last = enc;
+        }
+
+        // the cached encoding must be the one a fresh set of the parsed elements produces
+        byte[] encoding = s.getEncoded();
+        ASN1Set parsed = ASN1Set.getInstance(encoding);
+
+        if (!Arrays.areEqual(encoding, new DERSet(parsed.toArray()).getEncoded()))
+        {
+            fail("large set encoding mismatch");
+        }
+
+        if (!Arrays.areEqual(encoding, s.getEncoded()))
+        {
+            fail("large set re-encoding mismatch");
+        }
+    }
+
+    private void checkNestedSet()
+        throws Exception
+    {
+        ASN1EncodableVector v = new ASN1EncodableVector();
+
+        for (int i = 0; i != 40; i++)
+        {
+            v.add(new DEROctetString(new byte[] { (byte)(39 - i) }));
+        }
+
+        ASN1Set s = new DERSet(v);
+        byte[] setEncoding = s.getEncoded();
+
+        v = new ASN1EncodableVector();
+        v.add(new DERInteger(1));
+        v.add(s);
+        v.add(new DERTaggedObject(0, s));
+
+        byte[] encoding = new DERSequence(v).getEncoded();
+
+        // SEQUENCE { INTEGER 1, set, [0] EXPLICIT set } - a 122 octet set, so a 249 octet body
+        byte[] expected = new byte[3 + 3 + setEncoding.length + 2 + setEncoding.length];
+        int pos = 0;
+        expected[pos++] = 0x30;
+        expected[pos++] = (byte)0x81;
+        expected[pos++] = (byte)(expected.length - 3);
+        System.arraycopy(new DERInteger(1).getEncoded(), 0, expected, pos, 3);
+        pos += 3;
+        System.arraycopy(setEncoding, 0, expected, pos, setEncoding.length);
+        pos += setEncoding.length;
+        expected[pos++] = (byte)0xa0;
+        expected[pos++] = (byte)setEncoding.length;
+        System.arraycopy(setEncoding, 0, expected, pos, setEncoding.length);
+
+        if (!Arrays.areEqual(expected, encoding))
+        {
+            fail("nested set encoding mismatch");
+        }
+
+        ASN1Set parsed = ASN1Set.getInstance(ASN1Sequence.getInstance(encoding).getObjectAt(1));
+
+        for (int i = 0; i != parsed.size(); i++)
+        {
+            if (((DEROctetString)parsed.getObjectAt(i)).getOctets()[0] != i)
+            {
+                fail("nested set not sorted at element " + i);
+            }
+        }
+    }
+
+    private static int compare(byte[] a, byte[] b)
+    {
+        int len = Math.min(a.length, b.length);
+        for (int i = 0; i != len; ++i)
+        {
+            if (a[i] != b[i])
+            {
+                return (a[i] & 0xff) - (b[i] & 0xff);
+            }
+        }
+        return a.length - b.length;
+    }
+
     public void performTest()
+        throws Exception
     {
         ASN1EncodableVector v = new ASN1EncodableVector();
         byte[] data = new byte[10];
@@ -105,6 +221,9 @@ public class SetTest
         v.add(new DERBoolean(true));
 
         s = new DERSet(v);
+
+        checkLargeSet();
+        checkNestedSet();
     }
 
     public static void main(
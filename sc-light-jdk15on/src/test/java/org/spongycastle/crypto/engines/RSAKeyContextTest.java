@@ -0,0 +1,122 @@
+package org.spongycastle.crypto.engines;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+import junit.framework.TestCase;
+import org.spongycastle.crypto.AsymmetricCipherKeyPair;
+import org.spongycastle.crypto.generators.RSAKeyPairGenerator;
+import org.spongycastle.crypto.params.RSAKeyGenerationParameters;
+import org.spongycastle.crypto.params.RSAKeyParameters;
+import org.spongycastle.crypto.params.RSAPrivateCrtKeyParameters;
+
+/**
+ * Checks the squared blinding state kept by RSABlindedEngine - it lives in
+ * this package as the context is package private.
+ */
+public class RSAKeyContextTest
+    extends TestCase
+{
+    private static final BigInteger ONE = BigInteger.valueOf(1);
+
+    private SecureRandom random = new SecureRandom();
+
+    private RSAPrivateCrtKeyParameters generateKey()
+    {
+        RSAKeyPairGenerator kpGen = new RSAKeyPairGenerator();
+
+        kpGen.init(new RSAKeyGenerationParameters(BigInteger.valueOf(0x10001), random, 512, 25));
+
+        AsymmetricCipherKeyPair pair = kpGen.generateKeyPair();
+
+        return (RSAPrivateCrtKeyParameters)pair.getPrivate();
+    }
+
+    private static RSAPrivateCrtKeyParameters copyOf(RSAPrivateCrtKeyParameters k)
+    {
+        return new RSAPrivateCrtKeyParameters(k.getModulus(), k.getPublicExponent(), k.getExponent(),
+            k.getP(), k.getQ(), k.getDP(), k.getDQ(), k.getQInv());
+    }
+
+    public void testNoContextByDefault()
+    {
+        RSABlindedEngine engine = new RSABlindedEngine();
+
+        engine.init(false, generateKey());
+        assertNull("squared blinding used by default", engine.getContext());
+    }
+
+    public void testContextKeptForEqualKey()
+    {
+        RSAPrivateCrtKeyParameters key = generateKey();
+        RSABlindedEngine engine = new RSABlindedEngine(true);
+
+        engine.init(false, key);
+
+        RSAKeyContext context = engine.getContext();
+
+        assertNotNull(context);
+
+        engine.init(false, key);
+        assertSame("context replaced for the same key", context, engine.getContext());
+
+        engine.init(true, copyOf(key));
+        assertSame("context replaced for an equal key", context, engine.getContext());
+    }
+
+    public void testContextReplacedForDifferentKey()
+    {
+        RSAPrivateCrtKeyParameters key = generateKey();
+        RSABlindedEngine engine = new RSABlindedEngine(true);
+
+        engine.init(false, key);
+
+        RSAKeyContext context = engine.getContext();
+
+        engine.init(false, generateKey());
+        assertNotSame("context kept for a different key", context, engine.getContext());
+
+        context = engine.getContext();
+
+        // same modulus, but the public rather than the private key
+        engine.init(true, new RSAKeyParameters(false, key.getModulus(), key.getPublicExponent()));
+        assertNotSame("context kept for the public key", context, engine.getContext());
+    }
+
+    public void testBlindingRefresh()
+    {
+        RSAPrivateCrtKeyParameters key = generateKey();
+        BigInteger n = key.getModulus();
+        BigInteger e = key.getPublicExponent();
+
+        RSAKeyContext context = new RSAKeyContext(key);
+
+        BigInteger[] previous = null;
+
+        for (int i = 0; i != 3 * RSAKeyContext.BLINDING_REFRESH + 1; i++)
+        {
+            BigInteger[] pair = context.nextBlinding(e, random);
+
+            // blind = r^e and unblind = r^-1, so blind * unblind^e = 1 mod n
+            assertEquals("blinding pair inconsistent at " + i, ONE,
+                pair[0].multiply(pair[1].modPow(e, n)).mod(n));
+
+            if (previous != null)
+            {
+                boolean squared = pair[0].equals(previous[0].multiply(previous[0]).mod(n))
+                    && pair[1].equals(previous[1].multiply(previous[1]).mod(n));
+
+                if (i % RSAKeyContext.BLINDING_REFRESH == 0)
+                {
+                    assertFalse("blinding pair not refreshed at " + i, squared);
+                }
+                else
+                {
+                    assertTrue("blinding pair not squared at " + i, squared);
+                }
+            }
+
+            previous = pair;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.spongycastle.crypto.engines.test;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
+import org.spongycastle.crypto.engines.RSAKeyContextTest;
 
 public class AllTests
     extends TestCase
@@ -18,6 +19,7 @@ public class AllTests
         
         suite.addTestSuite(BitStringTest.class);
         suite.addTestSuite(NTRUEncryptTest.class);
+        suite.addTestSuite(RSAKeyContextTest.class);
 
         return suite;
     }
@@ -1,7 +1,12 @@
 package org.spongycastle.crypto.test;
 
+import java.security.SecureRandom;
+
 import org.spongycastle.crypto.BlockCipher;
+import org.spongycastle.crypto.BufferedBlockCipher;
+import org.spongycastle.crypto.engines.AESEngine;
 import org.spongycastle.crypto.engines.AESFastEngine;
+import org.spongycastle.crypto.modes.SICBlockCipher;
 import org.spongycastle.crypto.params.KeyParameter;
 import org.spongycastle.crypto.params.ParametersWithIV;
 import org.spongycastle.util.encoders.Hex;
@@ -140,6 +145,88 @@ public class AESFastTest
         {
             // expected 
         }
+
+        multiBlockTest();
+    }
+
+    private void multiBlockTest()
+        throws Exception
+    {
+        SecureRandom random = new SecureRandom();
+
+        for (int keySize = 16; keySize <= 32; keySize += 8)
+        {
+            byte[] key = new byte[keySize];
+            byte[] iv = new byte[16];
+
+            random.nextBytes(key);
+            random.nextBytes(iv);
+
+            // force a carry out of the low order bytes of the counter
+            iv[13] = iv[14] = iv[15] = (byte)0xff;
+
+            for (int blocks = 0; blocks <= 19; blocks++)
+            {
+                byte[] in = new byte[blocks * 16];
+                random.nextBytes(in);
+
+                for (int i = 0; i != 2; i++)
+                {
+                    boolean forEncryption = (i == 0);
+                    AESFastEngine engine = new AESFastEngine();
+
+                    engine.init(forEncryption, new KeyParameter(key));
+
+                    byte[] single = new byte[in.length];
+                    for (int pos = 0; pos != in.length; pos += 16)
+                    {
+                        engine.processBlock(in, pos, single, pos);
+                    }
+
+                    byte[] multi = new byte[in.length];
+                    if (engine.processBlocks(in, 0, blocks, multi, 0) != in.length)
+                    {
+                        fail("processBlocks returned wrong length");
+                    }
+
+                    if (!areEqual(single, multi))
+                    {
+                        fail("processBlocks disagrees with processBlock for " + blocks + " blocks");
+                    }
+                }
+
+                byte[] expected = sicEncrypt(new AESEngine(), key, iv, in);
+                byte[] actual = sicEncrypt(new AESFastEngine(), key, iv, in);
+
+                if (!areEqual(expected, actual))
+                {
+                    fail("multi-block SIC failed for " + blocks + " blocks");
+                }
+            }
+        }
+    }
+
+    private byte[] sicEncrypt(BlockCipher engine, byte[] key, byte[] iv, byte[] in)
+        throws Exception
+    {
+        BufferedBlockCipher cipher = new BufferedBlockCipher(new SICBlockCipher(engine));
+
+        cipher.init(true, new ParametersWithIV(new KeyParameter(key), iv));
+
+        byte[] out = new byte[cipher.getOutputSize(in.length)];
+
+        // feed in unevenly so the buffered and bulk paths are both used
+        int split = Math.min(in.length, 5);
+        int len = cipher.processBytes(in, 0, split, out, 0);
+        len += cipher.processBytes(in, split, in.length - split, out, len);
+        len += cipher.doFinal(out, len);
+
+        if (len != in.length)
+        {
+            fail("SIC reported incorrect length");
+        }
+
+        return out;
     }
 
     public static void main(
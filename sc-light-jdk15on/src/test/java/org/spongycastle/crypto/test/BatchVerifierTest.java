@@ -0,0 +1,302 @@
+package org.spongycastle.crypto.test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.spongycastle.asn1.sec.SECNamedCurves;
+import org.spongycastle.asn1.x9.X9ECParameters;
+import org.spongycastle.crypto.AsymmetricCipherKeyPair;
+import org.spongycastle.crypto.CipherParameters;
+import org.spongycastle.crypto.Signer;
+import org.spongycastle.crypto.digests.SHA256Digest;
+import org.spongycastle.crypto.engines.RSAEngine;
+import org.spongycastle.crypto.generators.ECKeyPairGenerator;
+import org.spongycastle.crypto.generators.RSAKeyPairGenerator;
+import org.spongycastle.crypto.params.ECDomainParameters;
+import org.spongycastle.crypto.params.ECKeyGenerationParameters;
+import org.spongycastle.crypto.params.ECPublicKeyParameters;
+import org.spongycastle.crypto.params.ParametersWithRandom;
+import org.spongycastle.crypto.params.RSAKeyGenerationParameters;
+import org.spongycastle.crypto.params.RSAKeyParameters;
+import org.spongycastle.crypto.signers.ECDSABatchVerifier;
+import org.spongycastle.crypto.signers.ECDSASigner;
+import org.spongycastle.crypto.signers.PSSSigner;
+import org.spongycastle.crypto.signers.RSADigestSigner;
+import org.spongycastle.crypto.signers.SignerBatchVerifier;
+import org.spongycastle.util.test.SimpleTest;
+
+/**
+ * Check the batch verifiers agree with verifying each signature on its own,
+ * for batches mixing keys, curves and bad signatures.
+ */
+public class BatchVerifierTest
+    extends SimpleTest
+{
+    private static final int BATCH_SIZE = 24;
+
+    private SecureRandom random = new SecureRandom();
+
+    public String getName()
+    {
+        return "BatchVerifier";
+    }
+
+    public void performTest()
+        throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try
+        {
+            testECDSA(executor);
+            testRSADigest(executor);
+            testPSS(executor);
+            testRSAKeyGrouping();
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    private void testECDSA(ExecutorService executor)
+    {
+        AsymmetricCipherKeyPair[] pairs = new AsymmetricCipherKeyPair[] {
+            generateECKeyPair("secp256r1"),
+            generateECKeyPair("secp256r1"),
+            generateECKeyPair("secp384r1"),
+            generateECKeyPair("sect233r1")
+        };
+
+        ECDSABatchVerifier batch = new ECDSABatchVerifier();
+        boolean[] expected = new boolean[BATCH_SIZE];
+
+        for (int i = 0; i != BATCH_SIZE; i++)
+        {
+            AsymmetricCipherKeyPair pair = pairs[(i / 3) % pairs.length];
+            ECPublicKeyParameters pub = (ECPublicKeyParameters)pair.getPublic();
+            byte[] message = randomBytes(32);
+
+            ECDSASigner signer = new ECDSASigner();
+            signer.init(true, new ParametersWithRandom(pair.getPrivate(), random));
+
+            BigInteger[] sig = signer.generateSignature(message);
+            BigInteger r = sig[0];
+            BigInteger s = sig[1];
+
+            switch (i % 5)
+            {
+            case 1:
+                message[0] ^= 1;
+                break;
+            case 3:
+                s = s.add(BigInteger.ONE);
+                break;
+            case 4:
+                if (i % 2 == 0)
+                {
+                    r = pub.getParameters().getN();
+                }
+                break;
+            }
+
+            signer.init(false, pub);
+            expected[i] = signer.verifySignature(message, r, s);
+
+            batch.addSignature(pub, message, r, s);
+        }
+
+        checkResults("ECDSA", expected, batch.verifySignatures());
+        checkResults("ECDSA parallel", expected, batch.verifySignatures(executor));
+
+        batch.reset();
+        if (batch.getSize() != 0 || batch.verifySignatures().length != 0)
+        {
+            fail("ECDSA batch not reset");
+        }
+    }
+
+    private void testRSADigest(ExecutorService executor)
+        throws Exception
+    {
+        Signer[] signers = new Signer[] {
+            new RSADigestSigner(new SHA256Digest()),
+            new RSADigestSigner(new SHA256Digest()),
+            new RSADigestSigner(new SHA256Digest())
+        };
+
+        implTestSigner("RSADigestSigner", signers, executor);
+    }
+
+    private void testPSS(ExecutorService executor)
+        throws Exception
+    {
+        Signer[] signers = new Signer[] {
+            new PSSSigner(new RSAEngine(), new SHA256Digest(), 20),
+            new PSSSigner(new RSAEngine(), new SHA256Digest(), 20)
+        };
+
+        implTestSigner("PSSSigner", signers, executor);
+    }
+
+    /**
+     * Signatures for equal RSA keys held in different objects should be
+     * verified with a single signer initialisation.
+     */
+    private void testRSAKeyGrouping()
+        throws Exception
+    {
+        RSAKeyPairGenerator pGen = new RSAKeyPairGenerator();
+        pGen.init(new RSAKeyGenerationParameters(BigInteger.valueOf(0x10001), random, 1024, 25));
+
+        AsymmetricCipherKeyPair pair = pGen.generateKeyPair();
+        RSAKeyParameters pub = (RSAKeyParameters)pair.getPublic();
+        CountingSigner signer = new CountingSigner();
+        SignerBatchVerifier batch = new SignerBatchVerifier(signer);
+
+        for (int i = 0; i != 6; i++)
+        {
+            byte[] message = randomBytes(16);
+
+            signer.init(true, pair.getPrivate());
+            signer.update(message, 0, message.length);
+
+            byte[] sig = signer.generateSignature();
+
+            batch.addSignature(new RSAKeyParameters(false, pub.getModulus(), pub.getExponent()), message, sig);
+        }
+
+        signer.inits = 0;
+
+        boolean[] results = batch.verifySignatures();
+
+        for (int i = 0; i != results.length; i++)
+        {
+            if (!results[i])
+            {
+                fail("RSA key grouping failed to verify signature " + i);
+            }
+        }
+
+        if (signer.inits != 1)
+        {
+            fail("RSA signatures for equal keys initialised the signer " + signer.inits + " times");
+        }
+    }
+
+    private void implTestSigner(String name, Signer[] signers, ExecutorService executor)
+        throws Exception
+    {
+        RSAKeyPairGenerator pGen = new RSAKeyPairGenerator();
+        pGen.init(new RSAKeyGenerationParameters(BigInteger.valueOf(0x10001), random, 1024, 25));
+
+        AsymmetricCipherKeyPair[] pairs = new AsymmetricCipherKeyPair[] {
+            pGen.generateKeyPair(), pGen.generateKeyPair()
+        };
+
+        Signer signer = signers[0];
+        SignerBatchVerifier batch = new SignerBatchVerifier(signers);
+        boolean[] expected = new boolean[BATCH_SIZE];
+
+        for (int i = 0; i != BATCH_SIZE; i++)
+        {
+            AsymmetricCipherKeyPair pair = pairs[i % pairs.length];
+            byte[] message = randomBytes(1 + i * 7);
+
+            signer.init(true, pair.getPrivate());
+            signer.update(message, 0, message.length);
+
+            byte[] sig = signer.generateSignature();
+
+            if (i % 4 == 1)
+            {
+                sig[sig.length / 2] ^= 0x40;
+            }
+            else if (i % 4 == 2)
+            {
+                message[message.length - 1] ^= 0x01;
+            }
+
+            signer.init(false, pair.getPublic());
+            signer.update(message, 0, message.length);
+            expected[i] = signer.verifySignature(sig);
+
+            batch.addSignature(pair.getPublic(), message, sig);
+        }
+
+        checkResults(name, expected, batch.verifySignatures());
+        checkResults(name + " parallel", expected, batch.verifySignatures(executor));
+    }
+
+    private void checkResults(String label, boolean[] expected, boolean[] actual)
+    {
+        if (expected.length != actual.length)
+        {
+            fail(label + " batch result has wrong length");
+        }
+
+        int valid = 0;
+
+        for (int i = 0; i != expected.length; i++)
+        {
+            if (expected[i] != actual[i])
+            {
+                fail(label + " batch disagrees with single verification at " + i);
+            }
+
+            if (expected[i])
+            {
+                valid++;
+            }
+        }
+
+        if (valid == 0 || valid == expected.length)
+        {
+            fail(label + " batch should contain both good and bad signatures");
+        }
+    }
+
+    private AsymmetricCipherKeyPair generateECKeyPair(String curveName)
+    {
+        X9ECParameters x9 = SECNamedCurves.getByName(curveName);
+        ECDomainParameters params = new ECDomainParameters(x9.getCurve(), x9.getG(), x9.getN(), x9.getH());
+
+        ECKeyPairGenerator pGen = new ECKeyPairGenerator();
+        pGen.init(new ECKeyGenerationParameters(params, random));
+
+        return pGen.generateKeyPair();
+    }
+
+    private byte[] randomBytes(int len)
+    {
+        byte[] bytes = new byte[len];
+
+        random.nextBytes(bytes);
+
+        return bytes;
+    }
+
+    private static class CountingSigner
+        extends RSADigestSigner
+    {
+        int inits;
+
+        CountingSigner()
+        {
+            super(new SHA256Digest());
+        }
+
+        public void init(boolean forSigning, CipherParameters param)
+        {
+            inits++;
+            super.init(forSigning, param);
+        }
+    }
+
+    public static void main(String[] args)
+    {
+        runTest(new BatchVerifierTest());
+    }
+}
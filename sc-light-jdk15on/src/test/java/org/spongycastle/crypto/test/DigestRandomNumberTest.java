@@ -1,5 +1,13 @@
 package org.spongycastle.crypto.test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.spongycastle.crypto.prng.NonBlockingSeedGenerator;
+import org.spongycastle.crypto.prng.RandomGenerator;
 import org.spongycastle.util.test.SimpleTest;
 import org.spongycastle.util.encoders.Hex;
 import org.spongycastle.util.Arrays;
@@ -125,9 +133,86 @@ public class DigestRandomNumberTest
         }
     }
 
+    private void doSeedTest()
+        throws Exception
+    {
+        NonBlockingSeedGenerator sGen = new NonBlockingSeedGenerator();
+
+        // longer than the seed generator's pool
+        byte[] s1 = sGen.generateSeed(1000);
+        byte[] s2 = sGen.generateSeed(1000);
+
+        if (s1.length != 1000 || Arrays.areEqual(s1, s2))
+        {
+            fail("seed generator failed");
+        }
+
+        final DigestRandomGenerator rGen = new DigestRandomGenerator(new SHA256Digest());
+        DigestRandomGenerator check = new DigestRandomGenerator(new SHA256Digest());
+
+        final CountDownLatch reseeded = new CountDownLatch(1);
+
+        // counts the scheduled reseeds, rather than guessing how long they take
+        RandomGenerator watched = new RandomGenerator()
+        {
+            public void addSeedMaterial(byte[] seed)
+            {
+                rGen.addSeedMaterial(seed);
+                reseeded.countDown();
+            }
+
+            public void addSeedMaterial(long seed)
+            {
+                rGen.addSeedMaterial(seed);
+            }
+
+            public void nextBytes(byte[] bytes)
+            {
+                rGen.nextBytes(bytes);
+            }
+
+            public void nextBytes(byte[] bytes, int start, int len)
+            {
+                rGen.nextBytes(bytes, start, len);
+            }
+        };
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+        try
+        {
+            ScheduledFuture<?> reseed = sGen.scheduleReseed(executor, watched, 32, 1, TimeUnit.MILLISECONDS);
+
+            if (!reseeded.await(30, TimeUnit.SECONDS))
+            {
+                fail("reseed never ran");
+            }
+
+            reseed.cancel(false);
+        }
+        finally
+        {
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        byte[] out1 = new byte[32];
+        byte[] out2 = new byte[32];
+
+        rGen.nextBytes(out1);
+        check.nextBytes(out2);
+
+        if (Arrays.areEqual(out1, out2))
+        {
+            fail("generator not reseeded");
+        }
+    }
+
     public void performTest()
         throws Exception
     {
+        doSeedTest();
+
         doExpectedTest(new SHA1Digest(), 0, expected0SHA1, noCycle0SHA1);
         doExpectedTest(new SHA256Digest(), 0, expected0SHA256, noCycle0SHA256);
 
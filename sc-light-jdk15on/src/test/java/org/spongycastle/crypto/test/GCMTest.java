@@ -3,14 +3,18 @@ package org.spongycastle.crypto.test;
 import java.security.SecureRandom;
 
 import org.spongycastle.crypto.InvalidCipherTextException;
+import org.spongycastle.crypto.engines.AESEngine;
 import org.spongycastle.crypto.engines.AESFastEngine;
 import org.spongycastle.crypto.modes.GCMBlockCipher;
 import org.spongycastle.crypto.modes.gcm.BasicGCMMultiplier;
 import org.spongycastle.crypto.modes.gcm.GCMMultiplier;
+import org.spongycastle.crypto.modes.gcm.GCMMultiplierCache;
+import org.spongycastle.crypto.modes.gcm.Tables4kGCMMultiplier;
 import org.spongycastle.crypto.modes.gcm.Tables64kGCMMultiplier;
 import org.spongycastle.crypto.modes.gcm.Tables8kGCMMultiplier;
 import org.spongycastle.crypto.params.AEADParameters;
 import org.spongycastle.crypto.params.KeyParameter;
+import org.spongycastle.util.Arrays;
 import org.spongycastle.util.encoders.Hex;
 import org.spongycastle.util.test.SimpleTest;
 
@@ -300,6 +304,8 @@ public class GCMTest
         }
 
         randomTests();
+        multiBlockTests();
+        reinitTests();
     }    
 
     private void runTestCase(String[] testVector)
@@ -333,6 +339,7 @@ public class GCMTest
         runTestCase(null, null, parameters, testName, P, C, T);
 
         runTestCase(new BasicGCMMultiplier(), new BasicGCMMultiplier(), parameters, testName, P, C, T);
+        runTestCase(new Tables4kGCMMultiplier(), new Tables4kGCMMultiplier(), parameters, testName, P, C, T);
         runTestCase(new Tables8kGCMMultiplier(), new Tables8kGCMMultiplier(), parameters, testName, P, C, T);
         runTestCase(new Tables64kGCMMultiplier(), new Tables64kGCMMultiplier(), parameters, testName, P, C, T);
     }
@@ -423,6 +430,7 @@ public class GCMTest
         {
             randomTest(srng, null); 
             randomTest(srng, new BasicGCMMultiplier()); 
+            randomTest(srng, new Tables4kGCMMultiplier()); 
             randomTest(srng, new Tables8kGCMMultiplier()); 
             randomTest(srng, new Tables64kGCMMultiplier()); 
         }
@@ -505,6 +513,134 @@ public class GCMTest
         }
     }
 
+    private void multiBlockTests()
+        throws InvalidCipherTextException
+    {
+        SecureRandom srng = new SecureRandom();
+
+        for (int i = 0; i < 10; ++i)
+        {
+            byte[] K = new byte[16];
+            srng.nextBytes(K);
+
+            byte[] P = new byte[srng.nextInt() >>> 22];
+            srng.nextBytes(P);
+
+            byte[] IV = new byte[12];
+            srng.nextBytes(IV);
+
+            AEADParameters parameters = new AEADParameters(new KeyParameter(K), 16 * 8, IV, null);
+
+            // AESEngine only does a block at a time
+            byte[] expected = multiBlockProcess(new GCMBlockCipher(new AESEngine()), true, parameters, P, P.length);
+
+            for (int chunk = 1; chunk <= 257; chunk += 64)
+            {
+                GCMBlockCipher cipher = new GCMBlockCipher(new AESFastEngine());
+
+                if (!areEqual(expected, multiBlockProcess(cipher, true, parameters, P, chunk)))
+                {
+                    fail("multi-block encrypt failed with chunk size " + chunk);
+                }
+
+                if (!areEqual(P, multiBlockProcess(cipher, false, parameters, expected, chunk)))
+                {
+                    fail("multi-block decrypt failed with chunk size " + chunk);
+                }
+            }
+
+            // decrypt in place
+            GCMBlockCipher cipher = new GCMBlockCipher(new AESFastEngine());
+            byte[] buf = Arrays.clone(expected);
+
+            cipher.init(false, parameters);
+            int len = cipher.processBytes(buf, 0, buf.length, buf, 0);
+            len += cipher.doFinal(buf, len);
+
+            if (len != P.length || !areEqual(P, Arrays.copyOf(buf, len)))
+            {
+                fail("in place decrypt failed");
+            }
+        }
+    }
+
+    private void reinitTests()
+        throws InvalidCipherTextException
+    {
+        SecureRandom srng = new SecureRandom();
+        GCMMultiplierCache cache = new GCMMultiplierCache(2);
+
+        GCMBlockCipher reused = new GCMBlockCipher(new AESFastEngine());
+        GCMBlockCipher cached = new GCMBlockCipher(new AESFastEngine(), cache.newCachingMultiplier());
+
+        byte[][] keys = new byte[3][];
+        for (int i = 0; i != keys.length; i++)
+        {
+            keys[i] = new byte[16 + 8 * i];
+            srng.nextBytes(keys[i]);
+        }
+
+        // cycle through more keys than the cache holds, re-using each key a few times
+        for (int i = 0; i < 12; ++i)
+        {
+            byte[] K = keys[(i / 2) % keys.length];
+
+            byte[] P = new byte[srng.nextInt() >>> 24];
+            srng.nextBytes(P);
+
+            byte[] IV = new byte[12];
+            srng.nextBytes(IV);
+
+            AEADParameters parameters = new AEADParameters(new KeyParameter(K), 16 * 8, IV, null);
+            AEADParameters ivOnly = new AEADParameters(null, 16 * 8, IV, null);
+
+            byte[] expected = multiBlockProcess(new GCMBlockCipher(new AESFastEngine()), true, parameters, P, P.length);
+
+            if (!areEqual(expected, multiBlockProcess(reused, true, parameters, P, P.length)))
+            {
+                fail("re-initialised encrypt failed");
+            }
+
+            if (!areEqual(expected, multiBlockProcess(reused, true, ivOnly, P, P.length)))
+            {
+                fail("IV only re-initialised encrypt failed");
+            }
+
+            if (!areEqual(expected, multiBlockProcess(cached, true, parameters, P, P.length)))
+            {
+                fail("cached multiplier encrypt failed");
+            }
+
+            if (!areEqual(P, multiBlockProcess(cached, false, parameters, expected, P.length)))
+            {
+                fail("cached multiplier decrypt failed");
+            }
+        }
+    }
+
+    private byte[] multiBlockProcess(GCMBlockCipher cipher, boolean forEncryption, AEADParameters parameters, byte[] in, int chunk)
+        throws InvalidCipherTextException
+    {
+        cipher.init(forEncryption, parameters);
+
+        byte[] out = new byte[cipher.getOutputSize(in.length)];
+        int len = 0;
+
+        for (int pos = 0; pos < in.length; pos += chunk)
+        {
+            len += cipher.processBytes(in, pos, Math.min(chunk, in.length - pos), out, len);
+        }
+
+        len += cipher.doFinal(out, len);
+
+        if (len != out.length)
+        {
+            fail("multi-block reported incorrect length");
+        }
+
+        return out;
+    }
+
     public static void main(String[] args)
     {
         runTest(new GCMTest());
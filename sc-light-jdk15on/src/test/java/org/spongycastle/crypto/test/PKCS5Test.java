@@ -1,6 +1,8 @@
 package org.spongycastle.crypto.test;
 
 import java.io.ByteArrayInputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.spongycastle.asn1.ASN1InputStream;
 import org.spongycastle.asn1.ASN1OctetString;
@@ -14,6 +16,7 @@ import org.spongycastle.asn1.pkcs.RC2CBCParameter;
 import org.spongycastle.crypto.BufferedBlockCipher;
 import org.spongycastle.crypto.CipherParameters;
 import org.spongycastle.crypto.PBEParametersGenerator;
+import org.spongycastle.crypto.digests.SHA256Digest;
 import org.spongycastle.crypto.engines.DESEngine;
 import org.spongycastle.crypto.engines.DESedeEngine;
 import org.spongycastle.crypto.engines.RC2Engine;
@@ -220,6 +223,8 @@ public class PKCS5Test
         test = new PBETest(2, cipher, sample3, 0);
         test.performTest();
 
+        parallelTest();
+
         //
         // RFC 3211 tests
         //
@@ -251,6 +256,35 @@ public class PKCS5Test
         }
     }
 
+    private void parallelTest()
+    {
+        byte[] password = PBEParametersGenerator.PKCS5PasswordToBytes("password".toCharArray());
+        byte[] salt = Hex.decode("1234567878563412");
+
+        PBEParametersGenerator generator = new PKCS5S2ParametersGenerator(new SHA256Digest());
+        generator.init(password, salt, 1000);
+
+        // five blocks of SHA-256 output, the last one partial
+        byte[] expected = ((KeyParameter)generator.generateDerivedParameters(1152)).getKey();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try
+        {
+            generator = new PKCS5S2ParametersGenerator(new SHA256Digest(), executor);
+            generator.init(password, salt, 1000);
+
+            if (!areEqual(expected, ((KeyParameter)generator.generateDerivedParameters(1152)).getKey()))
+            {
+                fail("parallel PBKDF2 test failed");
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
     public static void main(
         String[]    args)
     {
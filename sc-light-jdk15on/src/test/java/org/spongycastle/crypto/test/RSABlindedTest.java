@@ -15,6 +15,8 @@ import org.spongycastle.util.test.SimpleTest;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class RSABlindedTest
     extends SimpleTest
@@ -192,6 +194,48 @@ public class RSABlindedTest
         }
     }
 
+    /**
+     * Run enough private key operations with privEng to go through several
+     * squared blinding refreshes, re-initialising part way with an equal key
+     * object.
+     */
+    private void testRepeatedOperations(RSAKeyParameters pubParameters, AsymmetricBlockCipher privEng)
+    {
+        AsymmetricBlockCipher pubEng = new RSABlindedEngine();
+        SecureRandom random = new SecureRandom();
+
+        pubEng.init(true, pubParameters);
+        privEng.init(false, new RSAPrivateCrtKeyParameters(mod, pubExp, privExp, p, q, pExp, qExp, crtCoef));
+
+        for (int i = 0; i != 100; i++)
+        {
+            if (i == 50)
+            {
+                privEng.init(false, new RSAPrivateCrtKeyParameters(mod, pubExp, privExp, p, q, pExp, qExp, crtCoef));
+            }
+
+            byte[] data = new byte[pubEng.getInputBlockSize()];
+
+            random.nextBytes(data);
+            data[0] &= 0x7f;
+
+            try
+            {
+                byte[] enc = pubEng.processBlock(data, 0, data.length);
+                byte[] dec = privEng.processBlock(enc, 0, enc.length);
+
+                if (!new BigInteger(1, data).equals(new BigInteger(1, dec)))
+                {
+                    fail("failed repeated operation test at " + i);
+                }
+            }
+            catch (Exception e)
+            {
+                fail("failed repeated operation test - exception " + e.toString(), e);
+            }
+        }
+    }
+
     public void performTest()
     {
         RSAKeyParameters    pubParameters = new RSAKeyParameters(false, mod, pubExp);
@@ -416,6 +460,19 @@ public class RSABlindedTest
         testMissingDataPKCS1Block(pubParameters, privParameters);
         testTruncatedPKCS1Block(pubParameters, privParameters);
         testWrongPaddingPKCS1Block(pubParameters, privParameters);
+        testRepeatedOperations(pubParameters, new RSABlindedEngine());
+        testRepeatedOperations(pubParameters, new RSABlindedEngine(true));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            testRepeatedOperations(pubParameters, new RSABlindedEngine(executor));
+            testRepeatedOperations(pubParameters, new RSABlindedEngine(executor, true));
+        }
+        finally
+        {
+            executor.shutdown();
+        }
 
         try
         {
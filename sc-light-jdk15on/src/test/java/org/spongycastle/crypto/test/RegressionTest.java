@@ -35,6 +35,7 @@ public class RegressionTest
         new CamelliaTest(),
         new CamelliaLightTest(),
         new DigestRandomNumberTest(),
+        new SP800RandomTest(),
         new SkipjackTest(),
         new BlowfishTest(),
         new TwofishTest(),
@@ -105,7 +106,8 @@ public class RegressionTest
         new SRP6Test(),
         new SCryptTest(),
         new ResetTest(),
-        new NullTest()
+        new NullTest(),
+        new BatchVerifierTest()
     };
 
     public static void main(
@@ -2,6 +2,8 @@ package org.spongycastle.crypto.test;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.spongycastle.crypto.generators.SCrypt;
 import org.spongycastle.util.Strings;
@@ -23,6 +25,8 @@ public class SCryptTest extends SimpleTest
 
     public void performTest() throws Exception
     {
+        testParallel();
+
         BufferedReader br = new BufferedReader(new FileReader(getDataHome() + "/TestVectors.txt"));
 
         int count = 0;
@@ -73,6 +77,29 @@ public class SCryptTest extends SimpleTest
         br.close();
     }
 
+    private void testParallel()
+    {
+        byte[] P = Strings.toByteArray("password");
+        byte[] S = Strings.toByteArray("NaCl");
+        byte[] expected = Hex.decode(
+            "fdbabe1c9d3472007856e7190d01e9fe7c6ad7cbc8237830e77376634b373162"
+          + "2eaf30d92e22a3886ff109279d9830dac727afb94a83ee6d8360cbdfa2cc0640");
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try
+        {
+            if (!areEqual(expected, SCrypt.generate(P, S, 1024, 8, 16, 64, executor)))
+            {
+                fail("parallel result does not match expected value");
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
     private static boolean isEndData(String line)
     {
         return line == null || line.startsWith("scrypt");
@@ -0,0 +1,205 @@
+package org.spongycastle.crypto.test;
+
+import org.spongycastle.crypto.digests.SHA1Digest;
+import org.spongycastle.crypto.digests.SHA256Digest;
+import org.spongycastle.crypto.digests.SHA512Digest;
+import org.spongycastle.crypto.engines.AESFastEngine;
+import org.spongycastle.crypto.engines.DESedeEngine;
+import org.spongycastle.crypto.macs.HMac;
+import org.spongycastle.crypto.prng.EntropySource;
+import org.spongycastle.crypto.prng.NonBlockingSeedGenerator;
+import org.spongycastle.crypto.prng.SP800SecureRandom;
+import org.spongycastle.crypto.prng.drbg.CTRSP800DRBG;
+import org.spongycastle.crypto.prng.drbg.HMacSP800DRBG;
+import org.spongycastle.crypto.prng.drbg.HashSP800DRBG;
+import org.spongycastle.crypto.prng.drbg.SP80090DRBG;
+import org.spongycastle.util.Arrays;
+import org.spongycastle.util.Strings;
+import org.spongycastle.util.encoders.Hex;
+import org.spongycastle.util.test.SimpleTest;
+
+/**
+ * SP 800-90A DRBG tests - the expected values were checked against an
+ * independent implementation of the standard.
+ */
+public class SP800RandomTest
+    extends SimpleTest
+{
+    private static final byte[] NONCE = Hex.decode("0102030405060708090a0b0c0d0e0f10");
+    private static final byte[] PERSONALIZATION = Strings.toByteArray("personalization");
+    private static final byte[] ADDITIONAL = Strings.toByteArray("additional");
+
+    public String getName()
+    {
+        return "SP800Random";
+    }
+
+    public void performTest()
+        throws Exception
+    {
+        doExpectedTest("Hash SHA-1", new HashSP800DRBG(new SHA1Digest(), 128, new TestEntropySource(16), PERSONALIZATION, NONCE),
+            "af63c5c10be293fd329f215e93a5e74af220143a296cf43a0df11de2831e090deb3f5f023840c4b3",
+            "ed81117ff90ac04964827a3aec2ac8fe060ce07c995df6ee");
+        doExpectedTest("Hash SHA-256", new HashSP800DRBG(new SHA256Digest(), 256, new TestEntropySource(32), PERSONALIZATION, NONCE),
+            "205128f9d7e462d6142a376f002c49c1daf3183faebbde2a32b4b9a109d633b214d431620d0f6d85",
+            "810f1203b0700ae2a9dc409731a467c79536025e78ef2c9a");
+        doExpectedTest("Hash SHA-512", new HashSP800DRBG(new SHA512Digest(), 256, new TestEntropySource(32), PERSONALIZATION, NONCE),
+            "6e36e081a2e5520e9bfd94b4f3344ff160097991bd96269df9cd190277bb4a4e1aca9decc0f4efc5",
+            "f68556560da4e95aeae750378d1ac9f81643af016bbe5cf7");
+
+        doExpectedTest("HMAC SHA-1", new HMacSP800DRBG(new HMac(new SHA1Digest()), 128, new TestEntropySource(16), PERSONALIZATION, NONCE),
+            "8743f88d0b52157e09a4b6f4daae6cb949a89700f4e19b51422900401529c022ab256dcf71c4fba9",
+            "0c2f6f5836c0e25b4882f053b97488180adcf6ef6a73b14f");
+        doExpectedTest("HMAC SHA-256", new HMacSP800DRBG(new HMac(new SHA256Digest()), 256, new TestEntropySource(32), PERSONALIZATION, NONCE),
+            "433642a56ec20d6fd73a6590f9d0b33a5cb0b89da5a01ef4e8c35225e4dfad417f139edcd336825e",
+            "bada11369d27c75a6da44652dd4862b3d701456ab3eff047");
+        doExpectedTest("HMAC SHA-512", new HMacSP800DRBG(new HMac(new SHA512Digest()), 256, new TestEntropySource(32), PERSONALIZATION, NONCE),
+            "a320bd3d2b36afa4bf33af537dd44b30b8a7db85e593302b1c7b922a10a5459ffae3f1e08060723c",
+            "2a2cc7a4f059e8c9ee16b705f1075030397191d5220c2659");
+
+        doExpectedTest("CTR AES-128", new CTRSP800DRBG(new AESFastEngine(), 128, 128, new TestEntropySource(16), PERSONALIZATION, NONCE),
+            "7dabf1c6d66f47d6b05560460ade444d9be6ac10c5f84655f7df3e728d86e1ac2c9cc73952867524",
+            "ddc5ac448a5a07edbe32f08fb2d54f7643a6499454ada8a9");
+        doExpectedTest("CTR AES-256", new CTRSP800DRBG(new AESFastEngine(), 256, 256, new TestEntropySource(32), PERSONALIZATION, NONCE),
+            "a7657ed52b1f764cf9e52e10ef482d319c0547e15b86e5fa69e65be45ec1dea0bac06debc7a221cc",
+            "c02ee79c20858010e4157877b2087d8819e11b226b448a32");
+
+        doParameterTest();
+        doSecureRandomTest();
+    }
+
+    // generate with additional input, then reseed and generate with prediction resistance
+    private void doExpectedTest(String name, SP80090DRBG drbg, String expected1, String expected2)
+    {
+        byte[] output1 = new byte[40];
+        byte[] output2 = new byte[24];
+
+        drbg.generate(output1, ADDITIONAL, false);
+        drbg.reseed(null);
+        drbg.generate(output2, null, true);
+
+        if (!areEqual(Hex.decode(expected1), output1))
+        {
+            fail(name + " first output doesn't match");
+        }
+
+        if (!areEqual(Hex.decode(expected2), output2))
+        {
+            fail(name + " second output doesn't match");
+        }
+    }
+
+    private void doParameterTest()
+    {
+        try
+        {
+            new HashSP800DRBG(new SHA1Digest(), 256, new TestEntropySource(32), null, null);
+            fail("no exception on excessive security strength");
+        }
+        catch (IllegalArgumentException e)
+        {
+            // expected
+        }
+
+        try
+        {
+            new HMacSP800DRBG(new HMac(new SHA256Digest()), 256, new TestEntropySource(16), null, null);
+            fail("no exception on insufficient entropy");
+        }
+        catch (IllegalArgumentException e)
+        {
+            // expected
+        }
+
+        try
+        {
+            new CTRSP800DRBG(new DESedeEngine(), 128, 112, new TestEntropySource(16), null, null);
+            fail("no exception on 64 bit block cipher");
+        }
+        catch (IllegalArgumentException e)
+        {
+            // expected
+        }
+
+        try
+        {
+            new HashSP800DRBG(new SHA256Digest(), 256, new TestEntropySource(32), null, null).generate(new byte[65537], null, false);
+            fail("no exception on excessive request");
+        }
+        catch (IllegalArgumentException e)
+        {
+            // expected
+        }
+    }
+
+    private void doSecureRandomTest()
+    {
+        NonBlockingSeedGenerator seedGenerator = new NonBlockingSeedGenerator();
+        EntropySource entropySource = seedGenerator.getEntropySource(256);
+
+        SP800SecureRandom random = new SP800SecureRandom(entropySource,
+            new CTRSP800DRBG(new AESFastEngine(), 256, 256, entropySource, null, seedGenerator.generateSeed(16)), false);
+
+        // longer than a single DRBG request
+        byte[] b1 = new byte[100000];
+        byte[] b2 = new byte[100000];
+
+        random.nextBytes(b1);
+        random.setSeed(12345L);
+        random.nextBytes(b2);
+
+        if (Arrays.areEqual(b1, b2)
+            || Arrays.areEqual(Arrays.copyOfRange(b1, 0, 65536), Arrays.copyOfRange(b1, 65536, 65536 * 2)))
+        {
+            fail("repeated output from SP800SecureRandom");
+        }
+
+        if (random.generateSeed(40).length != 40)
+        {
+            fail("generateSeed() length wrong");
+        }
+    }
+
+    private static class TestEntropySource
+        implements EntropySource
+    {
+        private final int length;
+
+        private int count = 0;
+
+        TestEntropySource(int length)
+        {
+            this.length = length;
+        }
+
+        public boolean isPredictionResistant()
+        {
+            return true;
+        }
+
+        public byte[] getEntropy()
+        {
+            byte[] entropy = new byte[length];
+
+            for (int i = 0; i != entropy.length; i++)
+            {
+                entropy[i] = (byte)(count * 37 + i * 11 + 5);
+            }
+
+            count++;
+
+            return entropy;
+        }
+
+        public int entropySize()
+        {
+            return length * 8;
+        }
+    }
+
+    public static void main(
+        String[]    args)
+    {
+        runTest(new SP800RandomTest());
+    }
+}
@@ -0,0 +1,150 @@
+package org.spongycastle.crypto.tls;
+
+import java.security.SecureRandom;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.spongycastle.crypto.Digest;
+import org.spongycastle.crypto.digests.MD5Digest;
+import org.spongycastle.crypto.digests.SHA1Digest;
+import org.spongycastle.crypto.digests.SHA256Digest;
+import org.spongycastle.crypto.digests.SHA384Digest;
+import org.spongycastle.util.Arrays;
+
+/**
+ * Checks the incremental handshake hash against hashing the whole transcript
+ * in one pass - it lives in this package as TlsHandshakeHash is package private.
+ */
+public class TlsHandshakeHashTest
+    extends TestCase
+{
+    private SecureRandom random = new SecureRandom();
+
+    public void testLegacy()
+    {
+        implTestFork(PRFAlgorithm.tls_prf_legacy, ProtocolVersion.TLSv10);
+    }
+
+    public void testSHA256()
+    {
+        implTestFork(PRFAlgorithm.tls_prf_sha256, ProtocolVersion.TLSv12);
+    }
+
+    public void testSHA384()
+    {
+        implTestFork(PRFAlgorithm.tls_prf_sha384, ProtocolVersion.TLSv12);
+    }
+
+    public void testForkBeforePRFDetermined()
+    {
+        TlsHandshakeHash hash = new TlsHandshakeHash(createContext(PRFAlgorithm.tls_prf_sha256, ProtocolVersion.TLSv12));
+
+        hash.update(new byte[10], 0, 10);
+
+        try
+        {
+            hash.fork();
+            fail("no exception on fork() before notifyPRFDetermined()");
+        }
+        catch (IllegalStateException e)
+        {
+            // expected
+        }
+    }
+
+    private void implTestFork(int prfAlgorithm, ProtocolVersion version)
+    {
+        // hellos, a large certificate chain, then the rest of the handshake
+        byte[][] messages = new byte[][] {
+            randomBytes(200), randomBytes(90), randomBytes(9000), randomBytes(300), randomBytes(4), randomBytes(130)
+        };
+        int determinedAfter = 2;
+
+        TlsHandshakeHash hash = new TlsHandshakeHash(createContext(prfAlgorithm, version));
+        byte[] transcript = new byte[0];
+
+        for (int i = 0; i != messages.length; i++)
+        {
+            byte[] msg = messages[i];
+
+            // feed each message in two pieces, as it may arrive in more than one record
+            hash.update(msg, 0, msg.length / 3);
+            hash.update(msg, msg.length / 3, msg.length - msg.length / 3);
+
+            transcript = Arrays.concatenate(transcript, msg);
+
+            if (i + 1 == determinedAfter)
+            {
+                hash.notifyPRFDetermined();
+            }
+
+            if (i + 1 >= determinedAfter)
+            {
+                // a fork must match the transcript so far, and leave the running hash untouched
+                assertTrue("fork differs after message " + i,
+                    Arrays.areEqual(oneShot(prfAlgorithm, transcript), doFinal(hash.fork())));
+            }
+        }
+
+        assertTrue("final fork differs", Arrays.areEqual(oneShot(prfAlgorithm, transcript), doFinal(hash.fork())));
+    }
+
+    private static byte[] oneShot(int prfAlgorithm, byte[] transcript)
+    {
+        switch (prfAlgorithm)
+        {
+            case PRFAlgorithm.tls_prf_legacy:
+                return Arrays.concatenate(hash(new MD5Digest(), transcript), hash(new SHA1Digest(), transcript));
+            case PRFAlgorithm.tls_prf_sha256:
+                return hash(new SHA256Digest(), transcript);
+            case PRFAlgorithm.tls_prf_sha384:
+                return hash(new SHA384Digest(), transcript);
+            default:
+                throw new IllegalArgumentException("unknown PRFAlgorithm: " + prfAlgorithm);
+        }
+    }
+
+    private static byte[] hash(Digest d, byte[] data)
+    {
+        d.update(data, 0, data.length);
+
+        return doFinal(d);
+    }
+
+    private static byte[] doFinal(Digest d)
+    {
+        byte[] out = new byte[d.getDigestSize()];
+
+        d.doFinal(out, 0);
+
+        return out;
+    }
+
+    private TlsContext createContext(int prfAlgorithm, ProtocolVersion version)
+    {
+        SecurityParameters securityParameters = new SecurityParameters();
+
+        securityParameters.prfAlgorithm = prfAlgorithm;
+
+        TlsClientContextImpl context = new TlsClientContextImpl(random, securityParameters);
+
+        context.setClientVersion(version);
+        context.setServerVersion(version);
+
+        return context;
+    }
+
+    private byte[] randomBytes(int len)
+    {
+        byte[] bytes = new byte[len];
+
+        random.nextBytes(bytes);
+
+        return bytes;
+    }
+
+    public static TestSuite suite()
+    {
+        return new TestSuite(TlsHandshakeHashTest.class);
+    }
+}
@@ -2,6 +2,7 @@ package org.spongycastle.crypto.tls.test;
 
 import junit.framework.Test;
 import junit.framework.TestSuite;
+import org.spongycastle.crypto.tls.TlsHandshakeHashTest;
 
 public class AllTests 
 {
@@ -17,6 +18,10 @@ public class AllTests
         TestSuite suite = new TestSuite("TLS tests");
         
         suite.addTest(BasicTlsTest.suite());
+        suite.addTest(ByteQueueTest.suite());
+        suite.addTest(DefaultTlsSessionCacheTest.suite());
+        suite.addTest(TlsHandshakeHashTest.suite());
+        suite.addTest(TlsServerTest.suite());
         
         return suite;
     }
@@ -2,22 +2,45 @@ package org.spongycastle.crypto.tls.test;
 
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
+import org.spongycastle.asn1.x509.X509CertificateStructure;
 import org.spongycastle.crypto.tls.AlwaysValidVerifyer;
+import org.spongycastle.crypto.tls.Certificate;
+import org.spongycastle.crypto.tls.CertificateRequest;
+import org.spongycastle.crypto.tls.CipherSuite;
+import org.spongycastle.crypto.tls.DefaultTlsSessionCache;
+import org.spongycastle.crypto.tls.DefaultTlsSignerCredentials;
+import org.spongycastle.crypto.tls.LegacyTlsAuthentication;
+import org.spongycastle.crypto.tls.LegacyTlsClient;
+import org.spongycastle.crypto.tls.ProtocolVersion;
+import org.spongycastle.crypto.tls.TlsAuthentication;
+import org.spongycastle.crypto.tls.TlsCredentials;
 import org.spongycastle.crypto.tls.TlsProtocolHandler;
+import org.spongycastle.crypto.tls.TlsSession;
+import org.spongycastle.crypto.tls.TlsSessionCache;
+import org.spongycastle.crypto.util.PrivateKeyFactory;
 import org.spongycastle.util.Arrays;
 import org.spongycastle.util.encoders.Hex;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.SecureRandom;
 
 public class BasicTlsTest
     extends TestCase
 {
     private static final int PORT_NO = 8003;
-//    private static final String CLIENT = "client";
-//    private static final char[] CLIENT_PASSWORD = "clientPassword".toCharArray();
+
+    private static final byte[] EXPECTED = Hex.decode("485454502f312e3120323030204f4b0d0a436f6e74656e742d547970653a20746578742f68"
+         + "746d6c0d0a0d0a3c68746d6c3e0d0a3c626f64793e0d0a48656c6c6f20576f726c64210d0a3c2f626f64793e0d0a3c2f"
+         + "68746d6c3e0d0a");
+    private static final String CLIENT = "client";
+    private static final char[] CLIENT_PASSWORD = "clientPassword".toCharArray();
 //    private static final char[] SERVER_PASSWORD = "serverPassword".toCharArray();
 //    private static final char[] TRUST_STORE_PASSWORD = "trustPassword".toCharArray();
 
@@ -72,14 +95,320 @@ public class BasicTlsTest
 
         is.close();
 
-        byte[] expected = Hex.decode("485454502f312e3120323030204f4b0d0a436f6e74656e742d547970653a20746578742f68"
-             + "746d6c0d0a0d0a3c68746d6c3e0d0a3c626f64793e0d0a48656c6c6f20576f726c64210d0a3c2f626f64793e0d0a3c2f"
-             + "68746d6c3e0d0a");
-       assertEquals(total, expected.length);
+        assertEquals(total, EXPECTED.length);
 
-        byte[] tmp = new byte[expected.length];
+        byte[] tmp = new byte[EXPECTED.length];
         System.arraycopy(buf, 0, tmp, 0, total);
-        assertTrue(Arrays.areEqual(expected, tmp));
+        assertTrue(Arrays.areEqual(EXPECTED, tmp));
+    }
+
+    public void testNonBlockingConnection()
+        throws Exception
+    {
+        Thread server = new HTTPSServerThread();
+
+        server.start();
+
+        Thread.yield();
+
+        Socket s = null;
+
+        for (int i = 0; s == null && i != 3; i++)
+        {
+            Thread.sleep(1000);
+
+            try
+            {
+                s = new Socket("localhost", PORT_NO);
+            }
+            catch (IOException e)
+            {
+                // ignore
+            }
+        }
+
+        if (s == null)
+        {
+            throw new IOException("unable to connect");
+        }
+
+        InputStream sIn = s.getInputStream();
+        OutputStream sOut = s.getOutputStream();
+
+        TlsProtocolHandler handler = new TlsProtocolHandler(new SecureRandom());
+        handler.connect(new AlwaysValidVerifyer());
+
+        assertFalse(handler.isHandshakeComplete());
+
+        byte[] buf = new byte[4096];
+
+        while (!handler.isHandshakeComplete())
+        {
+            sendOutput(handler, sOut);
+
+            int count = sIn.read(buf);
+            if (count < 0)
+            {
+                fail("connection closed during handshake");
+            }
+
+            // offer the first byte on its own, so a partial record has to be held back
+            if (count > 1)
+            {
+                handler.offerInput(buf, 0, 1);
+                handler.offerInput(buf, 1, count - 1);
+            }
+            else
+            {
+                handler.offerInput(buf, 0, count);
+            }
+        }
+
+        byte[] request = "GET / HTTP/1.1\r\n\r\n".getBytes();
+        handler.offerOutput(request, 0, request.length);
+        sendOutput(handler, sOut);
+
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        int count;
+        while (!handler.isClosed() && (count = sIn.read(buf)) > 0)
+        {
+            handler.offerInput(buf, 0, count);
+
+            while ((count = handler.readInput(buf, 0, buf.length)) > 0)
+            {
+                response.write(buf, 0, count);
+            }
+        }
+
+        assertEquals(-1, handler.readInput(buf, 0, buf.length));
+
+        // our close_notify in reply
+        assertTrue(handler.getAvailableOutputBytes() > 0);
+        s.close();
+
+        assertTrue(Arrays.areEqual(EXPECTED, response.toByteArray()));
+    }
+
+    public void testSessionResumption()
+        throws Exception
+    {
+        HTTPSServerThread server = new HTTPSServerThread(3);
+
+        server.start();
+
+        Thread.yield();
+
+        try
+        {
+            checkSessionResumption();
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    public void testTLSv12ClientAuthentication()
+        throws Exception
+    {
+        HTTPSServerThread server = new HTTPSServerThread(1, true);
+
+        server.start();
+
+        Thread.yield();
+
+        try
+        {
+            Socket s = openSocket();
+
+            TlsProtocolHandler handler = new TlsProtocolHandler(s.getInputStream(), s.getOutputStream());
+            handler.connect(new TLSv12AuthenticatingClient());
+
+            checkResponse(handler);
+        }
+        finally
+        {
+            server.close();
+        }
+    }
+
+    private void checkSessionResumption()
+        throws Exception
+    {
+        TlsSessionCache cache = new DefaultTlsSessionCache();
+        String identity = "localhost:" + PORT_NO;
+
+        TlsProtocolHandler handler = connect(cache, identity);
+        assertFalse(handler.isSessionResumed());
+        checkResponse(handler);
+
+        TlsSession session = cache.getSession(identity);
+        assertNotNull(session);
+        assertSame(session, handler.getSession());
+
+        handler = connect(cache, identity);
+        assertTrue(handler.isSessionResumed());
+        checkResponse(handler);
+
+        assertTrue(Arrays.areEqual(session.getMasterSecret(), handler.getSession().getMasterSecret()));
+
+        // a session is not offered once removed
+        cache.removeSession(identity);
+
+        handler = connect(cache, identity);
+        assertFalse(handler.isSessionResumed());
+        checkResponse(handler);
+
+        assertFalse(Arrays.areEqual(session.getMasterSecret(), handler.getSession().getMasterSecret()));
+    }
+
+    private static TlsProtocolHandler connect(TlsSessionCache cache, String identity)
+        throws Exception
+    {
+        Socket s = openSocket();
+
+        TlsProtocolHandler handler = new TlsProtocolHandler(s.getInputStream(), s.getOutputStream());
+        handler.connect(new TLSv12Client(), cache, identity);
+
+        return handler;
+    }
+
+    private static Socket openSocket()
+        throws Exception
+    {
+        Socket s = null;
+
+        for (int i = 0; s == null && i != 3; i++)
+        {
+            Thread.sleep(1000);
+
+            try
+            {
+                s = new Socket("localhost", PORT_NO);
+            }
+            catch (IOException e)
+            {
+                // ignore
+            }
+        }
+
+        if (s == null)
+        {
+            throw new IOException("unable to connect");
+        }
+
+        return s;
+    }
+
+    private static void checkResponse(TlsProtocolHandler handler)
+        throws IOException
+    {
+        handler.getOutputStream().write("GET / HTTP/1.1\r\n\r\n".getBytes());
+
+        InputStream is = handler.getInputStream();
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        int ch;
+        while ((ch = is.read()) >= 0)
+        {
+            response.write(ch);
+        }
+
+        is.close();
+
+        assertTrue(Arrays.areEqual(EXPECTED, response.toByteArray()));
+    }
+
+    private static void sendOutput(TlsProtocolHandler handler, OutputStream out)
+        throws IOException
+    {
+        byte[] buf = new byte[handler.getAvailableOutputBytes()];
+
+        handler.readOutput(buf, 0, buf.length);
+
+        out.write(buf);
+        out.flush();
+    }
+
+    /**
+     * A client offering TLS 1.2 - the earliest version current JSSE servers accept by default.
+     */
+    private static class TLSv12Client
+        extends LegacyTlsClient
+    {
+        TLSv12Client()
+        {
+            super(new AlwaysValidVerifyer());
+        }
+
+        public ProtocolVersion getClientVersion()
+        {
+            return ProtocolVersion.TLSv12;
+        }
+
+        public int[] getCipherSuites()
+        {
+            return new int[] { CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA };
+        }
+    }
+
+    /**
+     * A client offering TLS 1.2, which authenticates with the RSA key in the client key store.
+     */
+    private static class TLSv12AuthenticatingClient
+        extends LegacyTlsClient
+    {
+        TLSv12AuthenticatingClient()
+        {
+            super(new AlwaysValidVerifyer());
+        }
+
+        public ProtocolVersion getClientVersion()
+        {
+            return ProtocolVersion.TLSv12;
+        }
+
+        public int[] getCipherSuites()
+        {
+            return new int[] { CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA };
+        }
+
+        public TlsAuthentication getAuthentication()
+            throws IOException
+        {
+            return new LegacyTlsAuthentication(verifyer)
+            {
+                public TlsCredentials getClientCredentials(CertificateRequest certificateRequest)
+                    throws IOException
+                {
+                    try
+                    {
+                        KeyStore clientStore = KeyStore.getInstance("JKS");
+
+                        clientStore.load(new ByteArrayInputStream(KeyStores.client), CLIENT_PASSWORD);
+
+                        java.security.cert.Certificate[] certs = clientStore.getCertificateChain(CLIENT);
+                        X509CertificateStructure[] chain = new X509CertificateStructure[certs.length];
+                        for (int i = 0; i != certs.length; i++)
+                        {
+                            chain[i] = X509CertificateStructure.getInstance(certs[i].getEncoded());
+                        }
+
+                        Key key = clientStore.getKey(CLIENT, CLIENT_PASSWORD);
+
+                        return new DefaultTlsSignerCredentials(context, new Certificate(chain),
+                            PrivateKeyFactory.createKey(key.getEncoded()));
+                    }
+                    catch (IOException e)
+                    {
+                        throw e;
+                    }
+                    catch (Exception e)
+                    {
+                        throw new IOException(e.toString());
+                    }
+                }
+            };
+        }
     }
 
     public static TestSuite suite()
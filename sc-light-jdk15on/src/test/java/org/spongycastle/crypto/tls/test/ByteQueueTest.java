@@ -0,0 +1,74 @@
+package org.spongycastle.crypto.tls.test;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.spongycastle.crypto.tls.ByteQueue;
+import org.spongycastle.util.Arrays;
+
+public class ByteQueueTest
+    extends TestCase
+{
+    public void testGrowth()
+    {
+        ByteQueue queue = new ByteQueue();
+        byte[] data = new byte[20000];
+
+        for (int i = 0; i != data.length; i++)
+        {
+            data[i] = (byte)i;
+        }
+
+        // small arrays added to a large queue must grow it by enough
+        for (int off = 0; off < data.length; off += 100)
+        {
+            queue.addData(Arrays.copyOfRange(data, off, off + 100), 0, 100);
+        }
+
+        assertEquals(data.length, queue.size());
+
+        byte[] out = new byte[data.length];
+        queue.read(out, 0, out.length, 0);
+
+        assertTrue(Arrays.areEqual(data, out));
+    }
+
+    public void testReuse()
+    {
+        ByteQueue queue = new ByteQueue();
+        byte[] data = new byte[700];
+        byte[] out = new byte[700];
+
+        for (int i = 0; i != 100; i++)
+        {
+            for (int j = 0; j != data.length; j++)
+            {
+                data[j] = (byte)(i + j);
+            }
+
+            queue.addData(data, 0, data.length);
+            queue.read(out, 0, 300, 0);
+            queue.removeData(300);
+            queue.read(out, 300, 400, 0);
+            queue.removeData(400);
+
+            assertEquals(0, queue.size());
+            assertTrue(Arrays.areEqual(data, out));
+        }
+
+        queue.addData(data, 0, 600);
+        queue.removeData(500);
+        queue.addData(data, 600, 100);
+
+        queue.read(out, 0, 200, 0);
+
+        for (int j = 0; j != 200; j++)
+        {
+            assertEquals(data[500 + j], out[j]);
+        }
+    }
+
+    public static TestSuite suite()
+    {
+        return new TestSuite(ByteQueueTest.class);
+    }
+}
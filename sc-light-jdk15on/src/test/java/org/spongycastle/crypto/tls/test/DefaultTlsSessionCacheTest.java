@@ -0,0 +1,122 @@
+package org.spongycastle.crypto.tls.test;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.spongycastle.crypto.tls.CipherSuite;
+import org.spongycastle.crypto.tls.CompressionMethod;
+import org.spongycastle.crypto.tls.DefaultTlsSessionCache;
+import org.spongycastle.crypto.tls.ProtocolVersion;
+import org.spongycastle.crypto.tls.TlsSession;
+
+public class DefaultTlsSessionCacheTest
+    extends TestCase
+{
+    private static final long HOUR = 60L * 60 * 1000;
+
+    public void testServerIdentity()
+    {
+        DefaultTlsSessionCache cache = new DefaultTlsSessionCache();
+        TlsSession a = createSession(new byte[32], null, 0, System.currentTimeMillis());
+        TlsSession b = createSession(new byte[32], null, 0, System.currentTimeMillis());
+
+        cache.putSession("a.example.com:443", a);
+        cache.putSession("b.example.com:443", b);
+
+        assertSame(a, cache.getSession("a.example.com:443"));
+        assertSame(b, cache.getSession("b.example.com:443"));
+        assertNull(cache.getSession("a.example.com:8443"));
+
+        // a new session for a server replaces the old one
+        TlsSession c = createSession(new byte[32], null, 0, System.currentTimeMillis());
+
+        cache.putSession("a.example.com:443", c);
+
+        assertSame(c, cache.getSession("a.example.com:443"));
+        assertEquals(2, cache.size());
+
+        cache.removeSession("a.example.com:443");
+
+        assertNull(cache.getSession("a.example.com:443"));
+        assertSame(b, cache.getSession("b.example.com:443"));
+    }
+
+    public void testUnresumableSession()
+    {
+        DefaultTlsSessionCache cache = new DefaultTlsSessionCache();
+
+        cache.putSession("server", createSession(new byte[32], null, 0, System.currentTimeMillis()));
+
+        // a server that assigned no session id, and issued no ticket, drops the session held
+        cache.putSession("server", createSession(new byte[0], null, 0, System.currentTimeMillis()));
+
+        assertNull(cache.getSession("server"));
+        assertEquals(0, cache.size());
+    }
+
+    public void testMaxSessions()
+    {
+        DefaultTlsSessionCache cache = new DefaultTlsSessionCache(3, HOUR);
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i != 3; i++)
+        {
+            cache.putSession("server" + i, createSession(new byte[32], null, 0, now));
+        }
+
+        // using server0 leaves server1 as the least recently used
+        assertNotNull(cache.getSession("server0"));
+
+        cache.putSession("server3", createSession(new byte[32], null, 0, now));
+
+        assertEquals(3, cache.size());
+        assertNull(cache.getSession("server1"));
+        assertNotNull(cache.getSession("server0"));
+        assertNotNull(cache.getSession("server2"));
+        assertNotNull(cache.getSession("server3"));
+
+        try
+        {
+            new DefaultTlsSessionCache(0, HOUR);
+            fail("no exception on zero maxSessions");
+        }
+        catch (IllegalArgumentException e)
+        {
+            // expected
+        }
+    }
+
+    public void testLifetime()
+    {
+        DefaultTlsSessionCache cache = new DefaultTlsSessionCache(10, HOUR);
+        long now = System.currentTimeMillis();
+
+        cache.putSession("fresh", createSession(new byte[32], null, 0, now - HOUR / 2));
+        cache.putSession("expired", createSession(new byte[32], null, 0, now - 2 * HOUR));
+
+        assertNotNull(cache.getSession("fresh"));
+        assertNull(cache.getSession("expired"));
+
+        // an expired session is dropped once looked up
+        assertEquals(1, cache.size());
+
+        // a ticket's lifetime hint, in seconds, only shortens the lifetime
+        cache.putSession("shortHint", createSession(new byte[0], new byte[16], 60, now - 2 * 60 * 1000));
+        cache.putSession("longHint", createSession(new byte[0], new byte[16], 10 * 60 * 60, now - 2 * HOUR));
+        cache.putSession("noHint", createSession(new byte[0], new byte[16], 0, now - HOUR / 2));
+
+        assertNull(cache.getSession("shortHint"));
+        assertNull(cache.getSession("longHint"));
+        assertNotNull(cache.getSession("noHint"));
+    }
+
+    private static TlsSession createSession(byte[] sessionID, byte[] ticket, long lifetimeHint, long creationTime)
+    {
+        return new TlsSession(sessionID, CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA, CompressionMethod.NULL,
+            new byte[48], ProtocolVersion.TLSv12, null, ticket, lifetimeHint, creationTime);
+    }
+
+    public static TestSuite suite()
+    {
+        return new TestSuite(DefaultTlsSessionCacheTest.class);
+    }
+}
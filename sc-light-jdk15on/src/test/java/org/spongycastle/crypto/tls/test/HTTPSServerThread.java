@@ -6,7 +6,9 @@ import javax.net.ssl.SSLServerSocket;
 import javax.net.ssl.SSLServerSocketFactory;
 import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -14,6 +16,7 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.security.KeyStore;
+import java.security.cert.X509Certificate;
 
 public class HTTPSServerThread
     extends Thread
@@ -22,6 +25,64 @@ public class HTTPSServerThread
     private static final char[] SERVER_PASSWORD = "serverPassword".toCharArray();
     private static final char[] TRUST_STORE_PASSWORD = "trustPassword".toCharArray();
 
+    static
+    {
+        /*
+         * A JSSE server using the extended master secret (RFC 7627), the default from Java 8u161,
+         * won't resume a session that was negotiated without it - which our client doesn't offer.
+         * JSSE reads the property once, so it is set before the first server is created.
+         */
+        if (System.getProperty("jdk.tls.useExtendedMasterSecret") == null)
+        {
+            System.setProperty("jdk.tls.useExtendedMasterSecret", "false");
+        }
+    }
+
+    private final int connections;
+    private final boolean needClientAuth;
+
+    private volatile SSLServerSocket serverSocket;
+
+    public HTTPSServerThread()
+    {
+        this(1);
+    }
+
+    /**
+     * Serve a number of connections, one after the other, sharing a session cache.
+     */
+    public HTTPSServerThread(int connections)
+    {
+        this(connections, false);
+    }
+
+    /**
+     * Serve a number of connections, requiring the client to authenticate if needClientAuth
+     * is set - any client certificate is accepted, as long as the client proves it owns it.
+     */
+    public HTTPSServerThread(int connections, boolean needClientAuth)
+    {
+        this.connections = connections;
+        this.needClientAuth = needClientAuth;
+
+        // a test that fails part way mustn't leave the JVM waiting on accept()
+        setDaemon(true);
+    }
+
+    /**
+     * Stop listening, for a test that has finished without making all its connections.
+     */
+    public void close()
+        throws IOException
+    {
+        SSLServerSocket sSock = serverSocket;
+
+        if (sSock != null)
+        {
+            sSock.close();
+        }
+    }
+
     /**
      * Read a HTTP request
      */
@@ -68,18 +129,44 @@ public class HTTPSServerThread
 
         mgrFact.init(serverStore, SERVER_PASSWORD);
 
-        // set up a trust manager so we can recognize the server
-        TrustManagerFactory trustFact = TrustManagerFactory.getInstance("SunX509");
-        KeyStore            trustStore = KeyStore.getInstance("JKS");
+        TrustManager[] trustManagers;
+
+        if (needClientAuth)
+        {
+            // the test certificates have expired, so accept any client chain
+            trustManagers = new TrustManager[] { new X509TrustManager()
+            {
+                public void checkClientTrusted(X509Certificate[] chain, String authType)
+                {
+                }
+
+                public void checkServerTrusted(X509Certificate[] chain, String authType)
+                {
+                }
+
+                public X509Certificate[] getAcceptedIssuers()
+                {
+                    return new X509Certificate[0];
+                }
+            } };
+        }
+        else
+        {
+            // set up a trust manager so we can recognize the server
+            TrustManagerFactory trustFact = TrustManagerFactory.getInstance("SunX509");
+            KeyStore            trustStore = KeyStore.getInstance("JKS");
+
+            trustStore.load(new ByteArrayInputStream(KeyStores.trustStore), TRUST_STORE_PASSWORD);
 
-        trustStore.load(new ByteArrayInputStream(KeyStores.trustStore), TRUST_STORE_PASSWORD);
+            trustFact.init(trustStore);
 
-        trustFact.init(trustStore);
+            trustManagers = trustFact.getTrustManagers();
+        }
 
         // create a context and set up a socket factory
         SSLContext sslContext = SSLContext.getInstance("TLS");
 
-        sslContext.init(mgrFact.getKeyManagers(), trustFact.getTrustManagers(), null);
+        sslContext.init(mgrFact.getKeyManagers(), trustManagers, null);
 
         return sslContext;
     }
@@ -92,17 +179,37 @@ public class HTTPSServerThread
             SSLServerSocketFactory fact = sslContext.getServerSocketFactory();
 
             SSLServerSocket sSock = (SSLServerSocket)fact.createServerSocket(PORT_NO);
-            SSLSocket sslSock = (SSLSocket)sSock.accept();
 
-            sslSock.startHandshake();
+            sSock.setNeedClientAuth(needClientAuth);
+
+            serverSocket = sSock;
+
+            try
+            {
+                for (int i = 0; i != connections; i++)
+                {
+                    SSLSocket sslSock = (SSLSocket)sSock.accept();
 
-            readRequest(sslSock.getInputStream());
+                    if (i == connections - 1)
+                    {
+                        sSock.close();
+                    }
 
-            SSLSession session = sslSock.getSession();
+                    sslSock.startHandshake();
 
-            sendResponse(sslSock.getOutputStream());
+                    readRequest(sslSock.getInputStream());
 
-            sslSock.close();
+                    SSLSession session = sslSock.getSession();
+
+                    sendResponse(sslSock.getOutputStream());
+
+                    sslSock.close();
+                }
+            }
+            finally
+            {
+                sSock.close();
+            }
         }
         catch (Exception e)
         {
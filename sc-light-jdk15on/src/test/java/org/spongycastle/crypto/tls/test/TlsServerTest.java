@@ -0,0 +1,305 @@
+package org.spongycastle.crypto.tls.test;
+
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.spongycastle.asn1.x509.X509CertificateStructure;
+import org.spongycastle.crypto.tls.AlwaysValidVerifyer;
+import org.spongycastle.crypto.tls.Certificate;
+import org.spongycastle.crypto.tls.CipherSuite;
+import org.spongycastle.crypto.tls.DefaultTlsEncryptionCredentials;
+import org.spongycastle.crypto.tls.DefaultTlsServer;
+import org.spongycastle.crypto.tls.LegacyTlsClient;
+import org.spongycastle.crypto.tls.ProtocolVersion;
+import org.spongycastle.crypto.tls.TlsClient;
+import org.spongycastle.crypto.tls.TlsEncryptionCredentials;
+import org.spongycastle.crypto.tls.TlsProtocol;
+import org.spongycastle.crypto.tls.TlsProtocolHandler;
+import org.spongycastle.crypto.tls.TlsServerProtocolHandler;
+import org.spongycastle.crypto.util.PrivateKeyFactory;
+import org.spongycastle.util.Arrays;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+
+public class TlsServerTest
+    extends TestCase
+{
+    private static final char[] SERVER_PASSWORD = "serverPassword".toCharArray();
+
+    private static final byte[] REQUEST = "GET / HTTP/1.1\r\n\r\n".getBytes();
+    private static final byte[] RESPONSE = "HTTP/1.1 200 OK\r\n\r\nHello World!\r\n".getBytes();
+
+    private static TlsEncryptionCredentials loadCredentials()
+        throws Exception
+    {
+        KeyStore serverStore = KeyStore.getInstance("JKS");
+
+        serverStore.load(new ByteArrayInputStream(KeyStores.server), SERVER_PASSWORD);
+
+        Key key = serverStore.getKey("server", SERVER_PASSWORD);
+        java.security.cert.Certificate cert = serverStore.getCertificate("server");
+
+        Certificate chain = new Certificate(new X509CertificateStructure[] {
+            X509CertificateStructure.getInstance(cert.getEncoded()) });
+
+        return new DefaultTlsEncryptionCredentials(chain, PrivateKeyFactory.createKey(key.getEncoded()));
+    }
+
+    public void testNonBlockingConnection()
+        throws Exception
+    {
+        exchange(loadCredentials(), new SecureRandom(), new LegacyTlsClient(new AlwaysValidVerifyer()));
+    }
+
+    public void testTLSv12Connections()
+        throws Exception
+    {
+        TlsEncryptionCredentials credentials = loadCredentials();
+        SecureRandom random = new SecureRandom();
+
+        // the AEAD suites, and a block cipher one with its explicit IVs
+        int[] cipherSuites = new int[] {
+            CipherSuite.TLS_RSA_WITH_AES_128_GCM_SHA256,
+            CipherSuite.TLS_RSA_WITH_AES_256_GCM_SHA384,
+            CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA,
+        };
+
+        for (int i = 0; i != cipherSuites.length; i++)
+        {
+            exchange(credentials, random, new TLSv12Client(cipherSuites[i]));
+        }
+    }
+
+    public void testBlockingConnection()
+        throws Exception
+    {
+        final TlsEncryptionCredentials credentials = loadCredentials();
+        final ServerSocket serverSocket = new ServerSocket(0);
+        final Exception[] serverFailure = new Exception[1];
+
+        Thread server = new Thread()
+        {
+            public void run()
+            {
+                try
+                {
+                    Socket s = serverSocket.accept();
+
+                    TlsServerProtocolHandler handler = new TlsServerProtocolHandler(s.getInputStream(),
+                        s.getOutputStream(), new SecureRandom());
+                    handler.accept(new DefaultTlsServer(credentials));
+
+                    byte[] request = new byte[REQUEST.length];
+                    readFully(handler.getInputStream(), request);
+                    assertTrue(Arrays.areEqual(REQUEST, request));
+
+                    handler.getOutputStream().write(RESPONSE);
+                    handler.close();
+                }
+                catch (Exception e)
+                {
+                    serverFailure[0] = e;
+                }
+            }
+        };
+
+        server.start();
+
+        Socket s = new Socket("localhost", serverSocket.getLocalPort());
+        try
+        {
+            TlsProtocolHandler handler = new TlsProtocolHandler(s.getInputStream(), s.getOutputStream());
+            handler.connect(new AlwaysValidVerifyer());
+
+            handler.getOutputStream().write(REQUEST);
+
+            byte[] response = new byte[RESPONSE.length];
+            InputStream is = handler.getInputStream();
+            readFully(is, response);
+            assertTrue(Arrays.areEqual(RESPONSE, response));
+
+            // the server's close_notify
+            assertEquals(-1, is.read());
+        }
+        finally
+        {
+            s.close();
+            serverSocket.close();
+        }
+
+        server.join();
+
+        if (serverFailure[0] != null)
+        {
+            throw serverFailure[0];
+        }
+    }
+
+    public void testSharedCredentials()
+        throws Exception
+    {
+        final TlsEncryptionCredentials credentials = loadCredentials();
+        final SecureRandom random = new SecureRandom();
+        final Exception[] failures = new Exception[4];
+
+        Thread[] threads = new Thread[failures.length];
+        for (int i = 0; i != threads.length; i++)
+        {
+            final int index = i;
+
+            threads[i] = new Thread()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        for (int j = 0; j != 5; j++)
+                        {
+                            exchange(credentials, random, new LegacyTlsClient(new AlwaysValidVerifyer()));
+                        }
+                    }
+                    catch (Exception e)
+                    {
+                        failures[index] = e;
+                    }
+                }
+            };
+            threads[i].start();
+        }
+
+        for (int i = 0; i != threads.length; i++)
+        {
+            threads[i].join();
+
+            if (failures[i] != null)
+            {
+                throw failures[i];
+            }
+        }
+    }
+
+    /**
+     * Run a client and server connection in non-blocking mode, passing the records
+     * between them directly.
+     */
+    private static void exchange(TlsEncryptionCredentials credentials, SecureRandom random, TlsClient tlsClient)
+        throws Exception
+    {
+        TlsProtocolHandler client = new TlsProtocolHandler(random);
+        TlsServerProtocolHandler server = new TlsServerProtocolHandler(random);
+
+        server.accept(new DefaultTlsServer(credentials));
+        client.connect(tlsClient);
+
+        for (int i = 0; i != 10 && !(client.isHandshakeComplete() && server.isHandshakeComplete()); i++)
+        {
+            pump(client, server);
+            pump(server, client);
+        }
+
+        assertTrue(client.isHandshakeComplete());
+        assertTrue(server.isHandshakeComplete());
+
+        client.offerOutput(REQUEST, 0, REQUEST.length);
+        pump(client, server);
+        assertTrue(Arrays.areEqual(REQUEST, readInput(server)));
+
+        server.offerOutput(RESPONSE, 0, RESPONSE.length);
+        pump(server, client);
+        assertTrue(Arrays.areEqual(RESPONSE, readInput(client)));
+
+        // a record bigger than the 16K a single one can carry
+        byte[] bulk = new byte[40000];
+        random.nextBytes(bulk);
+        server.offerOutput(bulk, 0, bulk.length);
+        pump(server, client);
+        assertTrue(Arrays.areEqual(bulk, readInput(client)));
+
+        client.close();
+        pump(client, server);
+        assertTrue(server.isClosed());
+        assertEquals(-1, server.readInput(new byte[1], 0, 1));
+    }
+
+    private static void pump(TlsProtocol from, TlsProtocol to)
+        throws IOException
+    {
+        byte[] buf = new byte[from.getAvailableOutputBytes()];
+
+        from.readOutput(buf, 0, buf.length);
+
+        if (buf.length > 0)
+        {
+            to.offerInput(buf);
+        }
+    }
+
+    private static byte[] readInput(TlsProtocol handler)
+        throws IOException
+    {
+        byte[] buf = new byte[handler.getAvailableInputBytes()];
+
+        assertEquals(buf.length, handler.readInput(buf, 0, buf.length));
+
+        return buf;
+    }
+
+    private static void readFully(InputStream is, byte[] buf)
+        throws IOException
+    {
+        int total = 0;
+        while (total < buf.length)
+        {
+            int count = is.read(buf, total, buf.length - total);
+            if (count < 0)
+            {
+                throw new IOException("unexpected end of stream");
+            }
+            total += count;
+        }
+    }
+
+    /**
+     * A client offering TLS 1.2 and a single cipher suite.
+     */
+    private static class TLSv12Client
+        extends LegacyTlsClient
+    {
+        private final int cipherSuite;
+
+        TLSv12Client(int cipherSuite)
+        {
+            super(new AlwaysValidVerifyer());
+
+            this.cipherSuite = cipherSuite;
+        }
+
+        public ProtocolVersion getClientVersion()
+        {
+            return ProtocolVersion.TLSv12;
+        }
+
+        public int[] getCipherSuites()
+        {
+            return new int[] { cipherSuite };
+        }
+    }
+
+    public static TestSuite suite()
+    {
+        return new TestSuite(TlsServerTest.class);
+    }
+
+    public static void main (String[] args)
+        throws Exception
+    {
+        junit.textui.TestRunner.run(suite());
+    }
+}
@@ -0,0 +1,83 @@
+package org.spongycastle.math.ec.test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.spongycastle.asn1.sec.SECNamedCurves;
+import org.spongycastle.math.ec.ECCurve;
+import org.spongycastle.math.ec.ECFieldElement;
+
+/**
+ * Checks the fixed width field arithmetic used for the NIST prime curves and
+ * secp256k1 against the general <code>BigInteger</code> based
+ * {@link org.spongycastle.math.ec.ECFieldElement.Fp ECFieldElement.Fp}.
+ */
+public class ECFieldElementTest extends TestCase
+{
+    private static final String[] CURVES = { "secp256r1", "secp384r1", "secp521r1", "secp256k1" };
+
+    private SecureRandom secRand = new SecureRandom();
+
+    private void implTestFieldOps(ECCurve.Fp curve, BigInteger x, BigInteger y)
+    {
+        BigInteger q = curve.getQ();
+
+        ECFieldElement fx = curve.fromBigInteger(x);
+        ECFieldElement fy = curve.fromBigInteger(y);
+        ECFieldElement rx = new ECFieldElement.Fp(q, x);
+        ECFieldElement ry = new ECFieldElement.Fp(q, y);
+
+        assertEquals("toBigInteger inconsistent", x, fx.toBigInteger());
+        assertEquals("add inconsistent", rx.add(ry), fx.add(fy));
+        assertEquals("subtract inconsistent", rx.subtract(ry), fx.subtract(fy));
+        assertEquals("multiply inconsistent", rx.multiply(ry), fx.multiply(fy));
+        assertEquals("square inconsistent", rx.square(), fx.square());
+        assertEquals("negate inconsistent", rx.negate(), fx.negate());
+
+        if (y.signum() != 0)
+        {
+            assertEquals("divide inconsistent", rx.divide(ry), fx.divide(fy));
+        }
+
+        // mixed representations must agree too
+        assertEquals("mixed multiply inconsistent", rx.multiply(ry), fx.multiply(ry));
+        assertEquals("equals not symmetric", rx, fx);
+    }
+
+    public void testFixedWidthFields()
+    {
+        for (int i = 0; i < CURVES.length; i++)
+        {
+            ECCurve.Fp curve = (ECCurve.Fp)SECNamedCurves.getByName(CURVES[i]).getCurve();
+            BigInteger q = curve.getQ();
+
+            BigInteger[] special = {
+                BigInteger.ZERO, BigInteger.ONE, q.subtract(BigInteger.ONE),
+                q.subtract(BigInteger.valueOf(2)), q.shiftRight(1),
+                BigInteger.ONE.shiftLeft(q.bitLength() - 1) };
+
+            for (int j = 0; j < special.length; j++)
+            {
+                for (int k = 0; k < special.length; k++)
+                {
+                    implTestFieldOps(curve, special[j], special[k]);
+                }
+            }
+
+            for (int j = 0; j < 1000; j++)
+            {
+                implTestFieldOps(curve, new BigInteger(q.bitLength(), secRand).mod(q),
+                    new BigInteger(q.bitLength(), secRand).mod(q));
+            }
+        }
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite(ECFieldElementTest.class);
+    }
+}
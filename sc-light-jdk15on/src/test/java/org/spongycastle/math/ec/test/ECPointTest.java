@@ -10,9 +10,12 @@ import junit.framework.TestSuite;
 
 import org.spongycastle.asn1.sec.SECNamedCurves;
 import org.spongycastle.asn1.x9.X9ECParameters;
+import org.spongycastle.math.ec.ECAlgorithms;
+import org.spongycastle.math.ec.ECConstants;
 import org.spongycastle.math.ec.ECCurve;
 import org.spongycastle.math.ec.ECFieldElement;
 import org.spongycastle.math.ec.ECPoint;
+import org.spongycastle.util.Arrays;
 
 /**
  * Test class for {@link org.spongycastle.math.ec.ECPoint ECPoint}. All
@@ -444,6 +447,154 @@ public class ECPointTest extends TestCase
         }
     }
 
+    /**
+     * Checks that arithmetic using Jacobian co-ordinates agrees with the
+     * affine arithmetic for every named <code>Fp</code> curve.
+     */
+    public void testJacobianAffineConsistency()
+    {
+        Enumeration curveEnum = SECNamedCurves.getNames();
+        while (curveEnum.hasMoreElements())
+        {
+            String name = (String) curveEnum.nextElement();
+            X9ECParameters x9ECParameters = SECNamedCurves.getByName(name);
+
+            if (!(x9ECParameters.getCurve() instanceof ECCurve.Fp))
+            {
+                continue;
+            }
+
+            ECCurve.Fp curve = (ECCurve.Fp) x9ECParameters.getCurve();
+            ECCurve.Fp affineCurve = new ECCurve.Fp(curve.getQ(), curve.getA()
+                    .toBigInteger(), curve.getB().toBigInteger(),
+                    ECCurve.COORD_AFFINE);
+
+            assertEquals(ECCurve.COORD_JACOBIAN, curve.getCoordinateSystem());
+
+            ECPoint g = x9ECParameters.getG();
+            ECPoint affineG = affineCurve.createPoint(g.getX().toBigInteger(),
+                    g.getY().toBigInteger(), false);
+
+            BigInteger k = new BigInteger(x9ECParameters.getN().bitLength(),
+                    secRand);
+            ECPoint q = g.multiply(k);
+            ECPoint affineQ = affineG.multiply(k);
+
+            assertTrue("multiply result not normalized", q.isNormalized());
+            assertEquals("Jacobian and affine multiply inconsistent", affineQ
+                    .getX(), q.getX());
+            assertEquals("Jacobian and affine multiply inconsistent", affineQ
+                    .getY(), q.getY());
+
+            ECPoint sum = q.twice().add(g).subtract(q);
+            ECPoint affineSum = affineQ.twice().add(affineG).subtract(affineQ);
+
+            assertEquals("Jacobian and affine add inconsistent", affineSum
+                    .getX(), sum.getX());
+            assertEquals("Jacobian and affine add inconsistent", affineSum
+                    .getY(), sum.getY());
+            assertEquals("normalize changed the point", sum, sum.normalize());
+            assertSame("affine form not kept", sum.normalize(), sum.normalize());
+        }
+    }
+
+    /**
+     * Checks that fixed-base comb multiplication of the generator agrees with
+     * the general multiplication, for every SEC named curve, including the
+     * boundary multiplicators 1 and n - 1.
+     */
+    public void testFixedPointMultiply()
+    {
+        Enumeration curveEnum = SECNamedCurves.getNames();
+        while (curveEnum.hasMoreElements())
+        {
+            String name = (String) curveEnum.nextElement();
+            X9ECParameters x9ECParameters = SECNamedCurves.getByName(name);
+
+            ECPoint g = x9ECParameters.getG();
+            BigInteger n = x9ECParameters.getN();
+
+            BigInteger[] ks = new BigInteger[] { ECConstants.ONE,
+                    n.subtract(ECConstants.ONE),
+                    new BigInteger(n.bitLength(), secRand),
+                    new BigInteger(n.bitLength(), secRand) };
+
+            for (int i = 0; i < ks.length; i++)
+            {
+                assertEquals("fixed point multiply inconsistent for " + name,
+                        g.multiply(ks[i]), ECAlgorithms.fixedPointMultiply(g,
+                                ks[i]));
+            }
+
+            assertTrue(ECAlgorithms.fixedPointMultiply(g, n).isInfinity());
+            assertTrue(ECAlgorithms.fixedPointMultiply(g, ECConstants.ZERO)
+                    .isInfinity());
+        }
+    }
+
+    /**
+     * Checks that fixed-base multiplication of the same generator, held once
+     * uncompressed and once compressed, encodes each result the way the
+     * general multiplication does, whichever of them filled the shared table.
+     */
+    public void testFixedPointMultiplyCompression()
+    {
+        X9ECParameters x9ECParameters = SECNamedCurves.getByName("secp256r1");
+
+        ECPoint g = x9ECParameters.getG();
+        ECPoint gComp = g.getCurve().createPoint(g.getX().toBigInteger(),
+                g.getY().toBigInteger(), true);
+        ECPoint gUncomp = g.getCurve().createPoint(g.getX().toBigInteger(),
+                g.getY().toBigInteger(), false);
+        BigInteger k = new BigInteger(x9ECParameters.getN().bitLength() - 1, secRand);
+
+        ECPoint[] bases = new ECPoint[] { gUncomp, gComp, gUncomp };
+
+        for (int i = 0; i < bases.length; i++)
+        {
+            ECPoint p = ECAlgorithms.fixedPointMultiply(bases[i], k);
+
+            assertEquals("compression setting not kept", bases[i].isCompressed(), p.isCompressed());
+            assertTrue("fixed point multiply encoding inconsistent",
+                    Arrays.areEqual(bases[i].multiply(k).getEncoded(), p.getEncoded()));
+
+            ECPoint s = ECAlgorithms.fixedPointSumOfTwoMultiplies(bases[i], k, gUncomp, k);
+
+            assertEquals("compression setting not kept", bases[i].isCompressed(), s.isCompressed());
+        }
+    }
+
+    /**
+     * Checks the interleaved WNAF sums of two multiples, with and without a
+     * fixed base, against Shamir's trick for every SEC named curve.
+     */
+    public void testSumOfTwoMultiplies()
+    {
+        Enumeration curveEnum = SECNamedCurves.getNames();
+        while (curveEnum.hasMoreElements())
+        {
+            String name = (String) curveEnum.nextElement();
+            X9ECParameters x9ECParameters = SECNamedCurves.getByName(name);
+
+            ECPoint g = x9ECParameters.getG();
+            BigInteger n = x9ECParameters.getN();
+            ECPoint q = g.multiply(new BigInteger(n.bitLength() - 1, secRand));
+
+            BigInteger a = new BigInteger(n.bitLength() - 1, secRand);
+            BigInteger b = new BigInteger(n.bitLength() - 1, secRand);
+
+            ECPoint expected = ECAlgorithms.shamirsTrick(g, a, q, b);
+
+            assertEquals("sumOfTwoMultiplies inconsistent for " + name,
+                    expected, ECAlgorithms.sumOfTwoMultiplies(g, a, q, b));
+            assertEquals("fixedPointSumOfTwoMultiplies inconsistent for "
+                    + name, expected, ECAlgorithms.fixedPointSumOfTwoMultiplies(
+                    g, a, q, b));
+            assertTrue(ECAlgorithms.fixedPointSumOfTwoMultiplies(g, a, g,
+                    n.subtract(a)).isInfinity());
+        }
+    }
+
     public static Test suite()
     {
         return new TestSuite(ECPointTest.class);
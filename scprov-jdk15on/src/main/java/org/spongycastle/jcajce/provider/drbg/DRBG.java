@@ -0,0 +1,177 @@
+package org.spongycastle.jcajce.provider.drbg;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.security.SecureRandom;
+import java.security.SecureRandomSpi;
+
+import org.spongycastle.crypto.digests.SHA256Digest;
+import org.spongycastle.crypto.digests.SHA512Digest;
+import org.spongycastle.crypto.engines.AESFastEngine;
+import org.spongycastle.crypto.macs.HMac;
+import org.spongycastle.crypto.prng.EntropySource;
+import org.spongycastle.crypto.prng.NonBlockingSeedGenerator;
+import org.spongycastle.crypto.prng.SP800SecureRandom;
+import org.spongycastle.crypto.prng.drbg.CTRSP800DRBG;
+import org.spongycastle.crypto.prng.drbg.HMacSP800DRBG;
+import org.spongycastle.crypto.prng.drbg.HashSP800DRBG;
+import org.spongycastle.crypto.prng.drbg.SP80090DRBG;
+import org.spongycastle.jcajce.provider.config.ConfigurableProvider;
+import org.spongycastle.jcajce.provider.util.AlgorithmProvider;
+
+/**
+ * SecureRandom implementations based on the SP 800-90A DRBGs.
+ * <p>
+ * Each thread using one of these is given its own DRBG, seeded independently
+ * from the platform's entropy source, so threads generating keys, IVs and
+ * nonces at the same time do not contend for a single generator. The
+ * implementations are registered as thread safe, so the JCA does not
+ * serialize calls either.
+ * </p>
+ */
+public class DRBG
+{
+    private static final int SECURITY_STRENGTH = 256;
+
+    private static final NonBlockingSeedGenerator seedGenerator = new NonBlockingSeedGenerator();
+
+    private static long instanceCount = 0;
+
+    private abstract static class PerThreadRandom
+        extends SecureRandomSpi
+    {
+        private static final long serialVersionUID = 1L;
+
+        // generators are never serialized, a deserialized instance starts afresh
+        private transient ThreadLocal<SecureRandom> randoms = createRandoms();
+
+        private ThreadLocal<SecureRandom> createRandoms()
+        {
+            return new ThreadLocal<SecureRandom>()
+            {
+                protected SecureRandom initialValue()
+                {
+                    EntropySource entropySource = seedGenerator.getEntropySource(SECURITY_STRENGTH);
+                    byte[] nonce = seedGenerator.generateSeed(SECURITY_STRENGTH / 16);
+
+                    return new SP800SecureRandom(entropySource, createDRBG(entropySource, createPersonalizationString(), nonce), false);
+                }
+            };
+        }
+
+        private void readObject(
+            ObjectInputStream   in)
+            throws IOException, ClassNotFoundException
+        {
+            in.defaultReadObject();
+
+            this.randoms = createRandoms();
+        }
+
+        /**
+         * Add seed material to the calling thread's generator.
+         */
+        protected void engineSetSeed(byte[] seed)
+        {
+            randoms.get().setSeed(seed);
+        }
+
+        protected void engineNextBytes(byte[] bytes)
+        {
+            randoms.get().nextBytes(bytes);
+        }
+
+        protected byte[] engineGenerateSeed(int numBytes)
+        {
+            return seedGenerator.generateSeed(numBytes);
+        }
+
+        abstract SP80090DRBG createDRBG(EntropySource entropySource, byte[] personalizationString, byte[] nonce);
+    }
+
+    // distinguishes the generators of different threads, even if the entropy
+    // source were to fail.
+    private static byte[] createPersonalizationString()
+    {
+        long count;
+
+        synchronized (DRBG.class)
+        {
+            count = ++instanceCount;
+        }
+
+        byte[] p = new byte[24];
+
+        longToBytes(Thread.currentThread().getId(), p, 0);
+        longToBytes(System.currentTimeMillis(), p, 8);
+        longToBytes(count, p, 16);
+
+        return p;
+    }
+
+    private static void longToBytes(long v, byte[] bs, int off)
+    {
+        for (int i = 0; i != 8; i++)
+        {
+            bs[off + i] = (byte)(v >>> ((7 - i) * 8));
+        }
+    }
+
+    public static class HashSHA512
+        extends PerThreadRandom
+    {
+        private static final long serialVersionUID = 1L;
+
+        SP80090DRBG createDRBG(EntropySource entropySource, byte[] personalizationString, byte[] nonce)
+        {
+            return new HashSP800DRBG(new SHA512Digest(), SECURITY_STRENGTH, entropySource, personalizationString, nonce);
+        }
+    }
+
+    public static class HMacSHA256
+        extends PerThreadRandom
+    {
+        private static final long serialVersionUID = 1L;
+
+        SP80090DRBG createDRBG(EntropySource entropySource, byte[] personalizationString, byte[] nonce)
+        {
+            return new HMacSP800DRBG(new HMac(new SHA256Digest()), SECURITY_STRENGTH, entropySource, personalizationString, nonce);
+        }
+    }
+
+    public static class CTRAES256
+        extends PerThreadRandom
+    {
+        private static final long serialVersionUID = 1L;
+
+        SP80090DRBG createDRBG(EntropySource entropySource, byte[] personalizationString, byte[] nonce)
+        {
+            return new CTRSP800DRBG(new AESFastEngine(), 256, SECURITY_STRENGTH, entropySource, personalizationString, nonce);
+        }
+    }
+
+    public static class Mappings
+        extends AlgorithmProvider
+    {
+        private static final String PREFIX = DRBG.class.getName();
+
+        public Mappings()
+        {
+        }
+
+        public void configure(ConfigurableProvider provider)
+        {
+            addRandom(provider, "HASHDRBG-SHA512", PREFIX + "$HashSHA512");
+            addRandom(provider, "HMACDRBG-SHA256", PREFIX + "$HMacSHA256");
+            addRandom(provider, "CTRDRBG-AES256", PREFIX + "$CTRAES256");
+
+            provider.addAlgorithm("Alg.Alias.SecureRandom.DEFAULT", "CTRDRBG-AES256");
+        }
+
+        private void addRandom(ConfigurableProvider provider, String name, String className)
+        {
+            provider.addAlgorithm("SecureRandom." + name, className);
+            provider.addAlgorithm("SecureRandom." + name + " ThreadSafe", "true");
+        }
+    }
+}
@@ -91,6 +91,15 @@ public final class BouncyCastleProvider extends Provider
         "GOST3411", "MD2", "MD4", "MD5", "SHA1", "RIPEMD128", "RIPEMD160", "RIPEMD256", "RIPEMD320", "SHA224", "SHA256", "SHA384", "SHA512", "Tiger", "Whirlpool"
     };
 
+    /*
+     * Configurable secure random generators
+     */
+    private static final String SECURE_RANDOM_PACKAGE = "org.spongycastle.jcajce.provider.drbg.";
+    private static final String[] SECURE_RANDOMS =
+    {
+        "DRBG"
+    };
+
     /**
      * Construct a new provider.  This should only be required when
      * using runtime registration of the provider using the
@@ -120,6 +129,8 @@ public final class BouncyCastleProvider extends Provider
 
         loadAlgorithms(ASYMMETRIC_CIPHER_PACKAGE, ASYMMETRIC_CIPHERS);
 
+        loadAlgorithms(SECURE_RANDOM_PACKAGE, SECURE_RANDOMS);
+
         //
         // X509Store
         //
@@ -65,7 +65,8 @@ public class RegressionTest
         new SigNameTest(),
         new MQVTest(),
         new CMacTest(),
-        new CRL5Test()
+        new CRL5Test(),
+        new SecureRandomTest()
     };
 
     public static void main(
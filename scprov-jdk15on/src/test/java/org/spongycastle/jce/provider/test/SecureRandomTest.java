@@ -0,0 +1,115 @@
+package org.spongycastle.jce.provider.test;
+
+import java.security.SecureRandom;
+import java.security.Security;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.spongycastle.jce.provider.BouncyCastleProvider;
+import org.spongycastle.util.encoders.Hex;
+import org.spongycastle.util.test.SimpleTest;
+
+/**
+ * basic test class for the SP 800-90A based SecureRandom implementations.
+ */
+public class SecureRandomTest
+    extends SimpleTest
+{
+    private static final String[] NAMES = { "HASHDRBG-SHA512", "HMACDRBG-SHA256", "CTRDRBG-AES256", "DEFAULT" };
+
+    public String getName()
+    {
+        return "SecureRandom";
+    }
+
+    public void performTest()
+        throws Exception
+    {
+        for (int i = 0; i != NAMES.length; i++)
+        {
+            testRandom(NAMES[i]);
+        }
+    }
+
+    private void testRandom(String name)
+        throws Exception
+    {
+        final SecureRandom random = SecureRandom.getInstance(name, "SC");
+        final Set<String> seen = new HashSet<String>();
+
+        // threads sharing an instance each get their own generator
+        Thread[] threads = new Thread[4];
+        final Exception[] errors = new Exception[threads.length];
+
+        for (int i = 0; i != threads.length; i++)
+        {
+            final int index = i;
+
+            threads[i] = new Thread()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        for (int j = 0; j != 100; j++)
+                        {
+                            byte[] nonce = new byte[16];
+
+                            random.nextBytes(nonce);
+
+                            synchronized (seen)
+                            {
+                                if (!seen.add(new String(Hex.encode(nonce))))
+                                {
+                                    throw new IllegalStateException("repeated output");
+                                }
+                            }
+                        }
+                    }
+                    catch (Exception e)
+                    {
+                        errors[index] = e;
+                    }
+                }
+            };
+
+            threads[i].start();
+        }
+
+        for (int i = 0; i != threads.length; i++)
+        {
+            threads[i].join();
+
+            if (errors[i] != null)
+            {
+                fail(name + " failed: " + errors[i].getMessage(), errors[i]);
+            }
+        }
+
+        random.setSeed(Hex.decode("000102030405060708090a0b0c0d0e0f"));
+
+        byte[] b1 = new byte[32];
+        byte[] b2 = new byte[32];
+
+        random.nextBytes(b1);
+        random.nextBytes(b2);
+
+        if (areEqual(b1, b2))
+        {
+            fail(name + " repeated output after setSeed()");
+        }
+
+        if (random.generateSeed(20).length != 20)
+        {
+            fail(name + " generateSeed() length wrong");
+        }
+    }
+
+    public static void main(
+        String[]    args)
+    {
+        Security.addProvider(new BouncyCastleProvider());
+
+        runTest(new SecureRandomTest());
+    }
+}